@@ -0,0 +1,110 @@
+package com.loopers.domain.user;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * ValidationRules 로 바꾼 User.guard 와 매 호출마다 Pattern.compile 하던 기존 guard 비교.
+ * User 는 정규식(ValidationRules.pattern, 검사마다 Matcher 할당) 대신 matches 로 한 글자씩 검사하므로,
+ * gc profiler(-prof gc) 의 gc.alloc.rate.norm 으로 compiledRules_valid 가 0 B/op 인지 확인한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserGuardBenchmark {
+
+    private User validUser;
+    private User invalidUser;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        validUser = User.builder()
+                .loginId("bobby34")
+                .email("bobby34@naver.com")
+                .birthday("1994-04-08")
+                .gender("M")
+                .build();
+
+        // 생성자에서 검증에 실패하므로, 유효한 User 를 만든 뒤 gender 만 바꾼다. (마지막 규칙까지 검사)
+        invalidUser = validUser.toBuilder().build();
+        Field gender = User.class.getDeclaredField("gender");
+        gender.setAccessible(true);
+        gender.set(invalidUser, "X");
+    }
+
+    @Benchmark
+    public User compiledRules_valid() {
+        validUser.guard();
+        return validUser;
+    }
+
+    @Benchmark
+    public Object compiledRules_invalid() {
+        try {
+            invalidUser.guard();
+            return invalidUser;
+        } catch (CoreException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public User legacyGuard_valid() {
+        legacyGuard(validUser);
+        return validUser;
+    }
+
+    @Benchmark
+    public Object legacyGuard_invalid() {
+        try {
+            legacyGuard(invalidUser);
+            return invalidUser;
+        } catch (CoreException e) {
+            return e;
+        }
+    }
+
+    /**
+     * 변경 전 User.guard / CoreExceptionUtil.validatePattern 과 같은 동작
+     */
+    private static void legacyGuard(User user) {
+        legacyValidateNullOrBlank(user.getLoginId(), "ID가 비어있을 수 없습니다.");
+        legacyValidatePattern(user.getLoginId(), "^(?=.*[a-zA-Z])(?=.*[0-9])[a-zA-Z0-9]{1,10}$", "ID에 영문과 숫자만 10자 이내로 꼭 포함되어 있어야 합니다.");
+        legacyValidateNullOrBlank(user.getEmail(), "email이 비어있을 수 없습니다.");
+        legacyValidatePattern(user.getEmail(), "^[a-zA-Z0-9]+@[a-zA-Z0-9]+\\.[a-zA-Z]{2,6}$", "email이 `xx@yy.zz` 형식에 맞아야 합니다.");
+        legacyValidateNullOrBlank(user.getBirthday(), "birthday가 비어있을 수 없습니다.");
+        legacyValidatePattern(user.getBirthday(), "^\\d{4}-\\d{2}-\\d{2}$", "birthday가 `yyyy-MM-dd` 형식에 맞아야 합니다.");
+        legacyValidateNullOrBlank(user.getGender(), "gender가 비어있을 수 없습니다.");
+        legacyValidatePattern(user.getGender(), "^[FM]{1}$", "gender가 `M` or `F` 형식에 맞아야 합니다.");
+    }
+
+    private static void legacyValidateNullOrBlank(String param, String message) {
+        if (param == null || param.isBlank()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, message);
+        }
+    }
+
+    private static void legacyValidatePattern(String param, String patternString, String message) {
+        Pattern pattern = Pattern.compile(patternString);
+        if (!pattern.matcher(param).matches()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, message);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.loopers.application.brand;
+
+import com.loopers.domain.brand.BrandService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class BrandFacade {
+    private final BrandService brandService;
+
+    public BrandInfo getBrand(Long brandId) {
+        return BrandInfo.from(brandService.getBrandSummary(brandId));
+    }
+}
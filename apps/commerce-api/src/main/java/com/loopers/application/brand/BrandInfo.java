@@ -0,0 +1,13 @@
+package com.loopers.application.brand;
+
+import com.loopers.domain.brand.BrandSummary;
+
+public record BrandInfo(
+        Long id
+        , String name
+        , String description
+) {
+    public static BrandInfo from(BrandSummary brand) {
+        return new BrandInfo(brand.id(), brand.name(), brand.description());
+    }
+}
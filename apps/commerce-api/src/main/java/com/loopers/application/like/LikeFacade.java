@@ -0,0 +1,116 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.like.LikeOperation;
+import com.loopers.domain.like.LikeOperationQueue;
+import com.loopers.domain.like.LikeService;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSummary;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserCacheRepository;
+import com.loopers.domain.user.UserProfile;
+import com.loopers.domain.user.UserService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 좋아요 / 취소는 DB 에 바로 쓰고, 상태가 바뀌면 같은 트랜잭션에서 이벤트를 outbox 에 남긴다. (relay 가 발행한다)
+ * like.write-behind.enabled 이면 좋아요 상태를 Redis 집합에 쓰고 바로 응답한다. (User / 상품도 캐시에서 읽는다)
+ * 이 경로는 DB 커넥션을 잡지 않도록 트랜잭션을 열지 않고, DB 반영과 이벤트 저장(outbox)은 flush 가 모아서 한다.
+ */
+@Component
+public class LikeFacade {
+    private final LikeService likeService;
+    private final UserService userService;
+    private final UserCacheRepository userCacheRepository;
+    private final ProductService productService;
+    private final LikeOperationQueue likeOperationQueue;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean writeBehind;
+
+    public LikeFacade(
+            LikeService likeService,
+            UserService userService,
+            UserCacheRepository userCacheRepository,
+            ProductService productService,
+            LikeOperationQueue likeOperationQueue,
+            TransactionTemplate transactionTemplate,
+            @Value("${like.write-behind.enabled:false}") boolean writeBehind
+    ) {
+        this.likeService = likeService;
+        this.userService = userService;
+        this.userCacheRepository = userCacheRepository;
+        this.productService = productService;
+        this.likeOperationQueue = likeOperationQueue;
+        this.transactionTemplate = transactionTemplate;
+        this.writeBehind = writeBehind;
+    }
+
+    public LikeInfo like(String loginId, Long productId) {
+        if (writeBehind) {
+            UserProfile user = getUserProfile(loginId);
+            ProductSummary product = productService.getProductSummary(productId);
+            return new LikeInfo(product.id(), true, likeService.likeInCache(user.id(), product.id(), product.brandId()));
+        }
+
+        return transactionTemplate.execute(status -> {
+            User user = getUser(loginId);
+            Product product = productService.getProduct(productId);
+            boolean changed = likeService.like(user.getId(), product.getId(), product.getBrandId());
+            return new LikeInfo(product.getId(), true, changed);
+        });
+    }
+
+    public LikeInfo unlike(String loginId, Long productId) {
+        if (writeBehind) {
+            UserProfile user = getUserProfile(loginId);
+            ProductSummary product = productService.getProductSummary(productId);
+            return new LikeInfo(product.id(), false, likeService.unlikeInCache(user.id(), product.id(), product.brandId()));
+        }
+
+        return transactionTemplate.execute(status -> {
+            User user = getUser(loginId);
+            Product product = productService.getProduct(productId);
+            boolean changed = likeService.unlike(user.getId(), product.getId(), product.getBrandId());
+            return new LikeInfo(product.getId(), false, changed);
+        });
+    }
+
+    /**
+     * 큐의 좋아요 연산을 DB 에 반영하고 (이벤트는 같은 트랜잭션에서 outbox 에 남는다) 커밋 후 ack 한다.
+     * 반영 후 ack 전에 죽으면 다시 읽지만, DB 가 이미 같으므로 다시 반영되거나 이벤트가 남지 않는다.
+     * @return 처리한 연산 수
+     */
+    public int flush(int batchSize) {
+        return flush(likeOperationQueue.read(batchSize));
+    }
+
+    /**
+     * 죽은 노드가 읽고 ack 하지 않은 연산을 가져와서 반영한다.
+     */
+    public int recover(Duration minIdle, int batchSize) {
+        return flush(likeOperationQueue.claimStale(minIdle, batchSize));
+    }
+
+    private int flush(List<LikeOperation> operations) {
+        if (operations.isEmpty()) return 0;
+        likeService.flush(operations);
+        likeOperationQueue.ack(operations.stream().map(LikeOperation::id).toList());
+        return operations.size();
+    }
+
+    private User getUser(String loginId) {
+        return userService.findUserById(loginId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[loginId = " + loginId + "] User를 찾을 수 없습니다."));
+    }
+
+    private UserProfile getUserProfile(String loginId) {
+        return userCacheRepository.getProfile(loginId, () -> userService.findUserById(loginId).map(UserProfile::from))
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[loginId = " + loginId + "] User를 찾을 수 없습니다."));
+    }}
@@ -0,0 +1,11 @@
+package com.loopers.application.like;
+
+/**
+ * changed : 이번 요청으로 좋아요 상태가 바뀌었는지 (이미 같은 상태였으면 false)
+ */
+public record LikeInfo(
+        Long productId
+        , boolean liked
+        , boolean changed
+) {
+}
@@ -0,0 +1,295 @@
+package com.loopers.application.order;
+
+import com.loopers.application.payment.PaymentFacade;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderHistory;
+import com.loopers.domain.order.OrderHistoryCacheRepository;
+import com.loopers.domain.order.OrderLine;
+import com.loopers.domain.order.OrderService;
+import com.loopers.domain.payment.PaymentMethod;
+import com.loopers.domain.payment.PaymentService;
+import com.loopers.domain.point.PointService;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSummary;
+import com.loopers.domain.stock.StockService;
+import com.loopers.domain.user.UserCacheRepository;
+import com.loopers.domain.user.UserProfile;
+import com.loopers.domain.user.UserService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 주문은 재고 차감 → 주문 저장 → 포인트 결제 순서로 진행한다.
+ * stock.reservation.enabled 이면 재고를 트랜잭션 밖에서 Redis 로 예약하고, 결제에 실패하면 예약을 취소한다.
+ * stock.combiner.enabled 이면 같은 상품의 동시 주문과 모아서 트랜잭션 밖에서 차감하고, 결제에 실패하면 되돌린다.
+ * 둘 다 아니면 주문 트랜잭션 안에서 stock row 를 잠그고 차감한다. (결제에 실패하면 rollback 으로 재고가 돌아온다)
+ * 결제에 실패한 주문은 주문 트랜잭션이 rollback 되어 connection 과 재고 lock 을 놓은 뒤 PAYMENT_FAILED 로 남긴다.
+ * 카드(PG) 결제는 주문을 PENDING_PAYMENT 로 커밋한 뒤 트랜잭션 밖에서 PG 에 요청하고 바로 응답한다. (결과는 PaymentFacade 가 반영한다)
+ * 주문 / 결제 이벤트는 주문 트랜잭션 안에서 외부로 보내지 않고 outbox 에 남기며, OutboxRelayScheduler 가 발행한다.
+ * 주문 트랜잭션은 READ COMMITTED 로 실행한다. (재고 shard 의 조건부 update 가 조건에 맞지 않은 row 의 lock 을 들고 있지 않게 한다)
+ */
+@Slf4j
+@Component
+public class OrderFacade {
+    private final OrderService orderService;
+    private final OrderHistoryCacheRepository orderHistoryCacheRepository;
+    private final StockService stockService;
+    private final PointService pointService;
+    private final PaymentService paymentService;
+    private final PaymentFacade paymentFacade;
+    private final ProductService productService;
+    private final UserService userService;
+    private final UserCacheRepository userCacheRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean stockReservation;
+    private final boolean stockCombiner;
+
+    public OrderFacade(
+            OrderService orderService,
+            OrderHistoryCacheRepository orderHistoryCacheRepository,
+            StockService stockService,
+            PointService pointService,
+            PaymentService paymentService,
+            PaymentFacade paymentFacade,
+            ProductService productService,
+            UserService userService,
+            UserCacheRepository userCacheRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${stock.reservation.enabled:false}") boolean stockReservation,
+            @Value("${stock.combiner.enabled:false}") boolean stockCombiner
+    ) {
+        this.orderService = orderService;
+        this.orderHistoryCacheRepository = orderHistoryCacheRepository;
+        this.stockService = stockService;
+        this.pointService = pointService;
+        this.paymentService = paymentService;
+        this.paymentFacade = paymentFacade;
+        this.productService = productService;
+        this.userService = userService;
+        this.userCacheRepository = userCacheRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.stockReservation = stockReservation;
+        this.stockCombiner = stockCombiner;
+    }
+
+    public OrderInfo placeOrder(String loginId, Map<Long, Long> quantities) {
+        return placeOrder(loginId, quantities, PaymentMethod.POINT);
+    }
+
+    /**
+     * @param quantities productId 별 수량
+     */
+    public OrderInfo placeOrder(String loginId, Map<Long, Long> quantities, PaymentMethod method) {
+        if (quantities.isEmpty()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "주문할 상품이 없습니다.");
+        }
+        UserProfile user = getUserProfile(loginId);
+        List<OrderLine> lines = toLines(quantities);
+
+        OrderInfo info;
+        if (stockReservation) {
+            info = placeWithReservation(user.id(), quantities, lines, method);
+        } else if (stockCombiner) {
+            info = placeWithCombiner(user.id(), quantities, lines, method);
+        } else {
+            info = placeWithRowLock(user.id(), quantities, lines, method);
+        }
+
+        if (method == PaymentMethod.CARD) {
+            paymentFacade.request(info.id(), user.id(), info.totalPrice());
+        } else {
+            userCacheRepository.evictPoint(user.id());
+        }
+        return info;
+    }
+
+    /**
+     * read model(order_summary)을 캐시 -> PK 순으로 읽는다. 반영 지연(order.projection.lag) 만큼 상태가 늦게 보일 수 있다.
+     * 주문 직후처럼 아직 반영되지 않은 주문만 주문 / 주문 상품 테이블에서 읽는다.
+     */
+    public OrderHistoryInfo getOrder(String loginId, Long orderId) {
+        UserProfile user = getUserProfile(loginId);
+        OrderHistoryInfo info = orderHistoryCacheRepository.get(user.id(), orderId, () -> orderService.findHistory(orderId))
+                .map(OrderHistoryInfo::from)
+                .orElseGet(() -> loadFromOrder(user.id(), orderId));
+        if (!info.userId().equals(user.id())) {
+            throw new CoreException(ErrorType.NOT_FOUND, "[id = " + orderId + "] 주문을 찾을 수 없습니다.");
+        }
+        return info;
+    }
+
+    /**
+     * 내 주문을 최신순으로 읽는다. (user_id, order_id) 인덱스로 size + 1 개를 읽어서 다음 페이지가 있는지 본다.
+     * 첫 페이지는 캐시에서 먼저 읽는다.
+     */
+    public OrderHistoryListInfo getOrders(String loginId, Long cursor, int size) {
+        UserProfile user = getUserProfile(loginId);
+        List<OrderHistory> histories = cursor == null && size <= OrderHistoryCacheRepository.FIRST_PAGE_SIZE
+                ? orderHistoryCacheRepository.getFirstPage(user.id(), size + 1,
+                        () -> orderService.getHistories(user.id(), null, OrderHistoryCacheRepository.FIRST_PAGE_SIZE + 1))
+                : orderService.getHistories(user.id(), cursor, size + 1);
+
+        boolean hasNext = histories.size() > size;
+        List<OrderHistory> page = hasNext ? histories.subList(0, size) : histories;
+        return new OrderHistoryListInfo(
+                page.stream().map(OrderHistoryInfo::from).toList(),
+                hasNext ? page.get(page.size() - 1).orderId() : null
+        );
+    }
+
+    private OrderHistoryInfo loadFromOrder(Long userId, Long orderId) {
+        Order order = orderService.getOrder(orderId);
+        if (!order.getUserId().equals(userId)) {
+            throw new CoreException(ErrorType.NOT_FOUND, "[id = " + orderId + "] 주문을 찾을 수 없습니다.");
+        }
+        return OrderHistoryInfo.from(order, orderService.getLines(orderId));
+    }
+
+    /**
+     * 예약은 주문 트랜잭션이 실패했을 때만 취소한다. 커밋한 뒤의 확정은 실패해도 주문에 영향을 주지 않는다.
+     * (확정 / 취소 전에 죽은 예약은 StockReservationSweepFacade 가 주문을 보고 확정 / 취소한다)
+     */
+    private OrderInfo placeWithReservation(Long userId, Map<Long, Long> quantities, List<OrderLine> lines, PaymentMethod method) {
+        String reservationId = UUID.randomUUID().toString();
+        stockService.reserve(reservationId, quantities);
+        Order order;
+        try {
+            order = executeOrder(userId, lines, status -> createOrder(userId, lines, method, reservationId));
+        } catch (RuntimeException e) {
+            stockService.release(reservationId);
+            throw e;
+        }
+        if (method == PaymentMethod.POINT) {
+            // 카드 결제는 결제가 끝날 때 확정 / 취소한다.
+            confirmQuietly(reservationId);
+        }
+        return OrderInfo.from(order, lines);
+    }
+
+    private void confirmQuietly(String reservationId) {
+        try {
+            stockService.confirm(reservationId);
+        } catch (Exception e) {
+            log.warn("재고 예약 확정 실패, sweeper 가 주문을 보고 확정합니다 : reservationId = {}", reservationId, e);
+        }
+    }
+
+    /**
+     * 샤딩한 상품은 모아서 차감할 수 없으므로 주문 트랜잭션에서 shard 로 차감한다. (주문이 실패하면 함께 rollback 된다)
+     */
+    private OrderInfo placeWithCombiner(Long userId, Map<Long, Long> quantities, List<OrderLine> lines, PaymentMethod method) {
+        Map<Long, Long> sharded = stockService.deductCombined(quantities);
+        try {
+            Order order = executeOrder(userId, lines, status -> {
+                if (!sharded.isEmpty()) stockService.deduct(sharded);
+                return createOrder(userId, lines, method, null);
+            });
+            return OrderInfo.from(order, lines);
+        } catch (RuntimeException e) {
+            Map<Long, Long> combined = new HashMap<>(quantities);
+            combined.keySet().removeAll(sharded.keySet());
+            if (!combined.isEmpty()) stockService.restore(combined);
+            throw e;
+        }
+    }
+
+    private OrderInfo placeWithRowLock(Long userId, Map<Long, Long> quantities, List<OrderLine> lines, PaymentMethod method) {
+        Order order = executeOrder(userId, lines, status -> {
+            stockService.deduct(quantities);
+            return createOrder(userId, lines, method, null);
+        });
+        return OrderInfo.from(order, lines);
+    }
+
+    /**
+     * 주문 트랜잭션을 실행한다. 포인트 결제에 실패하면 주문 트랜잭션이 rollback 된 뒤에 결제 실패 주문을 남긴다.
+     * (주문 트랜잭션 안에서 REQUIRES_NEW 로 남기면 connection 을 두 개 잡아서, bulkhead 만큼 몰리면 pool 이 고갈된다)
+     */
+    private Order executeOrder(Long userId, List<OrderLine> lines, TransactionCallback<Order> callback) {
+        try {
+            return transactionTemplate.execute(callback);
+        } catch (PaymentFailedException e) {
+            recordFailedOrder(userId, lines);
+            throw e.getCause();
+        }
+    }
+
+    private void recordFailedOrder(Long userId, List<OrderLine> lines) {
+        try {
+            orderService.createFailedOrder(userId, lines);
+        } catch (Exception e) {
+            log.warn("결제 실패 주문 저장 실패 : userId = {}", userId, e);
+        }
+    }
+
+    /**
+     * 카드 결제는 결제를 기다리는 주문과 결제를 만든다.
+     * @param reservationId Redis 에서 재고를 예약했을 때만 있다.
+     */
+    private Order createOrder(Long userId, List<OrderLine> lines, PaymentMethod method, String reservationId) {
+        if (method == PaymentMethod.POINT) return pay(userId, lines, reservationId);
+        Order order = orderService.createPendingOrder(userId, lines, reservationId);
+        paymentService.createPayment(order.getId(), userId, order.getTotalPrice(), reservationId);
+        return order;
+    }
+
+    /**
+     * 포인트가 부족하면 PaymentFailedException 으로 주문 트랜잭션을 rollback 한다. (결제 실패 주문은 executeOrder 가 남긴다)
+     */
+    private Order pay(Long userId, List<OrderLine> lines, String reservationId) {
+        Order order = orderService.createOrder(userId, lines, reservationId);
+        try {
+            pointService.use(userId, order.getTotalPrice());
+            orderService.completePayment(order, lines);
+        } catch (CoreException e) {
+            throw new PaymentFailedException(e);
+        }
+        return order;
+    }
+
+    private List<OrderLine> toLines(Map<Long, Long> quantities) {
+        Map<Long, ProductSummary> products = productService.getProductSummaries(List.copyOf(quantities.keySet()));
+        List<OrderLine> lines = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, quantity) -> {
+            ProductSummary product = products.get(productId);
+            if (product == null) {
+                throw new CoreException(ErrorType.NOT_FOUND, "[id = " + productId + "] 상품을 찾을 수 없습니다.");
+            }
+            lines.add(new OrderLine(productId, quantity, product.price()));
+        });
+        return lines;
+    }
+
+    private UserProfile getUserProfile(String loginId) {
+        return userCacheRepository.getProfile(loginId, () -> userService.findUserById(loginId).map(UserProfile::from))
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[loginId = " + loginId + "] User를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 주문 트랜잭션 안의 포인트 결제 실패를 재고 차감 등 다른 실패와 구분한다. 밖으로는 원래 CoreException 을 던진다.
+     */
+    private static class PaymentFailedException extends RuntimeException {
+        PaymentFailedException(CoreException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized CoreException getCause() {
+            return (CoreException) super.getCause();
+        }
+    }
+}
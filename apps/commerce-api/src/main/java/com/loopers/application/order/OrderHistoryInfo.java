@@ -0,0 +1,49 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderHistory;
+import com.loopers.domain.order.OrderHistoryItem;
+import com.loopers.domain.order.OrderLine;
+import com.loopers.domain.order.OrderStatus;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public record OrderHistoryInfo(
+        Long id
+        , Long userId
+        , OrderStatus status
+        , Long totalPrice
+        , Integer itemCount
+        , List<OrderHistoryItem> items
+        , ZonedDateTime orderedAt
+) {
+    public static OrderHistoryInfo from(OrderHistory history) {
+        return new OrderHistoryInfo(
+                history.orderId(),
+                history.userId(),
+                history.status(),
+                history.totalPrice(),
+                history.itemCount(),
+                history.items(),
+                history.orderedAt()
+        );
+    }
+
+    /**
+     * read model 에 아직 반영되지 않은 주문. 상품/브랜드 이름은 비어있다.
+     */
+    public static OrderHistoryInfo from(Order order, List<OrderLine> lines) {
+        return new OrderHistoryInfo(
+                order.getId(),
+                order.getUserId(),
+                order.getStatus(),
+                order.getTotalPrice(),
+                lines.size(),
+                lines.stream()
+                        .map(line -> new OrderHistoryItem(line.productId(), null, null, line.quantity(), line.unitPrice(), line.totalAmount()))
+                        .toList(),
+                order.getCreatedAt()
+        );
+    }
+}
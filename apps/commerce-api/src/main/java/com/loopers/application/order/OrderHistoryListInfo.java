@@ -0,0 +1,12 @@
+package com.loopers.application.order;
+
+import java.util.List;
+
+/**
+ * @param nextCursor 다음 페이지 요청에 그대로 넘기는 값 (마지막 주문의 ID). 마지막 페이지이면 null
+ */
+public record OrderHistoryListInfo(
+        List<OrderHistoryInfo> items
+        , Long nextCursor
+) {
+}
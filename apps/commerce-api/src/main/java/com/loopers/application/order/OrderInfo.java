@@ -0,0 +1,31 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderLine;
+import com.loopers.domain.order.OrderStatus;
+
+import java.util.List;
+
+public record OrderInfo(
+        Long id
+        , Long userId
+        , OrderStatus status
+        , Long totalPrice
+        , List<OrderItemInfo> items
+) {
+    public static OrderInfo from(Order order, List<OrderLine> lines) {
+        return new OrderInfo(
+                order.getId(),
+                order.getUserId(),
+                order.getStatus(),
+                order.getTotalPrice(),
+                lines.stream().map(OrderItemInfo::from).toList()
+        );
+    }
+
+    public record OrderItemInfo(Long productId, Long quantity, Long unitPrice, Long totalAmount) {
+        public static OrderItemInfo from(OrderLine line) {
+            return new OrderItemInfo(line.productId(), line.quantity(), line.unitPrice(), line.totalAmount());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.loopers.application.outbox;
+
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.OutboxEventPublisher;
+import com.loopers.domain.outbox.OutboxRelayLock;
+import com.loopers.domain.outbox.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * outbox 의 이벤트를 오래된 순서로 읽어 발행하고, 발행한 이벤트를 한 번에 지운다.
+ * 발행과 삭제 사이에 죽으면 다시 발행하므로 이벤트는 최소 한 번 전달된다.
+ */
+@RequiredArgsConstructor
+@Component
+public class OutboxRelayFacade {
+    private final OutboxService outboxService;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final OutboxRelayLock outboxRelayLock;
+
+    /**
+     * lease 를 가진 노드만 발행한다.
+     * @return 발행하고 지운 이벤트 수
+     */
+    public int relay(int batchSize) {
+        if (!outboxRelayLock.tryAcquire()) return 0;
+
+        List<OutboxEvent> events = outboxService.findOldest(batchSize);
+        if (events.isEmpty()) return 0;
+        Set<Long> publishedIds = outboxEventPublisher.publish(events);
+        return outboxService.delete(outboxService.findDeletable(events, publishedIds));
+    }
+
+    public void stop() {
+        outboxRelayLock.release();
+    }
+}
@@ -0,0 +1,180 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.order.OrderLine;
+import com.loopers.domain.order.OrderService;
+import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentCommand;
+import com.loopers.domain.payment.PaymentGateway;
+import com.loopers.domain.payment.PaymentService;
+import com.loopers.domain.payment.PaymentStatus;
+import com.loopers.domain.payment.PgTransaction;
+import com.loopers.domain.stock.StockService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * PG 결제를 요청하고, callback 이나 조회로 받은 결과를 주문 / 재고에 반영한다.
+ * PG 호출은 트랜잭션 밖에서 비동기로 하고, 결과를 받은 뒤 짧은 트랜잭션으로 반영한다.
+ *
+ * 요청이 PG 로 나가지 않았음이 확실하면 (circuit open 등) 바로 실패로 끝낸다.
+ * timeout 처럼 PG 가 받았는지 모르면 PENDING 으로 두고, sync 가 PG 에 조회해서 끝낸다.
+ * PG 에 거래가 없는 채로 missing-grace 가 지나면 요청이 닿지 않은 것으로 보고 실패로 끝낸다.
+ * 결제에 실패하면 차감한 재고를 되돌린다. (Redis 예약이면 예약을 취소한다)
+ */
+@Slf4j
+@Component
+public class PaymentFacade {
+    private final PaymentService paymentService;
+    private final PaymentGateway paymentGateway;
+    private final OrderService orderService;
+    private final StockService stockService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration missingGrace;
+
+    public PaymentFacade(
+            PaymentService paymentService,
+            PaymentGateway paymentGateway,
+            OrderService orderService,
+            StockService stockService,
+            PlatformTransactionManager transactionManager,
+            @Value("${pg.sync.missing-grace-ms:60000}") long missingGraceMs
+    ) {
+        this.paymentService = paymentService;
+        this.paymentGateway = paymentGateway;
+        this.orderService = orderService;
+        this.stockService = stockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.missingGrace = Duration.ofMillis(missingGraceMs);
+    }
+
+    /**
+     * 주문 트랜잭션이 커밋된 뒤에 부른다. 결과를 기다리지 않는다.
+     */
+    public CompletableFuture<Void> request(Long orderId, Long userId, Long amount) {
+        return paymentGateway.request(new PaymentCommand(orderId, userId, amount))
+                .handle((transaction, e) -> {
+                    if (e == null) {
+                        apply(orderId, transaction);
+                    } else if (isNotSent(e)) {
+                        fail(orderId, e.getMessage());
+                    } else {
+                        log.warn("PG 결제 요청 결과를 알 수 없음 (조회로 확인) : orderId = {}", orderId, e);
+                    }
+                    return null;
+                })
+                .exceptionally(e -> {
+                    // 반영에 실패해도 PENDING 으로 남아 있으므로 sync 가 다시 반영한다.
+                    log.warn("PG 결제 결과 반영 실패 : orderId = {}", orderId, e);
+                    return null;
+                });
+    }
+
+    /**
+     * callback 의 본문은 믿지 않고 PG 에 다시 조회한 결과를 반영한다.
+     */
+    public CompletableFuture<Void> handleCallback(Long orderId) {
+        return sync(orderId);
+    }
+
+    /**
+     * minAge 이상 끝나지 않은 결제를 PG 에 조회해서 끝낸다.
+     * @return 조회한 결제 수
+     */
+    public int syncPending(Duration minAge, int batchSize) {
+        List<Long> orderIds = paymentService.findPendingOrderIds(minAge, batchSize);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(orderIds.size());
+        for (Long orderId : orderIds) {
+            futures.add(sync(orderId));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        return orderIds.size();
+    }
+
+    private CompletableFuture<Void> sync(Long orderId) {
+        return paymentGateway.findByOrderId(orderId)
+                .handle((transaction, e) -> {
+                    if (e != null) {
+                        log.warn("PG 결제 조회 실패 : orderId = {}", orderId, e);
+                    } else if (transaction.isPresent()) {
+                        apply(orderId, transaction.get());
+                    } else {
+                        failIfMissing(orderId);
+                    }
+                    return null;
+                })
+                .exceptionally(e -> {
+                    log.warn("PG 결제 결과 반영 실패 : orderId = {}", orderId, e);
+                    return null;
+                });
+    }
+
+    private void apply(Long orderId, PgTransaction transaction) {
+        if (!transaction.status().isFinished()) {
+            paymentService.accepted(orderId, transaction.transactionKey());
+            return;
+        }
+        finish(() -> paymentService.complete(orderId, transaction));
+    }
+
+    private void failIfMissing(Long orderId) {
+        Payment payment = paymentService.getPayment(orderId);
+        if (payment.getCreatedAt().plus(missingGrace).isBefore(ZonedDateTime.now())) {
+            fail(orderId, "PG 에 결제 요청이 없습니다.");
+        }
+    }
+
+    private void fail(Long orderId, String reason) {
+        finish(() -> paymentService.fail(orderId, reason));
+    }
+
+    /**
+     * 결제와 주문 상태를 한 트랜잭션에서 바꾸고, DB 에서 차감한 재고도 같은 트랜잭션에서 되돌린다.
+     * Redis 예약은 커밋한 뒤에 확정 / 취소한다. (실패해도 예약 ttl 이 지나면 기록만 사라진다)
+     */
+    private void finish(Supplier<Optional<Payment>> transition) {
+        Payment finished = transactionTemplate.execute(status -> {
+            Optional<Payment> payment = transition.get();
+            payment.ifPresent(this::applyToOrder);
+            return payment.orElse(null);
+        });
+        if (finished == null || finished.getReservationId() == null) return;
+        if (finished.getStatus() == PaymentStatus.SUCCESS) {
+            stockService.confirm(finished.getReservationId());
+        } else {
+            stockService.release(finished.getReservationId());
+        }
+    }
+
+    private void applyToOrder(Payment payment) {
+        if (payment.getStatus() == PaymentStatus.SUCCESS) {
+            orderService.markPaid(payment.getOrderId());
+            return;
+        }
+        orderService.markPaymentFailed(payment.getOrderId());
+        if (payment.getReservationId() == null) {
+            Map<Long, Long> quantities = orderService.getLines(payment.getOrderId()).stream()
+                    .collect(Collectors.toMap(OrderLine::productId, OrderLine::quantity, Long::sum));
+            stockService.restore(quantities);
+        }
+    }
+
+    private boolean isNotSent(Throwable e) {
+        Throwable cause = e.getCause() != null && !(e instanceof CoreException) ? e.getCause() : e;
+        return cause instanceof CoreException coreException && coreException.getErrorType() == ErrorType.SERVICE_UNAVAILABLE;
+    }
+}
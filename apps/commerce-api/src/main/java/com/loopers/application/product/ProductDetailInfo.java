@@ -0,0 +1,23 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductDetail;
+
+public record ProductDetailInfo(
+        Long id
+        , Long brandId
+        , String brandName
+        , String name
+        , Long price
+        , Long likeCount
+) {
+    public static ProductDetailInfo from(ProductDetail detail) {
+        return new ProductDetailInfo(
+                detail.id(),
+                detail.brandId(),
+                detail.brandName(),
+                detail.name(),
+                detail.price(),
+                detail.likeCount()
+        );
+    }
+}
@@ -0,0 +1,88 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.brand.BrandSummary;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductCursor;
+import com.loopers.domain.product.ProductDetail;
+import com.loopers.domain.product.ProductDetailCacheRepository;
+import com.loopers.domain.product.ProductListCacheRepository;
+import com.loopers.domain.product.ProductListPage;
+import com.loopers.domain.product.ProductRankingService;
+import com.loopers.domain.product.ProductSearchCondition;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSlice;
+import com.loopers.domain.product.ProductSortType;
+import com.loopers.domain.product.ProductSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Component
+public class ProductFacade {
+    private final ProductService productService;
+    private final ProductRankingService productRankingService;
+    private final BrandService brandService;
+    private final ProductDetailCacheRepository productDetailCacheRepository;
+    private final ProductListCacheRepository productListCacheRepository;
+
+    /**
+     * 캐시에서 먼저 읽으므로 트랜잭션을 열지 않는다. 없는 상품은 loader 가 NOT_FOUND 를 던진다. (캐시하지 않는다)
+     */
+    public ProductDetailInfo getProduct(Long productId) {
+        return productDetailCacheRepository.get(productId, () -> Optional.of(loadDetail(productId)))
+                .map(ProductDetailInfo::from)
+                .orElseThrow();
+    }
+
+    /**
+     * 페이지 단위로 캐시한다. 잘못된 cursor 는 캐시를 보기 전에 BAD_REQUEST 로 거른다.
+     */
+    public ProductListInfo getProducts(Long brandId, ProductSortType sort, String cursor, int size) {
+        ProductCursor productCursor = cursor != null ? ProductCursor.decode(cursor, sort) : null;
+        ProductSearchCondition condition = new ProductSearchCondition(brandId, sort, productCursor, size);
+        ProductListPage page = productListCacheRepository.getPage(brandId, sort, cursor, size, () -> loadPage(condition));
+        return new ProductListInfo(
+                page.items().stream()
+                        .map(summary -> ProductListItemInfo.from(summary, page.brandNames().get(summary.brandId())))
+                        .toList(),
+                page.nextCursor()
+        );
+    }
+
+    /**
+     * 브랜드 이름은 상품 목록 쿼리에서 join 하지 않고 페이지의 brandId 로 한 번 더 조회한다.
+     * (join 하면 옵티마이저가 brand 부터 읽고 filesort 하는 실행 계획을 고를 수 있다)
+     */
+    private ProductListPage loadPage(ProductSearchCondition condition) {
+        // 좋아요순은 랭킹(Redis)을 먼저 쓰고, 쓸 수 없으면 DB 에서 읽는다. (두 경로의 cursor 는 같다)
+        ProductSlice slice = productRankingService.getLikeRanking(condition)
+                .orElseGet(() -> productService.getProducts(condition));
+
+        Map<Long, String> brandNames = brandService.getBrandNames(slice.items().stream()
+                .map(ProductSummary::brandId)
+                .collect(Collectors.toSet()));
+        return new ProductListPage(
+                slice.items(),
+                brandNames,
+                slice.nextCursor() != null ? slice.nextCursor().encode() : null
+        );
+    }
+
+    private ProductDetail loadDetail(Long productId) {
+        Product product = productService.getProduct(productId);
+        BrandSummary brand = brandService.getBrandSummary(product.getBrandId());
+        return new ProductDetail(
+                product.getId(),
+                brand.id(),
+                brand.name(),
+                product.getName(),
+                product.getPrice(),
+                product.getLikeCount()
+        );
+    }
+}
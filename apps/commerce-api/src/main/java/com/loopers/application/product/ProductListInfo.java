@@ -0,0 +1,12 @@
+package com.loopers.application.product;
+
+import java.util.List;
+
+/**
+ * @param nextCursor 다음 페이지 요청에 그대로 넘기는 값. 마지막 페이지이면 null
+ */
+public record ProductListInfo(
+        List<ProductListItemInfo> items
+        , String nextCursor
+) {
+}
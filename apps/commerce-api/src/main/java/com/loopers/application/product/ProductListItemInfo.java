@@ -0,0 +1,23 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductSummary;
+
+public record ProductListItemInfo(
+        Long id
+        , Long brandId
+        , String brandName
+        , String name
+        , Long price
+        , Long likeCount
+) {
+    public static ProductListItemInfo from(ProductSummary summary, String brandName) {
+        return new ProductListItemInfo(
+                summary.id(),
+                summary.brandId(),
+                brandName,
+                summary.name(),
+                summary.price(),
+                summary.likeCount()
+        );
+    }
+}
@@ -0,0 +1,45 @@
+package com.loopers.application.stock;
+
+import com.loopers.domain.stock.StockOperation;
+import com.loopers.domain.stock.StockOperationQueue;
+import com.loopers.domain.stock.StockService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 에서 예약 / 취소된 재고를 DB 의 stock 에 반영한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class StockReconcileFacade {
+    private final StockService stockService;
+    private final StockOperationQueue stockOperationQueue;
+
+    /**
+     * 큐의 재고 연산을 DB 에 반영한 뒤 ack 한다.
+     * 반영 후 ack 전에 죽으면 다시 읽지만, 반영한 연산의 로그로 걸러서 두 번 반영하지 않는다.
+     * @return 처리한 연산 수
+     */
+    public int reconcile(int batchSize) {
+        return reconcile(stockOperationQueue.read(batchSize));
+    }
+
+    /**
+     * 죽은 노드가 읽고 ack 하지 않은 연산을 가져와서 반영한다.
+     */
+    public int recover(Duration minIdle, int batchSize) {
+        return reconcile(stockOperationQueue.claimStale(minIdle, batchSize));
+    }
+
+    private int reconcile(List<StockOperation> operations) {
+        if (operations.isEmpty()) return 0;
+        stockService.reconcile(operations);
+        List<String> ids = operations.stream().map(StockOperation::id).toList();
+        stockOperationQueue.ack(ids);
+        stockService.deleteOperationLogs(ids);
+        return operations.size();
+    }
+}
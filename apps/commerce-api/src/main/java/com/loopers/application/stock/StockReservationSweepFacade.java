@@ -0,0 +1,50 @@
+package com.loopers.application.stock;
+
+import com.loopers.domain.order.OrderService;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.stock.StockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예약 후 확정 / 취소하기 전에 노드가 죽어서 남은 재고 예약을 주문과 맞춰본다.
+ * - 주문이 없다 (주문 트랜잭션이 커밋되지 않았다) : 취소해서 재고를 돌려준다.
+ * - PAID : 확정한다.
+ * - PAYMENT_FAILED : 취소한다.
+ * - PENDING_PAYMENT : 결제가 끝날 때 PaymentFacade 가 확정 / 취소하므로 건드리지 않는다.
+ * minAge 는 주문 트랜잭션보다 충분히 길어야 한다. (아직 커밋 중인 주문의 예약을 취소하지 않게)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class StockReservationSweepFacade {
+    private final StockService stockService;
+    private final OrderService orderService;
+
+    /**
+     * @return 확정 / 취소한 예약 수
+     */
+    public int sweep(Duration minAge, int batchSize) {
+        List<String> reservationIds = stockService.findOpenReservations(minAge, batchSize);
+        if (reservationIds.isEmpty()) return 0;
+
+        Map<String, OrderStatus> statuses = orderService.getStatusesByReservationIds(reservationIds);
+        int swept = 0;
+        for (String reservationId : reservationIds) {
+            OrderStatus status = statuses.get(reservationId);
+            if (status == OrderStatus.PENDING_PAYMENT) continue;
+            if (status == OrderStatus.PAID) {
+                stockService.confirm(reservationId);
+            } else if (stockService.release(reservationId)) {
+                log.warn("확정 / 취소되지 않은 재고 예약을 되돌렸습니다 : reservationId = {}, orderStatus = {}", reservationId, status);
+            }
+            swept++;
+        }
+        return swept;
+    }
+}
@@ -0,0 +1,164 @@
+package com.loopers.application.user;
+
+import com.loopers.domain.point.Point;
+import com.loopers.domain.point.PointHistory;
+import com.loopers.domain.point.PointService;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserCacheRepository;
+import com.loopers.domain.user.UserService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.loopers.support.error.CoreExceptionUtil.validateObjectNull;
+
+/**
+ * 대량 회원가입 / point 충전.
+ * 호출자가 나눈 chunk 하나를 트랜잭션 하나로 처리하고, 입력 순서대로 row 별 결과를 반환한다.
+ * 검증에 실패한 row 는 결과만 실패로 남기고 나머지 row 는 저장한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class UserBulkFacade {
+    private final UserFacade userFacade;
+    private final UserService userService;
+    private final PointService pointService;
+    private final UserCacheRepository userCacheRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 이미 있는 loginId / email 은 chunk 단위로 한 번에 조회해서 걸러낸다.
+     * 조회 이후 다른 요청이 같은 loginId / email 로 먼저 가입해서 chunk 저장이 CONFLICT 로 실패하면,
+     * 그 chunk 만 한 건씩 다시 저장한다.
+     */
+    public List<UserBulkResult> saveUsers(List<UserInfo> userInfos) {
+        try {
+            return transactionTemplate.execute(status -> saveUsersInChunk(userInfos));
+        } catch (CoreException e) {
+            if (e.getErrorType() != ErrorType.CONFLICT) throw e;
+            return userInfos.stream().map(this::saveUserOneByOne).toList();
+        }
+    }
+
+    @Transactional
+    public List<UserBulkResult> addUserPoints(List<UserPointChargeInfo> charges) {
+        Map<String, User> userByLoginId = userService.findUsersByIds(charges.stream().map(UserPointChargeInfo::loginId).filter(Objects::nonNull).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getLoginId, Function.identity()));
+
+        List<UserBulkResult> results = new ArrayList<>(charges.size());
+        List<PointHistory> histories = new ArrayList<>(charges.size());
+        Map<PointHistory, Integer> resultIndexByHistory = new IdentityHashMap<>();
+        for (UserPointChargeInfo charge : charges) {
+            try {
+                User user = userByLoginId.get(charge.loginId());
+                if (user == null) {
+                    throw new CoreException(ErrorType.NOT_FOUND, "[loginId = " + charge.loginId() + "] point를 충전할 User를 찾을 수 없습니다.");
+                }
+                validateObjectNull(charge.point(), "충전할 point가 Null 이 되면 안 됩니다.");
+                PointHistory history = PointHistory.charge(user.getId(), charge.point().longValue());
+                histories.add(history);
+                resultIndexByHistory.put(history, results.size());
+                results.add(UserBulkResult.success(charge.loginId()));
+            } catch (CoreException e) {
+                results.add(UserBulkResult.failure(charge.loginId(), e));
+            }
+        }
+
+        for (PointHistory rejected : pointService.chargeAll(histories)) {
+            int index = resultIndexByHistory.get(rejected);
+            results.set(index, UserBulkResult.failure(results.get(index).loginId(),
+                    new CoreException(ErrorType.BAD_REQUEST, "충전 후 point가 최대치를 넘을 수 없습니다.")));
+        }
+
+        Set<Long> chargedUserIds = histories.stream().map(PointHistory::getUserId).collect(Collectors.toSet());
+        afterCommit(() -> chargedUserIds.forEach(userCacheRepository::evictPoint));
+        return results;
+    }
+
+    private List<UserBulkResult> saveUsersInChunk(List<UserInfo> userInfos) {
+        Set<String> existingLoginIds = userService.findUsersByIds(userInfos.stream().map(UserInfo::loginId).filter(Objects::nonNull).toList())
+                .stream()
+                .map(User::getLoginId)
+                .collect(Collectors.toSet());
+        Set<String> existingEmails = new HashSet<>(userService.findExistingEmails(userInfos.stream().map(UserInfo::email).filter(Objects::nonNull).toList()));
+
+        List<UserBulkResult> results = new ArrayList<>(userInfos.size());
+        List<User> users = new ArrayList<>(userInfos.size());
+        Map<String, Long> initialPointByLoginId = new HashMap<>();
+        for (UserInfo userInfo : userInfos) {
+            try {
+                User user = toUser(userInfo);
+                Long initialPoint = userInfo.point() != null ? userInfo.point().longValue() : null;
+                // snapshot 검증만 먼저 한다. (userId 는 저장 후에 정해진다)
+                Point.create(0L, initialPoint);
+
+                // 같은 chunk 안의 중복도 Set 에 추가하면서 걸러낸다.
+                if (!existingLoginIds.add(user.getLoginId())) {
+                    throw new CoreException(ErrorType.CONFLICT, User.LOGIN_ID_CONFLICT_MESSAGE);
+                }
+                if (!existingEmails.add(user.getEmail())) {
+                    throw new CoreException(ErrorType.CONFLICT, User.EMAIL_CONFLICT_MESSAGE);
+                }
+
+                users.add(user);
+                initialPointByLoginId.put(user.getLoginId(), initialPoint);
+                results.add(UserBulkResult.success(user.getLoginId()));
+            } catch (CoreException e) {
+                results.add(UserBulkResult.failure(userInfo.loginId(), e));
+            }
+        }
+
+        if (!users.isEmpty()) {
+            List<User> savedUsers = userService.saveUsers(users);
+            pointService.createPoints(savedUsers.stream()
+                    .map(user -> Point.create(user.getId(), initialPointByLoginId.get(user.getLoginId())))
+                    .toList());
+        }
+        // 가입 전의 User 는 캐시에 없으므로 (조회 miss 는 캐시하지 않는다) 캐시를 비우지 않는다.
+        return results;
+    }
+
+    private UserBulkResult saveUserOneByOne(UserInfo userInfo) {
+        try {
+            userFacade.saveUser(userInfo);
+            return UserBulkResult.success(userInfo.loginId());
+        } catch (CoreException e) {
+            return UserBulkResult.failure(userInfo.loginId(), e);
+        }
+    }
+
+    private User toUser(UserInfo userInfo) {
+        return User.builder()
+                .loginId(userInfo.loginId())
+                .email(userInfo.email())
+                .birthday(userInfo.birthday())
+                .gender(userInfo.gender())
+                .build();
+    }
+
+    private void afterCommit(Runnable runnable) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+}
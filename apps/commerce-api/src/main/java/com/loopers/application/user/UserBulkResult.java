@@ -0,0 +1,22 @@
+package com.loopers.application.user;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+/**
+ * 대량 처리에서 한 건(row)의 처리 결과
+ */
+public record UserBulkResult(
+        String loginId
+        , boolean success
+        , ErrorType errorType
+        , String message
+) {
+    public static UserBulkResult success(String loginId) {
+        return new UserBulkResult(loginId, true, null, null);
+    }
+
+    public static UserBulkResult failure(String loginId, CoreException e) {
+        return new UserBulkResult(loginId, false, e.getErrorType(), e.getMessage());
+    }
+}
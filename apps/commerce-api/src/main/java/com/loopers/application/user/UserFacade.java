@@ -1,12 +1,18 @@
 package com.loopers.application.user;
 
+import com.loopers.domain.point.Point;
+import com.loopers.domain.point.PointService;
 import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserCacheRepository;
+import com.loopers.domain.user.UserProfile;
 import com.loopers.domain.user.UserService;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Optional;
 
@@ -14,44 +20,74 @@ import java.util.Optional;
 @Component
 public class UserFacade {
     private final UserService userService;
+    private final PointService pointService;
+    private final UserCacheRepository userCacheRepository;
 
+    /**
+     * 중복 확인 조회 없이 바로 insert 하고, 중복이면 unique 제약 위반이 CONFLICT 로 변환된다.
+     */
     @Transactional
     public UserInfo saveUser(UserInfo userInfo) {
-        Optional<User> foundUser = userService.findUserById(userInfo.loginId());
-        if(foundUser.isPresent()) {
-            throw new CoreException(ErrorType.CONFLICT, "이미 존재하는 회원을 다시 저장 못합니다.");
-        }
-
         User user = User.builder()
                 .loginId(userInfo.loginId())
                 .email(userInfo.email())
                 .birthday(userInfo.birthday())
                 .gender(userInfo.gender())
-                .point(userInfo.point())
                 .build();
-        Optional<User> optSavedUser = userService.saveUser(user);
-        return UserInfo.from(optSavedUser);
+        User savedUser = userService.saveUser(user).get();
+
+        // 가입 시 point 는 내역 없이 snapshot 의 초기 잔액으로 저장한다.
+        Long initialPoint = userInfo.point() != null ? userInfo.point().longValue() : null;
+        Point point = pointService.createPoint(savedUser.getId(), initialPoint);
+
+        afterCommit(() -> {
+            userCacheRepository.evictProfile(savedUser.getLoginId());
+            userCacheRepository.evictPoint(savedUser.getId());
+        });
+        return UserInfo.from(savedUser, point.getAmount());
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 캐시에서 먼저 읽으므로 트랜잭션을 열지 않는다. (캐시 hit 시 DB 커넥션을 잡지 않는다)
+     */
     public UserInfo getUser(String loginId){
-        Optional<User> optUser = userService.findUserById(loginId);
-        return UserInfo.from(optUser);
+        return findUserProfile(loginId)
+                .map(profile -> UserInfo.from(profile, getBalance(profile.id())))
+                .orElse(null);
     }
 
-    @Transactional(readOnly = true)
     public Integer getUserPoint(String loginId){
-        User user = userService.findUserById(loginId)
+        UserProfile profile = findUserProfile(loginId)
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[loginId = " + loginId + "] User를 찾을 수 없습니다."));
-        return user.getPoint();
+        return Math.toIntExact(getBalance(profile.id()));
     }
 
     @Transactional
     public Integer addUserPoint(String loginId, Integer userPoint) {
         User user = userService.findUserById(loginId)
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[loginId = " + loginId + "] point를 충전할 User를 찾을 수 없습니다."));
-        user.addPoint(userPoint);
-        Optional<User> savedUser = userService.saveUser(user);
-        return savedUser.get().getPoint();
+        Long balance = pointService.charge(user.getId(), userPoint.longValue());
+
+        // 커밋 후 응답 전에 캐시를 지워서, 충전 응답을 받은 뒤의 조회는 항상 충전된 잔액을 읽는다.
+        afterCommit(() -> userCacheRepository.evictPoint(user.getId()));
+        return Math.toIntExact(balance);
+    }
+
+    private Optional<UserProfile> findUserProfile(String loginId) {
+        return userCacheRepository.getProfile(loginId,
+                () -> userService.findUserById(loginId).map(UserProfile::from));
+    }
+
+    private Long getBalance(Long userId) {
+        return userCacheRepository.getPoint(userId, () -> pointService.getBalance(userId));
+    }
+
+    private void afterCommit(Runnable runnable) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
     }
 }
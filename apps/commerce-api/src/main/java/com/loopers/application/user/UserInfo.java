@@ -1,11 +1,10 @@
 package com.loopers.application.user;
 
 import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserProfile;
 import com.loopers.interfaces.api.user.UserDto;
 import lombok.Builder;
 
-import java.util.Optional;
-
 @Builder
 public record UserInfo(
         String loginId
@@ -14,19 +13,24 @@ public record UserInfo(
         , String gender
         , Integer point
 ) {
-    public static UserInfo from(Optional<User> optUser) {
-        if(optUser.isPresent()) {
-            User user = optUser.get();
-            return UserInfo.builder()
-                    .loginId(user.getLoginId())
-                    .email(user.getEmail())
-                    .birthday(user.getBirthday())
-                    .gender(user.getGender())
-                    .point(user.getPoint())
-                    .build();
-        }
+    public static UserInfo from(User user, Long point) {
+        return UserInfo.builder()
+                .loginId(user.getLoginId())
+                .email(user.getEmail())
+                .birthday(user.getBirthday())
+                .gender(user.getGender())
+                .point(Math.toIntExact(point))
+                .build();
+    }
 
-        return null;
+    public static UserInfo from(UserProfile profile, Long point) {
+        return UserInfo.builder()
+                .loginId(profile.loginId())
+                .email(profile.email())
+                .birthday(profile.birthday())
+                .gender(profile.gender())
+                .point(Math.toIntExact(point))
+                .build();
     }
 
     public static UserInfo from(UserDto.CreateUserRequest cur) {
@@ -0,0 +1,10 @@
+package com.loopers.application.user;
+
+import lombok.Builder;
+
+@Builder
+public record UserPointChargeInfo(
+        String loginId
+        , Integer point
+) {
+}
@@ -0,0 +1,42 @@
+package com.loopers.domain.brand;
+
+import com.loopers.domain.BaseEntity;
+import com.loopers.support.validation.ValidationRules;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "brand")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class Brand extends BaseEntity {
+
+    private static final ValidationRules<Brand> RULES = ValidationRules.<Brand>builder()
+            .notBlank(Brand::getName, "브랜드 이름이 비어있을 수 없습니다.")
+            .build();
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "description")
+    private String description;
+
+    private Brand(String name, String description) {
+        this.name = name;
+        this.description = description;
+        this.guard();
+    }
+
+    public static Brand create(String name, String description) {
+        return new Brand(name, description);
+    }
+
+    @Override
+    protected void guard() {
+        RULES.validate(this);
+    }
+}
@@ -0,0 +1,12 @@
+package com.loopers.domain.brand;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public interface BrandCacheRepository {
+    /**
+     * 캐시에 없으면 loader 로 읽어서 캐시에 저장한다. (read-through)
+     * 동시에 여러 요청이 miss 해도 loader 는 한 번만 실행된다.
+     */
+    Optional<BrandSummary> getBrand(Long brandId, Supplier<Optional<BrandSummary>> loader);
+}
@@ -0,0 +1,11 @@
+package com.loopers.domain.brand;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BrandRepository {
+    Brand save(Brand brand);
+    Optional<Brand> findById(Long id);
+    List<Brand> findAllByIds(Collection<Long> ids);
+}
@@ -0,0 +1,45 @@
+package com.loopers.domain.brand;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Component
+public class BrandService {
+
+    private final BrandRepository brandRepository;
+    private final BrandCacheRepository brandCacheRepository;
+
+    @Transactional
+    public Brand createBrand(String name, String description) {
+        return brandRepository.save(Brand.create(name, description));
+    }
+
+    @Transactional(readOnly = true)
+    public Brand getBrand(Long id) {
+        return brandRepository.findById(id)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 브랜드를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 캐시에서 먼저 읽으므로 트랜잭션을 열지 않는다.
+     */
+    public BrandSummary getBrandSummary(Long id) {
+        return brandCacheRepository.getBrand(id, () -> brandRepository.findById(id).map(BrandSummary::from))
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 브랜드를 찾을 수 없습니다."));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, String> getBrandNames(Collection<Long> ids) {
+        if (ids.isEmpty()) return Map.of();
+        return brandRepository.findAllByIds(ids).stream()
+                .collect(Collectors.toMap(Brand::getId, Brand::getName));
+    }
+}
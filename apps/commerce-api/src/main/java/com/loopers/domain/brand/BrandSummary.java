@@ -0,0 +1,14 @@
+package com.loopers.domain.brand;
+
+/**
+ * 캐시에 저장하는 브랜드 정보.
+ */
+public record BrandSummary(
+        Long id
+        , String name
+        , String description
+) {
+    public static BrandSummary from(Brand brand) {
+        return new BrandSummary(brand.getId(), brand.getName(), brand.getDescription());
+    }
+}
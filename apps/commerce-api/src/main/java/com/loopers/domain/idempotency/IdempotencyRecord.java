@@ -0,0 +1,25 @@
+package com.loopers.domain.idempotency;
+
+/**
+ * Idempotency-Key 로 기록한 요청. 처리 중이면 응답이 비어있다.
+ * @param fingerprint 요청(메소드, 경로, 쿼리, 본문)의 해시. 같은 키로 다른 요청을 보내면 거절한다.
+ * @param body 응답 본문 (ApiResponse json) 그대로
+ */
+public record IdempotencyRecord(
+        String fingerprint
+        , Integer status
+        , String contentType
+        , byte[] body
+) {
+    public static IdempotencyRecord inFlight(String fingerprint) {
+        return new IdempotencyRecord(fingerprint, null, null, null);
+    }
+
+    public static IdempotencyRecord completed(String fingerprint, int status, String contentType, byte[] body) {
+        return new IdempotencyRecord(fingerprint, status, contentType, body);
+    }
+
+    public boolean completed() {
+        return status != null;
+    }
+}
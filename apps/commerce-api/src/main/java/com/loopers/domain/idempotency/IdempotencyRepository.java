@@ -0,0 +1,26 @@
+package com.loopers.domain.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 별 처리 상태. 처리를 시작한 요청(owner)만 완료 / 취소할 수 있다.
+ */
+public interface IdempotencyRepository {
+
+    /**
+     * 키가 없으면 처리 중으로 기록하고 empty 를 돌려준다. 이미 있으면 기록된 상태를 돌려준다.
+     * @param inFlightTtl 처리 중인 노드가 죽어도 이 시간이 지나면 다시 처리할 수 있다.
+     */
+    Optional<IdempotencyRecord> tryStart(String key, String owner, String fingerprint, Duration inFlightTtl);
+
+    /**
+     * 처리 중 기록을 응답으로 바꾼다. 그 사이 in-flight ttl 이 지나서 다른 요청이 가져갔으면 바꾸지 않는다.
+     */
+    void complete(String key, String owner, IdempotencyRecord record, Duration ttl);
+
+    /**
+     * 처리 중 기록을 지워서 같은 키로 다시 처리할 수 있게 한다. (서버 오류처럼 결과를 남기지 않을 때)
+     */
+    void release(String key, String owner, String fingerprint);
+}
@@ -0,0 +1,51 @@
+package com.loopers.domain.like;
+
+import com.loopers.domain.BaseEntity;
+import com.loopers.support.validation.ValidationRules;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * User 가 상품에 누른 좋아요. (user_id, product_id) 당 하나만 존재한다.
+ * 좋아요 취소는 row 를 삭제한다.
+ */
+@Entity
+@Table(
+        name = "likes"
+        , uniqueConstraints = @UniqueConstraint(name = "uk_likes_user_product", columnNames = {"user_id", "product_id"})
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class Like extends BaseEntity {
+
+    private static final ValidationRules<Like> RULES = ValidationRules.<Like>builder()
+            .notNull(Like::getUserId, "userId가 Null 이 되면 안 됩니다.")
+            .notNull(Like::getProductId, "productId가 Null 이 되면 안 됩니다.")
+            .build();
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(name = "product_id", nullable = false, updatable = false)
+    private Long productId;
+
+    private Like(Long userId, Long productId) {
+        this.userId = userId;
+        this.productId = productId;
+        this.guard();
+    }
+
+    public static Like create(Long userId, Long productId) {
+        return new Like(userId, productId);
+    }
+
+    @Override
+    protected void guard() {
+        RULES.validate(this);
+    }
+}
@@ -0,0 +1,26 @@
+package com.loopers.domain.like;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * User 별 좋아요한 상품 집합. 좋아요 상태의 기준이고, DB 는 LikeOperationQueue 를 통해 나중에 맞춘다.
+ */
+public interface LikeCacheRepository {
+    /**
+     * 집합 변경과 LikeOperationQueue 적재를 원자적으로 한다. (상태가 바뀐 경우에만 적재)
+     * @return 상태가 바뀌었으면 true. User 의 집합이 아직 없으면 empty (load 후 다시 호출한다)
+     */
+    Optional<Boolean> apply(LikeEventType type, Long userId, Long productId, Long brandId);
+
+    /**
+     * User 의 집합이 없을 때만 DB 의 좋아요 목록으로 만든다.
+     */
+    void load(Long userId, Collection<Long> likedProductIds);
+
+    /**
+     * @return 집합이 있는 User 의 key 만 담는다.
+     */
+    Map<LikeKey, Boolean> findLiked(Collection<LikeKey> keys);
+}
@@ -0,0 +1,20 @@
+package com.loopers.domain.like;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * 좋아요 / 좋아요 취소가 실제로 반영되었을 때만 발행한다. (이미 좋아요한 상품을 다시 좋아요하면 발행하지 않는다)
+ */
+public record LikeEvent(
+        String eventId
+        , LikeEventType type
+        , Long userId
+        , Long productId
+        , Long brandId
+        , ZonedDateTime occurredAt
+) {
+    public static LikeEvent of(LikeEventType type, Long userId, Long productId, Long brandId) {
+        return new LikeEvent(UUID.randomUUID().toString(), type, userId, productId, brandId, ZonedDateTime.now());
+    }
+}
@@ -0,0 +1,7 @@
+package com.loopers.domain.like;
+
+public record LikeKey(
+        Long userId
+        , Long productId
+) {
+}
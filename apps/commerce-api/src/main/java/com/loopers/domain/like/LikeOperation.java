@@ -0,0 +1,17 @@
+package com.loopers.domain.like;
+
+/**
+ * Redis 에는 반영되었지만 DB 에는 아직 반영되지 않았을 수 있는 좋아요 / 좋아요 취소.
+ * id 는 큐(Redis stream)에서의 위치이고, DB 에 반영한 뒤 이 id 로 ack 한다.
+ */
+public record LikeOperation(
+        String id
+        , LikeEventType type
+        , Long userId
+        , Long productId
+        , Long brandId
+) {
+    public LikeKey key() {
+        return new LikeKey(userId, productId);
+    }
+}
@@ -0,0 +1,21 @@
+package com.loopers.domain.like;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * DB 에 반영할 LikeOperation 의 큐. 반영 후 ack 하지 않은 것은 다시 읽는다.
+ */
+public interface LikeOperationQueue {
+    /**
+     * 이전에 읽고 ack 하지 않은 것부터 읽는다.
+     */
+    List<LikeOperation> read(int count);
+
+    /**
+     * 다른 노드가 읽고 minIdle 이상 ack 하지 않은 것(노드가 죽은 경우)을 가져온다.
+     */
+    List<LikeOperation> claimStale(Duration minIdle, int count);
+
+    void ack(List<String> ids);
+}
@@ -0,0 +1,30 @@
+package com.loopers.domain.like;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface LikeRepository {
+    /**
+     * @return 새로 저장했으면 true, 이미 있으면 false
+     */
+    boolean saveIfAbsent(Like like);
+
+    /**
+     * @return 삭제했으면 true, 없었으면 false
+     */
+    boolean delete(Long userId, Long productId);
+
+    boolean exists(Long userId, Long productId);
+
+    List<Long> findLikedProductIds(Long userId);
+
+    /**
+     * 있는 row 를 잠그고 읽는다. 없는 key 는 그 자리(gap)를 잠가서 다른 트랜잭션이 끼워 넣지 못하게 한다. (REPEATABLE READ)
+     */
+    Set<LikeKey> findExistingForUpdate(Collection<LikeKey> keys);
+
+    void saveAllIfAbsent(Collection<LikeKey> keys);
+
+    void deleteAll(Collection<LikeKey> keys);
+}
@@ -0,0 +1,111 @@
+package com.loopers.domain.like;
+
+import com.loopers.domain.outbox.OutboxAggregateType;
+import com.loopers.domain.outbox.OutboxService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 좋아요 / 좋아요 취소는 멱등하다. 상태가 바뀐 경우에만 같은 트랜잭션에서 이벤트를 outbox 에 남긴다.
+ * 상품의 like_count 는 여기서 올리지 않는다. (commerce-streamer 가 이벤트를 모아서 반영한다)
+ * - like / unlike : DB 에 바로 쓴다.
+ * - likeInCache / unlikeInCache : Redis 의 User 별 집합에 쓰고 (write-behind), flush 가 모아서 DB 에 반영한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class LikeService {
+
+    private final LikeRepository likeRepository;
+    private final LikeCacheRepository likeCacheRepository;
+    private final OutboxService outboxService;
+
+    @Transactional
+    public boolean like(Long userId, Long productId, Long brandId) {
+        boolean changed = likeRepository.saveIfAbsent(Like.create(userId, productId));
+        if (changed) appendEvent(LikeEvent.of(LikeEventType.LIKED, userId, productId, brandId));
+        return changed;
+    }
+
+    @Transactional
+    public boolean unlike(Long userId, Long productId, Long brandId) {
+        boolean changed = likeRepository.delete(userId, productId);
+        if (changed) appendEvent(LikeEvent.of(LikeEventType.UNLIKED, userId, productId, brandId));
+        return changed;
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isLiked(Long userId, Long productId) {
+        return likeRepository.exists(userId, productId);
+    }
+
+    public boolean likeInCache(Long userId, Long productId, Long brandId) {
+        return applyInCache(LikeEventType.LIKED, userId, productId, brandId);
+    }
+
+    public boolean unlikeInCache(Long userId, Long productId, Long brandId) {
+        return applyInCache(LikeEventType.UNLIKED, userId, productId, brandId);
+    }
+
+    /**
+     * 큐에서 읽은 것을 pair 별로 합쳐서 DB 와 다른 것만 batch 로 반영한다.
+     * 반영할 상태는 Redis 집합의 현재 값을 쓴다. (여러 노드가 순서와 다르게 flush 해도 마지막 상태로 맞춰진다)
+     * 집합이 만료된 User 는 큐의 마지막 연산을 쓴다.
+     * DB 의 현재 상태는 row (없으면 gap) 를 잠그고 읽으므로, 같은 pair 를 동시에 flush 하는 다른 노드는 이 트랜잭션이 끝난 뒤의 상태를 본다.
+     * 그래서 이벤트는 이 트랜잭션이 실제로 insert / delete 한 row 에만 나오고, 같은 트랜잭션에서 outbox 에 남긴다.
+     * (gap 을 함께 잠근 두 트랜잭션이 같은 pair 를 insert 하면 하나는 deadlock 으로 rollback 되고, ack 하지 않았으므로 다시 flush 된다)
+     * @return 실제로 DB 가 바뀐 것의 이벤트. (다시 flush 해도 DB 가 이미 같으면 이벤트가 나오지 않는다)
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public List<LikeEvent> flush(List<LikeOperation> operations) {
+        Map<LikeKey, LikeOperation> lastOperations = new LinkedHashMap<>();
+        operations.forEach(operation -> lastOperations.put(operation.key(), operation));
+
+        Map<LikeKey, Boolean> liked = likeCacheRepository.findLiked(lastOperations.keySet());
+        Set<LikeKey> existing = likeRepository.findExistingForUpdate(lastOperations.keySet());
+
+        List<LikeKey> toInsert = new ArrayList<>();
+        List<LikeKey> toDelete = new ArrayList<>();
+        List<LikeEvent> events = new ArrayList<>();
+        lastOperations.forEach((key, operation) -> {
+            boolean shouldExist = liked.getOrDefault(key, operation.type() == LikeEventType.LIKED);
+            if (shouldExist == existing.contains(key)) return;
+
+            LikeEventType type = shouldExist ? LikeEventType.LIKED : LikeEventType.UNLIKED;
+            (shouldExist ? toInsert : toDelete).add(key);
+            events.add(LikeEvent.of(type, key.userId(), key.productId(), operation.brandId()));
+        });
+
+        Comparator<LikeKey> keyOrder = Comparator.comparing(LikeKey::userId).thenComparing(LikeKey::productId);
+        toInsert.sort(keyOrder);
+        toDelete.sort(keyOrder);
+        if (!toInsert.isEmpty()) likeRepository.saveAllIfAbsent(toInsert);
+        if (!toDelete.isEmpty()) likeRepository.deleteAll(toDelete);
+        events.forEach(this::appendEvent);
+        return events;
+    }
+
+    private void appendEvent(LikeEvent event) {
+        outboxService.append(OutboxAggregateType.PRODUCT_LIKE, event.productId(), event.type().name(), event);
+    }
+
+    private boolean applyInCache(LikeEventType type, Long userId, Long productId, Long brandId) {
+        Optional<Boolean> changed = likeCacheRepository.apply(type, userId, productId, brandId);
+        if (changed.isEmpty()) {
+            likeCacheRepository.load(userId, likeRepository.findLikedProductIds(userId));
+            changed = likeCacheRepository.apply(type, userId, productId, brandId);
+        }
+        return changed.orElseThrow(() -> new CoreException(ErrorType.INTERNAL_ERROR, "[userId = " + userId + "] 좋아요 상태를 읽지 못했습니다."));
+    }
+}
@@ -0,0 +1,95 @@
+package com.loopers.domain.order;
+
+import com.loopers.domain.TsidBaseEntity;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.support.validation.ValidationRules;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 주문. (order 는 예약어라서 테이블 이름은 orders)
+ * 주문 상품(OrderItem)과 같은 트랜잭션에서 저장되므로 ID 는 TSID 로 만들어서 insert 가 batch 되게 한다.
+ * reservationId 는 재고를 Redis 에서 예약한 주문에만 있다. (확정 / 취소되지 않은 예약을 주문과 맞춰볼 때 쓴다)
+ */
+@Entity
+@Table(
+        name = "orders"
+        , indexes = {
+                @Index(name = "idx_orders_user_id", columnList = "user_id")
+                , @Index(name = "idx_orders_reservation_id", columnList = "reservation_id")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class Order extends TsidBaseEntity {
+
+    private static final ValidationRules<Order> RULES = ValidationRules.<Order>builder()
+            .notNull(Order::getUserId, "userId가 Null 이 되면 안 됩니다.")
+            .notNull(Order::getStatus, "주문 상태가 Null 이 되면 안 됩니다.")
+            .notNull(Order::getTotalPrice, "총 주문 금액이 Null 이 되면 안 됩니다.")
+            .build();
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OrderStatus status;
+
+    @Column(name = "total_price", nullable = false, updatable = false)
+    private Long totalPrice;
+
+    @Column(name = "reservation_id", updatable = false)
+    private String reservationId;
+
+    private Order(Long userId, OrderStatus status, Long totalPrice, String reservationId) {
+        this.userId = userId;
+        this.status = status;
+        this.totalPrice = totalPrice;
+        this.reservationId = reservationId;
+        this.guard();
+    }
+
+    public static Order create(Long userId, OrderStatus status, List<OrderLine> lines) {
+        return create(userId, status, lines, null);
+    }
+
+    public static Order create(Long userId, OrderStatus status, List<OrderLine> lines, String reservationId) {
+        if(lines == null || lines.isEmpty()) throw new CoreException(ErrorType.BAD_REQUEST, "주문할 상품이 없습니다.");
+        return new Order(userId, status, lines.stream().mapToLong(OrderLine::totalAmount).sum(), reservationId);
+    }
+
+    /**
+     * PG 결제 결과를 반영한다. 결제를 기다리는 주문만 바꿀 수 있다.
+     */
+    public void pay() {
+        changeFromPending(OrderStatus.PAID);
+    }
+
+    public void failPayment() {
+        changeFromPending(OrderStatus.PAYMENT_FAILED);
+    }
+
+    private void changeFromPending(OrderStatus next) {
+        if (status != OrderStatus.PENDING_PAYMENT) {
+            throw new CoreException(ErrorType.CONFLICT, "[id = " + getId() + ", status = " + status + "] 결제를 기다리는 주문이 아닙니다.");
+        }
+        this.status = next;
+    }
+
+    @Override
+    protected void guard() {
+        RULES.validate(this);
+        if(totalPrice < 0) throw new CoreException(ErrorType.BAD_REQUEST, "총 주문 금액은 음수가 될 수 없습니다.");
+    }
+}
@@ -0,0 +1,35 @@
+package com.loopers.domain.order;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주문 / 결제 이벤트. 주문과 같은 트랜잭션에서 outbox 에 저장하고 orderId 를 key 로 발행한다.
+ * 같은 이벤트를 다시 받을 수 있으므로 consumer 는 eventId 로 중복을 거른다.
+ */
+public record OrderEvent(
+        String eventId
+        , OrderEventType type
+        , Long orderId
+        , Long userId
+        , OrderStatus status
+        , Long totalPrice
+        , List<OrderLine> items
+        , ZonedDateTime orderedAt
+        , ZonedDateTime occurredAt
+) {
+    public static OrderEvent of(OrderEventType type, Order order, List<OrderLine> lines) {
+        return new OrderEvent(
+                UUID.randomUUID().toString(),
+                type,
+                order.getId(),
+                order.getUserId(),
+                order.getStatus(),
+                order.getTotalPrice(),
+                lines,
+                order.getCreatedAt(),
+                ZonedDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package com.loopers.domain.order;
+
+public enum OrderEventType {
+    ORDER_CREATED,
+    PAYMENT_COMPLETED,
+    PAYMENT_FAILED
+}
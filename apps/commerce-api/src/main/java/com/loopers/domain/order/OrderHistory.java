@@ -0,0 +1,18 @@
+package com.loopers.domain.order;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * 내 주문 목록 / 상세에 보여주는 주문. (order_summary 한 줄, 캐시에도 이 형태로 저장한다)
+ */
+public record OrderHistory(
+        Long orderId
+        , Long userId
+        , OrderStatus status
+        , Long totalPrice
+        , Integer itemCount
+        , List<OrderHistoryItem> items
+        , ZonedDateTime orderedAt
+) {
+}
@@ -0,0 +1,22 @@
+package com.loopers.domain.order;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 주문 read model 캐시. 무효화는 read model 을 갱신하는 commerce-streamer 가 한다.
+ */
+public interface OrderHistoryCacheRepository {
+    int FIRST_PAGE_SIZE = 20;
+
+    /**
+     * 주문 상세를 Redis -> loader 순으로 읽는다. (read-through)
+     */
+    Optional<OrderHistory> get(Long userId, Long orderId, Supplier<Optional<OrderHistory>> loader);
+
+    /**
+     * 첫 페이지를 Redis -> loader 순으로 읽는다. 캐시에는 FIRST_PAGE_SIZE 개를 저장하고 size 만큼 잘라서 돌려준다.
+     */
+    List<OrderHistory> getFirstPage(Long userId, int size, Supplier<List<OrderHistory>> loader);
+}
@@ -0,0 +1,14 @@
+package com.loopers.domain.order;
+
+/**
+ * 주문한 상품 한 줄. 상품/브랜드 이름은 반영 시점의 값이다. (상품이 지워졌으면 null)
+ */
+public record OrderHistoryItem(
+        Long productId
+        , String productName
+        , String brandName
+        , Long quantity
+        , Long unitPrice
+        , Long totalAmount
+) {
+}
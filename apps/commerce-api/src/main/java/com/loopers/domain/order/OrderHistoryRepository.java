@@ -0,0 +1,13 @@
+package com.loopers.domain.order;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderHistoryRepository {
+    Optional<OrderHistory> findById(Long orderId);
+
+    /**
+     * 사용자의 주문을 최신순(order_id 내림차순)으로 읽는다. cursorOrderId 가 있으면 그보다 오래된 주문부터 읽는다. (keyset)
+     */
+    List<OrderHistory> findByUserId(Long userId, Long cursorOrderId, int size);
+}
@@ -0,0 +1,72 @@
+package com.loopers.domain.order;
+
+import com.loopers.domain.TsidBaseEntity;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.support.validation.ValidationRules;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문한 상품. 가격은 주문 시점의 값을 저장한다.
+ */
+@Entity
+@Table(
+        name = "order_item"
+        , indexes = @Index(name = "idx_order_item_order_id", columnList = "order_id")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class OrderItem extends TsidBaseEntity {
+
+    private static final ValidationRules<OrderItem> RULES = ValidationRules.<OrderItem>builder()
+            .notNull(OrderItem::getOrderId, "orderId가 Null 이 되면 안 됩니다.")
+            .notNull(OrderItem::getProductId, "productId가 Null 이 되면 안 됩니다.")
+            .notNull(OrderItem::getQuantity, "주문 수량이 Null 이 되면 안 됩니다.")
+            .notNull(OrderItem::getUnitPrice, "단가가 Null 이 되면 안 됩니다.")
+            .build();
+
+    @Column(name = "order_id", nullable = false, updatable = false)
+    private Long orderId;
+
+    @Column(name = "product_id", nullable = false, updatable = false)
+    private Long productId;
+
+    @Column(name = "quantity", nullable = false, updatable = false)
+    private Long quantity;
+
+    @Column(name = "unit_price", nullable = false, updatable = false)
+    private Long unitPrice;
+
+    @Column(name = "total_amount", nullable = false, updatable = false)
+    private Long totalAmount;
+
+    private OrderItem(Long orderId, OrderLine line) {
+        this.orderId = orderId;
+        this.productId = line.productId();
+        this.quantity = line.quantity();
+        this.unitPrice = line.unitPrice();
+        this.totalAmount = line.totalAmount();
+        this.guard();
+    }
+
+    public static OrderItem of(Long orderId, OrderLine line) {
+        return new OrderItem(orderId, line);
+    }
+
+    public OrderLine toLine() {
+        return new OrderLine(productId, quantity, unitPrice);
+    }
+
+    @Override
+    protected void guard() {
+        RULES.validate(this);
+        if(quantity <= 0) throw new CoreException(ErrorType.BAD_REQUEST, "주문 수량은 0 이하가 될 수 없습니다.");
+        if(unitPrice < 0) throw new CoreException(ErrorType.BAD_REQUEST, "단가는 음수가 될 수 없습니다.");
+    }
+}
@@ -0,0 +1,14 @@
+package com.loopers.domain.order;
+
+/**
+ * 주문할 상품 한 줄. unitPrice 는 주문 시점의 상품 가격이다.
+ */
+public record OrderLine(
+        Long productId
+        , Long quantity
+        , Long unitPrice
+) {
+    public long totalAmount() {
+        return unitPrice * quantity;
+    }
+}
@@ -0,0 +1,13 @@
+package com.loopers.domain.order;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderRepository {
+    Order save(Order order);
+    List<OrderItem> saveItems(List<OrderItem> items);
+    Optional<Order> findById(Long id);
+    List<Order> findAllByReservationIds(Collection<String> reservationIds);
+    List<OrderItem> findItems(Long orderId);
+}
@@ -0,0 +1,128 @@
+package com.loopers.domain.order;
+
+import com.loopers.domain.outbox.OutboxAggregateType;
+import com.loopers.domain.outbox.OutboxService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Component
+public class OrderService {
+
+    private final OrderRepository orderRepository;
+    private final OrderHistoryRepository orderHistoryRepository;
+    private final OutboxService outboxService;
+
+    /**
+     * @param reservationId Redis 에서 재고를 예약했을 때만 있다.
+     */
+    @Transactional
+    public Order createOrder(Long userId, List<OrderLine> lines, String reservationId) {
+        Order order = save(Order.create(userId, OrderStatus.PAID, lines, reservationId), lines);
+        appendEvent(OrderEventType.ORDER_CREATED, order, lines);
+        return order;
+    }
+
+    /**
+     * PG 결제를 기다리는 주문을 만든다. 결제 결과는 markPaid / markPaymentFailed 로 반영한다.
+     */
+    @Transactional
+    public Order createPendingOrder(Long userId, List<OrderLine> lines, String reservationId) {
+        Order order = save(Order.create(userId, OrderStatus.PENDING_PAYMENT, lines, reservationId), lines);
+        appendEvent(OrderEventType.ORDER_CREATED, order, lines);
+        return order;
+    }
+
+    @Transactional
+    public Order markPaid(Long orderId) {
+        Order order = getOrder(orderId);
+        order.pay();
+        appendEvent(OrderEventType.PAYMENT_COMPLETED, order, getLines(orderId));
+        return order;
+    }
+
+    @Transactional
+    public Order markPaymentFailed(Long orderId) {
+        Order order = getOrder(orderId);
+        order.failPayment();
+        appendEvent(OrderEventType.PAYMENT_FAILED, order, getLines(orderId));
+        return order;
+    }
+
+    /**
+     * 결제 완료 이벤트를 주문 트랜잭션의 outbox 에 남긴다. (결제가 rollback 되면 함께 사라진다)
+     */
+    @Transactional
+    public void completePayment(Order order, List<OrderLine> lines) {
+        appendEvent(OrderEventType.PAYMENT_COMPLETED, order, lines);
+    }
+
+    /**
+     * 결제에 실패한 주문을 남긴다. 주문 트랜잭션이 rollback 된 뒤에 호출한다. (주문 트랜잭션 안에서 connection 을 하나 더 잡지 않는다)
+     */
+    @Transactional
+    public Order createFailedOrder(Long userId, List<OrderLine> lines) {
+        Order order = save(Order.create(userId, OrderStatus.PAYMENT_FAILED, lines), lines);
+        appendEvent(OrderEventType.ORDER_CREATED, order, lines);
+        appendEvent(OrderEventType.PAYMENT_FAILED, order, lines);
+        return order;
+    }
+
+    @Transactional(readOnly = true)
+    public Order getOrder(Long id) {
+        return orderRepository.findById(id)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 주문을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 재고 예약으로 만든 주문의 상태. 주문이 커밋되지 않은 예약은 없다.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, OrderStatus> getStatusesByReservationIds(Collection<String> reservationIds) {
+        if (reservationIds.isEmpty()) return Map.of();
+        return orderRepository.findAllByReservationIds(reservationIds).stream()
+                .collect(Collectors.toMap(Order::getReservationId, Order::getStatus));
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderItem> getItems(Long orderId) {
+        return orderRepository.findItems(orderId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderLine> getLines(Long orderId) {
+        return orderRepository.findItems(orderId).stream().map(OrderItem::toLine).toList();
+    }
+
+    /**
+     * read model 에서 주문을 읽는다. 주문 직후처럼 아직 반영되지 않았으면 비어있다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<OrderHistory> findHistory(Long orderId) {
+        return orderHistoryRepository.findById(orderId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderHistory> getHistories(Long userId, Long cursorOrderId, int size) {
+        return orderHistoryRepository.findByUserId(userId, cursorOrderId, size);
+    }
+
+    private Order save(Order order, List<OrderLine> lines) {
+        Order saved = orderRepository.save(order);
+        orderRepository.saveItems(lines.stream().map(line -> OrderItem.of(saved.getId(), line)).toList());
+        return saved;
+    }
+
+    private void appendEvent(OrderEventType type, Order order, List<OrderLine> lines) {
+        outboxService.append(OutboxAggregateType.ORDER, order.getId(), type.name(), OrderEvent.of(type, order, lines));
+    }
+}
@@ -0,0 +1,5 @@
+package com.loopers.domain.order;
+
+public enum OrderStatus {
+    PENDING_PAYMENT, PAID, PAYMENT_FAILED
+}
@@ -0,0 +1,62 @@
+package com.loopers.domain.order;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 내 주문 목록 / 상세 조회용 read model. (주문 + 주문 상품 + 상품/브랜드 이름을 주문 한 줄로 펼친 것)
+ * commerce-streamer 가 주문 이벤트로 갱신하고, commerce-api 는 읽기만 한다.
+ * - items : 주문 상품 목록 (OrderHistoryItem 의 json 배열)
+ * - last_event_at : 반영한 이벤트의 발생 시각. 늦게 도착한 이벤트가 최신 상태를 덮어쓰지 않게 한다.
+ * - projected_at : 반영한 시각. 재생성 때 재생성 시작 전의 row(원본이 없어진 주문)를 지우는 데 쓴다.
+ */
+@Entity
+@Immutable
+@Table(
+        name = "order_summary"
+        , indexes = @Index(name = "idx_order_summary_user_id_order_id", columnList = "user_id, order_id")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class OrderSummary {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(name = "total_price", nullable = false)
+    private Long totalPrice;
+
+    @Column(name = "item_count", nullable = false)
+    private Integer itemCount;
+
+    @Column(name = "items", nullable = false, columnDefinition = "json")
+    private String items;
+
+    @Column(name = "ordered_at", nullable = false)
+    private ZonedDateTime orderedAt;
+
+    @Column(name = "last_event_at", nullable = false)
+    private ZonedDateTime lastEventAt;
+
+    @Column(name = "projected_at", nullable = false)
+    private ZonedDateTime projectedAt;
+}
@@ -0,0 +1,36 @@
+package com.loopers.domain.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.ZonedDateTime;
+
+/**
+ * commerce-streamer 가 이미 반영한 이벤트의 eventId. (다시 받은 이벤트를 거르는 데 쓴다)
+ * 반영과 같은 트랜잭션에서 저장하고, commerce-api 는 읽지도 쓰지도 않는다.
+ * - handled_at : 저장한 시각. topic 보관 기간이 지난 row 는 다시 받을 일이 없으므로 지운다.
+ */
+@Entity
+@Immutable
+@Table(
+        name = "event_handled"
+        , indexes = @Index(name = "idx_event_handled_handled_at", columnList = "handled_at")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class EventHandled {
+
+    @Id
+    @Column(name = "event_id", length = 36)
+    private String eventId;
+
+    @Column(name = "handled_at", nullable = false)
+    private ZonedDateTime handledAt;
+}
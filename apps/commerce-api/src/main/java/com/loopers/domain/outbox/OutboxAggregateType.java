@@ -0,0 +1,9 @@
+package com.loopers.domain.outbox;
+
+/**
+ * 이벤트를 보낼 topic 과 순서를 지킬 단위. 같은 aggregate 의 이벤트는 저장한 순서대로 발행한다.
+ */
+public enum OutboxAggregateType {
+    ORDER,
+    PRODUCT_LIKE
+}
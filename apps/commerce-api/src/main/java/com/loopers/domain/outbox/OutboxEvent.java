@@ -0,0 +1,67 @@
+package com.loopers.domain.outbox;
+
+import com.loopers.domain.TsidBaseEntity;
+import com.loopers.support.validation.ValidationRules;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 외부로 보낼 이벤트. 이벤트를 만든 변경과 같은 트랜잭션에서 저장하고, relay 가 발행한 뒤 지운다.
+ * relay 는 id(TSID) 가 아니라 seq 순으로 읽는다. TSID 는 노드의 시계로 만들어서, 노드 간 시계가 어긋나면 나중에 저장한 이벤트의 id 가 더 작을 수 있다.
+ * seq 는 insert 할 때 DB 가 AUTO_INCREMENT 로 매기므로, 같은 aggregate 의 이벤트는 (aggregate 의 row lock 으로 직렬화되어) 저장한 순서대로 나온다.
+ */
+@Entity
+@Table(name = "outbox_event")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class OutboxEvent extends TsidBaseEntity {
+
+    private static final ValidationRules<OutboxEvent> RULES = ValidationRules.<OutboxEvent>builder()
+            .notNull(OutboxEvent::getAggregateType, "aggregateType이 Null 이 되면 안 됩니다.")
+            .notNull(OutboxEvent::getAggregateId, "aggregateId가 Null 이 되면 안 됩니다.")
+            .notNull(OutboxEvent::getEventType, "eventType이 Null 이 되면 안 됩니다.")
+            .notNull(OutboxEvent::getPayload, "payload가 Null 이 되면 안 됩니다.")
+            .build();
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, updatable = false, length = 20)
+    private OutboxAggregateType aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, updatable = false)
+    private Long aggregateId;
+
+    @Column(name = "event_type", nullable = false, updatable = false, length = 50)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, updatable = false, columnDefinition = "json")
+    private String payload;
+
+    /**
+     * DB 가 매기는 저장 순서. (AUTO_INCREMENT 는 key 여야 하므로 unique 로 만든다)
+     */
+    @Column(name = "seq", insertable = false, updatable = false, columnDefinition = "bigint not null auto_increment unique")
+    private Long seq;
+
+    private OutboxEvent(OutboxAggregateType aggregateType, Long aggregateId, String eventType, String payload) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.guard();
+    }
+
+    public static OutboxEvent of(OutboxAggregateType aggregateType, Long aggregateId, String eventType, String payload) {
+        return new OutboxEvent(aggregateType, aggregateId, eventType, payload);
+    }
+
+    @Override
+    protected void guard() {
+        RULES.validate(this);
+    }
+}
@@ -0,0 +1,13 @@
+package com.loopers.domain.outbox;
+
+import java.util.List;
+import java.util.Set;
+
+public interface OutboxEventPublisher {
+
+    /**
+     * 주어진 순서대로 보내고 모두 응답을 받을 때까지 기다린다.
+     * @return 발행에 성공한 이벤트의 id
+     */
+    Set<Long> publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,13 @@
+package com.loopers.domain.outbox;
+
+/**
+ * 여러 노드의 relay 가 동시에 발행하면 같은 aggregate 의 이벤트 순서가 섞이므로, lease 를 가진 노드 하나만 발행한다.
+ */
+public interface OutboxRelayLock {
+
+    /**
+     * lease 를 잡거나, 이미 가지고 있으면 연장한다.
+     */
+    boolean tryAcquire();
+    void release();
+}
@@ -0,0 +1,18 @@
+package com.loopers.domain.outbox;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxRepository {
+
+    /**
+     * payload 를 JSON 으로 바꿔 저장한다.
+     */
+    OutboxEvent append(OutboxAggregateType aggregateType, Long aggregateId, String eventType, Object payload);
+
+    /**
+     * 발행하지 않은 이벤트를 저장한 순서(seq)로 읽는다.
+     */
+    List<OutboxEvent> findOldest(int limit);
+    int deleteAll(Collection<Long> ids);
+}
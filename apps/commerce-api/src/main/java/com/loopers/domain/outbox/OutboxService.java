@@ -0,0 +1,57 @@
+package com.loopers.domain.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@RequiredArgsConstructor
+@Component
+public class OutboxService {
+
+    private final OutboxRepository outboxRepository;
+
+    /**
+     * 이벤트를 만든 변경과 같은 트랜잭션에서만 저장한다. (변경이 rollback 되면 이벤트도 남지 않는다)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent append(OutboxAggregateType aggregateType, Long aggregateId, String eventType, Object payload) {
+        return outboxRepository.append(aggregateType, aggregateId, eventType, payload);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OutboxEvent> findOldest(int limit) {
+        return outboxRepository.findOldest(limit);
+    }
+
+    /**
+     * 발행에 성공한 이벤트 중 지워도 되는 것을 고른다.
+     * 같은 aggregate 에서 앞선 이벤트가 실패했으면 그 뒤의 이벤트는 성공했어도 남겨서 다음에 앞선 이벤트와 함께 순서대로 다시 보낸다.
+     * (이미 받은 이벤트를 다시 받을 수 있으므로 consumer 는 eventId 로 중복을 거른다)
+     */
+    public List<Long> findDeletable(List<OutboxEvent> events, Set<Long> publishedIds) {
+        Set<String> blocked = new HashSet<>();
+        List<Long> deletable = new ArrayList<>(publishedIds.size());
+        for (OutboxEvent event : events) {
+            String aggregate = event.getAggregateType() + ":" + event.getAggregateId();
+            if (blocked.contains(aggregate)) continue;
+            if (publishedIds.contains(event.getId())) {
+                deletable.add(event.getId());
+            } else {
+                blocked.add(aggregate);
+            }
+        }
+        return deletable;
+    }
+
+    @Transactional
+    public int delete(List<Long> ids) {
+        if (ids.isEmpty()) return 0;
+        return outboxRepository.deleteAll(ids);
+    }
+}
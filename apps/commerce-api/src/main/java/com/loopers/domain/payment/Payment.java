@@ -0,0 +1,106 @@
+package com.loopers.domain.payment;
+
+import com.loopers.domain.TsidBaseEntity;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.support.validation.ValidationRules;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 하나의 PG 결제. 주문과 같은 트랜잭션에서 PENDING 으로 만들고, PG 의 callback 이나 조회 결과로 끝낸다.
+ * transactionKey 는 PG 가 요청을 받은 뒤에 채워진다. (요청 응답을 받지 못해도 orderId 로 조회할 수 있다)
+ * reservationId 는 재고를 Redis 에서 예약한 주문에만 있다. (결제가 끝날 때 확정 / 취소한다)
+ */
+@Entity
+@Table(
+        name = "payment"
+        , uniqueConstraints = @UniqueConstraint(name = "uk_payment_order_id", columnNames = "order_id")
+        , indexes = @Index(name = "idx_payment_status_created_at", columnList = "status, created_at")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class Payment extends TsidBaseEntity {
+
+    private static final ValidationRules<Payment> RULES = ValidationRules.<Payment>builder()
+            .notNull(Payment::getOrderId, "orderId가 Null 이 되면 안 됩니다.")
+            .notNull(Payment::getUserId, "userId가 Null 이 되면 안 됩니다.")
+            .notNull(Payment::getAmount, "결제 금액이 Null 이 되면 안 됩니다.")
+            .notNull(Payment::getStatus, "결제 상태가 Null 이 되면 안 됩니다.")
+            .build();
+
+    @Column(name = "order_id", nullable = false, updatable = false)
+    private Long orderId;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(name = "amount", nullable = false, updatable = false)
+    private Long amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private PaymentStatus status;
+
+    @Column(name = "transaction_key")
+    private String transactionKey;
+
+    @Column(name = "reservation_id", updatable = false)
+    private String reservationId;
+
+    @Column(name = "reason")
+    private String reason;
+
+    private Payment(Long orderId, Long userId, Long amount, String reservationId) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.amount = amount;
+        this.status = PaymentStatus.PENDING;
+        this.reservationId = reservationId;
+        this.guard();
+    }
+
+    public static Payment pending(Long orderId, Long userId, Long amount, String reservationId) {
+        return new Payment(orderId, userId, amount, reservationId);
+    }
+
+    public boolean isPending() {
+        return status == PaymentStatus.PENDING;
+    }
+
+    public void accepted(String transactionKey) {
+        if (this.transactionKey == null) {
+            this.transactionKey = transactionKey;
+        }
+    }
+
+    public void succeed() {
+        changeFromPending(PaymentStatus.SUCCESS, null);
+    }
+
+    public void fail(String reason) {
+        changeFromPending(PaymentStatus.FAILED, reason);
+    }
+
+    private void changeFromPending(PaymentStatus next, String reason) {
+        if (!isPending()) {
+            throw new CoreException(ErrorType.CONFLICT, "[orderId = " + orderId + ", status = " + status + "] 이미 끝난 결제입니다.");
+        }
+        this.status = next;
+        this.reason = reason;
+    }
+
+    @Override
+    protected void guard() {
+        RULES.validate(this);
+        if(amount < 0) throw new CoreException(ErrorType.BAD_REQUEST, "결제 금액은 음수가 될 수 없습니다.");
+    }
+}
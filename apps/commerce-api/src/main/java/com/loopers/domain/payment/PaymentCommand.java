@@ -0,0 +1,8 @@
+package com.loopers.domain.payment;
+
+public record PaymentCommand(
+        Long orderId
+        , Long userId
+        , Long amount
+) {
+}
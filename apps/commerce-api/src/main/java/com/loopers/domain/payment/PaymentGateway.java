@@ -0,0 +1,19 @@
+package com.loopers.domain.payment;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PG 호출은 호출한 스레드를 막지 않고, 결과는 future 로 받는다.
+ * 요청이 PG 로 나가지 않았음이 확실하면 (circuit open, 동시 호출 수 초과) CoreException(SERVICE_UNAVAILABLE) 로 끝난다.
+ * 그 밖의 실패는 (timeout 등) PG 가 요청을 받았는지 알 수 없으므로 orderId 로 조회해서 확인해야 한다.
+ */
+public interface PaymentGateway {
+
+    /**
+     * 같은 orderId 로 다시 요청하면 PG 는 새 거래를 만들지 않고 기존 거래를 돌려준다.
+     */
+    CompletableFuture<PgTransaction> request(PaymentCommand command);
+
+    CompletableFuture<Optional<PgTransaction>> findByOrderId(Long orderId);
+}
@@ -0,0 +1,9 @@
+package com.loopers.domain.payment;
+
+/**
+ * POINT : 주문 트랜잭션에서 포인트로 바로 결제한다.
+ * CARD : 주문을 PENDING_PAYMENT 로 만들고, PG 결과로 끝낸다.
+ */
+public enum PaymentMethod {
+    POINT, CARD
+}
@@ -0,0 +1,16 @@
+package com.loopers.domain.payment;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentRepository {
+    Payment save(Payment payment);
+    Optional<Payment> findByOrderId(Long orderId);
+    Optional<Payment> findByOrderIdForUpdate(Long orderId);
+
+    /**
+     * createdBefore 전에 만든, 아직 끝나지 않은 결제의 orderId 를 오래된 순으로 읽는다.
+     */
+    List<Long> findPendingOrderIds(ZonedDateTime createdBefore, int limit);
+}
@@ -0,0 +1,72 @@
+package com.loopers.domain.payment;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Component
+public class PaymentService {
+
+    private final PaymentRepository paymentRepository;
+
+    @Transactional
+    public Payment createPayment(Long orderId, Long userId, Long amount, String reservationId) {
+        return paymentRepository.save(Payment.pending(orderId, userId, amount, reservationId));
+    }
+
+    @Transactional
+    public void accepted(Long orderId, String transactionKey) {
+        getPaymentForUpdate(orderId).accepted(transactionKey);
+    }
+
+    /**
+     * callback 과 조회가 같은 결제를 동시에 끝낼 수 있으므로 결제 row 를 잠그고, 이미 끝났으면 빈 값을 반환한다.
+     */
+    @Transactional
+    public Optional<Payment> complete(Long orderId, PgTransaction transaction) {
+        Payment payment = getPaymentForUpdate(orderId);
+        if (!payment.isPending()) return Optional.empty();
+        payment.accepted(transaction.transactionKey());
+        if (transaction.status() == PgTransactionStatus.SUCCESS) {
+            payment.succeed();
+        } else {
+            payment.fail(transaction.reason());
+        }
+        return Optional.of(payment);
+    }
+
+    /**
+     * PG 에 요청이 없는 결제를 실패로 끝낸다. (이미 끝났으면 빈 값)
+     */
+    @Transactional
+    public Optional<Payment> fail(Long orderId, String reason) {
+        Payment payment = getPaymentForUpdate(orderId);
+        if (!payment.isPending()) return Optional.empty();
+        payment.fail(reason);
+        return Optional.of(payment);
+    }
+
+    @Transactional(readOnly = true)
+    public Payment getPayment(Long orderId) {
+        return paymentRepository.findByOrderId(orderId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[orderId = " + orderId + "] 결제를 찾을 수 없습니다."));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findPendingOrderIds(Duration minAge, int limit) {
+        return paymentRepository.findPendingOrderIds(ZonedDateTime.now().minus(minAge), limit);
+    }
+
+    private Payment getPaymentForUpdate(Long orderId) {
+        return paymentRepository.findByOrderIdForUpdate(orderId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[orderId = " + orderId + "] 결제를 찾을 수 없습니다."));
+    }
+}
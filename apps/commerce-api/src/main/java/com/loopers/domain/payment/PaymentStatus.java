@@ -0,0 +1,5 @@
+package com.loopers.domain.payment;
+
+public enum PaymentStatus {
+    PENDING, SUCCESS, FAILED
+}
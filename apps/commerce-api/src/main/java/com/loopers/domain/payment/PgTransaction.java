@@ -0,0 +1,12 @@
+package com.loopers.domain.payment;
+
+/**
+ * PG 가 알려준 거래 상태
+ */
+public record PgTransaction(
+        String transactionKey
+        , Long orderId
+        , PgTransactionStatus status
+        , String reason
+) {
+}
@@ -0,0 +1,9 @@
+package com.loopers.domain.payment;
+
+public enum PgTransactionStatus {
+    PENDING, SUCCESS, FAILED;
+
+    public boolean isFinished() {
+        return this != PENDING;
+    }
+}
@@ -0,0 +1,62 @@
+package com.loopers.domain.point;
+
+import com.loopers.domain.BaseEntity;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import static com.loopers.support.error.CoreExceptionUtil.validateObjectNull;
+
+/**
+ * User 의 point 잔액 snapshot.
+ * 충전/사용은 PointHistory 에 insert 만 하고, 이 snapshot 은 compaction 시점에만 갱신된다.
+ * 잔액 = amount + 아직 compaction 되지 않은 PointHistory 의 amount 합
+ */
+@Entity
+@Table(
+        name = "point"
+        , uniqueConstraints = @UniqueConstraint(name = "uk_point_user_id", columnNames = "user_id")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class Point extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    private Point(Long userId, Long amount) {
+        this.userId = userId;
+        this.amount = amount;
+        this.guard();
+    }
+
+    public static Point create(Long userId, Long amount) {
+        return new Point(userId, amount);
+    }
+
+    @Override
+    protected void guard() {
+        validateObjectNull(userId, "userId가 Null 이 되면 안 됩니다.");
+
+        // point : Null 이 되면 안 됩니다.
+        validateObjectNull(amount, "point가 Null 이 되면 안 됩니다.");
+        if(amount < 0) throw new CoreException(ErrorType.BAD_REQUEST, "point는 음수가 될 수 없습니다.");
+    }
+
+    /**
+     * compaction 된 PointHistory 의 합을 snapshot 에 반영한다.
+     */
+    public Long compact(long historyAmount) {
+        this.amount += historyAmount;
+        return this.amount;
+    }
+}
@@ -0,0 +1,62 @@
+package com.loopers.domain.point;
+
+import com.loopers.domain.TsidBaseEntity;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * point 충전/사용 내역 (append-only).
+ * amount 는 충전이면 양수, 사용이면 음수로 저장해서 합계만으로 잔액을 계산할 수 있게 한다.
+ * (user_id, compacted, amount) 인덱스로 미압축 내역의 합계를 테이블 접근 없이 구한다.
+ * insert 가 많은 테이블이라 ID 는 TSID 로 생성해서 insert batching 이 되게 한다.
+ */
+@Entity
+@Table(
+        name = "point_history"
+        , indexes = @Index(name = "idx_point_history_user_compacted", columnList = "user_id, compacted, amount")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class PointHistory extends TsidBaseEntity {
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(name = "amount", nullable = false, updatable = false)
+    private Long amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, updatable = false)
+    private PointHistoryType type;
+
+    @Column(name = "compacted", nullable = false)
+    private boolean compacted;
+
+    private PointHistory(Long userId, Long amount, PointHistoryType type) {
+        this.userId = userId;
+        this.amount = amount;
+        this.type = type;
+        this.compacted = false;
+    }
+
+    public static PointHistory charge(Long userId, Long point) {
+        // 충전하는 포인트가 음수이면 BAD REQUEST CoreException 을 발생
+        if(point <= 0) throw new CoreException(ErrorType.BAD_REQUEST, "충전할 point는 0 이하가 될 수 없습니다.");
+        return new PointHistory(userId, point, PointHistoryType.CHARGE);
+    }
+
+    public static PointHistory use(Long userId, Long point) {
+        // 사용하는 포인트가 음수이면 BAD REQUEST CoreException 을 발생
+        if(point <= 0) throw new CoreException(ErrorType.BAD_REQUEST, "사용할 point는 0 이하가 될 수 없습니다.");
+        return new PointHistory(userId, -point, PointHistoryType.USE);
+    }
+}
@@ -0,0 +1,5 @@
+package com.loopers.domain.point;
+
+public enum PointHistoryType {
+    CHARGE, USE
+}
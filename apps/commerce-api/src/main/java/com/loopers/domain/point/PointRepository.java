@@ -0,0 +1,20 @@
+package com.loopers.domain.point;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PointRepository {
+    Point save(Point point);
+    Optional<Point> findByUserId(Long userId);
+    Optional<Point> findByUserIdForUpdate(Long userId);
+
+    List<Point> saveAll(List<Point> points);
+
+    PointHistory saveHistory(PointHistory pointHistory);
+    List<PointHistory> saveHistories(List<PointHistory> pointHistories);
+    long sumUncompactedAmount(Long userId);
+    long sumUncompactedAmountForShare(Long userId);
+    List<PointHistory> findUncompactedHistoriesForUpdate(Long userId);
+    int markCompacted(List<Long> historyIds);
+    List<Long> findUserIdsToCompact(long threshold, int limit);
+}
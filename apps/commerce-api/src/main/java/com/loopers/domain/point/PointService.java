@@ -0,0 +1,153 @@
+package com.loopers.domain.point;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PointService {
+
+    /** 잔액 최대치. (API 가 point 를 Integer 로 주고받는다) */
+    public static final long MAX_POINT = Integer.MAX_VALUE;
+
+    private final PointRepository pointRepository;
+
+    @Transactional
+    public Point createPoint(Long userId, Long initialPoint) {
+        return pointRepository.save(Point.create(userId, initialPoint));
+    }
+
+    @Transactional
+    public List<Point> createPoints(List<Point> points) {
+        return pointRepository.saveAll(points);
+    }
+
+    /**
+     * snapshot + 미압축 내역의 합으로 잔액을 계산한다.
+     * 두 조회가 같은 트랜잭션(같은 read view)에서 실행되므로 compaction 중에도 중복/누락 없이 읽는다.
+     * 동시 충전으로 최대치를 넘은 부분은 보이지 않고(쓸 수도 없고), compaction 때 버려진다.
+     */
+    @Transactional(readOnly = true)
+    public Long getBalance(Long userId) {
+        return Math.min(getRawBalance(userId), MAX_POINT);
+    }
+
+    /**
+     * 충전은 snapshot row 를 잠그지 않는다. 내역을 insert 한 뒤 같은 트랜잭션에서 잠금 없이 잔액을 읽고,
+     * 최대치를 넘으면 예외로 insert 를 rollback 한다.
+     * 아직 커밋되지 않은 다른 충전은 보이지 않으므로 동시 충전이 최대치를 조금 넘길 수 있지만,
+     * 넘은 부분은 조회/사용에서 보이지 않고 compaction 때 버려진다.
+     */
+    @Transactional
+    public Long charge(Long userId, Long point) {
+        pointRepository.saveHistory(PointHistory.charge(userId, point));
+
+        long balance = getRawBalance(userId);
+        if(balance > MAX_POINT) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "충전 후 point가 최대치를 넘을 수 없습니다.");
+        }
+        return balance;
+    }
+
+    /**
+     * 여러 충전 내역을 한 번에 저장한다. PointHistory 는 TSID 라서 insert 가 batch 로 나간다.
+     * 충전과 같이 snapshot row 를 잠그지 않고, 순서대로 더했을 때 최대치를 넘는 내역은 저장하지 않는다.
+     * @return 최대치를 넘어서 저장하지 않은 내역
+     */
+    @Transactional
+    public List<PointHistory> chargeAll(List<PointHistory> histories) {
+        Map<Long, Long> balanceByUserId = new TreeMap<>();
+        histories.forEach(history -> balanceByUserId.put(history.getUserId(), 0L));
+        balanceByUserId.replaceAll((userId, ignored) -> getRawBalance(userId));
+
+        List<PointHistory> accepted = new ArrayList<>(histories.size());
+        List<PointHistory> rejected = new ArrayList<>();
+        for (PointHistory history : histories) {
+            long balance = balanceByUserId.get(history.getUserId());
+            if(balance > MAX_POINT - history.getAmount()) {
+                rejected.add(history);
+                continue;
+            }
+            balanceByUserId.put(history.getUserId(), balance + history.getAmount());
+            accepted.add(history);
+        }
+
+        pointRepository.saveHistories(accepted);
+        return rejected;
+    }
+
+    /**
+     * 사용은 잔액을 넘지 않도록 snapshot row 를 잠그고, 미압축 내역의 합을 locking read 로 읽은 뒤 insert 한다.
+     * 같은 User 의 사용끼리, 그리고 사용과 compaction 이 직렬화된다.
+     */
+    @Transactional
+    public Long use(Long userId, Long point) {
+        PointHistory history = PointHistory.use(userId, point);
+
+        long balance = Math.min(getBalanceForUpdate(userId), MAX_POINT);
+        if(balance < point) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "point가 부족합니다.");
+        }
+
+        pointRepository.saveHistory(history);
+        return balance - point;
+    }
+
+    /**
+     * 미압축 내역을 snapshot 에 합치고 compacted 로 표시한다.
+     * READ_COMMITTED 로 실행해서 gap lock 을 잡지 않으므로, compaction 중에도 충전 insert 는 막히지 않는다.
+     * 동시 충전으로 최대치를 넘은 부분은 여기서 버린다.
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void compact(Long userId) {
+        Point snapshot = pointRepository.findByUserIdForUpdate(userId).orElse(null);
+        if(snapshot == null) return;
+
+        List<PointHistory> histories = pointRepository.findUncompactedHistoriesForUpdate(userId);
+        if(histories.isEmpty()) return;
+
+        long historyAmount = histories.stream().mapToLong(PointHistory::getAmount).sum();
+        long overflow = snapshot.getAmount() + historyAmount - MAX_POINT;
+        if(overflow > 0) {
+            log.warn("[point compaction] userId = {} 최대치를 넘은 point {} 를 버립니다.", userId, overflow);
+            historyAmount -= overflow;
+        }
+        snapshot.compact(historyAmount);
+        pointRepository.markCompacted(histories.stream().map(PointHistory::getId).toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findUserIdsToCompact(long threshold, int limit) {
+        return pointRepository.findUserIdsToCompact(threshold, limit);
+    }
+
+    /**
+     * 잠금 없이 snapshot + 미압축 내역의 합을 읽는다. (최대치를 넘은 부분도 포함한다)
+     */
+    private long getRawBalance(Long userId) {
+        long snapshotAmount = pointRepository.findByUserId(userId)
+                .map(Point::getAmount)
+                .orElse(0L);
+        return snapshotAmount + pointRepository.sumUncompactedAmount(userId);
+    }
+
+    /**
+     * snapshot row 를 잠그고, 미압축 내역의 합을 locking read 로 읽는다. (커밋된 최신 내역까지 포함한다)
+     */
+    private long getBalanceForUpdate(Long userId) {
+        Point snapshot = pointRepository.findByUserIdForUpdate(userId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[userId = " + userId + "] point 정보를 찾을 수 없습니다."));
+        return snapshot.getAmount() + pointRepository.sumUncompactedAmountForShare(userId);
+    }
+}
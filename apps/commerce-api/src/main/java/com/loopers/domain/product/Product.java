@@ -0,0 +1,79 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.BaseEntity;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.support.validation.ValidationRules;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 목록 정렬(최신순, 가격순, 좋아요순)마다 전체/브랜드별 인덱스를 둔다.
+ * InnoDB 보조 인덱스에는 PK(id)가 뒤에 붙으므로 (정렬 컬럼, id) 순서로 keyset 페이징할 수 있다.
+ */
+@Entity
+@Table(
+        name = "product"
+        , indexes = {
+                @Index(name = "idx_product_created_at", columnList = "created_at")
+                , @Index(name = "idx_product_price", columnList = "price")
+                , @Index(name = "idx_product_like_count", columnList = "like_count")
+                , @Index(name = "idx_product_brand_created_at", columnList = "brand_id, created_at")
+                , @Index(name = "idx_product_brand_price", columnList = "brand_id, price")
+                , @Index(name = "idx_product_brand_like_count", columnList = "brand_id, like_count")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class Product extends BaseEntity {
+
+    private static final ValidationRules<Product> RULES = ValidationRules.<Product>builder()
+            .notNull(Product::getBrandId, "brandId가 Null 이 되면 안 됩니다.")
+            .notBlank(Product::getName, "상품 이름이 비어있을 수 없습니다.")
+            .notNull(Product::getPrice, "가격이 Null 이 되면 안 됩니다.")
+            .notNull(Product::getLikeCount, "좋아요 수가 Null 이 되면 안 됩니다.")
+            .build();
+
+    @Column(name = "brand_id", nullable = false)
+    private Long brandId;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "price", nullable = false)
+    private Long price;
+
+    /** 좋아요 수 (목록 정렬용 비정규화 컬럼) */
+    @Column(name = "like_count", nullable = false)
+    private Long likeCount;
+
+    private Product(Long brandId, String name, Long price) {
+        this.brandId = brandId;
+        this.name = name;
+        this.price = price;
+        this.likeCount = 0L;
+        this.guard();
+    }
+
+    public static Product create(Long brandId, String name, Long price) {
+        return new Product(brandId, name, price);
+    }
+
+    public void update(String name, Long price) {
+        this.name = name;
+        this.price = price;
+        this.guard();
+    }
+
+    @Override
+    protected void guard() {
+        RULES.validate(this);
+        if(price < 0) throw new CoreException(ErrorType.BAD_REQUEST, "가격은 음수가 될 수 없습니다.");
+        if(likeCount < 0) throw new CoreException(ErrorType.BAD_REQUEST, "좋아요 수는 음수가 될 수 없습니다.");
+    }
+}
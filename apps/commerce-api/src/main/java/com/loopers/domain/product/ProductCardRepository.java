@@ -0,0 +1,15 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public interface ProductCardRepository {
+    /**
+     * 상품 카드를 한 번에 읽고, 캐시에 없는 상품만 loader 로 읽어서 캐시에 저장한다.
+     * @return productId 별 카드. 없는 상품(삭제 등)은 빠진다.
+     */
+    Map<Long, ProductSummary> getCards(List<Long> productIds, Function<List<Long>, List<ProductSummary>> loader);
+
+    void evict(Long productId);
+}
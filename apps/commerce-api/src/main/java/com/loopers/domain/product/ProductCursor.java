@@ -0,0 +1,55 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * keyset 페이징 위치. 직전 페이지 마지막 상품의 (정렬 값, id) 이다.
+ * 정렬 값은 long 으로 담는다. (LATEST 는 created_at 의 epoch microseconds)
+ * 클라이언트에는 encode() 한 불투명한 문자열로 주고받는다.
+ */
+public record ProductCursor(
+        ProductSortType sort
+        , long value
+        , long id
+) {
+    private static final String DELIMITER = ":";
+
+    public static ProductCursor after(ProductSortType sort, ProductSummary last) {
+        long value = switch (sort) {
+            case LATEST -> ChronoUnit.MICROS.between(Instant.EPOCH, last.createdAt().toInstant());
+            case PRICE_ASC -> last.price();
+            case LIKES_DESC -> last.likeCount();
+        };
+        return new ProductCursor(sort, value, last.id());
+    }
+
+    public static ProductCursor decode(String encoded, ProductSortType sort) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8).split(DELIMITER);
+            ProductCursor cursor = new ProductCursor(ProductSortType.valueOf(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            if (cursor.sort() == sort) {
+                return cursor;
+            }
+        } catch (RuntimeException e) {
+            // 아래에서 BAD_REQUEST 로 처리한다.
+        }
+        throw new CoreException(ErrorType.BAD_REQUEST, "cursor 가 올바르지 않거나 정렬 조건과 맞지 않습니다.");
+    }
+
+    public String encode() {
+        String raw = sort.name() + DELIMITER + value + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public ZonedDateTime createdAt() {
+        return Instant.EPOCH.plus(value, ChronoUnit.MICROS).atZone(ZoneOffset.UTC);
+    }
+}
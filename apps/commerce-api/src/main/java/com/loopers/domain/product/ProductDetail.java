@@ -0,0 +1,14 @@
+package com.loopers.domain.product;
+
+/**
+ * 캐시에 저장하는 상품 상세. (상품 + 브랜드 이름)
+ */
+public record ProductDetail(
+        Long id
+        , Long brandId
+        , String brandName
+        , String name
+        , Long price
+        , Long likeCount
+) {
+}
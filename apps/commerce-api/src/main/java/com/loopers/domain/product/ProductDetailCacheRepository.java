@@ -0,0 +1,16 @@
+package com.loopers.domain.product;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public interface ProductDetailCacheRepository {
+    /**
+     * 노드 로컬 캐시 -> Redis -> loader 순으로 읽고, 읽은 단계보다 앞의 캐시에 저장한다. (read-through)
+     */
+    Optional<ProductDetail> get(Long productId, Supplier<Optional<ProductDetail>> loader);
+
+    /**
+     * Redis 에서 지우고 모든 노드의 로컬 캐시에서 지우도록 알린다.
+     */
+    void evict(Long productId);
+}
@@ -0,0 +1,16 @@
+package com.loopers.domain.product;
+
+import java.util.function.Supplier;
+
+public interface ProductListCacheRepository {
+    /**
+     * (brandId, sort, cursor, size) 의 페이지를 캐시에서 읽고, 없으면 loader 로 읽어서 저장한다. (read-through)
+     * @param cursor 요청에 온 cursor 문자열. 첫 페이지이면 null
+     */
+    ProductListPage getPage(Long brandId, ProductSortType sort, String cursor, int size, Supplier<ProductListPage> loader);
+
+    /**
+     * 브랜드의 목록 (브랜드 필터 / 전체 목록) 캐시를 모두 무효화한다. 지우지 않고 version 만 올린다.
+     */
+    void bumpVersion(Long brandId);
+}
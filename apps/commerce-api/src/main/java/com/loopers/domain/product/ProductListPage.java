@@ -0,0 +1,15 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시에 저장하는 상품 목록 한 페이지. (브랜드 이름까지 채운 응답 그대로)
+ * @param nextCursor 인코딩된 다음 페이지 cursor. 마지막 페이지이면 null
+ */
+public record ProductListPage(
+        List<ProductSummary> items
+        , Map<Long, String> brandNames
+        , String nextCursor
+) {
+}
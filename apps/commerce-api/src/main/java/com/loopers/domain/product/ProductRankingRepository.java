@@ -0,0 +1,17 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductRankingRepository {
+    /**
+     * 좋아요 많은 순으로 cursor 다음부터 limit 개를 읽는다.
+     * @return 랭킹을 쓸 수 없으면 (아직 만들어지지 않았거나 Redis 장애) empty
+     */
+    Optional<List<RankedProduct>> findLikeRanking(Long brandId, ProductCursor cursor, int limit);
+
+    /**
+     * 새 상품을 좋아요 0 으로 랭킹에 추가한다. 이미 있으면 그대로 둔다.
+     */
+    void register(Product product);
+}
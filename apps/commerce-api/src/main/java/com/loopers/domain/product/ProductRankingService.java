@@ -0,0 +1,76 @@
+package com.loopers.domain.product;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 좋아요순 목록을 Redis sorted set (commerce-streamer 가 갱신) 에서 읽는다.
+ * 순위는 sorted set 에서, 상품 정보는 상품 카드 캐시에서 한 번에(multi-get) 읽는다.
+ * 좋아요 수는 카드보다 최신인 score 의 값을 쓴다.
+ */
+@Component
+public class ProductRankingService {
+
+    private final ProductRankingRepository productRankingRepository;
+    private final ProductCardRepository productCardRepository;
+    private final ProductRepository productRepository;
+    private final boolean enabled;
+
+    public ProductRankingService(
+            ProductRankingRepository productRankingRepository,
+            ProductCardRepository productCardRepository,
+            ProductRepository productRepository,
+            @Value("${product.like-ranking.enabled:true}") boolean enabled
+    ) {
+        this.productRankingRepository = productRankingRepository;
+        this.productCardRepository = productCardRepository;
+        this.productRepository = productRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return 랭킹을 쓸 수 없으면 empty (DB 로 조회한다)
+     */
+    public Optional<ProductSlice> getLikeRanking(ProductSearchCondition condition) {
+        if (!enabled || condition.sort() != ProductSortType.LIKES_DESC) {
+            return Optional.empty();
+        }
+        return productRankingRepository.findLikeRanking(condition.brandId(), condition.cursor(), condition.size() + 1)
+                .map(ranked -> toSlice(ranked, condition.size()));
+    }
+
+    public void register(Product product) {
+        if (enabled) {
+            productRankingRepository.register(product);
+        }
+    }
+
+    private ProductSlice toSlice(List<RankedProduct> ranked, int size) {
+        List<RankedProduct> page = ranked.size() > size ? ranked.subList(0, size) : ranked;
+        Map<Long, ProductSummary> cards = productCardRepository.getCards(
+                page.stream().map(RankedProduct::productId).toList(),
+                productRepository::findSummariesByIds
+        );
+
+        List<ProductSummary> items = page.stream()
+                .filter(rankedProduct -> cards.containsKey(rankedProduct.productId()))
+                .map(rankedProduct -> withLikeCount(cards.get(rankedProduct.productId()), rankedProduct.likeCount()))
+                .toList();
+
+        // 카드가 없어서 빠진 상품이 있어도 cursor 는 랭킹의 마지막 위치로 만든다.
+        ProductCursor nextCursor = null;
+        if (ranked.size() > size) {
+            RankedProduct last = page.get(page.size() - 1);
+            nextCursor = new ProductCursor(ProductSortType.LIKES_DESC, last.likeCount(), last.productId());
+        }
+        return new ProductSlice(items, nextCursor);
+    }
+
+    private ProductSummary withLikeCount(ProductSummary card, Long likeCount) {
+        return new ProductSummary(card.id(), card.brandId(), card.name(), card.price(), likeCount, card.createdAt());
+    }
+}
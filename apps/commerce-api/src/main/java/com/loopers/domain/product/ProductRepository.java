@@ -0,0 +1,12 @@
+package com.loopers.domain.product;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductRepository {
+    Product save(Product product);
+    Optional<Product> findById(Long id);
+    List<ProductSummary> findSummaries(ProductSearchCondition condition, int limit);
+    List<ProductSummary> findSummariesByIds(Collection<Long> ids);
+}
@@ -0,0 +1,13 @@
+package com.loopers.domain.product;
+
+/**
+ * @param brandId null 이면 전체 브랜드
+ * @param cursor  null 이면 첫 페이지
+ */
+public record ProductSearchCondition(
+        Long brandId
+        , ProductSortType sort
+        , ProductCursor cursor
+        , int size
+) {
+}
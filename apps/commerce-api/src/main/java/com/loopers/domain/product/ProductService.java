@@ -0,0 +1,102 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Component
+public class ProductService {
+
+    private final ProductRepository productRepository;
+    private final ProductRankingService productRankingService;
+    private final ProductCardRepository productCardRepository;
+    private final ProductDetailCacheRepository productDetailCacheRepository;
+    private final ProductListCacheRepository productListCacheRepository;
+
+    /**
+     * 좋아요순 목록에 바로 나오도록 커밋 후 랭킹에 좋아요 0 으로 추가하고, 목록 캐시의 version 을 올린다.
+     */
+    @Transactional
+    public Product createProduct(Long brandId, String name, Long price) {
+        Product product = productRepository.save(Product.create(brandId, name, price));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                productRankingService.register(product);
+                productListCacheRepository.bumpVersion(brandId);
+            }
+        });
+        return product;
+    }
+
+    /**
+     * 커밋 후 응답 전에 상품 카드 / 상세 캐시를 지우고 목록 캐시의 version 을 올린다. (상세는 모든 노드의 로컬 캐시까지)
+     */
+    @Transactional
+    public Product updateProduct(Long id, String name, Long price) {
+        Product product = getProduct(id);
+        product.update(name, price);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                productCardRepository.evict(id);
+                productDetailCacheRepository.evict(id);
+                productListCacheRepository.bumpVersion(product.getBrandId());
+            }
+        });
+        return product;
+    }
+
+    @Transactional(readOnly = true)
+    public Product getProduct(Long id) {
+        return productRepository.findById(id)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 상품을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 상품 카드 캐시에서 먼저 읽으므로 트랜잭션을 열지 않는다. (좋아요처럼 상품 존재 / 브랜드만 필요한 곳에서 쓴다)
+     */
+    public ProductSummary getProductSummary(Long id) {
+        ProductSummary summary = productCardRepository.getCards(List.of(id), productRepository::findSummariesByIds).get(id);
+        if (summary == null) {
+            throw new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 상품을 찾을 수 없습니다.");
+        }
+        return summary;
+    }
+
+    /**
+     * 주문처럼 여러 상품의 가격 / 존재만 필요한 곳에서 상품 카드 캐시로 한 번에 읽는다. 없는 상품이 있으면 NOT_FOUND
+     */
+    public Map<Long, ProductSummary> getProductSummaries(List<Long> ids) {
+        Map<Long, ProductSummary> summaries = productCardRepository.getCards(ids, productRepository::findSummariesByIds);
+        ids.stream()
+                .filter(id -> !summaries.containsKey(id))
+                .findFirst()
+                .ifPresent(id -> {
+                    throw new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 상품을 찾을 수 없습니다.");
+                });
+        return summaries;
+    }
+
+    /**
+     * size + 1 개를 조회해서 다음 페이지가 있는지 판단한다. (count 쿼리를 하지 않는다)
+     */
+    @Transactional(readOnly = true)
+    public ProductSlice getProducts(ProductSearchCondition condition) {
+        List<ProductSummary> rows = productRepository.findSummaries(condition, condition.size() + 1);
+        if (rows.size() <= condition.size()) {
+            return new ProductSlice(rows, null);
+        }
+
+        List<ProductSummary> items = rows.subList(0, condition.size());
+        return new ProductSlice(items, ProductCursor.after(condition.sort(), items.get(items.size() - 1)));
+    }
+}
@@ -0,0 +1,12 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+
+/**
+ * @param nextCursor 다음 페이지가 없으면 null
+ */
+public record ProductSlice(
+        List<ProductSummary> items
+        , ProductCursor nextCursor
+) {
+}
@@ -0,0 +1,10 @@
+package com.loopers.domain.product;
+
+public enum ProductSortType {
+    /** 최신순 (created_at desc, id desc) */
+    LATEST,
+    /** 가격 낮은순 (price asc, id asc) */
+    PRICE_ASC,
+    /** 좋아요 많은순 (like_count desc, id desc) */
+    LIKES_DESC
+}
@@ -0,0 +1,16 @@
+package com.loopers.domain.product;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 상품 목록의 한 줄. 엔티티를 거치지 않고 조회 결과를 바로 담는다.
+ */
+public record ProductSummary(
+        Long id
+        , Long brandId
+        , String name
+        , Long price
+        , Long likeCount
+        , ZonedDateTime createdAt
+) {
+}
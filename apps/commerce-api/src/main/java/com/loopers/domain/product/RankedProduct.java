@@ -0,0 +1,7 @@
+package com.loopers.domain.product;
+
+public record RankedProduct(
+        Long productId
+        , Long likeCount
+) {
+}
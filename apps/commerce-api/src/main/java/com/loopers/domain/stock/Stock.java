@@ -0,0 +1,76 @@
+package com.loopers.domain.stock;
+
+import com.loopers.domain.BaseEntity;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.support.validation.ValidationRules;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 재고. 상품 당 하나만 존재한다.
+ * 재고 예약(stock.reservation.enabled)을 쓰면 Redis 의 재고가 기준이고, 이 row 는 reconciler 가 모아서 맞춘다.
+ * shardCount 가 2 이상이면 재고는 StockShard 들에 나뉘어 있고, 이 row 의 quantity 는 0 이다. (row lock 차감 방식에서만 쓴다)
+ */
+@Entity
+@Table(
+        name = "stock"
+        , uniqueConstraints = @UniqueConstraint(name = "uk_stock_product_id", columnNames = "product_id")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class Stock extends BaseEntity {
+
+    private static final ValidationRules<Stock> RULES = ValidationRules.<Stock>builder()
+            .notNull(Stock::getProductId, "productId가 Null 이 되면 안 됩니다.")
+            .notNull(Stock::getQuantity, "재고 수량이 Null 이 되면 안 됩니다.")
+            .notNull(Stock::getShardCount, "shard 수가 Null 이 되면 안 됩니다.")
+            .build();
+
+    @Column(name = "product_id", nullable = false, updatable = false)
+    private Long productId;
+
+    @Column(name = "quantity", nullable = false)
+    private Long quantity;
+
+    @Column(name = "shard_count", nullable = false)
+    private Integer shardCount;
+
+    private Stock(Long productId, Long quantity) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.shardCount = 1;
+        this.guard();
+    }
+
+    public static Stock create(Long productId, Long quantity) {
+        return new Stock(productId, quantity);
+    }
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    /**
+     * shard 수를 바꾼다. 샤딩하면 재고는 모두 shard 로 옮기고, 샤딩을 풀면 이 row 로 돌아온다.
+     * @param total 이 row 와 기존 shard 들의 재고 합
+     */
+    public void changeShardCount(int shardCount, long total) {
+        if(shardCount < 1) throw new CoreException(ErrorType.BAD_REQUEST, "shard 수는 1 이상이어야 합니다.");
+        this.shardCount = shardCount;
+        this.quantity = shardCount > 1 ? 0L : total;
+        this.guard();
+    }
+
+    @Override
+    protected void guard() {
+        RULES.validate(this);
+        if(shardCount < 1) throw new CoreException(ErrorType.BAD_REQUEST, "shard 수는 1 이상이어야 합니다.");
+        if(quantity < 0) throw new CoreException(ErrorType.BAD_REQUEST, "재고 수량은 음수가 될 수 없습니다.");
+    }
+}
@@ -0,0 +1,13 @@
+package com.loopers.domain.stock;
+
+/**
+ * 같은 상품의 동시 차감 요청을 모아서 한 번에 반영한다. (group commit)
+ * 차감은 호출한 쪽의 트랜잭션과 별개로 커밋되므로, 이후 주문이 실패하면 StockService.restore 로 되돌려야 한다.
+ */
+public interface StockDecrementCombiner {
+    /**
+     * 같은 상품의 다른 요청과 함께 반영될 때까지 기다린다.
+     * @return 차감했으면 true, 재고가 부족하면 false
+     */
+    boolean decrement(Long productId, long quantity);
+}
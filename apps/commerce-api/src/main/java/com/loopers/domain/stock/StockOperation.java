@@ -0,0 +1,15 @@
+package com.loopers.domain.stock;
+
+import java.util.Map;
+
+/**
+ * Redis 재고에는 반영되었지만 DB 에는 아직 반영되지 않았을 수 있는 재고 변경. (예약이면 음수, 예약 취소이면 양수)
+ * id 는 큐(Redis stream)에서의 위치이고, DB 에 반영한 뒤 이 id 로 ack 한다.
+ * @param deltas productId 별 재고 변화량
+ */
+public record StockOperation(
+        String id
+        , String reservationId
+        , Map<Long, Long> deltas
+) {
+}
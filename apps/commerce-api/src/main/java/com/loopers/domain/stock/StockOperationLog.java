@@ -0,0 +1,35 @@
+package com.loopers.domain.stock;
+
+import com.loopers.domain.TsidBaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DB 에 반영한 StockOperation 의 id. 재고 반영과 같은 트랜잭션에서 저장한다.
+ * 반영 후 ack 전에 죽어서 같은 연산을 다시 읽어도 두 번 차감하지 않도록 이걸로 거른다. (ack 한 뒤에는 지운다)
+ */
+@Entity
+@Table(
+        name = "stock_operation_log"
+        , uniqueConstraints = @UniqueConstraint(name = "uk_stock_operation_log_operation_id", columnNames = "operation_id")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class StockOperationLog extends TsidBaseEntity {
+
+    @Column(name = "operation_id", nullable = false, updatable = false)
+    private String operationId;
+
+    private StockOperationLog(String operationId) {
+        this.operationId = operationId;
+    }
+
+    public static StockOperationLog of(String operationId) {
+        return new StockOperationLog(operationId);
+    }
+}
@@ -0,0 +1,45 @@
+package com.loopers.domain.stock;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public interface StockRepository {
+    Stock save(Stock stock);
+    Optional<Stock> findByProductId(Long productId);
+    Optional<Stock> findByProductIdForUpdate(Long productId);
+    Map<Long, Long> findQuantities(Collection<Long> productIds);
+
+    /**
+     * stock row 를 product_id 순으로 한 번에 잠그고 수량을 읽는다. (shard 의 재고는 포함하지 않는다)
+     */
+    Map<Long, Long> findQuantitiesForUpdate(Collection<Long> productIds);
+    Map<Long, Integer> findShardCounts(Collection<Long> productIds);
+
+    List<StockShard> findShards(Long productId);
+    List<StockShard> findShardsForUpdate(Long productId);
+
+    /**
+     * 잠그지 않고 조건부 update 로 차감한다. (재고가 부족하면 false)
+     */
+    boolean decreaseShard(Long productId, int shardNo, long quantity);
+    void increaseShard(Long productId, int shardNo, long quantity);
+    void saveShards(List<StockShard> shards);
+    void deleteShards(Long productId);
+
+    /**
+     * 가장 적은 shard 가 평균의 minRatio 보다 적은 상품
+     */
+    List<Long> findUnevenShardedProductIds(double minRatio, int limit);
+
+    /**
+     * productId 별 변화량을 한 번의 batch update 로 반영한다.
+     */
+    void applyDeltas(Map<Long, Long> deltas);
+
+    Set<String> findAppliedOperationIds(Collection<String> operationIds);
+    void saveOperationLogs(List<StockOperationLog> logs);
+    void deleteOperationLogs(Collection<String> operationIds);
+}
@@ -0,0 +1,39 @@
+package com.loopers.domain.stock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고를 원자적으로 예약 / 취소하는 저장소. 예약과 취소는 StockOperationQueue 에도 함께 적재된다.
+ */
+public interface StockReservationRepository {
+    /**
+     * 모든 상품의 재고가 충분할 때만 모두 차감한다. (하나라도 부족하면 아무것도 차감하지 않는다)
+     * @param quantities productId 별 수량
+     */
+    StockReserveResult reserve(String reservationId, Map<Long, Long> quantities);
+
+    /**
+     * 예약한 재고를 되돌린다. 이미 취소 / 확정된 예약이면 아무것도 하지 않는다.
+     * @return 되돌렸는지 여부
+     */
+    boolean release(String reservationId);
+
+    /**
+     * 결제가 끝난 예약을 확정한다. 확정한 예약은 취소되지 않는다.
+     */
+    void confirm(String reservationId);
+
+    /**
+     * 예약한 지 minAge 가 지나도록 확정 / 취소되지 않은 예약을 오래된 순으로 읽는다.
+     */
+    List<String> findOpenReservations(Duration minAge, int limit);
+
+    /**
+     * 아직 적재하지 않은 상품만 재고를 적재한다.
+     */
+    void loadIfAbsent(Map<Long, Long> quantities);
+
+    Long getQuantity(Long productId);
+}
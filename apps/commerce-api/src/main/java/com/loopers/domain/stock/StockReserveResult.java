@@ -0,0 +1,21 @@
+package com.loopers.domain.stock;
+
+/**
+ * 재고 예약 결과. 예약하지 못했으면 productId 가 원인이 된 상품이다.
+ */
+public record StockReserveResult(
+        Status status
+        , Long productId
+) {
+    public enum Status {
+        RESERVED,
+        /** 재고가 부족한 상품이 있다. */
+        INSUFFICIENT,
+        /** Redis 에 아직 적재하지 않은 상품이 있다. */
+        NOT_LOADED
+    }
+
+    public static StockReserveResult reserved() {
+        return new StockReserveResult(Status.RESERVED, null);
+    }
+}
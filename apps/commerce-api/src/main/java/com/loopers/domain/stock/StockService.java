@@ -0,0 +1,302 @@
+package com.loopers.domain.stock;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 재고 차감은 두 가지 방식이 있다.
+ * - deduct : 주문 트랜잭션 안에서 stock row 를 잠그고 차감한다. (같은 상품의 주문이 row lock 에서 직렬화된다)
+ * - reserve : Redis 에서 script 로 원자적으로 예약하고, reconcile 이 모아서 DB 에 반영한다. (row lock 을 잡지 않는다)
+ * - deductCombined : 같은 상품의 동시 차감을 모아서 조건부 update 한 번으로 반영한다. (주문 트랜잭션과 별개로 커밋된다, 샤딩한 상품은 제외)
+ * deduct 방식에서 주문이 몰리는 상품은 shard 로 재고를 나눠서 (shard) 주문마다 다른 row 를 잠그게 할 수 있다.
+ * 샤딩한 상품의 stock.quantity 는 0 이므로, 재고를 더하고 빼는 모든 경로(restore / reconcile)는 샤딩한 상품을 shard 에 반영한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class StockService {
+
+    private final StockRepository stockRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final StockDecrementCombiner stockDecrementCombiner;
+
+    @Transactional
+    public Stock createStock(Long productId, Long quantity) {
+        return stockRepository.save(Stock.create(productId, quantity));
+    }
+
+    /**
+     * 샤딩한 상품은 shard 들의 합이다.
+     */
+    @Transactional(readOnly = true)
+    public Long getQuantity(Long productId) {
+        Long quantity = stockRepository.findQuantities(List.of(productId)).get(productId);
+        if (quantity == null) {
+            throw new CoreException(ErrorType.NOT_FOUND, "[productId = " + productId + "] 재고를 찾을 수 없습니다.");
+        }
+        return quantity;
+    }
+
+    /**
+     * 주문 트랜잭션에 참여해서 주문의 모든 상품을 차감한다. 부족하면 트랜잭션 전체가 rollback 된다.
+     * 샤딩하지 않은 상품은 stock row 를 product_id 순으로 한 번에 잠그고, 수량을 메모리에서 모두 확인한 뒤 batch update 한 번으로 차감한다.
+     * (장바구니의 상품 순서가 달라도 모든 주문이 같은 순서로 잠그므로 deadlock 이 나지 않고, 상품 수와 상관없이 왕복은 두 번이다)
+     * 샤딩한 상품은 그 다음에 productId 순으로 shard 하나를 조건부 update 로 차감한다.
+     * 샤딩한 상품을 차감하는 트랜잭션은 READ COMMITTED 여야 한다. (REPEATABLE READ 에서는 조건에 맞지 않은 shard 의 lock 도 커밋까지 남아서 deadlock 이 날 수 있다)
+     * @param quantities productId 별 수량
+     */
+    @Transactional
+    public void deduct(Map<Long, Long> quantities) {
+        if (quantities.values().stream().anyMatch(quantity -> quantity <= 0)) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "차감할 재고 수량은 0 이하가 될 수 없습니다.");
+        }
+
+        Map<Long, Integer> shardCounts = stockRepository.findShardCounts(quantities.keySet());
+        Map<Long, Long> unsharded = new TreeMap<>();
+        Map<Long, Long> sharded = new TreeMap<>();
+        quantities.forEach((productId, quantity) -> {
+            Integer shardCount = shardCounts.get(productId);
+            if (shardCount == null) {
+                throw new CoreException(ErrorType.NOT_FOUND, "[productId = " + productId + "] 재고를 찾을 수 없습니다.");
+            }
+            (shardCount > 1 ? sharded : unsharded).put(productId, quantity);
+        });
+
+        if (!unsharded.isEmpty()) {
+            Map<Long, Long> available = stockRepository.findQuantitiesForUpdate(unsharded.keySet());
+            Map<Long, Long> deltas = new TreeMap<>();
+            unsharded.forEach((productId, quantity) -> {
+                if (available.getOrDefault(productId, 0L) < quantity) {
+                    throw new CoreException(ErrorType.BAD_REQUEST, "[productId = " + productId + "] 재고가 부족합니다.");
+                }
+                deltas.put(productId, -quantity);
+            });
+            stockRepository.applyDeltas(deltas);
+        }
+        sharded.forEach((productId, quantity) -> deductFromShards(productId, shardCounts.get(productId), quantity));
+    }
+
+    /**
+     * 샤딩하지 않은 상품만 상품마다 같은 상품의 다른 주문과 모아서 차감한다. 부족한 상품이 있거나 차감이 실패하면 이미 차감한 상품을 되돌린다.
+     * 샤딩한 상품은 stock.quantity 가 0 이라 모아서 차감할 수 없으므로 차감하지 않고 돌려준다. (주문 트랜잭션에서 deduct 로 shard 에서 차감한다)
+     * 트랜잭션에 참여하지 않으므로, 이후 주문이 실패하면 차감한 상품을 restore 로 되돌려야 한다.
+     * @return 차감하지 않은 샤딩한 상품의 productId 별 수량
+     */
+    public Map<Long, Long> deductCombined(Map<Long, Long> quantities) {
+        if (quantities.values().stream().anyMatch(quantity -> quantity <= 0)) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "차감할 재고 수량은 0 이하가 될 수 없습니다.");
+        }
+
+        Map<Long, Integer> shardCounts = stockRepository.findShardCounts(quantities.keySet());
+        Map<Long, Long> sharded = new TreeMap<>();
+        Map<Long, Long> deducted = new HashMap<>();
+        try {
+            for (Map.Entry<Long, Long> entry : quantities.entrySet()) {
+                Integer shardCount = shardCounts.get(entry.getKey());
+                if (shardCount == null) {
+                    throw new CoreException(ErrorType.NOT_FOUND, "[productId = " + entry.getKey() + "] 재고를 찾을 수 없습니다.");
+                }
+                if (shardCount > 1) {
+                    sharded.put(entry.getKey(), entry.getValue());
+                    continue;
+                }
+                if (!stockDecrementCombiner.decrement(entry.getKey(), entry.getValue())) {
+                    throw new CoreException(ErrorType.BAD_REQUEST, "[productId = " + entry.getKey() + "] 재고가 부족합니다.");
+                }
+                deducted.put(entry.getKey(), entry.getValue());
+            }
+        } catch (RuntimeException e) {
+            // 재고 부족뿐 아니라 combiner 의 flush 실패/timeout 등 어떤 예외든, 이미 차감한 상품은 되돌린다.
+            if (!deducted.isEmpty()) stockRepository.applyDeltas(deducted);
+            throw e;
+        }
+        return sharded;
+    }
+
+    /**
+     * deduct / deductCombined 로 차감한 재고를 되돌린다. 샤딩한 상품은 임의의 shard 하나에 더한다.
+     */
+    @Transactional
+    public void restore(Map<Long, Long> quantities) {
+        Map<Long, Integer> shardCounts = stockRepository.findShardCounts(quantities.keySet());
+        Map<Long, Long> unsharded = new HashMap<>();
+        quantities.forEach((productId, quantity) -> {
+            int shardCount = shardCounts.getOrDefault(productId, 1);
+            if (shardCount > 1) {
+                stockRepository.increaseShard(productId, ThreadLocalRandom.current().nextInt(shardCount), quantity);
+            } else {
+                unsharded.put(productId, quantity);
+            }
+        });
+        stockRepository.applyDeltas(unsharded);
+    }
+
+    /**
+     * 임의의 shard 부터 차례로 한 shard 에서 전부 차감해 본다.
+     * 어느 shard 에도 충분하지 않으면 (재고가 거의 남지 않았거나 shard 가 고르지 않을 때) shard 들을 순서대로 잠그고 나눠서 차감한다.
+     */
+    private void deductFromShards(Long productId, int shardCount, long quantity) {
+        if (quantity <= 0) throw new CoreException(ErrorType.BAD_REQUEST, "차감할 재고 수량은 0 이하가 될 수 없습니다.");
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            if (stockRepository.decreaseShard(productId, (start + i) % shardCount, quantity)) return;
+        }
+
+        List<StockShard> shards = stockRepository.findShardsForUpdate(productId);
+        if (shards.stream().mapToLong(StockShard::getQuantity).sum() < quantity) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "[productId = " + productId + "] 재고가 부족합니다.");
+        }
+        long remaining = quantity;
+        for (StockShard shard : shards) {
+            long taken = Math.min(shard.getQuantity(), remaining);
+            shard.rebalance(shard.getQuantity() - taken);
+            remaining -= taken;
+            if (remaining == 0) break;
+        }
+    }
+
+    /**
+     * 상품의 재고를 shardCount 개로 나눈다. 1 이면 샤딩을 푼다. 기존 shard 의 재고도 합쳐서 다시 나눈다.
+     * 진행 중인 주문은 바뀌기 전의 shard 수로 차감하므로, 판매 시작 전처럼 주문이 없을 때 실행한다.
+     */
+    @Transactional
+    public void shard(Long productId, int shardCount) {
+        Stock stock = stockRepository.findByProductIdForUpdate(productId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[productId = " + productId + "] 재고를 찾을 수 없습니다."));
+        List<StockShard> shards = stockRepository.findShardsForUpdate(productId);
+        long total = stock.getQuantity() + shards.stream().mapToLong(StockShard::getQuantity).sum();
+
+        stock.changeShardCount(shardCount, total);
+        stockRepository.deleteShards(productId);
+        if (!stock.isSharded()) return;
+
+        long[] quantities = StockShard.split(total, shardCount);
+        List<StockShard> newShards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            newShards.add(StockShard.create(productId, i, quantities[i]));
+        }
+        stockRepository.saveShards(newShards);
+    }
+
+    /**
+     * shard 들을 잠그고 재고를 고르게 다시 나눈다. (합계는 그대로다)
+     */
+    @Transactional
+    public void rebalance(Long productId) {
+        List<StockShard> shards = stockRepository.findShardsForUpdate(productId);
+        if (shards.isEmpty()) return;
+        long[] quantities = StockShard.split(shards.stream().mapToLong(StockShard::getQuantity).sum(), shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            shards.get(i).rebalance(quantities[i]);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findUnevenShardedProductIds(double minRatio, int limit) {
+        return stockRepository.findUnevenShardedProductIds(minRatio, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<StockShard> getShards(Long productId) {
+        return stockRepository.findShards(productId);
+    }
+
+    /**
+     * 모든 상품의 재고를 한 번에 예약한다. Redis 에 없는 상품은 DB 의 재고를 적재하고 다시 예약한다.
+     * 재고 key 는 만료되지 않으므로, 적재는 상품의 첫 주문에서만 일어난다. (그 전에는 반영할 연산이 없어서 DB 가 최신이다)
+     */
+    public void reserve(String reservationId, Map<Long, Long> quantities) {
+        if (quantities.values().stream().anyMatch(quantity -> quantity <= 0)) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "주문 수량은 0 이하가 될 수 없습니다.");
+        }
+
+        StockReserveResult result = stockReservationRepository.reserve(reservationId, quantities);
+        if (result.status() == StockReserveResult.Status.NOT_LOADED) {
+            Map<Long, Long> loaded = new HashMap<>(stockRepository.findQuantities(quantities.keySet()));
+            quantities.keySet().forEach(productId -> loaded.putIfAbsent(productId, 0L));
+            stockReservationRepository.loadIfAbsent(loaded);
+            result = stockReservationRepository.reserve(reservationId, quantities);
+        }
+
+        if (result.status() != StockReserveResult.Status.RESERVED) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "[productId = " + result.productId() + "] 재고가 부족합니다.");
+        }
+    }
+
+    public boolean release(String reservationId) {
+        return stockReservationRepository.release(reservationId);
+    }
+
+    public void confirm(String reservationId) {
+        stockReservationRepository.confirm(reservationId);
+    }
+
+    public List<String> findOpenReservations(Duration minAge, int limit) {
+        return stockReservationRepository.findOpenReservations(minAge, limit);
+    }
+
+    public Long getReservableQuantity(Long productId) {
+        return stockReservationRepository.getQuantity(productId);
+    }
+
+    /**
+     * 큐에서 읽은 연산의 변화량을 상품별로 합쳐서 한 번의 batch update 로 반영한다.
+     * 샤딩한 상품은 stock.quantity 가 아니라 shard 들을 잠그고, 변화량을 더한 합계를 다시 고르게 나눈다.
+     * 이미 반영한 연산(반영 후 ack 전에 죽어서 다시 읽은 것)은 stock_operation_log 로 거른다.
+     * @return 새로 반영한 연산 수
+     */
+    @Transactional
+    public int reconcile(List<StockOperation> operations) {
+        Set<String> applied = stockRepository.findAppliedOperationIds(operations.stream().map(StockOperation::id).toList());
+        List<StockOperation> toApply = operations.stream()
+                .filter(operation -> !applied.contains(operation.id()))
+                .toList();
+        if (toApply.isEmpty()) return 0;
+
+        Map<Long, Long> deltas = new HashMap<>();
+        toApply.forEach(operation -> operation.deltas().forEach((productId, delta) -> deltas.merge(productId, delta, Long::sum)));
+        deltas.values().removeIf(delta -> delta == 0);
+
+        stockRepository.saveOperationLogs(toApply.stream().map(operation -> StockOperationLog.of(operation.id())).toList());
+        if (deltas.isEmpty()) return toApply.size();
+
+        Map<Long, Integer> shardCounts = stockRepository.findShardCounts(deltas.keySet());
+        Map<Long, Long> unsharded = new HashMap<>();
+        Map<Long, Long> sharded = new TreeMap<>();
+        deltas.forEach((productId, delta) -> (shardCounts.getOrDefault(productId, 1) > 1 ? sharded : unsharded).put(productId, delta));
+
+        if (!unsharded.isEmpty()) stockRepository.applyDeltas(unsharded);
+        sharded.forEach(this::applyDeltaToShards);
+        return toApply.size();
+    }
+
+    /**
+     * Redis 에서 이미 검증한 변화량이므로 shard 하나에 몰지 않고, 합계에 더한 뒤 고르게 다시 나눈다.
+     */
+    private void applyDeltaToShards(Long productId, long delta) {
+        List<StockShard> shards = stockRepository.findShardsForUpdate(productId);
+        long[] quantities = StockShard.split(shards.stream().mapToLong(StockShard::getQuantity).sum() + delta, shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            shards.get(i).rebalance(quantities[i]);
+        }
+    }
+
+    /**
+     * ack 해서 다시 읽히지 않는 연산의 로그를 지운다.
+     */
+    @Transactional
+    public void deleteOperationLogs(List<String> operationIds) {
+        stockRepository.deleteOperationLogs(operationIds);
+    }
+}
@@ -0,0 +1,76 @@
+package com.loopers.domain.stock;
+
+import com.loopers.domain.BaseEntity;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.support.validation.ValidationRules;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 샤딩한 상품의 재고 일부. 상품의 재고는 모든 shard 의 합이다.
+ * 주문마다 다른 shard 를 차감하므로, 한 상품의 주문이 stock row 하나의 lock 에 몰리지 않는다.
+ */
+@Entity
+@Table(
+        name = "stock_shard"
+        , uniqueConstraints = @UniqueConstraint(name = "uk_stock_shard_product_shard", columnNames = {"product_id", "shard_no"})
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class StockShard extends BaseEntity {
+
+    private static final ValidationRules<StockShard> RULES = ValidationRules.<StockShard>builder()
+            .notNull(StockShard::getProductId, "productId가 Null 이 되면 안 됩니다.")
+            .notNull(StockShard::getShardNo, "shard 번호가 Null 이 되면 안 됩니다.")
+            .notNull(StockShard::getQuantity, "재고 수량이 Null 이 되면 안 됩니다.")
+            .build();
+
+    @Column(name = "product_id", nullable = false, updatable = false)
+    private Long productId;
+
+    @Column(name = "shard_no", nullable = false, updatable = false)
+    private Integer shardNo;
+
+    @Column(name = "quantity", nullable = false)
+    private Long quantity;
+
+    private StockShard(Long productId, Integer shardNo, Long quantity) {
+        this.productId = productId;
+        this.shardNo = shardNo;
+        this.quantity = quantity;
+        this.guard();
+    }
+
+    public static StockShard create(Long productId, Integer shardNo, Long quantity) {
+        return new StockShard(productId, shardNo, quantity);
+    }
+
+    /**
+     * total 을 shardCount 개로 고르게 나눈다. 나머지는 앞의 shard 부터 하나씩 더한다.
+     */
+    public static long[] split(long total, int shardCount) {
+        long[] quantities = new long[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            quantities[i] = total / shardCount + (i < total % shardCount ? 1 : 0);
+        }
+        return quantities;
+    }
+
+    public void rebalance(Long quantity) {
+        this.quantity = quantity;
+        this.guard();
+    }
+
+    @Override
+    protected void guard() {
+        RULES.validate(this);
+        if(shardNo < 0) throw new CoreException(ErrorType.BAD_REQUEST, "shard 번호는 음수가 될 수 없습니다.");
+        if(quantity < 0) throw new CoreException(ErrorType.BAD_REQUEST, "재고 수량은 음수가 될 수 없습니다.");
+    }
+}
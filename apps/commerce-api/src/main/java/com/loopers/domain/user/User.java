@@ -1,73 +1,129 @@
 package com.loopers.domain.user;
 
 import com.loopers.domain.BaseEntity;
-import com.loopers.support.error.CoreException;
-import com.loopers.support.error.ErrorType;
+import com.loopers.support.validation.CharScans;
+import com.loopers.support.validation.ValidationRules;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import static com.loopers.support.error.CoreExceptionUtil.*;
-
 @Entity
-@Table(name = "user")
+@Table(
+        name = "user"
+        , uniqueConstraints = {
+                @UniqueConstraint(name = User.UK_LOGIN_ID, columnNames = "login_id")
+                , @UniqueConstraint(name = User.UK_EMAIL, columnNames = "email")
+        }
+        , indexes = @Index(name = "idx_user_created_at", columnList = "created_at")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Builder(toBuilder = true)
 public class User extends BaseEntity {
+    public static final String UK_LOGIN_ID = "uk_user_login_id";
+    public static final String UK_EMAIL = "uk_user_email";
+    public static final String LOGIN_ID_CONFLICT_MESSAGE = "이미 존재하는 회원을 다시 저장 못합니다.";
+    public static final String EMAIL_CONFLICT_MESSAGE = "이미 사용 중인 email 입니다.";
+
+    private static final ValidationRules<User> RULES = ValidationRules.<User>builder()
+            // id : 영문, 숫자가 각각 최소 한 개씩 포함된 10자 이내 문자열 검사
+            .notBlank(User::getLoginId, "ID가 비어있을 수 없습니다.")
+            .matches(User::getLoginId, User::isLoginId, "ID에 영문과 숫자만 10자 이내로 꼭 포함되어 있어야 합니다.")
+
+            // email : `xx@yy.zz` 형식에 맞는지 검사
+            .notBlank(User::getEmail, "email이 비어있을 수 없습니다.")
+            .matches(User::getEmail, User::isEmail, "email이 `xx@yy.zz` 형식에 맞아야 합니다.")
+
+            // birthday : `yyyy-MM-dd` 형식에 맞는지 검사
+            .notBlank(User::getBirthday, "birthday가 비어있을 수 없습니다.")
+            .matches(User::getBirthday, User::isBirthday, "birthday가 `yyyy-MM-dd` 형식에 맞아야 합니다.")
+
+            // gender : `M` or `F` 형식에 맞는지 검사
+            .notBlank(User::getGender, "gender가 비어있을 수 없습니다.")
+            .matches(User::getGender, User::isGender, "gender가 `M` or `F` 형식에 맞아야 합니다.")
+            .build();
 
     private String loginId;
     private String email;
     private String birthday;
     private String gender;
-    private Integer point;
 
     private User(
             String loginId
             , String email
             , String birthday
             , String gender
-            , Integer point
     ) {
         this.loginId = loginId;
         this.email = email;
         this.birthday = birthday;
         this.gender = gender;
-        this.point = point;
         this.guard();
     }
 
     @Override
     protected void guard() {
-        // id : 영문, 숫자가 각각 최소 한 개씩 포함된 10자 이내 문자열 검사
-        validateNullOrBlank(loginId, "ID가 비어있을 수 없습니다.");
-        validatePattern(loginId, "^(?=.*[a-zA-Z])(?=.*[0-9])[a-zA-Z0-9]{1,10}$", "ID에 영문과 숫자만 10자 이내로 꼭 포함되어 있어야 합니다.");
+        RULES.validate(this);
+    }
 
-        // email : `xx@yy.zz` 형식에 맞는지 검사
-        validateNullOrBlank(email, "email이 비어있을 수 없습니다.");
-        validatePattern(email, "^[a-zA-Z0-9]+@[a-zA-Z0-9]+\\.[a-zA-Z]{2,6}$", "email이 `xx@yy.zz` 형식에 맞아야 합니다.");
+    /**
+     * ^(?=.*[a-zA-Z])(?=.*[0-9])[a-zA-Z0-9]{1,10}$
+     */
+    private static boolean isLoginId(String value) {
+        if (value.length() > 10) return false;
+        boolean hasLetter = false;
+        boolean hasDigit = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (CharScans.isLetter(c)) hasLetter = true;
+            else if (CharScans.isDigit(c)) hasDigit = true;
+            else return false;
+        }
+        return hasLetter && hasDigit;
+    }
 
-        // birthday : `yyyy-MM-dd` 형식에 맞는지 검사
-        validateNullOrBlank(birthday, "birthday가 비어있을 수 없습니다.");
-        validatePattern(birthday, "^\\d{4}-\\d{2}-\\d{2}$", "birthday가 `yyyy-MM-dd` 형식에 맞아야 합니다.");
+    /**
+     * ^[a-zA-Z0-9]+@[a-zA-Z0-9]+\.[a-zA-Z]{2,6}$
+     */
+    private static boolean isEmail(String value) {
+        int at = value.indexOf('@');
+        int dot = value.lastIndexOf('.');
+        if (at < 1 || dot < at + 2) return false;
 
-        // gender : `M` or `F` 형식에 맞는지 검사
-        validateNullOrBlank(gender, "gender가 비어있을 수 없습니다.");
-        validatePattern(gender, "^[FM]{1}$", "gender가 `M` or `F` 형식에 맞아야 합니다.");
+        int domainLength = value.length() - dot - 1;
+        if (domainLength < 2 || domainLength > 6) return false;
+        for (int i = dot + 1; i < value.length(); i++) {
+            if (!CharScans.isLetter(value.charAt(i))) return false;
+        }
+        return CharScans.allLetterOrDigit(value, 0, at) && CharScans.allLetterOrDigit(value, at + 1, dot);
+    }
 
-        // point : Null 이 되면 안 됩니다.
-        validateObjectNull(point, "point가 Null 이 되면 안 됩니다.");
-        if(point < 0) throw new CoreException(ErrorType.BAD_REQUEST, "point는 음수가 될 수 없습니다.");
+    /**
+     * ^\d{4}-\d{2}-\d{2}$
+     */
+    private static boolean isBirthday(String value) {
+        if (value.length() != 10) return false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (i == 4 || i == 7) {
+                if (c != '-') return false;
+            } else if (!CharScans.isDigit(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    public Integer addPoint(Integer point) {
-        // 충전하는 포인트가 음수이면 BAD REQUEST CoreException 을 발생
-        if(point <= 0) throw new CoreException(ErrorType.BAD_REQUEST, "충전할 point는 0 이하가 될 수 없습니다.");
-        this.point += point;
-        return this.point;
+    /**
+     * ^[FM]{1}$
+     */
+    private static boolean isGender(String value) {
+        return value.equals("M") || value.equals("F");
     }
 
 }
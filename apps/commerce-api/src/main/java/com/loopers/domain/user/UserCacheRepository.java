@@ -0,0 +1,19 @@
+package com.loopers.domain.user;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public interface UserCacheRepository {
+    /**
+     * 캐시에 없으면 loader 로 읽어서 캐시에 저장한다. (read-through)
+     */
+    Optional<UserProfile> getProfile(String loginId, Supplier<Optional<UserProfile>> loader);
+    void evictProfile(String loginId);
+
+    /**
+     * 캐시에 없으면 loader 로 읽어서 캐시에 저장한다. (read-through)
+     * 읽는 동안 evictPoint 가 실행되었다면 읽은 값을 캐시에 저장하지 않는다.
+     */
+    Long getPoint(Long userId, Supplier<Long> loader);
+    void evictPoint(Long userId);
+}
@@ -0,0 +1,23 @@
+package com.loopers.domain.user;
+
+/**
+ * 캐시에 저장하는 User 의 프로필 정보.
+ * point 잔액은 변경 빈도가 달라서 따로 캐시한다.
+ */
+public record UserProfile(
+        Long id
+        , String loginId
+        , String email
+        , String birthday
+        , String gender
+) {
+    public static UserProfile from(User user) {
+        return new UserProfile(
+                user.getId(),
+                user.getLoginId(),
+                user.getEmail(),
+                user.getBirthday(),
+                user.getGender()
+        );
+    }
+}
@@ -1,8 +1,13 @@
 package com.loopers.domain.user;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository {
     Optional<User> save(User user);
     Optional<User> findByLoginId(String loginId);
+    List<User> saveAll(List<User> users);
+    List<User> findAllByLoginIds(Collection<String> loginIds);
+    List<String> findExistingEmails(Collection<String> emails);
 }
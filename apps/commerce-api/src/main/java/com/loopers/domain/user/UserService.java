@@ -3,6 +3,8 @@ package com.loopers.domain.user;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -18,4 +20,16 @@ public class UserService {
     public Optional<User> findUserById(String id) {
         return userRepository.findByLoginId(id);
     }
+
+    public List<User> saveUsers(List<User> users) {
+        return userRepository.saveAll(users);
+    }
+
+    public List<User> findUsersByIds(Collection<String> ids) {
+        return userRepository.findAllByLoginIds(ids);
+    }
+
+    public List<String> findExistingEmails(Collection<String> emails) {
+        return userRepository.findExistingEmails(emails);
+    }
 }
@@ -0,0 +1,53 @@
+package com.loopers.infrastructure.brand;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.brand.BrandCacheRepository;
+import com.loopers.domain.brand.BrandSummary;
+import com.loopers.support.cache.StampedeProtectedCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 브랜드 페이지는 소수의 브랜드에 요청이 몰리므로, 만료 순간의 동시 miss 를 StampedeProtectedCache 로 막는다.
+ */
+@Slf4j
+@Component
+public class BrandCacheRepositoryImpl implements BrandCacheRepository {
+    private static final String BRAND_KEY = "brand:";
+    private static final Duration BRAND_TTL = Duration.ofMinutes(10);
+
+    private final StampedeProtectedCache stampedeProtectedCache;
+    private final ObjectMapper objectMapper;
+
+    public BrandCacheRepositoryImpl(StampedeProtectedCache stampedeProtectedCache, ObjectMapper objectMapper) {
+        this.stampedeProtectedCache = stampedeProtectedCache;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Optional<BrandSummary> getBrand(Long brandId, Supplier<Optional<BrandSummary>> loader) {
+        return stampedeProtectedCache.get(BRAND_KEY + brandId, BRAND_TTL, () -> loader.get().map(this::serialize))
+                .map(this::deserialize);
+    }
+
+    private String serialize(BrandSummary brand) {
+        try {
+            return objectMapper.writeValueAsString(brand);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("브랜드 캐시 직렬화 실패 : " + brand, e);
+        }
+    }
+
+    private BrandSummary deserialize(String value) {
+        try {
+            return objectMapper.readValue(value, BrandSummary.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("브랜드 캐시 역직렬화 실패 : " + value, e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.loopers.infrastructure.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.idempotency.IdempotencyRecord;
+import com.loopers.domain.idempotency.IdempotencyRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * idempotency:{scope}:{key} 하나에 상태를 저장한다. 모두 master 에 한다. (replica 는 방금 쓴 처리 중 기록을 못 볼 수 있다)
+ * - 처리 중 : "in-flight:{owner}:{fingerprint}" (in-flight ttl)
+ * - 완료 : IdempotencyRecord json (ttl)
+ * 완료 / 취소는 처리 중 값이 그대로일 때만 한다. (in-flight ttl 이 지나서 다른 요청이 가져간 기록을 덮어쓰지 않게)
+ */
+@Component
+public class IdempotencyRedisRepository implements IdempotencyRepository {
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String IN_FLIGHT_PREFIX = "in-flight:";
+
+    // KEYS[1] = key, ARGV[1] = 처리 중 값, ARGV[2] = 완료 값, ARGV[3] = ttl(ms)
+    private static final RedisScript<Long> COMPLETE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS[1] = key, ARGV[1] = 처리 중 값
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyRedisRepository(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            ObjectMapper objectMapper
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * SET NX 에 실패했는데 GET 이 비어있으면 (그 사이 만료) 다시 시도한다.
+     */
+    @Override
+    public Optional<IdempotencyRecord> tryStart(String key, String owner, String fingerprint, Duration inFlightTtl) {
+        String redisKey = KEY_PREFIX + key;
+        while (true) {
+            if (Boolean.TRUE.equals(masterRedisTemplate.opsForValue().setIfAbsent(redisKey, inFlightValue(owner, fingerprint), inFlightTtl))) {
+                return Optional.empty();
+            }
+            String value = masterRedisTemplate.opsForValue().get(redisKey);
+            if (value != null) {
+                return Optional.of(parse(value));
+            }
+        }
+    }
+
+    @Override
+    public void complete(String key, String owner, IdempotencyRecord record, Duration ttl) {
+        try {
+            masterRedisTemplate.execute(
+                    COMPLETE,
+                    List.of(KEY_PREFIX + key),
+                    inFlightValue(owner, record.fingerprint()),
+                    objectMapper.writeValueAsString(record),
+                    String.valueOf(ttl.toMillis())
+            );
+        } catch (JsonProcessingException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "[key = " + key + "] 응답을 저장할 수 없습니다.");
+        }
+    }
+
+    @Override
+    public void release(String key, String owner, String fingerprint) {
+        masterRedisTemplate.execute(RELEASE, List.of(KEY_PREFIX + key), inFlightValue(owner, fingerprint));
+    }
+
+    private IdempotencyRecord parse(String value) {
+        if (value.startsWith(IN_FLIGHT_PREFIX)) {
+            String fingerprint = value.substring(value.lastIndexOf(':') + 1);
+            return IdempotencyRecord.inFlight(fingerprint);
+        }
+        try {
+            return objectMapper.readValue(value, IdempotencyRecord.class);
+        } catch (JsonProcessingException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "저장된 응답을 읽을 수 없습니다.");
+        }
+    }
+
+    private static String inFlightValue(String owner, String fingerprint) {
+        return IN_FLIGHT_PREFIX + owner + ":" + fingerprint;
+    }
+}
@@ -0,0 +1,123 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikeCacheRepository;
+import com.loopers.domain.like.LikeEventType;
+import com.loopers.domain.like.LikeKey;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * User 별 좋아요한 상품 집합 (like:user:{userId}). 좋아요 상태의 기준이라 읽기/쓰기 모두 master 에 한다.
+ * 빈 집합은 Redis 에 남지 않으므로 LOADED 를 member 로 넣어서 "DB 에서 읽어왔음" 을 표시한다.
+ * TTL 은 flush 지연보다 충분히 길어야 한다. (만료된 뒤 DB 에서 다시 읽을 때 DB 가 최신이어야 한다)
+ */
+@Component
+public class LikeCacheRedisRepository implements LikeCacheRepository {
+    private static final String USER_KEY = "like:user:";
+    private static final String LOADED = "0";
+
+    // KEYS[1] = User 집합, KEYS[2] = stream, ARGV[1] = productId, ARGV[2] = LIKED | UNLIKED, ARGV[3] = userId, ARGV[4] = brandId, ARGV[5] = ttl(ms)
+    private static final RedisScript<Long> APPLY = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local changed
+            if ARGV[2] == 'LIKED' then
+                changed = redis.call('SADD', KEYS[1], ARGV[1])
+            else
+                changed = redis.call('SREM', KEYS[1], ARGV[1])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            if changed == 1 then
+                redis.call('XADD', KEYS[2], '*', 'type', ARGV[2], 'userId', ARGV[3], 'productId', ARGV[1], 'brandId', ARGV[4])
+            end
+            return changed
+            """, Long.class);
+
+    // KEYS[1] = User 집합, ARGV[1] = ttl(ms), ARGV[2..] = LOADED 와 좋아요한 productId
+    private static final RedisScript<Long> LOAD = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            for i = 2, #ARGV do
+                redis.call('SADD', KEYS[1], ARGV[i])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final Duration userSetTtl;
+
+    public LikeCacheRedisRepository(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            @Value("${like.write-behind.user-set-ttl-hours:168}") long userSetTtlHours
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.userSetTtl = Duration.ofHours(userSetTtlHours);
+    }
+
+    @Override
+    public Optional<Boolean> apply(LikeEventType type, Long userId, Long productId, Long brandId) {
+        Long result = masterRedisTemplate.execute(
+                APPLY,
+                List.of(USER_KEY + userId, LikeOperationRedisStream.STREAM_KEY),
+                String.valueOf(productId),
+                type.name(),
+                String.valueOf(userId),
+                String.valueOf(brandId),
+                String.valueOf(userSetTtl.toMillis())
+        );
+        if (result == null || result < 0) return Optional.empty();
+        return Optional.of(result == 1L);
+    }
+
+    @Override
+    public void load(Long userId, Collection<Long> likedProductIds) {
+        List<String> args = new ArrayList<>(likedProductIds.size() + 2);
+        args.add(String.valueOf(userSetTtl.toMillis()));
+        args.add(LOADED);
+        likedProductIds.forEach(productId -> args.add(String.valueOf(productId)));
+        masterRedisTemplate.execute(LOAD, List.of(USER_KEY + userId), args.toArray());
+    }
+
+    @Override
+    public Map<LikeKey, Boolean> findLiked(Collection<LikeKey> keys) {
+        List<LikeKey> orderedKeys = List.copyOf(keys);
+        List<Object> results = masterRedisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (LikeKey key : orderedKeys) {
+                    // 집합이 있는지와 member 인지를 같이 읽는다. (없는 집합의 SISMEMBER 는 false 라서 구분이 안 된다)
+                    operations.opsForSet().isMember(USER_KEY + key.userId(), LOADED);
+                    operations.opsForSet().isMember(USER_KEY + key.userId(), String.valueOf(key.productId()));
+                }
+                return null;
+            }
+        });
+
+        Map<LikeKey, Boolean> liked = new HashMap<>();
+        for (int i = 0; i < orderedKeys.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i * 2))) {
+                liked.put(orderedKeys.get(i), Boolean.TRUE.equals(results.get(i * 2 + 1)));
+            }
+        }
+        return liked;
+    }
+}
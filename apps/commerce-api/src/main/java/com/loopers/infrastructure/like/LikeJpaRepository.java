@@ -0,0 +1,32 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.Like;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface LikeJpaRepository extends JpaRepository<Like, Long> {
+
+    /**
+     * 중복이면 unique 제약 위반 예외 대신 0 을 반환한다. (예외가 나면 트랜잭션이 rollback-only 가 된다)
+     * native query 라서 BaseEntity 의 @PrePersist 가 실행되지 않으므로 created_at / updated_at 을 직접 넣는다.
+     */
+    @Modifying
+    @Query(
+            value = "insert ignore into likes (user_id, product_id, created_at, updated_at) values (:userId, :productId, now(6), now(6))"
+            , nativeQuery = true
+    )
+    int insertIgnore(@Param("userId") Long userId, @Param("productId") Long productId);
+
+    @Modifying
+    @Query("delete from Like l where l.userId = :userId and l.productId = :productId")
+    int deleteByUserIdAndProductId(@Param("userId") Long userId, @Param("productId") Long productId);
+
+    boolean existsByUserIdAndProductId(Long userId, Long productId);
+
+    @Query("select l.productId from Like l where l.userId = :userId")
+    List<Long> findProductIdsByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,19 @@
+package com.loopers.infrastructure.like;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class LikeKafkaTopicConfig {
+
+    /**
+     * partition 수는 commerce-streamer 의 BATCH_LISTENER concurrency(3) 에 맞춘다.
+     */
+    @Bean
+    public NewTopic productLikeTopic(@Value("${kafka.topic.product-like}") String topic) {
+        return TopicBuilder.name(topic).partitions(3).build();
+    }
+}
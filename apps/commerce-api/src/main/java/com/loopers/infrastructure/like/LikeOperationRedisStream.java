@@ -0,0 +1,171 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikeEventType;
+import com.loopers.domain.like.LikeOperation;
+import com.loopers.domain.like.LikeOperationQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * LikeOperation 큐를 Redis stream (like:ops) 의 consumer group 으로 구현한다.
+ * 적재는 LikeCacheRedisRepository 의 script 가 집합 변경과 함께 한다.
+ * 읽고 ack 하지 않은 것은 group 의 pending 목록에 남으므로, 노드가 죽어도 다시 읽거나 (같은 consumer 이름) 다른 노드가 claim 한다.
+ * consumer 이름은 노드마다 달라야 한다. (같으면 여러 노드가 같은 pending 목록을 함께 다시 읽는다)
+ * 설정하지 않았으면 (HOSTNAME 도 없으면) 프로세스마다 새 이름을 만든다. 재시작 전에 ack 하지 못한 것은 claim 으로 가져온다.
+ */
+@Slf4j
+@Component
+public class LikeOperationRedisStream implements LikeOperationQueue {
+    static final String STREAM_KEY = "like:ops";
+    private static final String GROUP = "like-flush";
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final Consumer consumer;
+    private volatile boolean groupCreated = false;
+
+    public LikeOperationRedisStream(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            @Value("${like.write-behind.consumer-name:${HOSTNAME:}}") String consumerName
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.consumer = Consumer.from(GROUP, consumerName.isBlank() ? "commerce-api-" + UUID.randomUUID() : consumerName);
+        log.info("좋아요 flush consumer 이름 : {}", consumer.getName());
+    }
+
+    @Override
+    public List<LikeOperation> read(int count) {
+        createGroupIfAbsent();
+        List<MapRecord<String, Object, Object>> records = read(count, ReadOffset.from("0"));
+        if (records.isEmpty()) {
+            records = read(count, ReadOffset.lastConsumed());
+        }
+        return toOperations(records);
+    }
+
+    @Override
+    public List<LikeOperation> claimStale(Duration minIdle, int count) {
+        createGroupIfAbsent();
+        PendingMessages pending = masterRedisTemplate.opsForStream().pending(STREAM_KEY, GROUP, Range.unbounded(), count);
+        RecordId[] staleIds = pending.stream()
+                .filter(message -> !message.getConsumerName().equals(consumer.getName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (staleIds.length == 0) return List.of();
+
+        List<MapRecord<String, Object, Object>> claimed = masterRedisTemplate.opsForStream().claim(
+                STREAM_KEY, GROUP, consumer.getName(),
+                RedisStreamCommands.XClaimOptions.minIdle(minIdle).ids(staleIds)
+        );
+        log.info("좋아요 연산 {} 건을 다른 노드에서 가져왔습니다.", claimed.size());
+        return toOperations(claimed);
+    }
+
+    /**
+     * ack 한 것은 stream 에서도 지운다. (모두 DB 에 반영되었으므로 남겨둘 필요가 없다)
+     */
+    @Override
+    public void ack(List<String> ids) {
+        if (ids.isEmpty()) return;
+        String[] recordIds = ids.toArray(String[]::new);
+        masterRedisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, recordIds);
+        masterRedisTemplate.opsForStream().delete(STREAM_KEY, recordIds);
+    }
+
+    /**
+     * stream 이 지워져서 group 이 없어졌으면 (NOGROUP) 다시 만들고 읽는다.
+     */
+    private List<MapRecord<String, Object, Object>> read(int count, ReadOffset offset) {
+        try {
+            return readFromGroup(count, offset);
+        } catch (Exception e) {
+            if (!hasErrorCode(e, "NOGROUP")) throw e;
+            groupCreated = false;
+            createGroupIfAbsent();
+            return readFromGroup(count, offset);
+        }
+    }
+
+    private List<MapRecord<String, Object, Object>> readFromGroup(int count, ReadOffset offset) {
+        List<MapRecord<String, Object, Object>> records = masterRedisTemplate.opsForStream().read(
+                consumer,
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(STREAM_KEY, offset)
+        );
+        return records != null ? records : List.of();
+    }
+
+    /**
+     * 읽을 수 없는 것은 다시 읽어도 실패하므로 로그만 남기고 ack 한다.
+     */
+    private List<LikeOperation> toOperations(List<MapRecord<String, Object, Object>> records) {
+        List<LikeOperation> operations = new ArrayList<>(records.size());
+        List<String> invalidIds = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                Map<Object, Object> value = record.getValue();
+                operations.add(new LikeOperation(
+                        record.getId().getValue(),
+                        LikeEventType.valueOf(String.valueOf(value.get("type"))),
+                        Long.valueOf(String.valueOf(value.get("userId"))),
+                        Long.valueOf(String.valueOf(value.get("productId"))),
+                        Long.valueOf(String.valueOf(value.get("brandId")))
+                ));
+            } catch (IllegalArgumentException e) {
+                log.error("좋아요 연산을 읽을 수 없어 건너뜁니다. id = {}, value = {}", record.getId(), record.getValue(), e);
+                invalidIds.add(record.getId().getValue());
+            }
+        }
+        ack(invalidIds);
+        return operations;
+    }
+
+    /**
+     * stream 이 없어도 group 을 만들 수 있도록 MKSTREAM 으로 만든다. 이미 있으면 (BUSYGROUP) 무시한다.
+     */
+    private void createGroupIfAbsent() {
+        if (groupCreated) return;
+        try {
+            masterRedisTemplate.execute((RedisCallback<Object>) connection -> connection.execute(
+                    "XGROUP",
+                    bytes("CREATE"), bytes(STREAM_KEY), bytes(GROUP), bytes("0"), bytes("MKSTREAM")
+            ));
+        } catch (Exception e) {
+            if (!hasErrorCode(e, "BUSYGROUP")) throw e;
+        }
+        groupCreated = true;
+    }
+
+    private static boolean hasErrorCode(Throwable e, String code) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(code)) return true;
+        }
+        return false;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,80 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.Like;
+import com.loopers.domain.like.LikeKey;
+import com.loopers.domain.like.LikeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RequiredArgsConstructor
+@Component
+public class LikeRepositoryImpl implements LikeRepository {
+    private static final String INSERT_IGNORE =
+            "insert ignore into likes (user_id, product_id, created_at, updated_at) values (?, ?, now(6), now(6))";
+    private static final String DELETE =
+            "delete from likes where user_id = ? and product_id = ?";
+    private static final String SELECT_FOR_UPDATE =
+            "select user_id, product_id from likes where (user_id, product_id) in (:keys) order by user_id, product_id for update";
+
+    private final LikeJpaRepository likeJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public boolean saveIfAbsent(Like like) {
+        return likeJpaRepository.insertIgnore(like.getUserId(), like.getProductId()) > 0;
+    }
+
+    @Override
+    public boolean delete(Long userId, Long productId) {
+        return likeJpaRepository.deleteByUserIdAndProductId(userId, productId) > 0;
+    }
+
+    @Override
+    public boolean exists(Long userId, Long productId) {
+        return likeJpaRepository.existsByUserIdAndProductId(userId, productId);
+    }
+
+    @Override
+    public List<Long> findLikedProductIds(Long userId) {
+        return likeJpaRepository.findProductIdsByUserId(userId);
+    }
+
+    /**
+     * (user_id, product_id) unique index 를 순서대로 잠그므로 여러 노드의 flush 가 같은 순서로 잠근다.
+     */
+    @Override
+    public Set<LikeKey> findExistingForUpdate(Collection<LikeKey> keys) {
+        if (keys.isEmpty()) return Set.of();
+        List<Object[]> pairs = keys.stream()
+                .map(key -> new Object[]{key.userId(), key.productId()})
+                .toList();
+        return new HashSet<>(namedParameterJdbcTemplate.query(SELECT_FOR_UPDATE, Map.of("keys", pairs),
+                (rs, rowNum) -> new LikeKey(rs.getLong("user_id"), rs.getLong("product_id"))));
+    }
+
+    /**
+     * rewriteBatchedStatements 로 multi-row insert 하나가 된다.
+     */
+    @Override
+    public void saveAllIfAbsent(Collection<LikeKey> keys) {
+        jdbcTemplate.batchUpdate(INSERT_IGNORE, keys.stream()
+                .map(key -> new Object[]{key.userId(), key.productId()})
+                .toList());
+    }
+
+    @Override
+    public void deleteAll(Collection<LikeKey> keys) {
+        jdbcTemplate.batchUpdate(DELETE, keys.stream()
+                .map(key -> new Object[]{key.userId(), key.productId()})
+                .toList());
+    }
+}
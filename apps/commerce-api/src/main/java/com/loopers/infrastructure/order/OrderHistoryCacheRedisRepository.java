@@ -0,0 +1,160 @@
+package com.loopers.infrastructure.order;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.order.OrderHistory;
+import com.loopers.domain.order.OrderHistoryCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 주문 read model 캐시. 읽기는 replica 우선 (defaultRedisTemplate), 쓰기는 master.
+ * 키 규칙은 commerce-streamer 의 OrderSummaryCacheRedisRepository 와 같다.
+ * - order:summary:detail:{orderId} : 주문 상세
+ * - order:summary:list:{userId} : 첫 페이지 (FIRST_PAGE_SIZE 개)
+ * - order:summary:version:{userId} : streamer 가 사용자의 주문을 반영할 때마다 올린다.
+ * 상품 상세 캐시처럼 읽기 시작 시점의 version 이 그대로일 때만 저장해서, 반영 전에 읽은 값이 무효화 후에 저장되지 않게 한다.
+ */
+@Slf4j
+@Component
+public class OrderHistoryCacheRedisRepository implements OrderHistoryCacheRepository {
+    private static final String DETAIL_KEY = "order:summary:detail:";
+    private static final String LIST_KEY = "order:summary:list:";
+    private static final String VERSION_KEY = "order:summary:version:";
+    private static final TypeReference<List<OrderHistory>> LIST_TYPE = new TypeReference<>() {};
+
+    // KEYS[1] = 캐시 key, KEYS[2] = version key, ARGV[1] = 읽기 시작 시점 version ('' = 없음), ARGV[2] = 값, ARGV[3] = ttl(ms)
+    private static final RedisScript<Long> SET_IF_VERSION_UNCHANGED = new DefaultRedisScript<>("""
+            local version = redis.call('GET', KEYS[2])
+            if (version == false and ARGV[1] == '') or version == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> defaultRedisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    private final Counter detailHit;
+    private final Counter detailMiss;
+    private final Counter listHit;
+    private final Counter listMiss;
+
+    public OrderHistoryCacheRedisRepository(
+            RedisTemplate<String, String> defaultRedisTemplate,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${order.history-cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.defaultRedisTemplate = defaultRedisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.detailHit = requestCounter(meterRegistry, "order.history.detail", "hit");
+        this.detailMiss = requestCounter(meterRegistry, "order.history.detail", "miss");
+        this.listHit = requestCounter(meterRegistry, "order.history.list", "hit");
+        this.listMiss = requestCounter(meterRegistry, "order.history.list", "miss");
+    }
+
+    /**
+     * 다른 사용자의 주문은 저장하지 않는다. (version 은 요청한 사용자의 것이라서 무효화를 보장할 수 없다)
+     */
+    @Override
+    public Optional<OrderHistory> get(Long userId, Long orderId, Supplier<Optional<OrderHistory>> loader) {
+        String key = DETAIL_KEY + orderId;
+        String cached = get(key);
+        if (cached != null) {
+            try {
+                OrderHistory history = objectMapper.readValue(cached, OrderHistory.class);
+                detailHit.increment();
+                return Optional.of(history);
+            } catch (Exception e) {
+                log.warn("주문 상세 캐시 역직렬화 실패 : key = {}", key, e);
+            }
+        }
+
+        detailMiss.increment();
+        String version = getFromMaster(VERSION_KEY + userId);
+        Optional<OrderHistory> history = loader.get();
+        history.filter(h -> h.userId().equals(userId))
+                .ifPresent(h -> set(key, userId, version, h));
+        return history;
+    }
+
+    @Override
+    public List<OrderHistory> getFirstPage(Long userId, int size, Supplier<List<OrderHistory>> loader) {
+        String key = LIST_KEY + userId;
+        String cached = get(key);
+        if (cached != null) {
+            try {
+                List<OrderHistory> page = objectMapper.readValue(cached, LIST_TYPE);
+                listHit.increment();
+                return page.subList(0, Math.min(size, page.size()));
+            } catch (Exception e) {
+                log.warn("주문 목록 캐시 역직렬화 실패 : key = {}", key, e);
+            }
+        }
+
+        listMiss.increment();
+        String version = getFromMaster(VERSION_KEY + userId);
+        List<OrderHistory> page = loader.get();
+        set(key, userId, version, page);
+        return page.subList(0, Math.min(size, page.size()));
+    }
+
+    private void set(String key, Long userId, String version, Object value) {
+        try {
+            masterRedisTemplate.execute(
+                    SET_IF_VERSION_UNCHANGED,
+                    List.of(key, VERSION_KEY + userId),
+                    version != null ? version : "",
+                    objectMapper.writeValueAsString(value),
+                    String.valueOf(ttl.toMillis())
+            );
+        } catch (Exception e) {
+            log.warn("주문 캐시 저장 실패 : key = {}", key, e);
+        }
+    }
+
+    private String get(String key) {
+        try {
+            return defaultRedisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("주문 캐시 조회 실패 : key = {}", key, e);
+            return null;
+        }
+    }
+
+    private String getFromMaster(String key) {
+        try {
+            return masterRedisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("주문 캐시 조회 실패 : key = {}", key, e);
+            return null;
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String cache, String result) {
+        return Counter.builder("cache.requests")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
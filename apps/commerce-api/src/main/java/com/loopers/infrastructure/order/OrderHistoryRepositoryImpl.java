@@ -0,0 +1,58 @@
+package com.loopers.infrastructure.order;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.order.OrderHistory;
+import com.loopers.domain.order.OrderHistoryItem;
+import com.loopers.domain.order.OrderHistoryRepository;
+import com.loopers.domain.order.OrderSummary;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * order_summary 를 읽는다. 목록 / 상세 모두 (user_id, order_id) 인덱스 또는 PK 로 한 번에 읽는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class OrderHistoryRepositoryImpl implements OrderHistoryRepository {
+    private static final TypeReference<List<OrderHistoryItem>> ITEMS_TYPE = new TypeReference<>() {};
+
+    private final OrderSummaryJpaRepository orderSummaryJpaRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Optional<OrderHistory> findById(Long orderId) {
+        return orderSummaryJpaRepository.findById(orderId).map(this::toHistory);
+    }
+
+    @Override
+    public List<OrderHistory> findByUserId(Long userId, Long cursorOrderId, int size) {
+        List<OrderSummary> summaries = cursorOrderId == null
+                ? orderSummaryJpaRepository.findAllByUserIdOrderByOrderIdDesc(userId, Limit.of(size))
+                : orderSummaryJpaRepository.findAllByUserIdAndOrderIdLessThanOrderByOrderIdDesc(userId, cursorOrderId, Limit.of(size));
+        return summaries.stream().map(this::toHistory).toList();
+    }
+
+    private OrderHistory toHistory(OrderSummary summary) {
+        try {
+            return new OrderHistory(
+                    summary.getOrderId(),
+                    summary.getUserId(),
+                    summary.getStatus(),
+                    summary.getTotalPrice(),
+                    summary.getItemCount(),
+                    objectMapper.readValue(summary.getItems(), ITEMS_TYPE),
+                    summary.getOrderedAt()
+            );
+        } catch (JsonProcessingException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "[orderId = " + summary.getOrderId() + "] 주문 상품 목록을 읽을 수 없습니다.");
+        }
+    }
+}
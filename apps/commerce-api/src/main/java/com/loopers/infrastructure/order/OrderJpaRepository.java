@@ -0,0 +1,11 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.domain.order.Order;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface OrderJpaRepository extends JpaRepository<Order, Long> {
+    List<Order> findAllByReservationIdIn(Collection<String> reservationIds);
+}
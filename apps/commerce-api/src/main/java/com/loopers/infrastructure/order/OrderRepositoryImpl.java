@@ -0,0 +1,43 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.order.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Component
+public class OrderRepositoryImpl implements OrderRepository {
+    private final OrderJpaRepository orderJpaRepository;
+    private final OrderItemJpaRepository orderItemJpaRepository;
+
+    @Override
+    public Order save(Order order) {
+        return orderJpaRepository.save(order);
+    }
+
+    @Override
+    public List<OrderItem> saveItems(List<OrderItem> items) {
+        return orderItemJpaRepository.saveAll(items);
+    }
+
+    @Override
+    public Optional<Order> findById(Long id) {
+        return orderJpaRepository.findById(id);
+    }
+
+    @Override
+    public List<Order> findAllByReservationIds(Collection<String> reservationIds) {
+        return orderJpaRepository.findAllByReservationIdIn(reservationIds);
+    }
+
+    @Override
+    public List<OrderItem> findItems(Long orderId) {
+        return orderItemJpaRepository.findAllByOrderId(orderId);
+    }
+}
@@ -0,0 +1,13 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.domain.order.OrderSummary;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface OrderSummaryJpaRepository extends JpaRepository<OrderSummary, Long> {
+    List<OrderSummary> findAllByUserIdOrderByOrderIdDesc(Long userId, Limit limit);
+
+    List<OrderSummary> findAllByUserIdAndOrderIdLessThanOrderByOrderIdDesc(Long userId, Long orderId, Limit limit);
+}
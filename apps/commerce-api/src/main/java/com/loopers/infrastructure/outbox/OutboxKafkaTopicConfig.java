@@ -0,0 +1,19 @@
+package com.loopers.infrastructure.outbox;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class OutboxKafkaTopicConfig {
+
+    /**
+     * partition 수는 commerce-streamer 의 BATCH_LISTENER concurrency(3) 에 맞춘다.
+     */
+    @Bean
+    public NewTopic orderEventTopic(@Value("${kafka.topic.order-event}") String topic) {
+        return TopicBuilder.name(topic).partitions(3).build();
+    }
+}
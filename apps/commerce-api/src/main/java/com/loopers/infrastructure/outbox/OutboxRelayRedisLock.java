@@ -0,0 +1,72 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.outbox.OutboxRelayLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * outbox:relay:lease 에 노드마다 다른 owner 를 넣는다. 가진 노드는 주기마다 연장하고, 죽으면 lease-ms 뒤에 다른 노드가 가져간다.
+ */
+@Slf4j
+@Component
+public class OutboxRelayRedisLock implements OutboxRelayLock {
+    private static final String LEASE_KEY = "outbox:relay:lease";
+
+    // KEYS[1] = lease, ARGV[1] = owner, ARGV[2] = lease(ms)
+    private static final RedisScript<Long> ACQUIRE = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if owner == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            if not owner then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS[1] = lease, ARGV[1] = owner
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final String owner = UUID.randomUUID().toString();
+    private final long leaseMs;
+
+    public OutboxRelayRedisLock(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            @Value("${outbox.relay.lease-ms:30000}") long leaseMs
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.leaseMs = leaseMs;
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        Long acquired = masterRedisTemplate.execute(ACQUIRE, List.of(LEASE_KEY), owner, String.valueOf(leaseMs));
+        return acquired != null && acquired == 1L;
+    }
+
+    @Override
+    public void release() {
+        try {
+            masterRedisTemplate.execute(RELEASE, List.of(LEASE_KEY), owner);
+        } catch (Exception e) {
+            log.warn("outbox relay lease 반납 실패", e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.outbox.OutboxAggregateType;
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.OutboxRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Component
+public class OutboxRepositoryImpl implements OutboxRepository {
+    private final OutboxJpaRepository outboxJpaRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public OutboxEvent append(OutboxAggregateType aggregateType, Long aggregateId, String eventType, Object payload) {
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            return outboxJpaRepository.save(OutboxEvent.of(aggregateType, aggregateId, eventType, json));
+        } catch (JsonProcessingException e) {
+            // 이벤트를 남기지 못하면 변경도 rollback 한다.
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "[eventType = " + eventType + "] 이벤트를 저장할 수 없습니다.");
+        }
+    }
+
+    @Override
+    public List<OutboxEvent> findOldest(int limit) {
+        return outboxJpaRepository.findAllByOrderBySeqAsc(Limit.of(limit));
+    }
+
+    @Override
+    public int deleteAll(Collection<Long> ids) {
+        return outboxJpaRepository.deleteByIds(ids);
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentRepository;
+import com.loopers.domain.payment.PaymentStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Component
+public class PaymentRepositoryImpl implements PaymentRepository {
+    private final PaymentJpaRepository paymentJpaRepository;
+
+    @Override
+    public Payment save(Payment payment) {
+        return paymentJpaRepository.save(payment);
+    }
+
+    @Override
+    public Optional<Payment> findByOrderId(Long orderId) {
+        return paymentJpaRepository.findByOrderId(orderId);
+    }
+
+    @Override
+    public Optional<Payment> findByOrderIdForUpdate(Long orderId) {
+        return paymentJpaRepository.findByOrderIdForUpdate(orderId);
+    }
+
+    @Override
+    public List<Long> findPendingOrderIds(ZonedDateTime createdBefore, int limit) {
+        return paymentJpaRepository.findOrderIds(PaymentStatus.PENDING, createdBefore, Limit.of(limit));
+    }
+}
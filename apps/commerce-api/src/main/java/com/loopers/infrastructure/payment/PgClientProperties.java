@@ -0,0 +1,31 @@
+package com.loopers.infrastructure.payment;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param maxConcurrent    동시에 PG 로 나가 있을 수 있는 요청 수. 넘으면 기다리지 않고 거부한다.
+ * @param executorThreads  HTTP 응답 처리와 결과 반영(DB)에 쓰는 스레드 수
+ * @param maxRetries       timeout / 5xx / 연결 실패일 때 다시 보내는 횟수 (4xx 는 다시 보내지 않는다)
+ */
+@ConfigurationProperties(value = "pg.client")
+public record PgClientProperties(
+        String baseUrl,
+        String callbackUrl,
+        long connectTimeoutMs,
+        long requestTimeoutMs,
+        int maxRetries,
+        long retryBaseDelayMs,
+        long retryMaxDelayMs,
+        int maxConcurrent,
+        int executorThreads,
+        CircuitBreaker circuitBreaker
+) {
+    public record CircuitBreaker(
+            int windowSize,
+            int minimumCalls,
+            double failureRateThreshold,
+            long openDurationMs,
+            int halfOpenCalls
+    ) {
+    }
+}
@@ -0,0 +1,222 @@
+package com.loopers.infrastructure.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.payment.PaymentCommand;
+import com.loopers.domain.payment.PaymentGateway;
+import com.loopers.domain.payment.PgTransaction;
+import com.loopers.domain.payment.PgTransactionStatus;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.support.resilience.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * JDK HttpClient 의 비동기 호출로 PG 를 부른다. 응답 처리는 pg.client.executor-threads 개의 전용 스레드에서 하므로
+ * PG 가 느려져도 요청 스레드나 DB 커넥션을 잡고 기다리지 않는다.
+ *
+ * 요청마다 다음 순서로 막는다.
+ * 1. bulkhead : 동시에 나가 있는 요청이 max-concurrent 이면 기다리지 않고 거부한다.
+ * 2. circuit breaker : 최근 실패 비율이 높으면 open-duration 동안 보내지 않고 거부한다.
+ * 3. timeout / retry : 연결 / 응답 timeout, 5xx 는 full jitter 를 준 지수 backoff 로 max-retries 번 다시 보낸다.
+ *    (결제 요청은 PG 가 orderId 로 중복을 거르므로 다시 보내도 두 번 결제되지 않는다)
+ *
+ * pg.client.latency{operation, result} : 재시도를 포함한 호출 시간
+ * pg.client.retries{operation} : 다시 보낸 횟수
+ * pg.bulkhead.in-flight / pg.bulkhead.rejected : 나가 있는 요청 수 / 동시 호출 수 초과로 거부한 수
+ * pg.circuit.state (0 : closed, 1 : open, 2 : half-open) / pg.circuit.rejected : circuit 이 열려서 거부한 수
+ */
+@Slf4j
+@Component
+public class PgPaymentGateway implements PaymentGateway, DisposableBean {
+    private static final String PAYMENTS_PATH = "/api/v1/payments";
+
+    private final PgClientProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService retryScheduler;
+    private final HttpClient httpClient;
+    private final Semaphore permits;
+    private final CircuitBreaker circuitBreaker;
+    private final Counter bulkheadRejectedCounter;
+    private final Counter circuitRejectedCounter;
+
+    public PgPaymentGateway(PgClientProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.executor = Executors.newFixedThreadPool(properties.executorThreads(), namedThreads("pg-client-"));
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(namedThreads("pg-client-retry-"));
+        this.httpClient = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofMillis(properties.connectTimeoutMs()))
+                .build();
+        this.permits = new Semaphore(properties.maxConcurrent());
+        PgClientProperties.CircuitBreaker circuit = properties.circuitBreaker();
+        this.circuitBreaker = new CircuitBreaker(
+                circuit.windowSize(),
+                circuit.minimumCalls(),
+                circuit.failureRateThreshold(),
+                Duration.ofMillis(circuit.openDurationMs()),
+                circuit.halfOpenCalls()
+        );
+        this.bulkheadRejectedCounter = meterRegistry.counter("pg.bulkhead.rejected");
+        this.circuitRejectedCounter = meterRegistry.counter("pg.circuit.rejected");
+        Gauge.builder("pg.bulkhead.in-flight", permits, p -> properties.maxConcurrent() - p.availablePermits()).register(meterRegistry);
+        Gauge.builder("pg.circuit.state", circuitBreaker, c -> c.state().ordinal()).register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<PgTransaction> request(PaymentCommand command) {
+        PgV1Dto.PaymentRequest body = new PgV1Dto.PaymentRequest(
+                command.orderId(), command.userId(), command.amount(), properties.callbackUrl());
+        HttpRequest request = HttpRequest.newBuilder(URI.create(properties.baseUrl() + PAYMENTS_PATH))
+                .timeout(Duration.ofMillis(properties.requestTimeoutMs()))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(body)))
+                .build();
+        return call("request", request, response -> {
+            if (response.statusCode() / 100 == 4) {
+                // PG 가 거래를 만들지 않고 거절했다.
+                return new PgTransaction(null, command.orderId(), PgTransactionStatus.FAILED, "PG 요청 거절 : " + response.body());
+            }
+            return fromJson(response.body()).toTransaction();
+        });
+    }
+
+    @Override
+    public CompletableFuture<Optional<PgTransaction>> findByOrderId(Long orderId) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(properties.baseUrl() + PAYMENTS_PATH + "?orderId=" + orderId))
+                .timeout(Duration.ofMillis(properties.requestTimeoutMs()))
+                .GET()
+                .build();
+        return call("find", request, response -> {
+            if (response.statusCode() == 404) return Optional.empty();
+            if (response.statusCode() / 100 != 2) {
+                throw new CoreException(ErrorType.INTERNAL_ERROR, "PG 조회 실패 : " + response.statusCode());
+            }
+            return Optional.of(fromJson(response.body()).toTransaction());
+        });
+    }
+
+    @Override
+    public void destroy() {
+        retryScheduler.shutdownNow();
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> call(String operation, HttpRequest request, Function<HttpResponse<String>, T> handler) {
+        if (!permits.tryAcquire()) {
+            bulkheadRejectedCounter.increment();
+            return CompletableFuture.failedFuture(new CoreException(ErrorType.SERVICE_UNAVAILABLE, "PG 동시 호출 수를 넘었습니다."));
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            permits.release();
+            circuitRejectedCounter.increment();
+            return CompletableFuture.failedFuture(new CoreException(ErrorType.SERVICE_UNAVAILABLE, "PG circuit 이 열려 있습니다."));
+        }
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<HttpResponse<String>> response = new CompletableFuture<>();
+        send(operation, request, 0, response);
+        return response
+                .thenApply(handler)
+                .whenComplete((result, e) -> {
+                    permits.release();
+                    Timer.builder("pg.client.latency")
+                            .tag("operation", operation)
+                            .tag("result", e == null ? "success" : "failure")
+                            .register(meterRegistry)
+                            .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                });
+    }
+
+    /**
+     * 첫 시도는 call 에서 circuit 을 통과했다. 다시 보낼 때는 circuit 을 다시 확인한다.
+     */
+    private void send(String operation, HttpRequest request, int attempt, CompletableFuture<HttpResponse<String>> result) {
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, e) -> {
+            Throwable failure = e != null ? unwrap(e) : serverError(response);
+            if (failure == null) {
+                circuitBreaker.onSuccess();
+                result.complete(response);
+                return;
+            }
+            circuitBreaker.onFailure();
+            if (attempt >= properties.maxRetries() || !circuitBreaker.tryAcquire()) {
+                result.completeExceptionally(failure);
+                return;
+            }
+            meterRegistry.counter("pg.client.retries", "operation", operation).increment();
+            retryScheduler.schedule(() -> send(operation, request, attempt + 1, result), backoffMillis(attempt), TimeUnit.MILLISECONDS);
+        });
+    }
+
+    /**
+     * full jitter : 0 ~ min(max, base * 2^attempt) 사이에서 고른다. (실패한 요청들이 같은 시점에 다시 몰리지 않도록)
+     */
+    private long backoffMillis(int attempt) {
+        long cap = Math.min(properties.retryMaxDelayMs(), properties.retryBaseDelayMs() << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private Throwable serverError(HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 5) return null;
+        return new CoreException(ErrorType.INTERNAL_ERROR, "PG 서버 오류 : " + response.statusCode());
+    }
+
+    private Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private PgV1Dto.TransactionResponse fromJson(String body) {
+        try {
+            return objectMapper.readValue(body, PgV1Dto.TransactionResponse.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,202 @@
+package com.loopers.infrastructure.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.payment.PgTransactionStatus;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬 실행과 테스트에서 쓰는 PG. JDK HttpServer 로 떠서 별도 프로세스가 필요 없다.
+ *
+ * POST /api/v1/payments : 결제를 PENDING 으로 받는다. 같은 orderId 는 기존 거래를 돌려준다.
+ *                         callback-delay 뒤에 SUCCESS / FAILED 로 바꾸고 callbackUrl 로 알린다.
+ * GET /api/v1/payments?orderId= : 거래를 조회한다. 없으면 404.
+ *
+ * 모든 요청에 latency 만큼 늦게 응답하고, failureRate 비율로 500 을 응답한다. (거래를 만들기 전에 실패한다)
+ * 결과는 declineRate 비율로 FAILED 가 된다. 값은 실행 중에 바꿀 수 있다.
+ */
+@Slf4j
+public class PgStubServer implements AutoCloseable {
+    private static final String PAYMENTS_PATH = "/api/v1/payments";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient callbackClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper;
+    private final ConcurrentHashMap<Long, PgV1Dto.TransactionResponse> transactions = new ConcurrentHashMap<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private volatile long minLatencyMs;
+    private volatile long maxLatencyMs;
+    private volatile double failureRate;
+    private volatile double declineRate;
+    private volatile long callbackDelayMs;
+
+    private PgStubServer(HttpServer server, ObjectMapper objectMapper) {
+        this.server = server;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * port 가 0 이면 빈 port 를 쓴다. (port() 로 확인)
+     */
+    public static PgStubServer start(int port, ObjectMapper objectMapper) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+            PgStubServer stub = new PgStubServer(server, objectMapper);
+            server.setExecutor(stub.executor);
+            server.createContext(PAYMENTS_PATH, stub::handle);
+            server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException("PG stub 서버를 시작할 수 없습니다.", e);
+        }
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    public void setLatency(long minLatencyMs, long maxLatencyMs) {
+        this.minLatencyMs = minLatencyMs;
+        this.maxLatencyMs = Math.max(minLatencyMs, maxLatencyMs);
+    }
+
+    public void setFailureRate(double failureRate) {
+        this.failureRate = failureRate;
+    }
+
+    public void setDeclineRate(double declineRate) {
+        this.declineRate = declineRate;
+    }
+
+    public void setCallbackDelayMs(long callbackDelayMs) {
+        this.callbackDelayMs = callbackDelayMs;
+    }
+
+    /**
+     * 받은 요청 수 (실패를 주입한 요청 포함)
+     */
+    public int requestCount() {
+        return requestCount.get();
+    }
+
+    public void reset() {
+        transactions.clear();
+        requestCount.set(0);
+        setLatency(0, 0);
+        setFailureRate(0);
+        setDeclineRate(0);
+        setCallbackDelayMs(0);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requestCount.incrementAndGet();
+            delay(ThreadLocalRandom.current().nextLong(minLatencyMs, maxLatencyMs + 1));
+            if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+                respond(exchange, 500, "{\"message\":\"PG 오류\"}");
+                return;
+            }
+            switch (exchange.getRequestMethod()) {
+                case "POST" -> accept(exchange);
+                case "GET" -> find(exchange);
+                default -> respond(exchange, 405, "{}");
+            }
+        }
+    }
+
+    private void accept(HttpExchange exchange) throws IOException {
+        PgV1Dto.PaymentRequest request = objectMapper.readValue(exchange.getRequestBody(), PgV1Dto.PaymentRequest.class);
+        if (request.orderId() == null || request.amount() == null || request.amount() <= 0) {
+            respond(exchange, 400, "{\"message\":\"orderId 와 0 보다 큰 amount 가 필요합니다.\"}");
+            return;
+        }
+        PgV1Dto.TransactionResponse created = new PgV1Dto.TransactionResponse(
+                UUID.randomUUID().toString(), request.orderId(), PgTransactionStatus.PENDING, null);
+        PgV1Dto.TransactionResponse transaction = transactions.putIfAbsent(request.orderId(), created);
+        if (transaction == null) {
+            transaction = created;
+            executor.execute(() -> decide(created, request.callbackUrl()));
+        }
+        respond(exchange, 200, objectMapper.writeValueAsString(transaction));
+    }
+
+    private void find(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getQuery();
+        PgV1Dto.TransactionResponse transaction = null;
+        if (query != null && query.startsWith("orderId=")) {
+            transaction = transactions.get(Long.parseLong(query.substring("orderId=".length())));
+        }
+        if (transaction == null) {
+            respond(exchange, 404, "{\"message\":\"거래가 없습니다.\"}");
+            return;
+        }
+        respond(exchange, 200, objectMapper.writeValueAsString(transaction));
+    }
+
+    private void decide(PgV1Dto.TransactionResponse pending, String callbackUrl) {
+        delay(callbackDelayMs);
+        boolean declined = ThreadLocalRandom.current().nextDouble() < declineRate;
+        PgV1Dto.TransactionResponse result = new PgV1Dto.TransactionResponse(
+                pending.transactionKey(),
+                pending.orderId(),
+                declined ? PgTransactionStatus.FAILED : PgTransactionStatus.SUCCESS,
+                declined ? "한도 초과" : null
+        );
+        transactions.put(pending.orderId(), result);
+        if (callbackUrl == null || callbackUrl.isBlank()) return;
+        try {
+            callbackClient.send(
+                    HttpRequest.newBuilder(URI.create(callbackUrl))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(result)))
+                            .build(),
+                    HttpResponse.BodyHandlers.discarding()
+            );
+        } catch (Exception e) {
+            // 가맹점은 조회로 결과를 확인한다.
+            log.warn("PG stub callback 실패 : orderId = {}", pending.orderId(), e);
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void delay(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.loopers.infrastructure.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * pg.stub.enabled 이면 애플리케이션 안에서 PG stub 을 띄운다. (pg.client.base-url 을 stub 주소로 둔다)
+ */
+@Configuration
+@ConditionalOnProperty(name = "pg.stub.enabled", havingValue = "true")
+public class PgStubServerConfig {
+
+    @Bean(destroyMethod = "close")
+    public PgStubServer pgStubServer(
+            ObjectMapper objectMapper,
+            @Value("${pg.stub.port}") int port,
+            @Value("${pg.stub.min-latency-ms:0}") long minLatencyMs,
+            @Value("${pg.stub.max-latency-ms:0}") long maxLatencyMs,
+            @Value("${pg.stub.failure-rate:0}") double failureRate,
+            @Value("${pg.stub.decline-rate:0}") double declineRate,
+            @Value("${pg.stub.callback-delay-ms:0}") long callbackDelayMs
+    ) {
+        PgStubServer stub = PgStubServer.start(port, objectMapper);
+        stub.setLatency(minLatencyMs, maxLatencyMs);
+        stub.setFailureRate(failureRate);
+        stub.setDeclineRate(declineRate);
+        stub.setCallbackDelayMs(callbackDelayMs);
+        return stub;
+    }
+}
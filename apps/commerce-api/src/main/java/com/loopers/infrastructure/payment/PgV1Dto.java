@@ -0,0 +1,19 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.PgTransaction;
+import com.loopers.domain.payment.PgTransactionStatus;
+
+/**
+ * PG API 의 요청 / 응답 본문. callback 본문도 TransactionResponse 와 같다.
+ */
+public class PgV1Dto {
+
+    public record PaymentRequest(Long orderId, Long userId, Long amount, String callbackUrl) {
+    }
+
+    public record TransactionResponse(String transactionKey, Long orderId, PgTransactionStatus status, String reason) {
+        public PgTransaction toTransaction() {
+            return new PgTransaction(transactionKey, orderId, status, reason);
+        }
+    }
+}
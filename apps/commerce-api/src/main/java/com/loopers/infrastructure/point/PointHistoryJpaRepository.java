@@ -0,0 +1,41 @@
+package com.loopers.infrastructure.point;
+
+import com.loopers.domain.point.PointHistory;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface PointHistoryJpaRepository extends JpaRepository<PointHistory, Long> {
+
+    @Query("select coalesce(sum(h.amount), 0L) from PointHistory h where h.userId = :userId and h.compacted = false")
+    long sumUncompactedAmount(@Param("userId") Long userId);
+
+    @Query(
+            value = "select coalesce(sum(amount), 0) from point_history where user_id = :userId and compacted = false for share"
+            , nativeQuery = true
+    )
+    long sumUncompactedAmountForShare(@Param("userId") Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from PointHistory h where h.userId = :userId and h.compacted = false")
+    List<PointHistory> findUncompactedForUpdate(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("update PointHistory h set h.compacted = true, h.updatedAt = :now where h.id in :ids")
+    int markCompacted(@Param("ids") List<Long> ids, @Param("now") ZonedDateTime now);
+
+    @Query("""
+            select h.userId from PointHistory h
+             where h.compacted = false
+             group by h.userId
+            having count(h) >= :threshold
+            """)
+    List<Long> findUserIdsToCompact(@Param("threshold") long threshold, Pageable pageable);
+}
@@ -0,0 +1,18 @@
+package com.loopers.infrastructure.point;
+
+import com.loopers.domain.point.Point;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface PointJpaRepository extends JpaRepository<Point, Long> {
+    Optional<Point> findByUserId(Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Point p where p.userId = :userId")
+    Optional<Point> findByUserIdForUpdate(@Param("userId") Long userId);
+}
@@ -0,0 +1,74 @@
+package com.loopers.infrastructure.point;
+
+import com.loopers.domain.point.Point;
+import com.loopers.domain.point.PointHistory;
+import com.loopers.domain.point.PointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Component
+public class PointRepositoryImpl implements PointRepository {
+    private final PointJpaRepository pointJpaRepository;
+    private final PointHistoryJpaRepository pointHistoryJpaRepository;
+
+    @Override
+    public Point save(Point point) {
+        return pointJpaRepository.save(point);
+    }
+
+    @Override
+    public List<Point> saveAll(List<Point> points) {
+        return pointJpaRepository.saveAll(points);
+    }
+
+    @Override
+    public Optional<Point> findByUserId(Long userId) {
+        return pointJpaRepository.findByUserId(userId);
+    }
+
+    @Override
+    public Optional<Point> findByUserIdForUpdate(Long userId) {
+        return pointJpaRepository.findByUserIdForUpdate(userId);
+    }
+
+    @Override
+    public PointHistory saveHistory(PointHistory pointHistory) {
+        return pointHistoryJpaRepository.save(pointHistory);
+    }
+
+    @Override
+    public List<PointHistory> saveHistories(List<PointHistory> pointHistories) {
+        return pointHistoryJpaRepository.saveAll(pointHistories);
+    }
+
+    @Override
+    public long sumUncompactedAmount(Long userId) {
+        return pointHistoryJpaRepository.sumUncompactedAmount(userId);
+    }
+
+    @Override
+    public long sumUncompactedAmountForShare(Long userId) {
+        return pointHistoryJpaRepository.sumUncompactedAmountForShare(userId);
+    }
+
+    @Override
+    public List<PointHistory> findUncompactedHistoriesForUpdate(Long userId) {
+        return pointHistoryJpaRepository.findUncompactedForUpdate(userId);
+    }
+
+    @Override
+    public int markCompacted(List<Long> historyIds) {
+        return pointHistoryJpaRepository.markCompacted(historyIds, ZonedDateTime.now());
+    }
+
+    @Override
+    public List<Long> findUserIdsToCompact(long threshold, int limit) {
+        return pointHistoryJpaRepository.findUserIdsToCompact(threshold, PageRequest.of(0, limit));
+    }
+}
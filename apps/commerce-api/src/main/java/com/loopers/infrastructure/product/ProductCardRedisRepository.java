@@ -0,0 +1,129 @@
+package com.loopers.infrastructure.product;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.ProductCardRepository;
+import com.loopers.domain.product.ProductSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 상품 목록에 쓰는 카드(ProductSummary) 캐시. MGET 한 번으로 읽고, 없는 것만 DB 에서 읽어서 pipeline 으로 저장한다.
+ * 카드의 좋아요 수는 오래될 수 있으므로 랭킹 score 의 값으로 덮어써서 쓴다.
+ */
+@Slf4j
+@Component
+public class ProductCardRedisRepository implements ProductCardRepository {
+    private static final String CARD_KEY = "product:card:";
+    private static final Duration CARD_TTL = Duration.ofMinutes(10);
+
+    private final RedisTemplate<String, String> defaultRedisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ProductCardRedisRepository(
+            RedisTemplate<String, String> defaultRedisTemplate,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.defaultRedisTemplate = defaultRedisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.hitCounter = Counter.builder("cache.requests").tag("cache", "product.card").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("cache.requests").tag("cache", "product.card").tag("result", "miss").register(meterRegistry);
+    }
+
+    @Override
+    public Map<Long, ProductSummary> getCards(List<Long> productIds, Function<List<Long>, List<ProductSummary>> loader) {
+        Map<Long, ProductSummary> cards = new HashMap<>();
+        if (productIds.isEmpty()) return cards;
+
+        List<String> cached = multiGet(productIds);
+        List<Long> missedIds = new ArrayList<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            ProductSummary card = parse(cached.get(i));
+            if (card != null) {
+                cards.put(productIds.get(i), card);
+            } else {
+                missedIds.add(productIds.get(i));
+            }
+        }
+        hitCounter.increment(cards.size());
+        missCounter.increment(missedIds.size());
+
+        if (!missedIds.isEmpty()) {
+            List<ProductSummary> loaded = loader.apply(missedIds);
+            loaded.forEach(card -> cards.put(card.id(), card));
+            save(loaded);
+        }
+        return cards;
+    }
+
+    @Override
+    public void evict(Long productId) {
+        try {
+            masterRedisTemplate.delete(CARD_KEY + productId);
+        } catch (Exception e) {
+            log.error("상품 카드 캐시 삭제 실패 : productId = {}", productId, e);
+        }
+    }
+
+    private List<String> multiGet(List<Long> productIds) {
+        List<String> keys = productIds.stream().map(id -> CARD_KEY + id).toList();
+        try {
+            List<String> values = defaultRedisTemplate.opsForValue().multiGet(keys);
+            if (values != null) return values;
+        } catch (Exception e) {
+            log.warn("상품 카드 캐시 조회 실패", e);
+        }
+        return new ArrayList<>(Collections.nCopies(productIds.size(), null));
+    }
+
+    private ProductSummary parse(String value) {
+        if (value == null) return null;
+        try {
+            return objectMapper.readValue(value, ProductSummary.class);
+        } catch (JsonProcessingException e) {
+            log.warn("상품 카드 캐시 역직렬화 실패 : {}", value, e);
+            return null;
+        }
+    }
+
+    private void save(List<ProductSummary> cards) {
+        if (cards.isEmpty()) return;
+        try {
+            Map<String, String> values = new HashMap<>();
+            for (ProductSummary card : cards) {
+                values.put(CARD_KEY + card.id(), objectMapper.writeValueAsString(card));
+            }
+            masterRedisTemplate.executePipelined(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    values.forEach((key, value) -> operations.opsForValue().set(key, value, CARD_TTL));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("상품 카드 캐시 저장 실패", e);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.loopers.infrastructure.product;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.ProductDetail;
+import com.loopers.domain.product.ProductDetailCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 상품 상세 2단 캐시.
+ * - L1 : 노드 로컬 Caffeine. 크기 제한 + 짧은 TTL. 인기 상품은 Redis 왕복 없이 응답한다.
+ * - L2 : Redis. 읽기는 replica 우선 (defaultRedisTemplate), 쓰기/삭제는 master.
+ * 무효화 : L2 를 지우고 pub/sub 으로 모든 노드의 L1 을 지운다. L2 는 user point 캐시처럼 version 을 올려서,
+ * 무효화 전에 DB 에서 읽은 값이 무효화 후에 L2 에 저장되지 않게 한다.
+ * 오래된 값이 보이는 최대 시간 : 무효화 메시지를 놓친 노드는 l1-ttl, 좋아요 수처럼 무효화하지 않는 값은 l1-ttl + l2-ttl.
+ */
+@Slf4j
+@Component
+public class ProductDetailCacheRepositoryImpl implements ProductDetailCacheRepository, MessageListener {
+    static final String INVALIDATION_CHANNEL = "product:detail:invalidate";
+    private static final String DETAIL_KEY = "product:detail:";
+    private static final String VERSION_KEY = "product:detail:version:";
+    private static final Duration VERSION_TTL = Duration.ofHours(1);
+
+    // KEYS[1] = 상세 key, KEYS[2] = version key, ARGV[1] = 읽기 시작 시점 version ('' = 없음), ARGV[2] = 상세, ARGV[3] = ttl(ms)
+    private static final RedisScript<Long> SET_IF_VERSION_UNCHANGED = new DefaultRedisScript<>("""
+            local version = redis.call('GET', KEYS[2])
+            if (version == false and ARGV[1] == '') or version == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> defaultRedisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, ProductDetail> localCache;
+    private final Duration redisTtl;
+
+    private final Counter l1Hit;
+    private final Counter l1Miss;
+    private final Counter l2Hit;
+    private final Counter l2Miss;
+    private final Timer l2Latency;
+
+    public ProductDetailCacheRepositoryImpl(
+            RedisTemplate<String, String> defaultRedisTemplate,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${product.detail-cache.l1-max-size:10000}") long localMaxSize,
+            @Value("${product.detail-cache.l1-ttl-seconds:5}") long localTtlSeconds,
+            @Value("${product.detail-cache.l2-ttl-seconds:60}") long redisTtlSeconds
+    ) {
+        this.defaultRedisTemplate = defaultRedisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.l1Hit = requestCounter(meterRegistry, "product.detail.l1", "hit");
+        this.l1Miss = requestCounter(meterRegistry, "product.detail.l1", "miss");
+        this.l2Hit = requestCounter(meterRegistry, "product.detail.l2", "hit");
+        this.l2Miss = requestCounter(meterRegistry, "product.detail.l2", "miss");
+        this.l2Latency = Timer.builder("cache.latency")
+                .tag("cache", "product.detail.l2")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * L1 은 key 별로 한 번만 적재한다. (Caffeine 의 get 은 같은 key 의 적재가 끝날 때까지 기다린다)
+     * 적재 중에 무효화되면 무효화가 적재 후로 밀리므로, 무효화 전의 값이 L1 에 남지 않는다.
+     */
+    @Override
+    public Optional<ProductDetail> get(Long productId, Supplier<Optional<ProductDetail>> loader) {
+        boolean[] missed = {false};
+        ProductDetail detail = localCache.get(productId, id -> {
+            missed[0] = true;
+            return getFromRedis(id, loader).orElse(null);
+        });
+        (missed[0] ? l1Miss : l1Hit).increment();
+        return Optional.ofNullable(detail);
+    }
+
+    @Override
+    public void evict(Long productId) {
+        String versionKey = VERSION_KEY + productId;
+        try {
+            masterRedisTemplate.opsForValue().increment(versionKey);
+            masterRedisTemplate.expire(versionKey, VERSION_TTL);
+            masterRedisTemplate.delete(DETAIL_KEY + productId);
+            masterRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(productId));
+        } catch (Exception e) {
+            log.error("상품 상세 캐시 삭제 실패 : productId = {}", productId, e);
+        }
+        localCache.invalidate(productId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            localCache.invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("상품 상세 캐시 무효화 메시지를 읽을 수 없습니다 : {}", body);
+        }
+    }
+
+    private Optional<ProductDetail> getFromRedis(Long productId, Supplier<Optional<ProductDetail>> loader) {
+        String key = DETAIL_KEY + productId;
+        String versionKey = VERSION_KEY + productId;
+
+        String cached = l2Latency.record(() -> get(key));
+        if (cached != null) {
+            try {
+                ProductDetail detail = objectMapper.readValue(cached, ProductDetail.class);
+                l2Hit.increment();
+                return Optional.of(detail);
+            } catch (JsonProcessingException e) {
+                log.warn("상품 상세 캐시 역직렬화 실패 : key = {}", key, e);
+            }
+        }
+
+        l2Miss.increment();
+        String version = getFromMaster(versionKey);
+        Optional<ProductDetail> detail = loader.get();
+        detail.ifPresent(d -> {
+            try {
+                masterRedisTemplate.execute(
+                        SET_IF_VERSION_UNCHANGED,
+                        List.of(key, versionKey),
+                        version != null ? version : "",
+                        objectMapper.writeValueAsString(d),
+                        String.valueOf(redisTtl.toMillis())
+                );
+            } catch (Exception e) {
+                log.warn("상품 상세 캐시 저장 실패 : key = {}", key, e);
+            }
+        });
+        return detail;
+    }
+
+    private String get(String key) {
+        try {
+            return defaultRedisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("상품 상세 캐시 조회 실패 : key = {}", key, e);
+            return null;
+        }
+    }
+
+    private String getFromMaster(String key) {
+        try {
+            return masterRedisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("상품 상세 캐시 조회 실패 : key = {}", key, e);
+            return null;
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String cache, String result) {
+        return Counter.builder("cache.requests")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,17 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductSortType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Set;
+
+@ConfigurationProperties(value = "product.list-cache")
+public record ProductListCacheProperties(
+        boolean enabled,
+        long ttlSeconds,
+        Set<ProductSortType> disabledSorts
+) {
+    public boolean isEnabled(ProductSortType sort) {
+        return enabled && (disabledSorts == null || !disabledSorts.contains(sort));
+    }
+}
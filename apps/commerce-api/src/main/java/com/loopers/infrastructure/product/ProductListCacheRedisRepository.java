@@ -0,0 +1,128 @@
+package com.loopers.infrastructure.product;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.ProductListCacheRepository;
+import com.loopers.domain.product.ProductListPage;
+import com.loopers.domain.product.ProductSortType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 상품 목록 페이지 캐시. key 에 목록 범위(브랜드 / 전체)의 version 을 넣는다.
+ * 상품이 바뀌면 그 브랜드와 전체 목록의 version 을 INCR 하고, 이전 version 의 페이지는 TTL 로 사라진다. (SCAN / DEL 하지 않는다)
+ * version 은 커밋 후에 올리므로, 이전 version 으로 저장되는 페이지가 커밋 전의 DB 를 읽었더라도 올린 뒤에는 읽히지 않는다.
+ */
+@Slf4j
+@Component
+public class ProductListCacheRedisRepository implements ProductListCacheRepository {
+    private static final String PAGE_KEY = "product:list:";
+    private static final String VERSION_KEY = "product:list:version:";
+    private static final String ALL_SCOPE = "all";
+    private static final String FIRST_PAGE = "first";
+
+    private final RedisTemplate<String, String> defaultRedisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProductListCacheProperties properties;
+    private final Map<ProductSortType, Counter> hitCounters = new EnumMap<>(ProductSortType.class);
+    private final Map<ProductSortType, Counter> missCounters = new EnumMap<>(ProductSortType.class);
+
+    public ProductListCacheRedisRepository(
+            RedisTemplate<String, String> defaultRedisTemplate,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            ObjectMapper objectMapper,
+            ProductListCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.defaultRedisTemplate = defaultRedisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        for (ProductSortType sort : ProductSortType.values()) {
+            hitCounters.put(sort, requestCounter(meterRegistry, sort, "hit"));
+            missCounters.put(sort, requestCounter(meterRegistry, sort, "miss"));
+        }
+    }
+
+    @Override
+    public ProductListPage getPage(Long brandId, ProductSortType sort, String cursor, int size, Supplier<ProductListPage> loader) {
+        if (!properties.isEnabled(sort)) {
+            return loader.get();
+        }
+
+        String scope = scope(brandId);
+        String version = get(defaultRedisTemplate, VERSION_KEY + scope);
+        String key = PAGE_KEY + scope + ":v" + (version != null ? version : "0") + ":" + sort + ":" + size + ":" + (cursor != null ? cursor : FIRST_PAGE);
+
+        String cached = get(defaultRedisTemplate, key);
+        if (cached != null) {
+            try {
+                ProductListPage page = objectMapper.readValue(cached, ProductListPage.class);
+                hitCounters.get(sort).increment();
+                return page;
+            } catch (JsonProcessingException e) {
+                log.warn("상품 목록 캐시 역직렬화 실패 : key = {}", key, e);
+            }
+        }
+
+        missCounters.get(sort).increment();
+        ProductListPage page = loader.get();
+        try {
+            masterRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(page), Duration.ofSeconds(properties.ttlSeconds()));
+        } catch (Exception e) {
+            log.warn("상품 목록 캐시 저장 실패 : key = {}", key, e);
+        }
+        return page;
+    }
+
+    @Override
+    public void bumpVersion(Long brandId) {
+        try {
+            masterRedisTemplate.executePipelined(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    operations.opsForValue().increment(VERSION_KEY + scope(brandId));
+                    operations.opsForValue().increment(VERSION_KEY + ALL_SCOPE);
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.error("상품 목록 캐시 version 증가 실패 : brandId = {}", brandId, e);
+        }
+    }
+
+    private String scope(Long brandId) {
+        return brandId != null ? "brand:" + brandId : ALL_SCOPE;
+    }
+
+    private String get(RedisTemplate<String, String> redisTemplate, String key) {
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("상품 목록 캐시 조회 실패 : key = {}", key, e);
+            return null;
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, ProductSortType sort, String result) {
+        return Counter.builder("cache.requests")
+                .tag("cache", "product.list")
+                .tag("sort", sort.name())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
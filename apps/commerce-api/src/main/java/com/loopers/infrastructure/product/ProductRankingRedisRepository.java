@@ -0,0 +1,95 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductCursor;
+import com.loopers.domain.product.ProductLikeScore;
+import com.loopers.domain.product.ProductRankingRepository;
+import com.loopers.domain.product.RankedProduct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 좋아요 랭킹 sorted set (전체 / 브랜드별). member 는 productId, score 는 ProductLikeScore.
+ * commerce-streamer 가 좋아요 수를 반영하고, 여기서는 읽기와 새 상품 추가만 한다.
+ * 읽기는 replica 우선 (defaultRedisTemplate), 쓰기는 master (redisTemplateMaster).
+ */
+@Slf4j
+@Component
+public class ProductRankingRedisRepository implements ProductRankingRepository {
+    static final String GLOBAL_KEY = "product:rank:likes";
+    static final String BRAND_KEY_PREFIX = "product:rank:likes:brand:";
+
+    private final RedisTemplate<String, String> defaultRedisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    public ProductRankingRedisRepository(
+            RedisTemplate<String, String> defaultRedisTemplate,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.defaultRedisTemplate = defaultRedisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    /**
+     * score 가 cursor 의 score 보다 작은 것부터 읽는다. score 는 정수라서 "미만" 은 "cursor score - 1 이하" 와 같다.
+     */
+    @Override
+    public Optional<List<RankedProduct>> findLikeRanking(Long brandId, ProductCursor cursor, int limit) {
+        if (cursor != null && !ProductLikeScore.supports(cursor.value(), cursor.id())) {
+            return Optional.empty();
+        }
+
+        String key = key(brandId);
+        double max = cursor != null
+                ? ProductLikeScore.of(cursor.value(), cursor.id()) - 1
+                : Double.POSITIVE_INFINITY;
+        try {
+            Set<ZSetOperations.TypedTuple<String>> tuples = defaultRedisTemplate.opsForZSet()
+                    .reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, max, 0, limit);
+            if (tuples == null || tuples.isEmpty()) {
+                // 키가 없으면 (재생성 전 / 유실) 빈 목록이 아니라 사용 불가로 본다.
+                return Boolean.TRUE.equals(defaultRedisTemplate.hasKey(key)) ? Optional.of(List.of()) : Optional.empty();
+            }
+            return Optional.of(tuples.stream()
+                    .map(tuple -> new RankedProduct(Long.valueOf(tuple.getValue()), ProductLikeScore.likeCountOf(tuple.getScore())))
+                    .toList());
+        } catch (Exception e) {
+            log.warn("좋아요 랭킹 조회 실패 : key = {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void register(Product product) {
+        String member = String.valueOf(product.getId());
+        double score = ProductLikeScore.of(product.getLikeCount(), product.getId());
+        try {
+            masterRedisTemplate.executePipelined(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    operations.opsForZSet().addIfAbsent(GLOBAL_KEY, member, score);
+                    operations.opsForZSet().addIfAbsent(BRAND_KEY_PREFIX + product.getBrandId(), member, score);
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            // 다음 랭킹 재생성 때 추가된다.
+            log.warn("좋아요 랭킹에 상품 추가 실패 : productId = {}", product.getId(), e);
+        }
+    }
+
+    private String key(Long brandId) {
+        return brandId != null ? BRAND_KEY_PREFIX + brandId : GLOBAL_KEY;
+    }
+}
@@ -0,0 +1,103 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductCursor;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductSearchCondition;
+import com.loopers.domain.product.ProductSummary;
+import com.loopers.domain.product.QProduct;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Component
+public class ProductRepositoryImpl implements ProductRepository {
+    private static final QProduct product = QProduct.product;
+
+    private final ProductJpaRepository productJpaRepository;
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Product save(Product product) {
+        return productJpaRepository.save(product);
+    }
+
+    @Override
+    public Optional<Product> findById(Long id) {
+        return productJpaRepository.findById(id);
+    }
+
+    /**
+     * OFFSET 없이 직전 페이지 마지막 (정렬 값, id) 다음부터 읽는다.
+     * 정렬 인덱스를 cursor 위치부터 limit 만큼만 읽으므로 몇 번째 페이지든 비용이 같다.
+     */
+    @Override
+    public List<ProductSummary> findSummaries(ProductSearchCondition condition, int limit) {
+        return queryFactory
+                .select(summary())
+                .from(product)
+                .where(
+                        brandIdEq(condition.brandId()),
+                        product.deletedAt.isNull(),
+                        after(condition.cursor())
+                )
+                .orderBy(orderBy(condition))
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<ProductSummary> findSummariesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        return queryFactory
+                .select(summary())
+                .from(product)
+                .where(product.id.in(ids), product.deletedAt.isNull())
+                .fetch();
+    }
+
+    private static ConstructorExpression<ProductSummary> summary() {
+        return Projections.constructor(ProductSummary.class,
+                product.id,
+                product.brandId,
+                product.name,
+                product.price,
+                product.likeCount,
+                product.createdAt
+        );
+    }
+
+    private BooleanExpression brandIdEq(Long brandId) {
+        return brandId != null ? product.brandId.eq(brandId) : null;
+    }
+
+    private BooleanExpression after(ProductCursor cursor) {
+        if (cursor == null) return null;
+
+        return switch (cursor.sort()) {
+            case LATEST -> product.createdAt.lt(cursor.createdAt())
+                    .or(product.createdAt.eq(cursor.createdAt()).and(product.id.lt(cursor.id())));
+            case PRICE_ASC -> product.price.gt(cursor.value())
+                    .or(product.price.eq(cursor.value()).and(product.id.gt(cursor.id())));
+            case LIKES_DESC -> product.likeCount.lt(cursor.value())
+                    .or(product.likeCount.eq(cursor.value()).and(product.id.lt(cursor.id())));
+        };
+    }
+
+    private OrderSpecifier<?>[] orderBy(ProductSearchCondition condition) {
+        return switch (condition.sort()) {
+            case LATEST -> new OrderSpecifier<?>[]{product.createdAt.desc(), product.id.desc()};
+            case PRICE_ASC -> new OrderSpecifier<?>[]{product.price.asc(), product.id.asc()};
+            case LIKES_DESC -> new OrderSpecifier<?>[]{product.likeCount.desc(), product.id.desc()};
+        };
+    }
+}
@@ -0,0 +1,193 @@
+package com.loopers.infrastructure.stock;
+
+import com.loopers.domain.stock.StockDecrementCombiner;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 상품마다 요청 큐를 두고, 큐에 처음 넣은 요청의 스레드가 leader 가 되어 window 동안 모인 요청을 한 번에 반영한다.
+ * 별도의 스레드 풀 없이 leader 가 자기 요청과 함께 다른 요청도 처리하고, 나머지는 결과를 기다린다.
+ * leader 가 끝났을 때 큐에 남은 요청이 있으면 그 요청의 스레드에 leader 를 넘긴다. (leader 가 계속 남의 요청만 처리하지 않도록)
+ *
+ * 반영은 새 트랜잭션에서 합계를 조건부 update 한 번으로 한다. 재고가 합계보다 적을 때만 row 를 잠그고 도착 순서대로 줄 수 있는 만큼 준다.
+ * 샤딩한 상품(stock.quantity 가 0)에는 쓰지 않는다.
+ */
+@Component
+public class StockDecrementCombinerImpl implements StockDecrementCombiner {
+    private static final String DECREASE_IF_ENOUGH =
+            "update stock set quantity = quantity - ?, updated_at = now(6) where product_id = ? and quantity >= ?";
+    private static final String SELECT_FOR_UPDATE =
+            "select quantity from stock where product_id = ? for update";
+    private static final String DECREASE =
+            "update stock set quantity = quantity - ?, updated_at = now(6) where product_id = ?";
+
+    private final ConcurrentHashMap<Long, Lane> lanes = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final DistributionSummary batchSize;
+
+    public StockDecrementCombinerImpl(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${stock.combiner.window-micros:500}") long windowMicros,
+            @Value("${stock.combiner.max-batch-size:256}") int maxBatchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        this.maxBatchSize = maxBatchSize;
+        this.batchSize = DistributionSummary.builder("stock.combiner.batch.size")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean decrement(Long productId, long quantity) {
+        if (quantity <= 0) throw new CoreException(ErrorType.BAD_REQUEST, "차감할 재고 수량은 0 이하가 될 수 없습니다.");
+        Lane lane = lanes.computeIfAbsent(productId, Lane::new);
+        Request request = new Request(quantity);
+        lane.queue.add(request);
+        if (lane.leading.compareAndSet(false, true)) {
+            lead(lane);
+        }
+
+        while (true) {
+            Outcome outcome = request.await();
+            if (outcome != Outcome.LEAD) return outcome == Outcome.DECREMENTED;
+            request.reset();
+            lead(lane);
+        }
+    }
+
+    private void lead(Lane lane) {
+        if (windowNanos > 0) LockSupport.parkNanos(windowNanos);
+
+        List<Request> batch = new ArrayList<>();
+        for (Request request; batch.size() < maxBatchSize && (request = lane.queue.poll()) != null; ) {
+            batch.add(request);
+        }
+        if (!batch.isEmpty()) {
+            batchSize.record(batch.size());
+            try {
+                apply(lane.productId, batch);
+            } catch (RuntimeException e) {
+                batch.forEach(request -> request.fail(e));
+            }
+        }
+        handOff(lane);
+    }
+
+    /**
+     * leader 를 내려놓고, 그 사이 들어온 요청이 있으면 가장 먼저 들어온 요청의 스레드를 leader 로 깨운다.
+     * 내려놓은 뒤에 큐를 확인하므로, leader 가 될 수 없었던 요청이 큐에 남아서 기다리기만 하는 일은 없다.
+     */
+    private void handOff(Lane lane) {
+        lane.leading.set(false);
+        while (!lane.queue.isEmpty() && lane.leading.compareAndSet(false, true)) {
+            Request next = lane.queue.peek();
+            if (next != null) {
+                next.complete(Outcome.LEAD);
+                return;
+            }
+            lane.leading.set(false);
+        }
+    }
+
+    private void apply(Long productId, List<Request> batch) {
+        long total = batch.stream().mapToLong(request -> request.quantity).sum();
+        List<Outcome> outcomes = transactionTemplate.execute(status -> {
+            if (jdbcTemplate.update(DECREASE_IF_ENOUGH, total, productId, total) > 0) {
+                return batch.stream().map(request -> Outcome.DECREMENTED).toList();
+            }
+
+            List<Long> quantities = jdbcTemplate.queryForList(SELECT_FOR_UPDATE, Long.class, productId);
+            long remaining = quantities.isEmpty() ? 0L : quantities.get(0);
+            long granted = 0L;
+            List<Outcome> result = new ArrayList<>(batch.size());
+            for (Request request : batch) {
+                if (request.quantity <= remaining) {
+                    remaining -= request.quantity;
+                    granted += request.quantity;
+                    result.add(Outcome.DECREMENTED);
+                } else {
+                    result.add(Outcome.OUT_OF_STOCK);
+                }
+            }
+            if (granted > 0) jdbcTemplate.update(DECREASE, granted, productId);
+            return result;
+        });
+
+        // 커밋된 뒤에 결과를 알린다.
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).complete(outcomes.get(i));
+        }
+    }
+
+    private enum Outcome {
+        DECREMENTED, OUT_OF_STOCK, LEAD
+    }
+
+    private static final class Lane {
+        private final Long productId;
+        private final Queue<Request> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean leading = new AtomicBoolean(false);
+
+        private Lane(Long productId) {
+            this.productId = productId;
+        }
+    }
+
+    private static final class Request {
+        private final long quantity;
+        private volatile CompletableFuture<Outcome> future = new CompletableFuture<>();
+
+        private Request(long quantity) {
+            this.quantity = quantity;
+        }
+
+        private Outcome await() {
+            try {
+                return future.join();
+            } catch (RuntimeException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        /**
+         * LEAD 를 받은 스레드만 호출한다. (그 뒤로는 자기가 leader 라서 다른 스레드가 이 요청을 완료하지 않는다)
+         */
+        private void reset() {
+            future = new CompletableFuture<>();
+        }
+
+        private void complete(Outcome outcome) {
+            future.complete(outcome);
+        }
+
+        private void fail(RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+    }
+}
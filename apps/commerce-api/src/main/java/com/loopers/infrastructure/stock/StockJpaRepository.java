@@ -0,0 +1,28 @@
+package com.loopers.infrastructure.stock;
+
+import com.loopers.domain.stock.Stock;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StockJpaRepository extends JpaRepository<Stock, Long> {
+    Optional<Stock> findByProductId(Long productId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Stock s where s.productId = :productId")
+    Optional<Stock> findByProductIdForUpdate(@Param("productId") Long productId);
+
+    List<Stock> findAllByProductIdIn(Collection<Long> productIds);
+
+    /**
+     * 엔티티를 읽지 않는다. (같은 트랜잭션에서 이후 잠그고 읽을 때 영속성 컨텍스트의 이전 값이 쓰이지 않도록)
+     */
+    @Query("select s.productId, s.shardCount from Stock s where s.productId in :productIds")
+    List<Object[]> findShardCounts(@Param("productIds") Collection<Long> productIds);
+}
@@ -0,0 +1,20 @@
+package com.loopers.infrastructure.stock;
+
+import com.loopers.domain.stock.StockOperationLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface StockOperationLogJpaRepository extends JpaRepository<StockOperationLog, Long> {
+
+    @Query("select l.operationId from StockOperationLog l where l.operationId in :operationIds")
+    List<String> findOperationIds(@Param("operationIds") Collection<String> operationIds);
+
+    @Modifying
+    @Query("delete from StockOperationLog l where l.operationId in :operationIds")
+    int deleteByOperationIds(@Param("operationIds") Collection<String> operationIds);
+}
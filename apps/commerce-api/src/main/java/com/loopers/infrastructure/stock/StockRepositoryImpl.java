@@ -0,0 +1,151 @@
+package com.loopers.infrastructure.stock;
+
+import com.loopers.domain.stock.Stock;
+import com.loopers.domain.stock.StockOperationLog;
+import com.loopers.domain.stock.StockRepository;
+import com.loopers.domain.stock.StockShard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Component
+public class StockRepositoryImpl implements StockRepository {
+    private static final String APPLY_DELTA =
+            "update stock set quantity = quantity + ?, updated_at = now(6) where product_id = ?";
+    // product_id 유니크 인덱스를 오름차순으로 읽으며 잠근다. 엔티티로 읽지 않아서 이후 JDBC 로 차감해도 영속성 컨텍스트에 이전 값이 남지 않는다.
+    private static final String FIND_QUANTITIES_FOR_UPDATE =
+            "select product_id, quantity from stock where product_id in (:productIds) order by product_id for update";
+
+    private final StockJpaRepository stockJpaRepository;
+    private final StockShardJpaRepository stockShardJpaRepository;
+    private final StockOperationLogJpaRepository stockOperationLogJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public Stock save(Stock stock) {
+        return stockJpaRepository.save(stock);
+    }
+
+    @Override
+    public Optional<Stock> findByProductId(Long productId) {
+        return stockJpaRepository.findByProductId(productId);
+    }
+
+    @Override
+    public Optional<Stock> findByProductIdForUpdate(Long productId) {
+        return stockJpaRepository.findByProductIdForUpdate(productId);
+    }
+
+    /**
+     * 샤딩한 상품은 shard 들의 합이다.
+     */
+    @Override
+    public Map<Long, Long> findQuantities(Collection<Long> productIds) {
+        if (productIds.isEmpty()) return Map.of();
+        List<Stock> stocks = stockJpaRepository.findAllByProductIdIn(productIds);
+        Map<Long, Long> quantities = stocks.stream()
+                .collect(Collectors.toMap(Stock::getProductId, Stock::getQuantity));
+
+        List<Long> shardedIds = stocks.stream().filter(Stock::isSharded).map(Stock::getProductId).toList();
+        if (!shardedIds.isEmpty()) {
+            stockShardJpaRepository.findAllByProductIdIn(shardedIds)
+                    .forEach(shard -> quantities.merge(shard.getProductId(), shard.getQuantity(), Long::sum));
+        }
+        return quantities;
+    }
+
+    @Override
+    public Map<Long, Long> findQuantitiesForUpdate(Collection<Long> productIds) {
+        if (productIds.isEmpty()) return Map.of();
+        Map<Long, Long> quantities = new HashMap<>();
+        namedParameterJdbcTemplate.query(FIND_QUANTITIES_FOR_UPDATE, new MapSqlParameterSource("productIds", productIds), rs -> {
+            quantities.put(rs.getLong("product_id"), rs.getLong("quantity"));
+        });
+        return quantities;
+    }
+
+    @Override
+    public Map<Long, Integer> findShardCounts(Collection<Long> productIds) {
+        if (productIds.isEmpty()) return Map.of();
+        return stockJpaRepository.findShardCounts(productIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Integer) row[1]));
+    }
+
+    @Override
+    public List<StockShard> findShards(Long productId) {
+        return stockShardJpaRepository.findAllByProductIdOrderByShardNo(productId);
+    }
+
+    @Override
+    public List<StockShard> findShardsForUpdate(Long productId) {
+        return stockShardJpaRepository.findAllByProductIdForUpdate(productId);
+    }
+
+    @Override
+    public boolean decreaseShard(Long productId, int shardNo, long quantity) {
+        return stockShardJpaRepository.decrease(productId, shardNo, quantity) > 0;
+    }
+
+    @Override
+    public void increaseShard(Long productId, int shardNo, long quantity) {
+        stockShardJpaRepository.increase(productId, shardNo, quantity);
+    }
+
+    @Override
+    public void saveShards(List<StockShard> shards) {
+        stockShardJpaRepository.saveAll(shards);
+    }
+
+    @Override
+    public void deleteShards(Long productId) {
+        stockShardJpaRepository.deleteByProductId(productId);
+    }
+
+    @Override
+    public List<Long> findUnevenShardedProductIds(double minRatio, int limit) {
+        return stockShardJpaRepository.findUnevenProductIds(minRatio, PageRequest.of(0, limit));
+    }
+
+    /**
+     * product_id 순으로 정렬해서 갱신한다. (여러 reconciler 가 동시에 반영해도 같은 순서로 잠근다)
+     * rewriteBatchedStatements 로 한 번의 왕복이 된다.
+     */
+    @Override
+    public void applyDeltas(Map<Long, Long> deltas) {
+        jdbcTemplate.batchUpdate(APPLY_DELTA, deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList());
+    }
+
+    @Override
+    public Set<String> findAppliedOperationIds(Collection<String> operationIds) {
+        if (operationIds.isEmpty()) return Set.of();
+        return new HashSet<>(stockOperationLogJpaRepository.findOperationIds(operationIds));
+    }
+
+    @Override
+    public void saveOperationLogs(List<StockOperationLog> logs) {
+        stockOperationLogJpaRepository.saveAll(logs);
+    }
+
+    @Override
+    public void deleteOperationLogs(Collection<String> operationIds) {
+        if (operationIds.isEmpty()) return;
+        stockOperationLogJpaRepository.deleteByOperationIds(operationIds);
+    }
+}
@@ -0,0 +1,174 @@
+package com.loopers.infrastructure.stock;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.stock.StockReservationRepository;
+import com.loopers.domain.stock.StockReserveResult;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상품별 재고 (stock:{productId}) 와 예약 (stock:reservation:{reservationId}, productId → 수량 hash).
+ * 예약 / 취소는 script 하나로 재고 변경, 예약 기록, stream (stock:ops) 적재를 함께 하므로 일부만 반영되는 일이 없다.
+ * 확정 / 취소되지 않은 예약은 stock:reservation:open (score = 예약 시각(ms)) 에도 남겨서 오래된 예약을 찾을 수 있게 한다.
+ * 재고의 기준이라 읽기/쓰기 모두 master 에 한다. 재고 key 는 만료시키지 않는다. (DB 보다 앞서 있을 수 있어서 다시 적재할 수 없다)
+ */
+@Component
+public class StockReservationRedisRepository implements StockReservationRepository {
+    private static final String STOCK_KEY = "stock:";
+    private static final String RESERVATION_KEY = "stock:reservation:";
+    private static final String OPEN_RESERVATIONS_KEY = "stock:reservation:open";
+
+    // KEYS[1] = 예약, KEYS[2] = stream, KEYS[3] = 열린 예약, KEYS[4..] = 재고, ARGV[1] = reservationId, ARGV[2] = 예약 ttl(ms), ARGV[2j+1], ARGV[2j+2] = j 번째 productId, 수량
+    // 0 : 예약함 (같은 예약이 이미 있으면 다시 차감하지 않는다), productId : 재고 부족, -productId : 적재되지 않음
+    private static final RedisScript<Long> RESERVE = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            local count = #KEYS - 3
+            for j = 1, count do
+                local stock = redis.call('GET', KEYS[j + 3])
+                if not stock then
+                    return -tonumber(ARGV[2 * j + 1])
+                end
+                if tonumber(stock) < tonumber(ARGV[2 * j + 2]) then
+                    return tonumber(ARGV[2 * j + 1])
+                end
+            end
+            local deltas = {}
+            for j = 1, count do
+                redis.call('DECRBY', KEYS[j + 3], ARGV[2 * j + 2])
+                redis.call('HSET', KEYS[1], ARGV[2 * j + 1], ARGV[2 * j + 2])
+                deltas[j] = ARGV[2 * j + 1] .. ':-' .. ARGV[2 * j + 2]
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            local time = redis.call('TIME')
+            redis.call('ZADD', KEYS[3], time[1] * 1000 + math.floor(time[2] / 1000), ARGV[1])
+            redis.call('XADD', KEYS[2], '*', 'reservationId', ARGV[1], 'deltas', table.concat(deltas, ','))
+            return 0
+            """, Long.class);
+
+    // KEYS[1] = 예약, KEYS[2] = stream, KEYS[3] = 열린 예약, KEYS[4..] = 재고, ARGV[1] = reservationId, ARGV[j + 1] = j 번째 productId
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            redis.call('ZREM', KEYS[3], ARGV[1])
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            local deltas = {}
+            for j = 1, #KEYS - 3 do
+                local quantity = redis.call('HGET', KEYS[1], ARGV[j + 1])
+                if quantity then
+                    redis.call('INCRBY', KEYS[j + 3], quantity)
+                    deltas[#deltas + 1] = ARGV[j + 1] .. ':' .. quantity
+                end
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('XADD', KEYS[2], '*', 'reservationId', ARGV[1], 'deltas', table.concat(deltas, ','))
+            return 1
+            """, Long.class);
+
+    // KEYS[1] = 예약, KEYS[2] = 열린 예약, ARGV[1] = reservationId
+    private static final RedisScript<Long> CONFIRM = new DefaultRedisScript<>("""
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final Duration reservationTtl;
+
+    public StockReservationRedisRepository(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            @Value("${stock.reservation.ttl-minutes:1440}") long reservationTtlMinutes
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.reservationTtl = Duration.ofMinutes(reservationTtlMinutes);
+    }
+
+    @Override
+    public StockReserveResult reserve(String reservationId, Map<Long, Long> quantities) {
+        List<String> keys = new ArrayList<>(quantities.size() + 3);
+        List<String> args = new ArrayList<>(quantities.size() * 2 + 2);
+        keys.add(RESERVATION_KEY + reservationId);
+        keys.add(StockOperationRedisStream.STREAM_KEY);
+        keys.add(OPEN_RESERVATIONS_KEY);
+        args.add(reservationId);
+        args.add(String.valueOf(reservationTtl.toMillis()));
+        quantities.forEach((productId, quantity) -> {
+            keys.add(STOCK_KEY + productId);
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(quantity));
+        });
+
+        Long result = masterRedisTemplate.execute(RESERVE, keys, args.toArray());
+        if (result == null || result == 0) return StockReserveResult.reserved();
+        if (result < 0) return new StockReserveResult(StockReserveResult.Status.NOT_LOADED, -result);
+        return new StockReserveResult(StockReserveResult.Status.INSUFFICIENT, result);
+    }
+
+    @Override
+    public boolean release(String reservationId) {
+        String reservationKey = RESERVATION_KEY + reservationId;
+        List<String> productIds = masterRedisTemplate.<String, String>opsForHash().keys(reservationKey).stream().toList();
+        if (productIds.isEmpty()) {
+            // 이미 확정 / 취소되었거나 기록이 만료된 예약
+            masterRedisTemplate.opsForZSet().remove(OPEN_RESERVATIONS_KEY, reservationId);
+            return false;
+        }
+
+        List<String> keys = new ArrayList<>(productIds.size() + 3);
+        List<String> args = new ArrayList<>(productIds.size() + 1);
+        keys.add(reservationKey);
+        keys.add(StockOperationRedisStream.STREAM_KEY);
+        keys.add(OPEN_RESERVATIONS_KEY);
+        args.add(reservationId);
+        productIds.forEach(productId -> {
+            keys.add(STOCK_KEY + productId);
+            args.add(productId);
+        });
+        Long result = masterRedisTemplate.execute(RELEASE, keys, args.toArray());
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public void confirm(String reservationId) {
+        masterRedisTemplate.execute(CONFIRM, List.of(RESERVATION_KEY + reservationId, OPEN_RESERVATIONS_KEY), reservationId);
+    }
+
+    @Override
+    public List<String> findOpenReservations(Duration minAge, int limit) {
+        long reservedBefore = System.currentTimeMillis() - minAge.toMillis();
+        Set<String> reservationIds = masterRedisTemplate.opsForZSet()
+                .rangeByScore(OPEN_RESERVATIONS_KEY, 0, reservedBefore, 0, limit);
+        return reservationIds != null ? List.copyOf(reservationIds) : List.of();
+    }
+
+    @Override
+    public void loadIfAbsent(Map<Long, Long> quantities) {
+        masterRedisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                quantities.forEach((productId, quantity) ->
+                        operations.opsForValue().setIfAbsent(STOCK_KEY + productId, String.valueOf(quantity)));
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Long getQuantity(Long productId) {
+        String quantity = masterRedisTemplate.opsForValue().get(STOCK_KEY + productId);
+        return quantity != null ? Long.valueOf(quantity) : null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.loopers.infrastructure.stock;
+
+import com.loopers.domain.stock.StockShard;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface StockShardJpaRepository extends JpaRepository<StockShard, Long> {
+
+    List<StockShard> findAllByProductIdOrderByShardNo(Long productId);
+
+    List<StockShard> findAllByProductIdIn(Collection<Long> productIds);
+
+    /**
+     * shard_no 순으로 잠가서 여러 트랜잭션이 같은 순서로 잠그게 한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from StockShard s where s.productId = :productId order by s.shardNo")
+    List<StockShard> findAllByProductIdForUpdate(@Param("productId") Long productId);
+
+    /**
+     * 조건을 만족하지 않으면 0 을 반환한다. (native query 라서 updated_at 을 직접 넣는다)
+     */
+    @Modifying
+    @Query(
+            value = "update stock_shard set quantity = quantity - :quantity, updated_at = now(6) where product_id = :productId and shard_no = :shardNo and quantity >= :quantity"
+            , nativeQuery = true
+    )
+    int decrease(@Param("productId") Long productId, @Param("shardNo") int shardNo, @Param("quantity") long quantity);
+
+    @Modifying
+    @Query(
+            value = "update stock_shard set quantity = quantity + :quantity, updated_at = now(6) where product_id = :productId and shard_no = :shardNo"
+            , nativeQuery = true
+    )
+    int increase(@Param("productId") Long productId, @Param("shardNo") int shardNo, @Param("quantity") long quantity);
+
+    @Modifying
+    @Query("delete from StockShard s where s.productId = :productId")
+    int deleteByProductId(@Param("productId") Long productId);
+
+    @Query("""
+            select s.productId from StockShard s
+             group by s.productId
+            having min(s.quantity) < avg(s.quantity) * :minRatio
+            """)
+    List<Long> findUnevenProductIds(@Param("minRatio") double minRatio, Pageable pageable);
+}
@@ -0,0 +1,197 @@
+package com.loopers.infrastructure.user;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.support.bloom.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 존재하는 loginId 의 Bloom filter.
+ * mightExist 가 false 이면 DB 를 조회하지 않고 바로 없는 User 로 처리한다.
+ *
+ * - 기동 시 user 테이블을 streaming 으로 읽어서 만든다. 만들기 전에는 모두 DB 로 보낸다.
+ * - 이 노드의 가입은 insert 직후 바로 반영한다.
+ * - 다른 노드의 가입은 sync 가 created_at 기준으로 주기적으로 반영한다. (sync 주기만큼 늦게 반영될 수 있다)
+ *   트랜잭션이 created_at 보다 늦게 커밋되는 경우를 위해 syncOverlapSeconds 만큼 겹쳐서 다시 읽는다.
+ * - sync 전까지 다른 노드의 가입을 없는 User 로 보지 않도록, 가입은 insert 전에 Redis 의 최근 가입 목록
+ *   (user:login-id:recent, score = 가입 시각) 에도 기록한다. filter 에 없으면 이 목록을 한 번 더 보고, 있으면 DB 로 보낸다.
+ *   목록은 recentSignupRetentionSeconds 동안만 남기고, 그보다 오래 sync 하지 못한 노드는 filter 를 쓰지 않는다.
+ * - 최근 가입 목록에 기록하지 못해도 가입은 진행한다. 대신 이 노드는 recentSignupRetentionSeconds 동안 filter 를 쓰지 않는다.
+ *   (Redis 장애 중에는 다른 노드도 목록 조회에 실패해서 DB 로 보낸다. 목록 조회만 되살아난 사이의 가입은 sync 주기만큼 늦게 보일 수 있다)
+ * - 넣은 loginId 가 filter 를 만들 때의 expectedInsertions 를 넘으면 오탐률이 올라가므로, sync 에서 더 크게 다시 만든다.
+ */
+@Slf4j
+@Component
+public class LoginIdBloomFilter {
+    private static final String RECENT_SIGNUP_KEY = "user:login-id:recent";
+
+    private final UserJpaRepository userJpaRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final LoginIdFilterProperties properties;
+    private final Counter shortCircuited;
+    private final Counter passed;
+    private final Counter recentSignup;
+
+    private volatile BloomFilter filter;
+    private volatile ZonedDateTime lastSyncedAt;
+    private volatile long bypassUntilMillis;
+
+    public LoginIdBloomFilter(
+            UserJpaRepository userJpaRepository,
+            PlatformTransactionManager transactionManager,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            LoginIdFilterProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.userJpaRepository = userJpaRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.properties = properties;
+        this.shortCircuited = Counter.builder("user.login_id_filter.checks")
+                .tag("result", "short_circuit")
+                .register(meterRegistry);
+        this.passed = Counter.builder("user.login_id_filter.checks")
+                .tag("result", "pass")
+                .register(meterRegistry);
+        this.recentSignup = Counter.builder("user.login_id_filter.checks")
+                .tag("result", "recent_signup")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!properties.enabled()) return;
+
+        ZonedDateTime startedAt = ZonedDateTime.now();
+        long userCount = userJpaRepository.count();
+        BloomFilter newFilter = BloomFilter.create(
+                Math.max(properties.expectedInsertions(), userCount * 2),
+                properties.falsePositiveRate()
+        );
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (Stream<String> loginIds = userJpaRepository.streamAllLoginIds()) {
+                loginIds.forEach(newFilter::put);
+            }
+        });
+
+        this.lastSyncedAt = startedAt;
+        this.filter = newFilter;
+        log.info("loginId Bloom filter 생성 완료 : users = {}, bits = {}, hashes = {}",
+                userCount, newFilter.bitSize(), newFilter.hashCount());
+    }
+
+    @Scheduled(fixedDelayString = "${user.login-id-filter.sync-fixed-delay-ms:1000}")
+    public void sync() {
+        BloomFilter current = filter;
+        if (current == null) return;
+
+        ZonedDateTime startedAt = ZonedDateTime.now();
+        userJpaRepository.findLoginIdsCreatedSince(lastSyncedAt.minusSeconds(properties.syncOverlapSeconds()))
+                .forEach(current::put);
+        lastSyncedAt = startedAt;
+
+        if (current.approximateInsertions() > current.expectedInsertions()) {
+            log.info("loginId Bloom filter 가 예상 크기를 넘어서 다시 만듭니다 : insertions = {}, expected = {}",
+                    current.approximateInsertions(), current.expectedInsertions());
+            rebuild();
+        }
+    }
+
+    public boolean mightExist(String loginId) {
+        return !filterMightExist(List.of(loginId)).isEmpty();
+    }
+
+    /**
+     * 있을 수 있는 loginId 만 남긴다. filter 에 없는 loginId 는 최근 가입 목록을 한 번에 조회해서 확인한다.
+     * Redis 를 조회할 수 없으면 모두 DB 로 보낸다.
+     */
+    public List<String> filterMightExist(Collection<String> loginIds) {
+        BloomFilter current = filter;
+        if (current == null || isStale() || System.currentTimeMillis() < bypassUntilMillis) {
+            passed.increment(loginIds.size());
+            return List.copyOf(loginIds);
+        }
+
+        List<String> candidates = new ArrayList<>();
+        List<String> misses = new ArrayList<>();
+        for (String loginId : loginIds) {
+            (current.mightContain(loginId) ? candidates : misses).add(loginId);
+        }
+        passed.increment(candidates.size());
+        if (misses.isEmpty()) {
+            return candidates;
+        }
+
+        List<Double> scores;
+        try {
+            scores = masterRedisTemplate.opsForZSet().score(RECENT_SIGNUP_KEY, misses.toArray());
+        } catch (Exception e) {
+            log.warn("최근 가입 목록 조회 실패, DB 로 조회합니다 : loginIds = {}", misses.size(), e);
+            passed.increment(misses.size());
+            candidates.addAll(misses);
+            return candidates;
+        }
+        for (int i = 0; i < misses.size(); i++) {
+            if (scores != null && scores.get(i) != null) {
+                recentSignup.increment();
+                candidates.add(misses.get(i));
+            } else {
+                shortCircuited.increment();
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * insert 전에 호출한다. 다른 노드가 sync 전에도 이 loginId 를 DB 로 조회하게 한다.
+     * 기록하지 못해도 가입은 막지 않고, 이 노드는 최근 가입 목록 보관 시간 동안 filter 를 쓰지 않고 모두 DB 로 보낸다.
+     * (insert 가 실패해서 남은 loginId 는 DB 를 한 번 더 조회하게 할 뿐이다)
+     */
+    public void announce(Collection<String> loginIds) {
+        if (!properties.enabled() || loginIds.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        Duration retention = Duration.ofSeconds(properties.recentSignupRetentionSeconds());
+        try {
+            loginIds.forEach(loginId -> masterRedisTemplate.opsForZSet().add(RECENT_SIGNUP_KEY, loginId, now));
+            masterRedisTemplate.opsForZSet().removeRangeByScore(RECENT_SIGNUP_KEY, 0, now - retention.toMillis());
+            masterRedisTemplate.expire(RECENT_SIGNUP_KEY, retention);
+        } catch (Exception e) {
+            log.warn("최근 가입 목록 기록 실패, {} 초 동안 filter 를 쓰지 않습니다 : loginIds = {}",
+                    retention.toSeconds(), loginIds.size(), e);
+            bypassUntilMillis = now + retention.toMillis();
+        }
+    }
+
+    public void add(String loginId) {
+        BloomFilter current = filter;
+        if (current != null) current.put(loginId);
+    }
+
+    /**
+     * 최근 가입 목록에서 지워진 가입을 sync 로 아직 못 읽었을 수 있으면 filter 를 쓰지 않는다.
+     */
+    private boolean isStale() {
+        ZonedDateTime syncedAt = lastSyncedAt;
+        long coveredSeconds = properties.recentSignupRetentionSeconds() - properties.syncOverlapSeconds();
+        return syncedAt == null || syncedAt.isBefore(ZonedDateTime.now().minusSeconds(coveredSeconds));
+    }
+}
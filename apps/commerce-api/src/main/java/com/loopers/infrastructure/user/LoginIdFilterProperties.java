@@ -0,0 +1,12 @@
+package com.loopers.infrastructure.user;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(value = "user.login-id-filter")
+public record LoginIdFilterProperties(
+        boolean enabled,
+        long expectedInsertions,
+        double falsePositiveRate,
+        long syncOverlapSeconds,
+        long recentSignupRetentionSeconds
+) { }
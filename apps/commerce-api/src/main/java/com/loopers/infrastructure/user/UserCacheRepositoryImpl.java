@@ -0,0 +1,186 @@
+package com.loopers.infrastructure.user;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.user.UserCacheRepository;
+import com.loopers.domain.user.UserProfile;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * User 프로필 / point 잔액 Redis 캐시.
+ * - 프로필 : replica 우선 읽기 (defaultRedisTemplate), 쓰기/삭제는 master (redisTemplateMaster)
+ * - point : 읽기/쓰기 모두 master. replica 복제 지연으로 충전 직후 이전 잔액을 읽지 않게 한다.
+ *   또 삭제할 때마다 version 을 올리고, 캐시 저장은 읽기 시작 시점의 version 이 그대로일 때만 한다.
+ *   그래서 충전 전에 DB 에서 읽은 잔액이 충전 후에 캐시에 저장되는 일이 없다.
+ */
+@Slf4j
+@Component
+public class UserCacheRepositoryImpl implements UserCacheRepository {
+    private static final String PROFILE_KEY = "user:profile:";
+    private static final String POINT_KEY = "user:point:";
+    private static final String POINT_VERSION_KEY = "user:point:version:";
+    private static final Duration PROFILE_TTL = Duration.ofMinutes(30);
+    private static final Duration POINT_TTL = Duration.ofMinutes(10);
+    private static final Duration POINT_VERSION_TTL = Duration.ofHours(1);
+
+    // KEYS[1] = point key, KEYS[2] = version key, ARGV[1] = 읽기 시작 시점 version ('' = 없음), ARGV[2] = point, ARGV[3] = ttl(ms)
+    private static final RedisScript<Long> SET_IF_VERSION_UNCHANGED = new DefaultRedisScript<>("""
+            local version = redis.call('GET', KEYS[2])
+            if (version == false and ARGV[1] == '') or version == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> defaultRedisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Counter profileHit;
+    private final Counter profileMiss;
+    private final Counter pointHit;
+    private final Counter pointMiss;
+    private final Timer profileLatency;
+    private final Timer pointLatency;
+
+    public UserCacheRepositoryImpl(
+            RedisTemplate<String, String> defaultRedisTemplate,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.defaultRedisTemplate = defaultRedisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.profileHit = requestCounter(meterRegistry, "user.profile", "hit");
+        this.profileMiss = requestCounter(meterRegistry, "user.profile", "miss");
+        this.pointHit = requestCounter(meterRegistry, "user.point", "hit");
+        this.pointMiss = requestCounter(meterRegistry, "user.point", "miss");
+        this.profileLatency = latencyTimer(meterRegistry, "user.profile");
+        this.pointLatency = latencyTimer(meterRegistry, "user.point");
+    }
+
+    @Override
+    public Optional<UserProfile> getProfile(String loginId, Supplier<Optional<UserProfile>> loader) {
+        String key = PROFILE_KEY + loginId;
+        String cached = profileLatency.record(() -> get(defaultRedisTemplate, key));
+        if (cached != null) {
+            try {
+                UserProfile profile = objectMapper.readValue(cached, UserProfile.class);
+                profileHit.increment();
+                return Optional.of(profile);
+            } catch (JsonProcessingException e) {
+                log.warn("User 프로필 캐시 역직렬화 실패 : key = {}", key, e);
+            }
+        }
+
+        profileMiss.increment();
+        Optional<UserProfile> profile = loader.get();
+        profile.ifPresent(p -> {
+            try {
+                set(key, objectMapper.writeValueAsString(p), PROFILE_TTL);
+            } catch (JsonProcessingException e) {
+                log.warn("User 프로필 캐시 직렬화 실패 : key = {}", key, e);
+            }
+        });
+        return profile;
+    }
+
+    @Override
+    public void evictProfile(String loginId) {
+        delete(PROFILE_KEY + loginId);
+    }
+
+    @Override
+    public Long getPoint(Long userId, Supplier<Long> loader) {
+        String key = POINT_KEY + userId;
+        String versionKey = POINT_VERSION_KEY + userId;
+
+        String cached = pointLatency.record(() -> get(masterRedisTemplate, key));
+        if (cached != null) {
+            pointHit.increment();
+            return Long.valueOf(cached);
+        }
+
+        pointMiss.increment();
+        String version = get(masterRedisTemplate, versionKey);
+        Long point = loader.get();
+        try {
+            masterRedisTemplate.execute(
+                    SET_IF_VERSION_UNCHANGED,
+                    List.of(key, versionKey),
+                    version != null ? version : "",
+                    String.valueOf(point),
+                    String.valueOf(POINT_TTL.toMillis())
+            );
+        } catch (Exception e) {
+            log.warn("User point 캐시 저장 실패 : key = {}", key, e);
+        }
+        return point;
+    }
+
+    @Override
+    public void evictPoint(Long userId) {
+        String versionKey = POINT_VERSION_KEY + userId;
+        try {
+            masterRedisTemplate.opsForValue().increment(versionKey);
+            masterRedisTemplate.expire(versionKey, POINT_VERSION_TTL);
+            masterRedisTemplate.delete(POINT_KEY + userId);
+        } catch (Exception e) {
+            log.error("User point 캐시 삭제 실패 : userId = {}", userId, e);
+        }
+    }
+
+    private String get(RedisTemplate<String, String> redisTemplate, String key) {
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("User 캐시 조회 실패 : key = {}", key, e);
+            return null;
+        }
+    }
+
+    private void set(String key, String value, Duration ttl) {
+        try {
+            masterRedisTemplate.opsForValue().set(key, value, ttl);
+        } catch (Exception e) {
+            log.warn("User 캐시 저장 실패 : key = {}", key, e);
+        }
+    }
+
+    private void delete(String key) {
+        try {
+            masterRedisTemplate.delete(key);
+        } catch (Exception e) {
+            log.error("User 캐시 삭제 실패 : key = {}", key, e);
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String cache, String result) {
+        return Counter.builder("cache.requests")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Timer latencyTimer(MeterRegistry meterRegistry, String cache) {
+        return Timer.builder("cache.latency")
+                .tag("cache", cache)
+                .register(meterRegistry);
+    }
+}
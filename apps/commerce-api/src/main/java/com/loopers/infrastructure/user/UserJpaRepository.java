@@ -1,10 +1,34 @@
 package com.loopers.infrastructure.user;
 
 import com.loopers.domain.user.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserJpaRepository extends JpaRepository<User,Long> {
     Optional<User> findByLoginId(String loginId);
+
+    List<User> findAllByLoginIdIn(Collection<String> loginIds);
+
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    /**
+     * MySQL 에서 fetch size 를 Integer.MIN_VALUE 로 주면 결과를 한 번에 메모리에 올리지 않고 row 단위로 읽는다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select u.loginId from User u")
+    Stream<String> streamAllLoginIds();
+
+    @Query("select u.loginId from User u where u.createdAt >= :since")
+    List<String> findLoginIdsCreatedSince(@Param("since") ZonedDateTime since);
 }
@@ -2,24 +2,87 @@ package com.loopers.infrastructure.user;
 
 import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
 @Component
 public class UserRepositoryImpl implements UserRepository {
     private final UserJpaRepository userJpaRepository;
+    private final LoginIdBloomFilter loginIdBloomFilter;
 
+    /**
+     * 존재 여부를 먼저 조회하지 않고 바로 insert 한다.
+     * login_id / email unique 제약 위반은 CONFLICT 로 변환한다. (동시 가입도 DB 가 하나만 통과시킨다)
+     */
     @Override
     public Optional<User> save(User user) {
-        User savedUser = userJpaRepository.save(user);
-        return Optional.of(savedUser);
+        loginIdBloomFilter.announce(List.of(user.getLoginId()));
+        try {
+            User savedUser = userJpaRepository.save(user);
+            loginIdBloomFilter.add(savedUser.getLoginId());
+            return Optional.of(savedUser);
+        } catch (DataIntegrityViolationException e) {
+            throw toConflict(e);
+        }
     }
 
+    /**
+     * 한 트랜잭션에서 여러 User 를 저장하고 flush 까지 한다.
+     * 하나라도 unique 제약을 위반하면 CONFLICT 이고, 트랜잭션 전체가 rollback 된다.
+     */
+    @Override
+    public List<User> saveAll(List<User> users) {
+        loginIdBloomFilter.announce(users.stream().map(User::getLoginId).toList());
+        try {
+            List<User> savedUsers = userJpaRepository.saveAll(users);
+            userJpaRepository.flush();
+            savedUsers.forEach(user -> loginIdBloomFilter.add(user.getLoginId()));
+            return savedUsers;
+        } catch (DataIntegrityViolationException e) {
+            throw toConflict(e);
+        }
+    }
+
+    /**
+     * Bloom filter 와 최근 가입 목록에 모두 없는 loginId 는 DB 를 조회하지 않는다.
+     */
     @Override
     public Optional<User> findByLoginId(String loginId) {
+        if (!loginIdBloomFilter.mightExist(loginId)) {
+            return Optional.empty();
+        }
         return userJpaRepository.findByLoginId(loginId);
     }
+
+    @Override
+    public List<User> findAllByLoginIds(Collection<String> loginIds) {
+        List<String> candidates = loginIdBloomFilter.filterMightExist(loginIds);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        return userJpaRepository.findAllByLoginIdIn(candidates);
+    }
+
+    @Override
+    public List<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return List.of();
+        }
+        return userJpaRepository.findEmailsIn(emails);
+    }
+
+    private CoreException toConflict(DataIntegrityViolationException e) {
+        String message = e.getMessage() != null && e.getMessage().contains(User.UK_EMAIL)
+                ? User.EMAIL_CONFLICT_MESSAGE
+                : User.LOGIN_ID_CONFLICT_MESSAGE;
+        return new CoreException(ErrorType.CONFLICT, message);
+    }
 }
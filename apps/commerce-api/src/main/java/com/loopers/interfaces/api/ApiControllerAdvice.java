@@ -5,7 +5,11 @@ import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import com.loopers.support.log.LogSampler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
@@ -16,6 +20,8 @@ import org.springframework.web.server.ServerWebInputException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -23,9 +29,36 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 @Slf4j
 public class ApiControllerAdvice {
+    private final Map<ErrorType, Counter> errorCounters = new EnumMap<>(ErrorType.class);
+    private final Map<ErrorType, LogSampler> logSamplers = new EnumMap<>(ErrorType.class);
+
+    public ApiControllerAdvice(
+            MeterRegistry meterRegistry,
+            @Value("${api.error-log.permits-per-second:10}") int permitsPerSecond
+    ) {
+        for (ErrorType errorType : ErrorType.values()) {
+            errorCounters.put(errorType, Counter.builder("api.errors")
+                    .tag("error_type", errorType.name())
+                    .register(meterRegistry));
+            logSamplers.put(errorType, new LogSampler(permitsPerSecond));
+        }
+    }
+
+    /**
+     * 예상된 ErrorType 은 stack trace 없이, ErrorType 별로 초당 일정 수만 로그를 남긴다.
+     * 전체 발생 수는 api.errors 카운터로 확인한다.
+     */
     @ExceptionHandler
     public ResponseEntity<ApiResponse<?>> handle(CoreException e) {
-        log.warn("CoreException : {}", e.getCustomMessage() != null ? e.getCustomMessage() : e.getMessage(), e);
+        String message = e.getCustomMessage() != null ? e.getCustomMessage() : e.getMessage();
+        if (!e.getErrorType().isExpected()) {
+            log.warn("CoreException : {}", message, e);
+        } else {
+            long suppressedCount = logSamplers.get(e.getErrorType()).tryAcquire();
+            if (suppressedCount != LogSampler.DENIED) {
+                log.warn("CoreException [{}] : {} (suppressed since last log : {})", e.getErrorType(), message, suppressedCount);
+            }
+        }
         return failureResponse(e.getErrorType(), e.getCustomMessage());
     }
 
@@ -120,6 +153,7 @@ public class ApiControllerAdvice {
     }
 
     private ResponseEntity<ApiResponse<?>> failureResponse(ErrorType errorType, String errorMessage) {
+        errorCounters.get(errorType).increment();
         return ResponseEntity.status(errorType.getStatus())
             .body(ApiResponse.fail(errorType.getCode(), errorMessage != null ? errorMessage : errorType.getMessage()));
     }
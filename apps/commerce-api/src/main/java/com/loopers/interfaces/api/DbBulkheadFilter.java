@@ -0,0 +1,97 @@
+package com.loopers.interfaces.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /api 요청의 동시 실행 수를 DB 커넥션 풀 크기로 제한한다.
+ * virtual thread 모드에서는 요청 스레드 수에 상한이 없어서, 제한하지 않으면 풀 크기를 넘는 요청이 모두
+ * Hikari connection-timeout 까지 커넥션을 기다리다 실패한다.
+ * 이 필터에서는 Semaphore 로 기다리므로 (virtual thread 는 carrier 를 놓고 대기) 대기 비용이 작고,
+ * max-wait 안에 자리가 나지 않으면 커넥션을 기다리지 않고 바로 503 으로 응답한다.
+ * 거절한 요청은 아무것도 처리하지 않았으므로 IdempotencyKeyFilter 가 같은 키로 다시 처리할 수 있게 표시한다.
+ */
+@ConditionalOnProperty(name = "api.bulkhead.enabled", havingValue = "true")
+@Component
+public class DbBulkheadFilter extends OncePerRequestFilter {
+    private static final String API_PATH_PREFIX = "/api/";
+
+    private final Semaphore permits;
+    private final long maxWaitMillis;
+    private final ObjectMapper objectMapper;
+    private final Counter rejectedCounter;
+    private final Timer waitTimer;
+
+    public DbBulkheadFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${api.bulkhead.max-concurrent:${datasource.mysql-jpa.main.maximum-pool-size}}") int maxConcurrent,
+            @Value("${api.bulkhead.max-wait-ms:200}") long maxWaitMillis
+    ) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxWaitMillis = maxWaitMillis;
+        this.objectMapper = objectMapper;
+        this.rejectedCounter = Counter.builder("api.bulkhead.rejected").register(meterRegistry);
+        this.waitTimer = Timer.builder("api.bulkhead.wait").register(meterRegistry);
+        Gauge.builder("api.bulkhead.available", permits, Semaphore::availablePermits).register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(API_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!acquire()) {
+            rejectedCounter.increment();
+            request.setAttribute(IdempotencyKeyFilter.NOT_EXECUTED_ATTRIBUTE, true);
+            reject(response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean acquire() {
+        long startedAt = System.nanoTime();
+        try {
+            return permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        ErrorType errorType = ErrorType.SERVICE_UNAVAILABLE;
+        response.setStatus(errorType.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.fail(errorType.getCode(), errorType.getMessage()));
+    }
+}
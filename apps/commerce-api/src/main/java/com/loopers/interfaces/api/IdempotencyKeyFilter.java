@@ -0,0 +1,271 @@
+package com.loopers.interfaces.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.idempotency.IdempotencyRecord;
+import com.loopers.domain.idempotency.IdempotencyRepository;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Idempotency-Key 헤더가 있는 POST 요청(api.idempotency.paths)을 한 번만 처리한다.
+ * - 처음 요청 : Redis 에 처리 중으로 기록하고 처리한 뒤, 응답(상태 코드 + ApiResponse 본문)을 ttl 동안 저장한다.
+ * - 완료된 키로 다시 요청 : 처리하지 않고 저장한 응답을 그대로 돌려준다. (Idempotent-Replayed: true)
+ * - 처리 중인 키로 동시에 요청 : wait-ms 동안 완료를 기다리고, 그래도 처리 중이면 409 로 응답한다.
+ * - 같은 키로 다른 요청(경로, 쿼리, 본문이 다름) : 400
+ * 5xx 응답과 처리 중 예외도 저장한다. (커밋한 뒤에 실패했을 수 있어서, 다시 처리하면 두 번 반영될 수 있다)
+ * 처리를 시작하기 전에 거절된 요청 (NOT_EXECUTED_ATTRIBUTE, 예: DB 벌크헤드의 503) 만 키를 풀어서 재시도가 다시 처리되게 한다.
+ * Redis 를 쓸 수 없으면 키 없이 처리한다. (멱등성보다 가용성을 우선한다)
+ * 키는 경로와 X-USER-ID 별로 나뉜다. DB 벌크헤드보다 먼저 실행해서, 재전송된 요청이 DB 자리를 차지하지 않게 한다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "api.idempotency.enabled", havingValue = "true")
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@Component
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    /**
+     * 아무것도 처리하지 않고 거절한 필터가 표시한다.
+     */
+    static final String NOT_EXECUTED_ATTRIBUTE = IdempotencyKeyFilter.class.getName() + ".NOT_EXECUTED";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<String> paths;
+    private final Duration inFlightTtl;
+    private final Duration ttl;
+    private final long waitMillis;
+    private final long pollIntervalMillis;
+
+    public IdempotencyKeyFilter(
+            IdempotencyRepository idempotencyRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${api.idempotency.paths}") List<String> paths,
+            @Value("${api.idempotency.in-flight-ttl-ms:30000}") long inFlightTtlMillis,
+            @Value("${api.idempotency.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${api.idempotency.wait-ms:1000}") long waitMillis,
+            @Value("${api.idempotency.poll-interval-ms:50}") long pollIntervalMillis
+    ) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.paths = paths;
+        this.inFlightTtl = Duration.ofMillis(inFlightTtlMillis);
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.waitMillis = waitMillis;
+        this.pollIntervalMillis = pollIntervalMillis;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || paths.stream().noneMatch(path -> pathMatcher.match(path, request.getRequestURI()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            reject(response, ErrorType.BAD_REQUEST, IDEMPOTENCY_KEY_HEADER + " 는 1 ~ " + MAX_KEY_LENGTH + " 자여야 합니다.");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String key = request.getRequestURI() + ":" + Optional.ofNullable(request.getHeader("X-USER-ID")).orElse("") + ":" + idempotencyKey;
+        String fingerprint = fingerprint(cachedRequest);
+        String owner = UUID.randomUUID().toString();
+
+        Optional<IdempotencyRecord> existing;
+        try {
+            existing = waitIfInFlight(key, owner, fingerprint);
+        } catch (Exception e) {
+            log.warn("Idempotency-Key 확인 실패, 키 없이 처리합니다 : key = {}", key, e);
+            count("unavailable");
+            filterChain.doFilter(cachedRequest, response);
+            return;
+        }
+
+        if (existing.isPresent()) {
+            IdempotencyRecord record = existing.get();
+            if (!record.fingerprint().equals(fingerprint)) {
+                count("mismatch");
+                reject(response, ErrorType.BAD_REQUEST, "같은 " + IDEMPOTENCY_KEY_HEADER + " 로 다른 요청을 보냈습니다.");
+            } else if (record.completed()) {
+                count("replayed");
+                replay(response, record);
+            } else {
+                count("conflict");
+                reject(response, ErrorType.CONFLICT, "같은 " + IDEMPOTENCY_KEY_HEADER + " 의 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
+            }
+            return;
+        }
+
+        count("executed");
+        execute(cachedRequest, response, filterChain, key, owner, fingerprint);
+    }
+
+    /**
+     * 처리 중인 요청이 끝나기를 wait-ms 동안 기다린다. 그 사이 키가 풀리면(서버 오류) 이 요청이 처리한다.
+     */
+    private Optional<IdempotencyRecord> waitIfInFlight(String key, String owner, String fingerprint) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofMillis(waitMillis).toNanos();
+        Optional<IdempotencyRecord> existing = idempotencyRepository.tryStart(key, owner, fingerprint, inFlightTtl);
+        while (existing.isPresent() && !existing.get().completed()
+                && existing.get().fingerprint().equals(fingerprint)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(pollIntervalMillis);
+            existing = idempotencyRepository.tryStart(key, owner, fingerprint, inFlightTtl);
+        }
+        return existing;
+    }
+
+    private void execute(CachedBodyRequest request, HttpServletResponse response, FilterChain filterChain,
+                         String key, String owner, String fingerprint) throws ServletException, IOException {
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, cachingResponse);
+        } catch (ServletException | IOException | RuntimeException e) {
+            // 어디까지 처리했는지 모르므로 서버 오류로 저장해서, 재시도가 다시 처리하지 않게 한다.
+            ErrorType errorType = ErrorType.INTERNAL_ERROR;
+            complete(key, owner, IdempotencyRecord.completed(fingerprint, errorType.getStatus().value(), MediaType.APPLICATION_JSON_VALUE,
+                    objectMapper.writeValueAsBytes(ApiResponse.fail(errorType.getCode(), errorType.getMessage()))));
+            throw e;
+        }
+
+        if (request.getAttribute(NOT_EXECUTED_ATTRIBUTE) != null) {
+            release(key, owner, fingerprint);
+        } else {
+            complete(key, owner, IdempotencyRecord.completed(
+                    fingerprint, cachingResponse.getStatus(), cachingResponse.getContentType(), cachingResponse.getContentAsByteArray()));
+        }
+        cachingResponse.copyBodyToResponse();
+    }
+
+    private void complete(String key, String owner, IdempotencyRecord record) {
+        try {
+            idempotencyRepository.complete(key, owner, record, ttl);
+        } catch (Exception e) {
+            log.warn("Idempotency-Key 응답 저장 실패 : key = {}", key, e);
+        }
+    }
+
+    private void release(String key, String owner, String fingerprint) {
+        try {
+            idempotencyRepository.release(key, owner, fingerprint);
+        } catch (Exception e) {
+            log.warn("Idempotency-Key 반납 실패 : key = {}", key, e);
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyRecord record) throws IOException {
+        response.setStatus(record.status());
+        if (record.contentType() != null) {
+            response.setContentType(record.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.getOutputStream().write(record.body());
+    }
+
+    private void reject(HttpServletResponse response, ErrorType errorType, String message) throws IOException {
+        response.setStatus(errorType.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.fail(errorType.getCode(), message));
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("api.idempotency.requests", "result", result).increment();
+    }
+
+    private static String fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "?" + request.getQueryString() + "\n").getBytes(StandardCharsets.UTF_8));
+            digest.update(request.body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 요청 본문을 먼저 읽어서 fingerprint 를 만들고, 컨트롤러에는 같은 본문을 다시 읽게 한다.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.loopers.interfaces.api.like;
+
+import com.loopers.interfaces.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+@Tag(name = "Like V1 API", description = "상품 좋아요 API 입니다.")
+public interface LikeV1ApiSpec {
+
+    @Operation(
+            summary = "상품 좋아요"
+            , description = "상품에 좋아요를 누릅니다. 새로 좋아요하면 201, 이미 좋아요한 상품이면 204 를 응답합니다."
+    )
+    ResponseEntity<ApiResponse<LikeV1Dto.LikeResponse>> like(
+            @Schema(name = "상품 ID", description = "좋아요할 상품의 ID")
+            Long productId,
+            @Parameter(name = "X-USER-ID", in = ParameterIn.HEADER, description = "요청자 로그인 ID")
+            String xUserId
+    );
+
+    @Operation(
+            summary = "상품 좋아요 취소"
+            , description = "상품 좋아요를 취소합니다. 취소되면 200, 좋아요하지 않은 상품이면 204 를 응답합니다."
+    )
+    ResponseEntity<ApiResponse<LikeV1Dto.LikeResponse>> unlike(
+            @Schema(name = "상품 ID", description = "좋아요 취소할 상품의 ID")
+            Long productId,
+            @Parameter(name = "X-USER-ID", in = ParameterIn.HEADER, description = "요청자 로그인 ID")
+            String xUserId
+    );
+}
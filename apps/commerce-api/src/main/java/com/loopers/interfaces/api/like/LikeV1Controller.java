@@ -0,0 +1,54 @@
+package com.loopers.interfaces.api.like;
+
+import com.loopers.application.like.LikeFacade;
+import com.loopers.application.like.LikeInfo;
+import com.loopers.interfaces.api.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.loopers.support.error.CoreExceptionUtil.validateNullOrBlank;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/like/products")
+public class LikeV1Controller implements LikeV1ApiSpec {
+
+    private final LikeFacade likeFacade;
+
+    @PostMapping("/{productId}")
+    @Override
+    public ResponseEntity<ApiResponse<LikeV1Dto.LikeResponse>> like(
+            @PathVariable(value = "productId") Long productId
+            , @RequestHeader(value = "X-USER-ID", required = false) String xUserId
+    ) {
+        validateNullOrBlank(xUserId, "좋아요 시 헤더에 X-USER-ID 가 필요합니다.");
+        return respond(likeFacade.like(xUserId, productId), HttpStatus.CREATED);
+    }
+
+    @DeleteMapping("/{productId}")
+    @Override
+    public ResponseEntity<ApiResponse<LikeV1Dto.LikeResponse>> unlike(
+            @PathVariable(value = "productId") Long productId
+            , @RequestHeader(value = "X-USER-ID", required = false) String xUserId
+    ) {
+        validateNullOrBlank(xUserId, "좋아요 취소 시 헤더에 X-USER-ID 가 필요합니다.");
+        return respond(likeFacade.unlike(xUserId, productId), HttpStatus.OK);
+    }
+
+    /**
+     * 상태가 바뀌었으면 changedStatus (좋아요 201 / 취소 200), 이미 같은 상태였으면 204 (본문 없음)
+     */
+    private ResponseEntity<ApiResponse<LikeV1Dto.LikeResponse>> respond(LikeInfo info, HttpStatus changedStatus) {
+        if (!info.changed()) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.status(changedStatus).body(ApiResponse.success(LikeV1Dto.LikeResponse.from(info)));
+    }
+}
@@ -0,0 +1,54 @@
+package com.loopers.interfaces.api.order;
+
+import com.loopers.interfaces.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Order V1 API", description = "주문 API 입니다.")
+public interface OrderV1ApiSpec {
+
+    @Operation(
+            summary = "주문"
+            , description = "여러 상품을 한 번에 주문합니다. 포인트 결제는 바로 끝나고, 재고나 포인트가 부족하면 400 을 응답합니다. "
+                    + "카드 결제는 PENDING_PAYMENT 로 응답하고 PG 결과에 따라 PAID / PAYMENT_FAILED 가 됩니다."
+            , parameters = @Parameter(
+                    name = "Idempotency-Key"
+                    , in = ParameterIn.HEADER
+                    , description = "재시도해도 한 번만 주문되게 하는 키 (1 ~ 100 자). 같은 키로 다시 요청하면 처음 응답을 그대로 돌려줍니다."
+            )
+    )
+    ApiResponse<OrderV1Dto.OrderResponse> placeOrder(
+            OrderV1Dto.OrderRequest request,
+            @Parameter(name = "X-USER-ID", in = ParameterIn.HEADER, description = "요청자 로그인 ID")
+            String xUserId
+    );
+
+    @Operation(
+            summary = "내 주문 목록 조회"
+            , description = "내 주문을 최신순으로 cursor 방식으로 페이징 조회합니다. 다음 페이지는 응답의 nextCursor 로 요청합니다. "
+                    + "주문 이벤트로 갱신하는 조회용 테이블에서 읽으므로 방금 바뀐 상태는 조금 늦게 보일 수 있습니다."
+    )
+    ApiResponse<OrderV1Dto.OrderHistoryListResponse> getOrders(
+            @Schema(name = "cursor", description = "직전 응답의 nextCursor. 없으면 첫 페이지")
+            Long cursor,
+            @Schema(name = "페이지 크기", description = "1 ~ 100")
+            Integer size,
+            @Parameter(name = "X-USER-ID", in = ParameterIn.HEADER, description = "요청자 로그인 ID")
+            String xUserId
+    );
+
+    @Operation(
+            summary = "주문 조회"
+            , description = "내 주문을 조회합니다. 카드 결제 주문의 결제 결과를 확인할 때 씁니다. "
+                    + "조회용 테이블에 아직 반영되지 않은 주문은 상품/브랜드 이름 없이 응답합니다."
+    )
+    ApiResponse<OrderV1Dto.OrderHistoryResponse> getOrder(
+            @Schema(name = "주문 ID", description = "조회할 주문의 ID")
+            Long orderId,
+            @Parameter(name = "X-USER-ID", in = ParameterIn.HEADER, description = "요청자 로그인 ID")
+            String xUserId
+    );
+}
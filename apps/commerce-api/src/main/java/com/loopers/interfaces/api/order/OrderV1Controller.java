@@ -0,0 +1,60 @@
+package com.loopers.interfaces.api.order;
+
+import com.loopers.application.order.OrderFacade;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.loopers.support.error.CoreExceptionUtil.validateNullOrBlank;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/orders")
+public class OrderV1Controller implements OrderV1ApiSpec {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final OrderFacade orderFacade;
+
+    @PostMapping
+    @Override
+    public ApiResponse<OrderV1Dto.OrderResponse> placeOrder(
+            @RequestBody OrderV1Dto.OrderRequest request
+            , @RequestHeader(value = "X-USER-ID", required = false) String xUserId
+    ) {
+        validateNullOrBlank(xUserId, "주문 시 헤더에 X-USER-ID 가 필요합니다.");
+        return ApiResponse.success(OrderV1Dto.OrderResponse.from(orderFacade.placeOrder(xUserId, request.toQuantities(), request.paymentMethodOrDefault())));
+    }
+
+    @GetMapping
+    @Override
+    public ApiResponse<OrderV1Dto.OrderHistoryListResponse> getOrders(
+            @RequestParam(required = false) Long cursor
+            , @RequestParam(defaultValue = "20") Integer size
+            , @RequestHeader(value = "X-USER-ID", required = false) String xUserId
+    ) {
+        validateNullOrBlank(xUserId, "주문 조회 시 헤더에 X-USER-ID 가 필요합니다.");
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        return ApiResponse.success(OrderV1Dto.OrderHistoryListResponse.from(orderFacade.getOrders(xUserId, cursor, size)));
+    }
+
+    @GetMapping("/{orderId}")
+    @Override
+    public ApiResponse<OrderV1Dto.OrderHistoryResponse> getOrder(
+            @PathVariable Long orderId
+            , @RequestHeader(value = "X-USER-ID", required = false) String xUserId
+    ) {
+        validateNullOrBlank(xUserId, "주문 조회 시 헤더에 X-USER-ID 가 필요합니다.");
+        return ApiResponse.success(OrderV1Dto.OrderHistoryResponse.from(orderFacade.getOrder(xUserId, orderId)));
+    }
+}
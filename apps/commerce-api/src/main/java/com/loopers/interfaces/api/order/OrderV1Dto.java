@@ -0,0 +1,113 @@
+package com.loopers.interfaces.api.order;
+
+import com.loopers.application.order.OrderHistoryInfo;
+import com.loopers.application.order.OrderHistoryListInfo;
+import com.loopers.application.order.OrderInfo;
+import com.loopers.domain.order.OrderHistoryItem;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.payment.PaymentMethod;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class OrderV1Dto {
+
+    /**
+     * @param paymentMethod 없으면 POINT
+     */
+    public record OrderRequest(List<OrderItemRequest> items, PaymentMethod paymentMethod) {
+        public PaymentMethod paymentMethodOrDefault() {
+            return paymentMethod != null ? paymentMethod : PaymentMethod.POINT;
+        }
+
+        /**
+         * 같은 상품이 여러 줄이면 수량을 합친다.
+         */
+        public Map<Long, Long> toQuantities() {
+            if (items == null || items.isEmpty()) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "주문할 상품이 없습니다.");
+            }
+            Map<Long, Long> quantities = new LinkedHashMap<>();
+            for (OrderItemRequest item : items) {
+                if (item.productId() == null || item.quantity() == null || item.quantity() <= 0) {
+                    throw new CoreException(ErrorType.BAD_REQUEST, "상품 ID 와 1 이상의 수량이 필요합니다.");
+                }
+                quantities.merge(item.productId(), item.quantity(), Long::sum);
+            }
+            return quantities;
+        }
+    }
+
+    public record OrderItemRequest(Long productId, Long quantity) {
+    }
+
+    public record OrderResponse(Long id, OrderStatus status, Long totalPrice, List<OrderItemResponse> items) {
+        public static OrderResponse from(OrderInfo info) {
+            return new OrderResponse(
+                    info.id(),
+                    info.status(),
+                    info.totalPrice(),
+                    info.items().stream().map(OrderItemResponse::from).toList()
+            );
+        }
+    }
+
+    public record OrderItemResponse(Long productId, Long quantity, Long unitPrice, Long totalAmount) {
+        public static OrderItemResponse from(OrderInfo.OrderItemInfo info) {
+            return new OrderItemResponse(info.productId(), info.quantity(), info.unitPrice(), info.totalAmount());
+        }
+    }
+
+    public record OrderHistoryResponse(
+            Long id,
+            OrderStatus status,
+            Long totalPrice,
+            Integer itemCount,
+            List<OrderHistoryItemResponse> items,
+            ZonedDateTime orderedAt
+    ) {
+        public static OrderHistoryResponse from(OrderHistoryInfo info) {
+            return new OrderHistoryResponse(
+                    info.id(),
+                    info.status(),
+                    info.totalPrice(),
+                    info.itemCount(),
+                    info.items().stream().map(OrderHistoryItemResponse::from).toList(),
+                    info.orderedAt()
+            );
+        }
+    }
+
+    public record OrderHistoryItemResponse(
+            Long productId,
+            String productName,
+            String brandName,
+            Long quantity,
+            Long unitPrice,
+            Long totalAmount
+    ) {
+        public static OrderHistoryItemResponse from(OrderHistoryItem item) {
+            return new OrderHistoryItemResponse(
+                    item.productId(),
+                    item.productName(),
+                    item.brandName(),
+                    item.quantity(),
+                    item.unitPrice(),
+                    item.totalAmount()
+            );
+        }
+    }
+
+    public record OrderHistoryListResponse(List<OrderHistoryResponse> items, Long nextCursor) {
+        public static OrderHistoryListResponse from(OrderHistoryListInfo info) {
+            return new OrderHistoryListResponse(
+                    info.items().stream().map(OrderHistoryResponse::from).toList(),
+                    info.nextCursor()
+            );
+        }
+    }
+}
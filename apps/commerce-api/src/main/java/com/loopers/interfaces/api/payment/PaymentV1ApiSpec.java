@@ -0,0 +1,15 @@
+package com.loopers.interfaces.api.payment;
+
+import com.loopers.interfaces.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Payment V1 API", description = "결제 API 입니다.")
+public interface PaymentV1ApiSpec {
+
+    @Operation(
+            summary = "PG 결제 결과 callback"
+            , description = "PG 가 결제 결과를 알립니다. 본문의 결과는 믿지 않고 PG 에 다시 조회해서 반영하므로 바로 응답합니다."
+    )
+    ApiResponse<Object> callback(PaymentV1Dto.PgCallbackRequest request);
+}
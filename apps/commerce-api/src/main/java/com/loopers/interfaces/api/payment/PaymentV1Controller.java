@@ -0,0 +1,29 @@
+package com.loopers.interfaces.api.payment;
+
+import com.loopers.application.payment.PaymentFacade;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/payments")
+public class PaymentV1Controller implements PaymentV1ApiSpec {
+
+    private final PaymentFacade paymentFacade;
+
+    @PostMapping("/callback")
+    @Override
+    public ApiResponse<Object> callback(@RequestBody PaymentV1Dto.PgCallbackRequest request) {
+        if (request.orderId() == null) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "callback 에 orderId 가 필요합니다.");
+        }
+        paymentFacade.handleCallback(request.orderId());
+        return ApiResponse.success();
+    }
+}
@@ -0,0 +1,12 @@
+package com.loopers.interfaces.api.payment;
+
+import com.loopers.domain.payment.PgTransactionStatus;
+
+public class PaymentV1Dto {
+
+    /**
+     * PG 가 보내는 결제 결과. orderId 만 쓰고, 결과는 PG 에 다시 조회해서 확인한다.
+     */
+    public record PgCallbackRequest(String transactionKey, Long orderId, PgTransactionStatus status, String reason) {
+    }
+}
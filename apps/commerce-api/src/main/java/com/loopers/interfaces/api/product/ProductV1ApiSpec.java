@@ -0,0 +1,35 @@
+package com.loopers.interfaces.api.product;
+
+import com.loopers.domain.product.ProductSortType;
+import com.loopers.interfaces.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Product V1 API", description = "상품 API 입니다.")
+public interface ProductV1ApiSpec {
+
+    @Operation(
+            summary = "상품 목록 조회"
+            , description = "상품 목록을 정렬 조건에 따라 cursor 방식으로 페이징 조회합니다. 다음 페이지는 응답의 nextCursor 로 요청합니다."
+    )
+    ApiResponse<ProductV1Dto.ProductListResponse> getProducts(
+            @Schema(name = "브랜드 ID", description = "없으면 전체 브랜드")
+            Long brandId,
+            @Schema(name = "정렬", description = "LATEST, PRICE_ASC, LIKES_DESC")
+            ProductSortType sort,
+            @Schema(name = "cursor", description = "직전 응답의 nextCursor. 없으면 첫 페이지")
+            String cursor,
+            @Schema(name = "페이지 크기", description = "1 ~ 100")
+            Integer size
+    );
+
+    @Operation(
+            summary = "상품 상세 조회"
+            , description = "ID로 상품을 조회합니다."
+    )
+    ApiResponse<ProductV1Dto.ProductResponse> getProduct(
+            @Schema(name = "상품 ID", description = "조회할 상품의 ID")
+            Long productId
+    );
+}
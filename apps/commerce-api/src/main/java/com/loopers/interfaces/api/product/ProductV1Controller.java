@@ -0,0 +1,48 @@
+package com.loopers.interfaces.api.product;
+
+import com.loopers.application.product.ProductDetailInfo;
+import com.loopers.application.product.ProductFacade;
+import com.loopers.application.product.ProductListInfo;
+import com.loopers.domain.product.ProductSortType;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/products")
+public class ProductV1Controller implements ProductV1ApiSpec {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ProductFacade productFacade;
+
+    @GetMapping
+    @Override
+    public ApiResponse<ProductV1Dto.ProductListResponse> getProducts(
+            @RequestParam(required = false) Long brandId
+            , @RequestParam(defaultValue = "LATEST") ProductSortType sort
+            , @RequestParam(required = false) String cursor
+            , @RequestParam(defaultValue = "20") Integer size
+    ) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        ProductListInfo info = productFacade.getProducts(brandId, sort, cursor, size);
+        return ApiResponse.success(ProductV1Dto.ProductListResponse.from(info));
+    }
+
+    @GetMapping("/{productId}")
+    @Override
+    public ApiResponse<ProductV1Dto.ProductResponse> getProduct(
+            @PathVariable(value = "productId") Long productId
+    ) {
+        ProductDetailInfo info = productFacade.getProduct(productId);
+        return ApiResponse.success(ProductV1Dto.ProductResponse.from(info));
+    }
+}
@@ -0,0 +1,43 @@
+package com.loopers.interfaces.api.product;
+
+import com.loopers.application.product.ProductDetailInfo;
+import com.loopers.application.product.ProductListInfo;
+import com.loopers.application.product.ProductListItemInfo;
+
+import java.util.List;
+
+public class ProductV1Dto {
+
+    public record ProductResponse(Long id, Long brandId, String brandName, String name, Long price, Long likeCount) {
+        public static ProductResponse from(ProductDetailInfo info) {
+            return new ProductResponse(
+                    info.id(),
+                    info.brandId(),
+                    info.brandName(),
+                    info.name(),
+                    info.price(),
+                    info.likeCount()
+            );
+        }
+
+        public static ProductResponse from(ProductListItemInfo info) {
+            return new ProductResponse(
+                    info.id(),
+                    info.brandId(),
+                    info.brandName(),
+                    info.name(),
+                    info.price(),
+                    info.likeCount()
+            );
+        }
+    }
+
+    public record ProductListResponse(List<ProductResponse> items, String nextCursor) {
+        public static ProductListResponse from(ProductListInfo info) {
+            return new ProductListResponse(
+                    info.items().stream().map(ProductResponse::from).toList(),
+                    info.nextCursor()
+            );
+        }
+    }
+}
@@ -46,6 +46,11 @@ public interface UserApiSpec {
     @Operation(
             summary = "포인트 충전"
             , description = "회원의 포인트 충전합니다."
+            , parameters = @Parameter(
+                    name = "Idempotency-Key"
+                    , in = ParameterIn.HEADER
+                    , description = "재시도해도 한 번만 충전되게 하는 키 (1 ~ 100 자). 같은 키로 다시 요청하면 처음 응답을 그대로 돌려줍니다."
+            )
     )
     ApiResponse<Integer> addUserPoint(
             @Schema(name = "로그인 ID", description = "포인트 충전할 회원의 로그인 ID")
@@ -0,0 +1,31 @@
+package com.loopers.interfaces.api.user;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+@Tag(name = "User Bulk API", description = "회원 대량 처리 API 입니다. 요청/응답 모두 NDJSON (한 줄에 JSON 하나) 입니다.")
+public interface UserBulkApiSpec {
+
+    @Operation(
+            summary = "대량 회원가입"
+            , description = "한 줄에 회원 정보(CreateUserRequest) 하나씩 받아서 저장하고, 줄마다 처리 결과(RowResult)를 응답합니다."
+    )
+    void saveUsers(
+            @Parameter(hidden = true) HttpServletRequest request,
+            @Parameter(hidden = true) HttpServletResponse response
+    ) throws IOException;
+
+    @Operation(
+            summary = "대량 포인트 충전"
+            , description = "한 줄에 충전 정보(AddUserPointRequest) 하나씩 받아서 충전하고, 줄마다 처리 결과(RowResult)를 응답합니다."
+    )
+    void addUserPoints(
+            @Parameter(hidden = true) HttpServletRequest request,
+            @Parameter(hidden = true) HttpServletResponse response
+    ) throws IOException;
+}
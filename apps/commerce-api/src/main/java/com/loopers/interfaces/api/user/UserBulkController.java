@@ -0,0 +1,132 @@
+package com.loopers.interfaces.api.user;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.user.UserBulkFacade;
+import com.loopers.application.user.UserBulkResult;
+import com.loopers.application.user.UserInfo;
+import com.loopers.application.user.UserPointChargeInfo;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 요청 body 를 한 줄씩 읽어서 chunk-size 만큼 모이면 저장하고, 그 chunk 의 결과를 바로 응답에 쓴다.
+ * 메모리에는 chunk 하나만 올라가므로 입력 크기와 상관없이 메모리 사용량이 일정하다.
+ */
+@RestController
+@RequestMapping("/api/user/bulk")
+public class UserBulkController implements UserBulkApiSpec {
+
+    private final UserBulkFacade userBulkFacade;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public UserBulkController(
+            UserBulkFacade userBulkFacade,
+            ObjectMapper objectMapper,
+            @Value("${user.bulk.chunk-size:500}") int chunkSize
+    ) {
+        this.userBulkFacade = userBulkFacade;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    @PostMapping(value = "/saveUsers", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Override
+    public void saveUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        processLines(request, response, UserDto.CreateUserRequest.class,
+                rows -> userBulkFacade.saveUsers(rows.stream().map(UserInfo::from).toList()));
+    }
+
+    @PostMapping(value = "/addUserPoints", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Override
+    public void addUserPoints(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        processLines(request, response, UserBulkDto.AddUserPointRequest.class,
+                rows -> userBulkFacade.addUserPoints(rows.stream()
+                        .map(row -> new UserPointChargeInfo(row.loginId(), row.point()))
+                        .toList()));
+    }
+
+    private <T> void processLines(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Class<T> rowType,
+            Function<List<T>, List<UserBulkResult>> chunkHandler
+    ) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream out = response.getOutputStream();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+        List<Line<T>> chunk = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            lineNumber++;
+            if (text.isBlank()) continue;
+
+            chunk.add(parse(lineNumber, text, rowType));
+            if (chunk.size() >= chunkSize) {
+                writeChunk(out, chunk, chunkHandler);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(out, chunk, chunkHandler);
+        }
+    }
+
+    private <T> Line<T> parse(long lineNumber, String text, Class<T> rowType) {
+        try {
+            T row = objectMapper.readValue(text, rowType);
+            if (row != null) {
+                return new Line<>(lineNumber, row, null);
+            }
+        } catch (JsonProcessingException e) {
+            // 아래에서 BAD_REQUEST 로 처리한다.
+        }
+        return new Line<>(lineNumber, null, new CoreException(ErrorType.BAD_REQUEST, "JSON 형식이 올바르지 않습니다."));
+    }
+
+    /**
+     * 파싱에 성공한 row 만 chunkHandler 로 넘기고, 결과는 입력 순서대로 다시 맞춰서 쓴다.
+     */
+    private <T> void writeChunk(
+            OutputStream out,
+            List<Line<T>> chunk,
+            Function<List<T>, List<UserBulkResult>> chunkHandler
+    ) throws IOException {
+        List<T> rows = chunk.stream().filter(line -> line.error() == null).map(Line::row).toList();
+        Iterator<UserBulkResult> results = rows.isEmpty()
+                ? List.<UserBulkResult>of().iterator()
+                : chunkHandler.apply(rows).iterator();
+
+        for (Line<T> line : chunk) {
+            UserBulkResult result = line.error() == null
+                    ? results.next()
+                    : UserBulkResult.failure(null, line.error());
+            out.write(objectMapper.writeValueAsBytes(UserBulkDto.RowResult.from(line.number(), result)));
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    private record Line<T>(long number, T row, CoreException error) {}
+}
@@ -0,0 +1,38 @@
+package com.loopers.interfaces.api.user;
+
+import com.loopers.application.user.UserBulkResult;
+import lombok.Builder;
+
+public class UserBulkDto {
+
+    @Builder
+    public record AddUserPointRequest(
+            String loginId
+            , Integer point
+    ) {}
+
+    /**
+     * 입력 NDJSON 한 줄에 대한 처리 결과. line 은 입력의 줄 번호(1부터)다.
+     */
+    @Builder
+    public record RowResult(
+            long line
+            , String loginId
+            , String status
+            , String errorType
+            , String message
+    ) {
+        public static final String SUCCESS = "SUCCESS";
+        public static final String FAILED = "FAILED";
+
+        public static RowResult from(long line, UserBulkResult result) {
+            return RowResult.builder()
+                    .line(line)
+                    .loginId(result.loginId())
+                    .status(result.success() ? SUCCESS : FAILED)
+                    .errorType(result.errorType() != null ? result.errorType().name() : null)
+                    .message(result.message())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.application.like.LikeFacade;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * write-behind 로 Redis 에만 반영된 좋아요를 DB 에 반영한다.
+ * 한 번에 batch-size 만큼 읽고, 가득 차 있으면 쌓인 것이 없을 때까지 이어서 반영한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "like.write-behind.flusher.enabled", havingValue = "true")
+public class LikeFlushScheduler {
+
+    private final LikeFacade likeFacade;
+
+    @Value("${like.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${like.write-behind.claim-min-idle-ms:30000}")
+    private long claimMinIdleMs;
+
+    @Scheduled(fixedDelayString = "${like.write-behind.flush-fixed-delay-ms:100}")
+    public void flush() {
+        try {
+            while (likeFacade.flush(batchSize) == batchSize) {
+                // 쌓인 것이 batch-size 보다 적어질 때까지 반복
+            }
+        } catch (Exception e) {
+            // ack 하지 않았으므로 다음 주기에 다시 읽는다.
+            log.warn("좋아요 flush 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${like.write-behind.claim-fixed-delay-ms:10000}")
+    public void recover() {
+        try {
+            likeFacade.recover(Duration.ofMillis(claimMinIdleMs), batchSize);
+        } catch (Exception e) {
+            log.warn("좋아요 연산 회수 실패", e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.application.outbox.OutboxRelayFacade;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * outbox 에 쌓인 이벤트를 발행한다.
+ * 한 번에 batch-size 만큼 읽고, 모두 발행했으면 쌓인 것이 없을 때까지 이어서 발행한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true")
+public class OutboxRelayScheduler {
+
+    private final OutboxRelayFacade outboxRelayFacade;
+
+    @Value("${outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.fixed-delay-ms:100}")
+    public void relay() {
+        try {
+            while (outboxRelayFacade.relay(batchSize) == batchSize) {
+                // 쌓인 것이 batch-size 보다 적어질 때까지 반복
+            }
+        } catch (Exception e) {
+            // 지우지 않은 이벤트는 다음 주기에 다시 발행한다.
+            log.warn("outbox 이벤트 발행 실패", e);
+        }
+    }
+
+    /**
+     * 종료할 때 lease 를 반납해서 다른 노드가 lease-ms 를 기다리지 않고 이어받게 한다.
+     */
+    @PreDestroy
+    public void stop() {
+        outboxRelayFacade.stop();
+    }
+}
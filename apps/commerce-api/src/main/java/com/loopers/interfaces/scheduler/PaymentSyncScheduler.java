@@ -0,0 +1,39 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.application.payment.PaymentFacade;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * callback 을 받지 못한 결제를 PG 에 조회해서 끝낸다.
+ * min-age 보다 오래된 PENDING 결제만 조회한다. (대부분은 그 전에 callback 으로 끝난다)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "pg.sync.enabled", havingValue = "true")
+public class PaymentSyncScheduler {
+
+    private final PaymentFacade paymentFacade;
+
+    @Value("${pg.sync.min-age-ms:10000}")
+    private long minAgeMs;
+
+    @Value("${pg.sync.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${pg.sync.fixed-delay-ms:5000}")
+    public void sync() {
+        try {
+            paymentFacade.syncPending(Duration.ofMillis(minAgeMs), batchSize);
+        } catch (Exception e) {
+            log.warn("PG 결제 조회 실패", e);
+        }
+    }
+}
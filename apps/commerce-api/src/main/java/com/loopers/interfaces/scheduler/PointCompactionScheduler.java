@@ -0,0 +1,42 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.domain.point.PointService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 미압축 PointHistory 가 threshold 이상 쌓인 User 의 내역을 snapshot 으로 합친다.
+ * 잔액 조회 비용이 미압축 내역 수에 비례하므로, 이 작업이 잔액 조회를 O(1) amortized 로 유지한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "point.compaction.enabled", havingValue = "true", matchIfMissing = true)
+public class PointCompactionScheduler {
+
+    private final PointService pointService;
+
+    @Value("${point.compaction.threshold:100}")
+    private long threshold;
+
+    @Value("${point.compaction.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${point.compaction.fixed-delay-ms:1000}")
+    public void compact() {
+        List<Long> userIds = pointService.findUserIdsToCompact(threshold, batchSize);
+        for (Long userId : userIds) {
+            try {
+                pointService.compact(userId);
+            } catch (Exception e) {
+                log.warn("point compaction 실패 : userId = {}", userId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.application.stock.StockReconcileFacade;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Redis 에서 예약된 재고를 DB 에 반영한다.
+ * 한 번에 batch-size 만큼 읽고, 가득 차 있으면 쌓인 것이 없을 때까지 이어서 반영한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "stock.reconciler.enabled", havingValue = "true")
+public class StockReconcileScheduler {
+
+    private final StockReconcileFacade stockReconcileFacade;
+
+    @Value("${stock.reconciler.batch-size:500}")
+    private int batchSize;
+
+    @Value("${stock.reconciler.claim-min-idle-ms:30000}")
+    private long claimMinIdleMs;
+
+    @Scheduled(fixedDelayString = "${stock.reconciler.fixed-delay-ms:100}")
+    public void reconcile() {
+        try {
+            while (stockReconcileFacade.reconcile(batchSize) == batchSize) {
+                // 쌓인 것이 batch-size 보다 적어질 때까지 반복
+            }
+        } catch (Exception e) {
+            // ack 하지 않았으므로 다음 주기에 다시 읽는다.
+            log.warn("재고 반영 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${stock.reconciler.claim-fixed-delay-ms:10000}")
+    public void recover() {
+        try {
+            stockReconcileFacade.recover(Duration.ofMillis(claimMinIdleMs), batchSize);
+        } catch (Exception e) {
+            log.warn("재고 연산 회수 실패", e);
+        }
+    }
+}
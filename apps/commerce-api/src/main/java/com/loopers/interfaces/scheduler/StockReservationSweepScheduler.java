@@ -0,0 +1,38 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.application.stock.StockReservationSweepFacade;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * min-age 가 지나도록 확정 / 취소되지 않은 재고 예약을 주문과 맞춰서 확정 / 취소한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "stock.reservation.sweeper.enabled", havingValue = "true")
+public class StockReservationSweepScheduler {
+
+    private final StockReservationSweepFacade stockReservationSweepFacade;
+
+    @Value("${stock.reservation.sweeper.min-age-seconds:600}")
+    private long minAgeSeconds;
+
+    @Value("${stock.reservation.sweeper.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${stock.reservation.sweeper.fixed-delay-ms:60000}")
+    public void sweep() {
+        try {
+            stockReservationSweepFacade.sweep(Duration.ofSeconds(minAgeSeconds), batchSize);
+        } catch (Exception e) {
+            log.warn("재고 예약 정리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.domain.stock.StockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 차감이 임의의 shard 에 몰려서 shard 들의 재고가 고르지 않게 된 상품을 다시 나눈다.
+ * 빈 shard 가 많아지면 주문이 여러 shard 를 시도하고, 결국 모든 shard 를 잠그는 경로로 가기 때문이다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "stock.shard.rebalancer.enabled", havingValue = "true")
+public class StockShardRebalanceScheduler {
+
+    private final StockService stockService;
+
+    @Value("${stock.shard.rebalancer.min-ratio:0.5}")
+    private double minRatio;
+
+    @Value("${stock.shard.rebalancer.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${stock.shard.rebalancer.fixed-delay-ms:1000}")
+    public void rebalance() {
+        List<Long> productIds = stockService.findUnevenShardedProductIds(minRatio, batchSize);
+        for (Long productId : productIds) {
+            try {
+                stockService.rebalance(productId);
+            } catch (Exception e) {
+                log.warn("재고 shard rebalance 실패 : productId = {}", productId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.loopers.support.bloom;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 문자열 membership 을 위한 thread-safe Bloom filter.
+ * mightContain 이 false 이면 한 번도 put 되지 않은 값이고, true 이면 falsePositiveRate 확률로 오탐일 수 있다.
+ * 삭제는 지원하지 않는다.
+ * 넣은 값이 expectedInsertions 를 넘으면 오탐률이 올라가므로, approximateInsertions 를 보고 더 크게 다시 만든다.
+ */
+public class BloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final LongAdder insertions = new LongAdder();
+
+    private BloomFilter(long bitSize, int hashCount, long expectedInsertions) {
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+        this.expectedInsertions = expectedInsertions;
+        this.bits = new AtomicLongArray(Math.toIntExact((bitSize + 63) / 64));
+    }
+
+    /**
+     * expectedInsertions 개를 넣었을 때 오탐률이 falsePositiveRate 가 되도록 bit 수와 hash 수를 정한다.
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) throw new IllegalArgumentException("expectedInsertions 는 0 보다 커야 합니다.");
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) throw new IllegalArgumentException("falsePositiveRate 는 0 과 1 사이여야 합니다.");
+
+        long bitSize = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        return new BloomFilter(bitSize, hashCount, expectedInsertions);
+    }
+
+    /**
+     * @return bit 가 하나라도 바뀌었으면 true (처음 넣는 값). 이미 있는 값이나 오탐이면 false
+     */
+    public boolean put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            long index = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+            long mask = 1L << index;
+            int word = (int) (index >>> 6);
+            if ((bits.get(word) & mask) == 0
+                    && (bits.getAndAccumulate(word, mask, (current, bit) -> current | bit) & mask) == 0) {
+                changed = true;
+            }
+        }
+        if (changed) insertions.increment();
+        return changed;
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long index = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    public long expectedInsertions() {
+        return expectedInsertions;
+    }
+
+    /**
+     * bit 를 바꾼 put 의 수. 같은 값을 여러 번 넣어도 한 번만 센다. (오탐인 값은 세지 않으므로 실제보다 조금 적다)
+     */
+    public long approximateInsertions() {
+        return insertions.sum();
+    }
+
+    // FNV-1a 64bit 를 mix 해서 하위 bit 까지 고르게 분포시킨다. (할당 없음)
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
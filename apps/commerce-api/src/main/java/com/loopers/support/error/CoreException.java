@@ -2,6 +2,10 @@ package com.loopers.support.error;
 
 import lombok.Getter;
 
+/**
+ * ErrorType.expected 가 true 인 예외(NOT_FOUND, CONFLICT 등)는 stack trace 를 채우지 않는다.
+ * 정상 흐름의 결과를 전달하는 용도라서 stack trace 가 필요 없고, 404 가 몰릴 때 CPU 를 많이 쓰기 때문이다.
+ */
 @Getter
 public class CoreException extends RuntimeException {
     private final ErrorType errorType;
@@ -12,7 +16,7 @@ public class CoreException extends RuntimeException {
     }
 
     public CoreException(ErrorType errorType, String customMessage) {
-        super(customMessage != null ? customMessage : errorType.getMessage());
+        super(customMessage != null ? customMessage : errorType.getMessage(), null, false, !errorType.isExpected());
         this.errorType = errorType;
         this.customMessage = customMessage;
     }
@@ -1,8 +1,12 @@
 package com.loopers.support.error;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 public class CoreExceptionUtil {
+    private static final Map<String, Pattern> PATTERN_CACHE = new ConcurrentHashMap<>();
+
     /**
      * 문자열이 NULL, Blank 이면 throw Bad Request CoreException
      */
@@ -23,9 +27,10 @@ public class CoreExceptionUtil {
 
     /**
      * 문자열이 pattern 에 맞지 않으면 throw Bad Request CoreException
+     * 컴파일한 pattern 은 캐시해서 재사용한다. 엔티티 검증에는 ValidationRules 를 사용한다.
      */
     public static void validatePattern(String param, String patternString, String message) {
-        Pattern pattern = Pattern.compile(patternString);
+        Pattern pattern = PATTERN_CACHE.computeIfAbsent(patternString, Pattern::compile);
         if(!pattern.matcher(param).matches()) {
             throw new CoreException(ErrorType.BAD_REQUEST, message);
         }
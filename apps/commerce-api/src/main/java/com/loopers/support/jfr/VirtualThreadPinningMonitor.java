@@ -0,0 +1,83 @@
+package com.loopers.support.jfr;
+
+import com.loopers.support.log.LogSampler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * virtual thread 가 carrier thread 에 고정(pinning)된 채로 오래 블로킹되면 JFR 이벤트(jdk.VirtualThreadPinned)를 받아
+ * jvm.virtual_thread.pinned 카운터를 올리고 stack trace 를 로그로 남긴다.
+ * (synchronized 블록 안에서 I/O 를 하는 라이브러리 코드가 주된 원인이다)
+ */
+@Slf4j
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Component
+public class VirtualThreadPinningMonitor {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int STACK_DEPTH = 15;
+
+    private final Counter pinnedCounter;
+    private final Duration threshold;
+    private final LogSampler logSampler;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${jvm.virtual-thread.pinned-threshold-ms:20}") long thresholdMillis,
+            @Value("${jvm.virtual-thread.pinned-log-per-second:1}") int logPermitsPerSecond
+    ) {
+        this.pinnedCounter = Counter.builder("jvm.virtual_thread.pinned").register(meterRegistry);
+        this.threshold = Duration.ofMillis(thresholdMillis);
+        this.logSampler = new LogSampler(logPermitsPerSecond);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        long suppressedCount = logSampler.tryAcquire();
+        if (suppressedCount == LogSampler.DENIED) return;
+
+        log.warn("virtual thread pinned {} ms (suppressed since last log : {})\n{}",
+                event.getDuration().toMillis(), suppressedCount, formatStackTrace(event));
+    }
+
+    private String formatStackTrace(RecordedEvent event) {
+        if (event.getStackTrace() == null) return "\tstack trace 없음";
+        return event.getStackTrace().getFrames().stream()
+                .limit(STACK_DEPTH)
+                .map(this::formatFrame)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private String formatFrame(RecordedFrame frame) {
+        return "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + "(line " + frame.getLineNumber() + ")";
+    }
+}
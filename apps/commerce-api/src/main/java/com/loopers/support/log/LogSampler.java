@@ -0,0 +1,40 @@
+package com.loopers.support.log;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 1초 window 마다 최대 permitsPerSecond 번만 로그를 남기도록 허용한다.
+ * 허용되지 않은 로그 수는 모아 두었다가, 다음에 허용된 로그에서 함께 알려준다.
+ */
+public class LogSampler {
+    public static final long DENIED = -1L;
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    private final int permitsPerSecond;
+    private final AtomicLong windowStartedAt = new AtomicLong(System.nanoTime());
+    private final AtomicInteger permitted = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    public LogSampler(int permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    /**
+     * 로그를 남겨도 되면 직전 로그 이후 생략된 로그 수를, 안 되면 DENIED 를 반환한다.
+     */
+    public long tryAcquire() {
+        long now = System.nanoTime();
+        long startedAt = windowStartedAt.get();
+        if (now - startedAt >= WINDOW_NANOS && windowStartedAt.compareAndSet(startedAt, now)) {
+            permitted.set(0);
+        }
+
+        if (permitted.incrementAndGet() > permitsPerSecond) {
+            suppressed.increment();
+            return DENIED;
+        }
+        return suppressed.sumThenReset();
+    }
+}
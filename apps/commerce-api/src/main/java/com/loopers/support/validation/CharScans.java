@@ -0,0 +1,32 @@
+package com.loopers.support.validation;
+
+/**
+ * 정규식 대신 한 글자씩 검사할 때 쓰는 ASCII 문자 분류.
+ * (Character.isLetterOrDigit 은 한글 등 유니코드 문자도 통과시키므로 쓰지 않는다)
+ */
+public final class CharScans {
+
+    private CharScans() {}
+
+    public static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    public static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    public static boolean isLetterOrDigit(char c) {
+        return isLetter(c) || isDigit(c);
+    }
+
+    /**
+     * value 의 [from, to) 구간이 모두 영문/숫자이면 true
+     */
+    public static boolean allLetterOrDigit(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!isLetterOrDigit(value.charAt(i))) return false;
+        }
+        return true;
+    }
+}
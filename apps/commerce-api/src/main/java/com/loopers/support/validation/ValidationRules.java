@@ -0,0 +1,127 @@
+package com.loopers.support.validation;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * 엔티티별로 한 번만 선언하고 재사용하는 검증 규칙 목록.
+ * 정규식은 build 시점에 한 번 컴파일하지만, 검증할 때마다 Matcher 를 하나씩 할당한다.
+ * 자주 생성/검증하는 엔티티는 matches 에 한 글자씩 검사하는 메서드를 넘겨서, 검증 성공 시 할당이 없게 한다.
+ * 실패 시에는 CoreExceptionUtil 과 같은 BAD_REQUEST CoreException 을 던진다.
+ *
+ * <pre>
+ * private static final ValidationRules&lt;User&gt; RULES = ValidationRules.&lt;User&gt;builder()
+ *         .notBlank(User::getLoginId, "ID가 비어있을 수 없습니다.")
+ *         .matches(User::getLoginId, User::isLoginId, "ID 형식이 맞지 않습니다.")
+ *         .build();
+ * </pre>
+ */
+public final class ValidationRules<T> {
+
+    private final Rule<T>[] rules;
+
+    private ValidationRules(Rule<T>[] rules) {
+        this.rules = rules;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public void validate(T target) {
+        for (Rule<T> rule : rules) {
+            rule.check(target);
+        }
+    }
+
+    private interface Rule<T> {
+        void check(T target);
+    }
+
+    private record NotBlankRule<T>(Function<T, String> getter, String message) implements Rule<T> {
+        @Override
+        public void check(T target) {
+            String value = getter.apply(target);
+            if (value == null || value.isBlank()) {
+                throw new CoreException(ErrorType.BAD_REQUEST, message);
+            }
+        }
+    }
+
+    private record NotNullRule<T>(Function<T, ?> getter, String message) implements Rule<T> {
+        @Override
+        public void check(T target) {
+            if (getter.apply(target) == null) {
+                throw new CoreException(ErrorType.BAD_REQUEST, message);
+            }
+        }
+    }
+
+    private record PatternRule<T>(Function<T, String> getter, Pattern pattern, String message) implements Rule<T> {
+        @Override
+        public void check(T target) {
+            if (!pattern.matcher(getter.apply(target)).matches()) {
+                throw new CoreException(ErrorType.BAD_REQUEST, message);
+            }
+        }
+    }
+
+    private record MatchRule<T>(Function<T, String> getter, Predicate<String> predicate, String message) implements Rule<T> {
+        @Override
+        public void check(T target) {
+            if (!predicate.test(getter.apply(target))) {
+                throw new CoreException(ErrorType.BAD_REQUEST, message);
+            }
+        }
+    }
+
+    public static final class Builder<T> {
+        private final List<Rule<T>> rules = new ArrayList<>();
+
+        private Builder() {}
+
+        /**
+         * 문자열이 NULL, Blank 이면 실패
+         */
+        public Builder<T> notBlank(Function<T, String> getter, String message) {
+            rules.add(new NotBlankRule<>(getter, message));
+            return this;
+        }
+
+        /**
+         * 객체가 NULL 이면 실패
+         */
+        public Builder<T> notNull(Function<T, ?> getter, String message) {
+            rules.add(new NotNullRule<>(getter, message));
+            return this;
+        }
+
+        /**
+         * 문자열이 pattern 에 맞지 않으면 실패 (검사할 때마다 Matcher 를 할당한다)
+         */
+        public Builder<T> pattern(Function<T, String> getter, String regex, String message) {
+            rules.add(new PatternRule<>(getter, Pattern.compile(regex), message));
+            return this;
+        }
+
+        /**
+         * 문자열이 predicate 를 만족하지 않으면 실패
+         * predicate 가 캡처 없는 메서드 참조이고 할당 없이 검사하면, 검증 성공 시 할당이 없다.
+         */
+        public Builder<T> matches(Function<T, String> getter, Predicate<String> predicate, String message) {
+            rules.add(new MatchRule<>(getter, predicate, message));
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public ValidationRules<T> build() {
+            return new ValidationRules<>(rules.toArray(new Rule[0]));
+        }
+    }
+}
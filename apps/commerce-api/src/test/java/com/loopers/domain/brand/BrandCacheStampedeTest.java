@@ -0,0 +1,169 @@
+package com.loopers.domain.brand;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.support.cache.StampedeProtectedCache;
+import com.loopers.support.error.CoreException;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("브랜드 캐시 stampede 방지 테스트")
+@SpringBootTest
+public class BrandCacheStampedeTest {
+
+    @Autowired
+    private BrandService brandService;
+
+    @MockitoSpyBean
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> defaultRedisTemplate;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> masterRedisTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    final int threadCount = 64;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("성공 케이스 : 캐시에 없는 브랜드를 동시에 조회해도 DB 는 한 번만 읽는다")
+    @Test
+    void getBrandSummary_concurrentMisses_loadedOnce() throws InterruptedException {
+        // arrange
+        Brand brand = brandService.createBrand("loopers", "루퍼스");
+        clearInvocations(brandRepository);
+        // DB 조회가 느려서 miss 가 겹치는 상황을 만든다.
+        doAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(200);
+            return invocation.callRealMethod();
+        }).when(brandRepository).findById(anyLong());
+
+        // act
+        AtomicInteger successCount = runConcurrently(() -> {
+            BrandSummary summary = brandService.getBrandSummary(brand.getId());
+            if (!"loopers".equals(summary.name())) throw new IllegalStateException();
+        });
+
+        // assert
+        assertEquals(threadCount, successCount.get());
+        verify(brandRepository, times(1)).findById(brand.getId());
+    }
+
+    @DisplayName("성공 케이스 : 없는 브랜드도 저장해서, 동시에 조회해도 DB 는 한 번만 읽는다")
+    @Test
+    void getBrandSummary_concurrentMissesOfUnknownBrand_loadedOnce() throws InterruptedException {
+        // act
+        AtomicInteger notFoundCount = new AtomicInteger();
+        runConcurrently(() -> {
+            try {
+                brandService.getBrandSummary(999L);
+            } catch (CoreException e) {
+                notFoundCount.incrementAndGet();
+            }
+        });
+
+        // assert
+        assertEquals(threadCount, notFoundCount.get());
+        verify(brandRepository, times(1)).findById(999L);
+    }
+
+    @DisplayName("성공 케이스 : 여러 노드가 동시에 miss 해도 lease 를 잡은 노드만 읽고, 나머지는 저장된 값을 쓴다")
+    @Test
+    void get_concurrentMissesOnDifferentNodes_loadedOnce() throws InterruptedException {
+        // arrange
+        StampedeProtectedCache[] nodes = new StampedeProtectedCache[4];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new StampedeProtectedCache(defaultRedisTemplate, masterRedisTemplate, 3000, 20, 1.0);
+        }
+        AtomicInteger loadCount = new AtomicInteger();
+        AtomicInteger nodeIndex = new AtomicInteger();
+
+        // act
+        AtomicInteger successCount = runConcurrently(() -> {
+            StampedeProtectedCache node = nodes[nodeIndex.getAndIncrement() % nodes.length];
+            Optional<String> value = node.get("stampede:test", Duration.ofMinutes(1), () -> {
+                loadCount.incrementAndGet();
+                sleepMillis(200);
+                return Optional.of("value");
+            });
+            if (!Optional.of("value").equals(value)) throw new IllegalStateException();
+        });
+
+        // assert
+        assertAll(
+                () -> assertEquals(threadCount, successCount.get()),
+                () -> assertEquals(1, loadCount.get())
+        );
+    }
+
+    private AtomicInteger runConcurrently(Runnable task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    ready.countDown();
+                    start.await();
+                    task.run();
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 실패는 successCount 로 확인한다.
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        done.await(1, TimeUnit.MINUTES);
+        executorService.shutdown();
+        return successCount;
+    }
+
+    private static void sleepMillis(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
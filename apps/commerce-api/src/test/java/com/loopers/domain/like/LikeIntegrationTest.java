@@ -0,0 +1,159 @@
+package com.loopers.domain.like;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.like.LikeFacade;
+import com.loopers.application.user.UserFacade;
+import com.loopers.application.user.UserInfo;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.user.UserService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Like 통합 테스트")
+@SpringBootTest
+public class LikeIntegrationTest {
+
+    @Autowired
+    private LikeFacade likeFacade;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private UserFacade userFacade;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    final String loginId = "bobby34";
+    Long userId;
+    Product product;
+
+    @BeforeEach
+    void setUp() {
+        userFacade.saveUser(UserInfo.builder()
+                .loginId(loginId)
+                .email("bobby34@naver.com")
+                .birthday("1994-04-08")
+                .gender("M")
+                .point(0)
+                .build());
+        userId = userService.findUserById(loginId).orElseThrow().getId();
+        Brand brand = brandService.createBrand("loopers", "루퍼스");
+        product = productService.createProduct(brand.getId(), "운동화", 10000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("성공 케이스 : 같은 상품에 두 번 좋아요해도 한 번만 저장되고 outbox 에도 이벤트가 하나만 남는다")
+    @Test
+    void like_twice_savedAndAppendedOnce() {
+        // act
+        likeFacade.like(loginId, product.getId());
+        likeFacade.like(loginId, product.getId());
+
+        // assert
+        List<LikeEvent> events = outboxEvents();
+        assertAll(
+                () -> assertTrue(likeService.isLiked(userId, product.getId())),
+                () -> assertEquals(1, events.size()),
+                () -> assertEquals(LikeEventType.LIKED, events.get(0).type()),
+                () -> assertEquals(product.getBrandId(), events.get(0).brandId())
+        );
+    }
+
+    @DisplayName("성공 케이스 : 좋아요하지 않은 상품을 취소하면 outbox 에 이벤트가 남지 않는다")
+    @Test
+    void unlike_notLiked_notAppended() {
+        // act
+        likeFacade.unlike(loginId, product.getId());
+
+        // assert
+        assertEquals(List.of(), outboxEvents());
+        assertFalse(likeService.isLiked(userId, product.getId()));
+    }
+
+    @DisplayName("성공 케이스 : 좋아요 후 취소하면 outbox 에 LIKED, UNLIKED 순으로 남는다")
+    @Test
+    void likeThenUnlike_appendedInOrder() {
+        // act
+        likeFacade.like(loginId, product.getId());
+        likeFacade.unlike(loginId, product.getId());
+
+        // assert
+        List<LikeEvent> events = outboxEvents();
+        assertAll(
+                () -> assertEquals(2, events.size()),
+                () -> assertEquals(LikeEventType.LIKED, events.get(0).type()),
+                () -> assertEquals(LikeEventType.UNLIKED, events.get(1).type()),
+                () -> assertFalse(likeService.isLiked(userId, product.getId()))
+        );
+    }
+
+    @DisplayName("실패 케이스 : 없는 상품에 좋아요하면 NOT_FOUND")
+    @Test
+    void like_unknownProduct_throwsNotFound() {
+        // act
+        CoreException result = assertThrows(CoreException.class, () -> likeFacade.like(loginId, 999L));
+
+        // assert
+        assertEquals(ErrorType.NOT_FOUND, result.getErrorType());
+    }
+
+    private List<LikeEvent> outboxEvents() {
+        return jdbcTemplate.queryForList(
+                        "select payload from outbox_event where aggregate_type = 'PRODUCT_LIKE' order by seq", String.class)
+                .stream()
+                .map(payload -> {
+                    try {
+                        return objectMapper.readValue(payload, LikeEvent.class);
+                    } catch (JsonProcessingException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+}
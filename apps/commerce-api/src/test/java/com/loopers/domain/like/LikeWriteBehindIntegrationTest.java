@@ -0,0 +1,263 @@
+package com.loopers.domain.like;
+
+import com.loopers.application.like.LikeFacade;
+import com.loopers.application.user.UserFacade;
+import com.loopers.application.user.UserInfo;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.user.UserService;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Like write-behind 통합 테스트")
+@SpringBootTest(properties = "like.write-behind.enabled=true")
+@AutoConfigureMockMvc
+public class LikeWriteBehindIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LikeFacade likeFacade;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private LikeOperationQueue likeOperationQueue;
+
+    @Autowired
+    private UserFacade userFacade;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    final String loginId = "bobby34";
+    final int batchSize = 100;
+    Long userId;
+    Product product;
+
+    @BeforeEach
+    void setUp() {
+        userFacade.saveUser(UserInfo.builder()
+                .loginId(loginId)
+                .email("bobby34@naver.com")
+                .birthday("1994-04-08")
+                .gender("M")
+                .point(0)
+                .build());
+        userId = userService.findUserById(loginId).orElseThrow().getId();
+        Brand brand = brandService.createBrand("loopers", "루퍼스");
+        product = productService.createProduct(brand.getId(), "운동화", 10000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("좋아요 / 취소 API 의 상태 코드")
+    @Nested
+    class StatusCodeTest {
+
+        @DisplayName("성공 케이스 : 좋아요는 201 -> 204, 취소는 200 -> 204 로 응답한다")
+        @Test
+        void likeAndUnlike_statusByChange() throws Exception {
+            // act / assert
+            mockMvc.perform(post("/api/v1/like/products/{productId}", product.getId()).header("X-USER-ID", loginId))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.data.liked").value(true));
+            mockMvc.perform(post("/api/v1/like/products/{productId}", product.getId()).header("X-USER-ID", loginId))
+                    .andExpect(status().isNoContent());
+            mockMvc.perform(delete("/api/v1/like/products/{productId}", product.getId()).header("X-USER-ID", loginId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.liked").value(false));
+            mockMvc.perform(delete("/api/v1/like/products/{productId}", product.getId()).header("X-USER-ID", loginId))
+                    .andExpect(status().isNoContent());
+        }
+    }
+
+    @DisplayName("성공 케이스 : 좋아요는 Redis 에만 반영되고, flush 후 DB 에 저장되고 이벤트가 outbox 에 한 번 남는다")
+    @Test
+    void like_flushed_savedAndPublishedOnce() {
+        // act
+        boolean first = likeFacade.like(loginId, product.getId()).changed();
+        boolean second = likeFacade.like(loginId, product.getId()).changed();
+        boolean savedBeforeFlush = likeService.isLiked(userId, product.getId());
+        int flushed = likeFacade.flush(batchSize);
+
+        // assert
+        assertAll(
+                () -> assertTrue(first),
+                () -> assertFalse(second),
+                () -> assertFalse(savedBeforeFlush),
+                () -> assertEquals(1, flushed),
+                () -> assertTrue(likeService.isLiked(userId, product.getId())),
+                () -> assertEquals(List.of(LikeEventType.LIKED.name()), outboxEventTypes()),
+                () -> assertEquals(0, likeFacade.flush(batchSize))
+        );
+    }
+
+    @DisplayName("성공 케이스 : flush 전에 좋아요 -> 취소 -> 좋아요 하면 DB 에는 한 번만 저장된다")
+    @Test
+    void likeUnlikeLike_beforeFlush_collapsed() {
+        // act
+        likeFacade.like(loginId, product.getId());
+        likeFacade.unlike(loginId, product.getId());
+        likeFacade.like(loginId, product.getId());
+        int flushed = likeFacade.flush(batchSize);
+
+        // assert
+        assertAll(
+                () -> assertEquals(List.of(LikeEventType.LIKED.name()), outboxEventTypes()),
+                () -> assertEquals(3, flushed),
+                () -> assertTrue(likeService.isLiked(userId, product.getId()))
+        );
+    }
+
+    @DisplayName("성공 케이스 : DB 에 이미 있는 좋아요는 Redis 집합을 만들 때 읽어와서 다시 좋아요해도 바뀌지 않는다")
+    @Test
+    void like_alreadyLikedInDatabase_notChanged() {
+        // arrange
+        likeService.like(userId, product.getId(), product.getBrandId());
+
+        // act
+        boolean changed = likeFacade.like(loginId, product.getId()).changed();
+
+        // assert
+        assertFalse(changed);
+        assertEquals(0, likeFacade.flush(batchSize));
+    }
+
+    @DisplayName("성공 케이스 : 읽고 ack 하지 못한 연산은 (노드 재시작) 다음 flush 에서 다시 반영된다")
+    @Test
+    void flush_afterCrashBeforeDatabaseWrite_recovered() {
+        // arrange
+        likeFacade.like(loginId, product.getId());
+        List<LikeOperation> readButLost = likeOperationQueue.read(batchSize);
+
+        // act
+        int flushed = likeFacade.flush(batchSize);
+
+        // assert
+        assertAll(
+                () -> assertEquals(1, readButLost.size()),
+                () -> assertEquals(1, flushed),
+                () -> assertTrue(likeService.isLiked(userId, product.getId())),
+                () -> assertEquals(List.of(LikeEventType.LIKED.name()), outboxEventTypes())
+        );
+    }
+
+    @DisplayName("성공 케이스 : DB 반영 후 ack 전에 죽어도 이벤트는 outbox 에 남아 있고, 다시 flush 해도 한 번 더 남지 않는다")
+    @Test
+    void flush_afterCrashBeforeAck_notPublishedAgain() {
+        // arrange
+        likeFacade.like(loginId, product.getId());
+        likeService.flush(likeOperationQueue.read(batchSize));
+
+        // act
+        int flushed = likeFacade.flush(batchSize);
+
+        // assert
+        assertAll(
+                () -> assertEquals(1, flushed),
+                () -> assertTrue(likeService.isLiked(userId, product.getId())),
+                () -> assertEquals(List.of(LikeEventType.LIKED.name()), outboxEventTypes())
+        );
+    }
+
+    @DisplayName("성공 케이스 : 두 노드가 같은 좋아요 연산을 동시에 flush 해도 이벤트는 한 번만 남는다")
+    @Test
+    void flush_sameOperationOnTwoNodesConcurrently_recordedOnce() throws Exception {
+        // arrange
+        likeFacade.like(loginId, product.getId());
+        List<LikeOperation> operations = likeOperationQueue.read(batchSize);
+        int nodeCount = 2;
+        ExecutorService executorService = Executors.newFixedThreadPool(nodeCount);
+        CountDownLatch ready = new CountDownLatch(nodeCount);
+
+        // act
+        List<Future<?>> flushes = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            flushes.add(executorService.submit(() -> {
+                ready.countDown();
+                ready.await();
+                return flushUntilCommitted(operations);
+            }));
+        }
+        for (Future<?> flush : flushes) {
+            flush.get(1, TimeUnit.MINUTES);
+        }
+        executorService.shutdown();
+
+        // assert
+        assertAll(
+                () -> assertTrue(likeService.isLiked(userId, product.getId())),
+                () -> assertEquals(List.of(LikeEventType.LIKED.name()), outboxEventTypes())
+        );
+    }
+
+    /**
+     * 같은 pair 를 함께 insert 하려던 트랜잭션은 deadlock 으로 rollback 될 수 있다. (ack 하지 않았으므로 실제로는 다음 주기에 다시 flush 된다)
+     */
+    private List<LikeEvent> flushUntilCommitted(List<LikeOperation> operations) {
+        while (true) {
+            try {
+                return likeService.flush(operations);
+            } catch (ConcurrencyFailureException e) {
+                // 다시 flush
+            }
+        }
+    }
+
+    private List<String> outboxEventTypes() {
+        return jdbcTemplate.queryForList(
+                "select event_type from outbox_event where aggregate_type = 'PRODUCT_LIKE' order by seq", String.class);
+    }
+}
@@ -0,0 +1,115 @@
+package com.loopers.domain.like;
+
+import com.loopers.application.like.LikeFacade;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Slf4j
+@DisplayName("좋아요 write-behind / DB 직접 쓰기 처리량 비교")
+@SpringBootTest(properties = "like.write-behind.enabled=true")
+public class LikeWriteBehindThroughputTest {
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private LikeFacade likeFacade;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    final int threadCount = 32;
+    final int userCount = 100;
+    final int likeCount = 5000;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("성공 케이스 : 두 방식 모두 같은 좋아요가 저장된다 (처리량은 로그로 확인)")
+    @Test
+    void like_writeBehindVsDatabase_sameResult() throws InterruptedException {
+        // act
+        long databaseMillis = likeConcurrently(i -> likeService.like(userIdOf(i), productIdOf(i), 1L));
+        int databaseRows = countLikes();
+        databaseCleanUp.truncateAllTables();
+
+        long writeBehindMillis = likeConcurrently(i -> likeService.likeInCache(userIdOf(i), productIdOf(i), 1L));
+        long flushStartedAt = System.nanoTime();
+        while (likeFacade.flush(500) > 0) {
+            // 모두 반영될 때까지
+        }
+        long flushMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - flushStartedAt);
+
+        // assert
+        assertEquals(likeCount, databaseRows);
+        assertEquals(likeCount, countLikes());
+        log.info("[like database] {} likes / {} threads : {} ms ({} likes/s)",
+                likeCount, threadCount, databaseMillis, likeCount * 1000L / Math.max(databaseMillis, 1));
+        log.info("[like write-behind] {} likes / {} threads : {} ms ({} likes/s), flush : {} ms",
+                likeCount, threadCount, writeBehindMillis, likeCount * 1000L / Math.max(writeBehindMillis, 1), flushMillis);
+    }
+
+    private long userIdOf(int i) {
+        return i % userCount + 1;
+    }
+
+    private long productIdOf(int i) {
+        return i / userCount + 1;
+    }
+
+    private int countLikes() {
+        Integer count = jdbcTemplate.queryForObject("select count(*) from likes", Integer.class);
+        return count != null ? count : 0;
+    }
+
+    private long likeConcurrently(IntConsumer like) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(likeCount);
+        AtomicInteger failCount = new AtomicInteger();
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < likeCount; i++) {
+            int index = i;
+            executorService.submit(() -> {
+                try {
+                    like.accept(index);
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(2, TimeUnit.MINUTES);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executorService.shutdown();
+
+        assertEquals(0, failCount.get());
+        return elapsedMillis;
+    }
+}
@@ -0,0 +1,213 @@
+package com.loopers.domain.order;
+
+import com.loopers.application.order.OrderFacade;
+import com.loopers.application.order.OrderHistoryInfo;
+import com.loopers.application.order.OrderHistoryListInfo;
+import com.loopers.application.order.OrderInfo;
+import com.loopers.application.user.UserFacade;
+import com.loopers.application.user.UserInfo;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.stock.StockService;
+import com.loopers.domain.user.UserService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("내 주문 조회 (read model) 통합 테스트")
+@SpringBootTest
+public class OrderHistoryIntegrationTest {
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private UserFacade userFacade;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    Long userId;
+    Long otherUserId;
+
+    @BeforeEach
+    void setUp() {
+        userFacade.saveUser(userInfo("bobby34", 10_000));
+        userFacade.saveUser(userInfo("alice12", 10_000));
+        userId = userService.findUserById("bobby34").orElseThrow().getId();
+        otherUserId = userService.findUserById("alice12").orElseThrow().getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("목록 조회")
+    @Nested
+    class GetOrdersTest {
+
+        @DisplayName("성공 케이스 : 내 주문만 최신순으로 중복/누락 없이 페이지를 넘기며 조회된다")
+        @Test
+        void getOrders_allPages_latestFirstWithoutDuplicates() {
+            // arrange
+            List<Long> myOrderIds = new ArrayList<>();
+            for (long orderId = 1; orderId <= 7; orderId++) {
+                insertSummary(orderId, userId, OrderStatus.PAID);
+                myOrderIds.add(0, orderId);
+            }
+            insertSummary(100L, otherUserId, OrderStatus.PAID);
+
+            // act
+            List<Long> orderIds = new ArrayList<>();
+            Long cursor = null;
+            do {
+                OrderHistoryListInfo page = orderFacade.getOrders("bobby34", cursor, 3);
+                page.items().forEach(item -> orderIds.add(item.id()));
+                cursor = page.nextCursor();
+            } while (cursor != null);
+
+            // assert
+            assertEquals(myOrderIds, orderIds);
+        }
+
+        @DisplayName("성공 케이스 : 첫 페이지는 캐시에서 읽으므로, streamer 가 무효화하기 전까지는 같은 값이 조회된다")
+        @Test
+        void getOrders_firstPage_servedFromCacheUntilEvicted() {
+            // arrange
+            insertSummary(1L, userId, OrderStatus.PENDING_PAYMENT);
+            orderFacade.getOrders("bobby34", null, 10);
+            jdbcTemplate.update("update order_summary set status = 'PAID' where order_id = 1");
+
+            // act
+            OrderStatus cached = orderFacade.getOrders("bobby34", null, 10).items().get(0).status();
+            redisCleanUp.truncateAll();
+            OrderStatus reloaded = orderFacade.getOrders("bobby34", null, 10).items().get(0).status();
+
+            // assert
+            assertAll(
+                    () -> assertEquals(OrderStatus.PENDING_PAYMENT, cached),
+                    () -> assertEquals(OrderStatus.PAID, reloaded)
+            );
+        }
+    }
+
+    @DisplayName("상세 조회")
+    @Nested
+    class GetOrderTest {
+
+        @DisplayName("성공 케이스 : read model 의 상품/브랜드 이름까지 조회된다")
+        @Test
+        void getOrder_projected_readsSummary() {
+            // arrange
+            insertSummary(1L, userId, OrderStatus.PAID);
+
+            // act
+            OrderHistoryInfo order = orderFacade.getOrder("bobby34", 1L);
+
+            // assert
+            assertAll(
+                    () -> assertEquals(OrderStatus.PAID, order.status()),
+                    () -> assertEquals(1, order.itemCount()),
+                    () -> assertEquals("상품", order.items().get(0).productName()),
+                    () -> assertEquals("loopers", order.items().get(0).brandName())
+            );
+        }
+
+        @DisplayName("성공 케이스 : 아직 반영되지 않은 주문은 주문 테이블에서 이름 없이 조회된다")
+        @Test
+        void getOrder_notProjectedYet_fallsBackToOrder() {
+            // arrange
+            Long brandId = brandService.createBrand("loopers", "루퍼스").getId();
+            Long productId = productService.createProduct(brandId, "상품", 1000L).getId();
+            stockService.createStock(productId, 10L);
+            OrderInfo placed = orderFacade.placeOrder("bobby34", Map.of(productId, 2L));
+
+            // act
+            OrderHistoryInfo order = orderFacade.getOrder("bobby34", placed.id());
+
+            // assert
+            assertAll(
+                    () -> assertEquals(OrderStatus.PAID, order.status()),
+                    () -> assertEquals(2000L, order.totalPrice()),
+                    () -> assertEquals(productId, order.items().get(0).productId()),
+                    () -> assertNull(order.items().get(0).productName())
+            );
+        }
+
+        @DisplayName("실패 케이스 : 다른 사용자의 주문은 NOT_FOUND")
+        @Test
+        void getOrder_otherUsersOrder_notFound() {
+            // arrange
+            insertSummary(1L, otherUserId, OrderStatus.PAID);
+
+            // act
+            CoreException exception = assertThrows(CoreException.class, () -> orderFacade.getOrder("bobby34", 1L));
+
+            // assert
+            assertEquals(ErrorType.NOT_FOUND, exception.getErrorType());
+        }
+    }
+
+    /**
+     * commerce-streamer 가 쓰는 것처럼 UTC 로 저장한다.
+     */
+    private void insertSummary(Long orderId, Long userId, OrderStatus status) {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.update(
+                "insert into order_summary (order_id, user_id, status, total_price, item_count, items, ordered_at, last_event_at, projected_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                orderId, userId, status.name(), 1000L, 1,
+                "[{\"productId\":1,\"productName\":\"상품\",\"brandName\":\"loopers\",\"quantity\":1,\"unitPrice\":1000,\"totalAmount\":1000}]",
+                now, now, now
+        );
+    }
+
+    private UserInfo userInfo(String loginId, int point) {
+        return UserInfo.builder()
+                .loginId(loginId)
+                .email(loginId + "@naver.com")
+                .birthday("1994-04-08")
+                .gender("M")
+                .point(point)
+                .build();
+    }
+}
@@ -0,0 +1,255 @@
+package com.loopers.domain.outbox;
+
+import com.loopers.application.order.OrderFacade;
+import com.loopers.application.order.OrderInfo;
+import com.loopers.application.outbox.OutboxRelayFacade;
+import com.loopers.application.user.UserFacade;
+import com.loopers.application.user.UserInfo;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.order.OrderEventType;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.stock.StockService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+@Slf4j
+@DisplayName("outbox 저장 / relay 통합 테스트")
+@SpringBootTest
+public class OutboxRelayIntegrationTest {
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private OutboxRelayFacade outboxRelayFacade;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @MockitoSpyBean
+    private OutboxEventPublisher outboxEventPublisher;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private UserFacade userFacade;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Long brandId = brandService.createBrand("loopers", "루퍼스").getId();
+        productId = productService.createProduct(brandId, "상품", 1000L).getId();
+        stockService.createStock(productId, 100L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("성공 케이스 : 결제에 성공하면 주문 생성 / 결제 완료 이벤트가 주문과 함께 남는다")
+    @Test
+    void placeOrder_paid_appendsEventsInOrderTransaction() {
+        // arrange
+        userFacade.saveUser(userInfo("bobby34", 10_000));
+
+        // act
+        OrderInfo order = orderFacade.placeOrder("bobby34", Map.of(productId, 2L));
+
+        // assert
+        assertEquals(
+                List.of(OrderEventType.ORDER_CREATED.name(), OrderEventType.PAYMENT_COMPLETED.name()),
+                eventTypes(order.id())
+        );
+    }
+
+    @DisplayName("성공 케이스 : 결제에 실패하면 rollback 된 주문의 이벤트는 남지 않고 결제 실패 주문의 이벤트만 남는다")
+    @Test
+    void placeOrder_paymentFailed_onlyFailedOrderEvents() {
+        // arrange
+        userFacade.saveUser(userInfo("bobby34", 0));
+
+        // act
+        assertThrows(CoreException.class, () -> orderFacade.placeOrder("bobby34", Map.of(productId, 2L)));
+
+        // assert
+        List<OutboxEvent> events = outboxService.findOldest(10);
+        assertAll(
+                () -> assertEquals(2, events.size()),
+                () -> assertEquals(1, events.stream().map(OutboxEvent::getAggregateId).distinct().count()),
+                () -> assertEquals(
+                        List.of(OrderEventType.ORDER_CREATED.name(), OrderEventType.PAYMENT_FAILED.name()),
+                        events.stream().map(OutboxEvent::getEventType).toList()
+                )
+        );
+    }
+
+    @DisplayName("실패 케이스 : 재고가 부족해서 실패한 주문은 결제 실패 주문으로 남지 않는다")
+    @Test
+    void placeOrder_outOfStock_noFailedOrder() {
+        // arrange
+        userFacade.saveUser(userInfo("bobby34", 1_000_000));
+
+        // act
+        CoreException exception = assertThrows(CoreException.class, () -> orderFacade.placeOrder("bobby34", Map.of(productId, 101L)));
+
+        // assert
+        assertAll(
+                () -> assertEquals(ErrorType.BAD_REQUEST, exception.getErrorType()),
+                () -> assertTrue(outboxService.findOldest(10).isEmpty())
+        );
+    }
+
+    @DisplayName("성공 케이스 : 발행한 이벤트는 지우고, 실패한 이벤트와 같은 aggregate 의 뒤 이벤트는 남겨서 다음에 순서대로 발행한다")
+    @Test
+    void relay_failedEvent_keepsLaterEventsOfSameAggregate() {
+        // arrange
+        List<OutboxEvent> first = appendEvents(1L, 3);
+        appendEvents(2L, 3);
+        Long failedId = first.get(1).getId();
+        doAnswer(invocation -> {
+            Set<Long> published = new HashSet<>((Set<Long>) invocation.callRealMethod());
+            published.remove(failedId);
+            return published;
+        }).when(outboxEventPublisher).publish(anyList());
+
+        // act
+        int deleted = outboxRelayFacade.relay(100);
+
+        // assert
+        assertAll(
+                () -> assertEquals(4, deleted),
+                () -> assertEquals(
+                        List.of(first.get(1).getId(), first.get(2).getId()),
+                        outboxService.findOldest(100).stream().map(OutboxEvent::getId).toList()
+                ),
+                () -> assertEquals(List.of(), eventTypes(2L))
+        );
+    }
+
+    @DisplayName("성공 케이스 : 시계가 늦은 노드가 나중에 저장해서 id 가 더 작아도, 저장한 순서대로 읽는다")
+    @Test
+    void findOldest_laterEventWithSmallerId_insertOrder() {
+        // arrange
+        OutboxEvent first = appendEvents(3L, 1).get(0);
+        long skewedId = first.getId() - (1L << 32);
+        jdbcTemplate.update(
+                "insert into outbox_event (id, aggregate_type, aggregate_id, event_type, payload, created_at, updated_at) values (?, 'ORDER', 3, 'TEST_SKEWED', '{}', now(6), now(6))",
+                skewedId);
+
+        // act
+        List<OutboxEvent> events = outboxService.findOldest(10);
+
+        // assert
+        assertEquals(List.of(first.getId(), skewedId), events.stream().map(OutboxEvent::getId).toList());
+    }
+
+    @DisplayName("성공 케이스 : 쌓인 이벤트를 모두 발행하고 지운다 (처리량 / 발행 지연은 로그로 확인)")
+    @Test
+    void relay_backlog_publishesAll() {
+        // arrange
+        int aggregateCount = 1000;
+        int eventsPerAggregate = 20;
+        for (long aggregateId = 1; aggregateId <= aggregateCount; aggregateId++) {
+            appendEvents(aggregateId, eventsPerAggregate);
+        }
+        int batchSize = 500;
+
+        // act
+        long startedAt = System.nanoTime();
+        int published = 0;
+        int deleted;
+        do {
+            deleted = outboxRelayFacade.relay(batchSize);
+            published += deleted;
+        } while (deleted > 0);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // assert
+        Timer lag = meterRegistry.find("outbox.relay.lag").timer();
+        assertAll(
+                () -> assertEquals(aggregateCount * eventsPerAggregate, published),
+                () -> assertEquals(0, outboxService.findOldest(1).size())
+        );
+        log.info("[outbox relay] {} events / batch {} : {} ms ({} events/s), lag mean {} ms, max {} ms",
+                published, batchSize, elapsedMillis, published * 1000L / Math.max(elapsedMillis, 1),
+                (long) lag.mean(TimeUnit.MILLISECONDS), (long) lag.max(TimeUnit.MILLISECONDS));
+    }
+
+    private List<OutboxEvent> appendEvents(Long aggregateId, int count) {
+        return transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                events.add(outboxService.append(OutboxAggregateType.ORDER, aggregateId, "TEST_" + i, Map.of("seq", i)));
+            }
+            return events;
+        });
+    }
+
+    private List<String> eventTypes(Long aggregateId) {
+        return jdbcTemplate.queryForList(
+                "select event_type from outbox_event where aggregate_id = ? order by seq", String.class, aggregateId);
+    }
+
+    private UserInfo userInfo(String loginId, int point) {
+        return UserInfo.builder()
+                .loginId(loginId)
+                .email(loginId + "@naver.com")
+                .birthday("1994-04-08")
+                .gender("M")
+                .point(point)
+                .build();
+    }
+}
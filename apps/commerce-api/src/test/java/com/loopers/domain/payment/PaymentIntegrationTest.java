@@ -0,0 +1,236 @@
+package com.loopers.domain.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.order.OrderFacade;
+import com.loopers.application.order.OrderInfo;
+import com.loopers.application.payment.PaymentFacade;
+import com.loopers.application.user.UserFacade;
+import com.loopers.application.user.UserInfo;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.order.OrderService;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.stock.StockService;
+import com.loopers.infrastructure.payment.PgStubServer;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@DisplayName("PG 카드 결제 통합 테스트")
+@SpringBootTest
+public class PaymentIntegrationTest {
+
+    private static final PgStubServer pgStubServer = PgStubServer.start(0, new ObjectMapper());
+
+    @DynamicPropertySource
+    static void pgProperties(DynamicPropertyRegistry registry) {
+        registry.add("pg.client.base-url", () -> "http://localhost:" + pgStubServer.port());
+        registry.add("pg.client.callback-url", () -> "");
+        registry.add("pg.client.request-timeout-ms", () -> 500);
+        registry.add("pg.client.max-retries", () -> 1);
+        registry.add("pg.client.retry-base-delay-ms", () -> 10);
+        registry.add("pg.client.circuit-breaker.window-size", () -> 10);
+        registry.add("pg.client.circuit-breaker.minimum-calls", () -> 5);
+        registry.add("pg.client.circuit-breaker.open-duration-ms", () -> 500);
+        registry.add("pg.client.circuit-breaker.half-open-calls", () -> 1);
+    }
+
+    @AfterAll
+    static void stopPg() {
+        pgStubServer.close();
+    }
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private PaymentFacade paymentFacade;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private UserFacade userFacade;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    Long productId;
+
+    @BeforeEach
+    void setUp() {
+        pgStubServer.reset();
+        Long brandId = brandService.createBrand("loopers", "루퍼스").getId();
+        productId = productService.createProduct(brandId, "상품", 1000L).getId();
+        stockService.createStock(productId, 100L);
+        userFacade.saveUser(UserInfo.builder()
+                .loginId("bobby34")
+                .email("bobby34@naver.com")
+                .birthday("1994-04-08")
+                .gender("M")
+                .point(0)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("성공 케이스 : 카드 주문은 PENDING_PAYMENT 로 응답하고, PG 가 승인하면 조회로 PAID 가 된다")
+    @Test
+    void placeOrder_card_paidAfterSync() {
+        // arrange
+        pgStubServer.setCallbackDelayMs(100);
+
+        // act
+        OrderInfo order = orderFacade.placeOrder("bobby34", Map.of(productId, 2L), PaymentMethod.CARD);
+        await().atMost(Duration.ofSeconds(3))
+                .until(() -> paymentService.getPayment(order.id()).getTransactionKey() != null);
+        await().atMost(Duration.ofSeconds(3)).untilAsserted(() -> {
+            paymentFacade.syncPending(Duration.ZERO, 100);
+            assertEquals(OrderStatus.PAID, orderService.getOrder(order.id()).getStatus());
+        });
+
+        // assert
+        assertAll(
+                () -> assertEquals(OrderStatus.PENDING_PAYMENT, order.status()),
+                () -> assertEquals(PaymentStatus.SUCCESS, paymentService.getPayment(order.id()).getStatus()),
+                () -> assertEquals(98L, stockService.getQuantity(productId))
+        );
+    }
+
+    @DisplayName("성공 케이스 : PG 가 거절하면 callback 으로 PAYMENT_FAILED 가 되고 재고가 돌아온다")
+    @Test
+    void handleCallback_declined_restoresStock() {
+        // arrange
+        pgStubServer.setDeclineRate(1.0);
+        OrderInfo order = orderFacade.placeOrder("bobby34", Map.of(productId, 2L), PaymentMethod.CARD);
+        await().atMost(Duration.ofSeconds(3))
+                .until(() -> paymentService.getPayment(order.id()).getTransactionKey() != null);
+
+        // act
+        await().atMost(Duration.ofSeconds(3)).untilAsserted(() -> {
+            paymentFacade.handleCallback(order.id()).join();
+            assertEquals(OrderStatus.PAYMENT_FAILED, orderService.getOrder(order.id()).getStatus());
+        });
+
+        // assert
+        assertAll(
+                () -> assertEquals(PaymentStatus.FAILED, paymentService.getPayment(order.id()).getStatus()),
+                () -> assertEquals(100L, stockService.getQuantity(productId))
+        );
+    }
+
+    @DisplayName("성공 케이스 : PG 응답이 timeout 보다 늦어도 주문은 바로 응답하고, 결제는 조회로 끝난다")
+    @Test
+    void placeOrder_slowPg_respondsWithoutWaiting() {
+        // arrange
+        pgStubServer.setLatency(1500, 1500);
+
+        // act
+        long startedAt = System.nanoTime();
+        OrderInfo order = orderFacade.placeOrder("bobby34", Map.of(productId, 1L), PaymentMethod.CARD);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        pgStubServer.setLatency(0, 0);
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            paymentFacade.syncPending(Duration.ZERO, 100);
+            assertEquals(OrderStatus.PAID, orderService.getOrder(order.id()).getStatus());
+        });
+
+        // assert
+        assertTrue(elapsedMillis < 500, "주문 응답 " + elapsedMillis + " ms");
+        log.info("[slow pg] order api : {} ms, pg.client.retries : {}",
+                elapsedMillis, meterRegistry.get("pg.client.retries").counter().count());
+    }
+
+    @DisplayName("성공 케이스 : PG 가 계속 실패하면 circuit 이 열리고, 이후 주문은 PG 를 부르지 않고 바로 결제 실패로 끝난다")
+    @Test
+    void placeOrder_pgDown_circuitOpensAndFailsFast() throws InterruptedException {
+        // arrange
+        pgStubServer.setFailureRate(1.0);
+        for (int i = 0; i < 5; i++) {
+            orderFacade.placeOrder("bobby34", Map.of(productId, 1L), PaymentMethod.CARD);
+        }
+        await().atMost(Duration.ofSeconds(3))
+                .until(() -> meterRegistry.get("pg.circuit.state").gauge().value() == 1.0);
+        Thread.sleep(100); // open 되기 전에 예약된 재시도가 끝나기를 기다린다.
+        int requestsBeforeOpen = pgStubServer.requestCount();
+
+        // act
+        OrderInfo order = orderFacade.placeOrder("bobby34", Map.of(productId, 1L), PaymentMethod.CARD);
+        await().atMost(Duration.ofSeconds(3))
+                .untilAsserted(() -> assertEquals(OrderStatus.PAYMENT_FAILED, orderService.getOrder(order.id()).getStatus()));
+
+        // assert
+        assertAll(
+                () -> assertEquals(requestsBeforeOpen, pgStubServer.requestCount()),
+                () -> assertEquals(PaymentStatus.FAILED, paymentService.getPayment(order.id()).getStatus())
+        );
+        // 다음 테스트를 위해 circuit 이 half-open 이 될 때까지 기다린다.
+        Thread.sleep(600);
+    }
+
+    @DisplayName("성공 케이스 : PG 지연이 커져도 주문 API 의 지연은 늘지 않는다 (결과는 로그로 확인)")
+    @Test
+    void placeOrder_pgLatency_doesNotLeakIntoOrderApi() {
+        // arrange
+        int orderCount = 50;
+        pgStubServer.setLatency(200, 800);
+
+        // act
+        long[] elapsedMicros = new long[orderCount];
+        for (int i = 0; i < orderCount; i++) {
+            long startedAt = System.nanoTime();
+            orderFacade.placeOrder("bobby34", Map.of(productId, 1L), PaymentMethod.CARD);
+            elapsedMicros[i] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt);
+        }
+
+        // assert
+        Arrays.sort(elapsedMicros);
+        long p99 = elapsedMicros[(int) (orderCount * 0.99) - 1];
+        assertTrue(p99 < 200_000, "주문 p99 " + p99 + " us");
+        log.info("[pg latency 200~800 ms] order api p50 : {} us, p99 : {} us, pg.bulkhead.in-flight : {}",
+                elapsedMicros[orderCount / 2], p99, meterRegistry.get("pg.bulkhead.in-flight").gauge().value());
+    }
+}
@@ -0,0 +1,79 @@
+package com.loopers.domain.point;
+
+import com.loopers.infrastructure.point.PointHistoryJpaRepository;
+import com.loopers.infrastructure.point.PointJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * IDENTITY(Point) 와 TSID(PointHistory) 의 대량 insert 처리량을 비교한다.
+ * 결과는 로그로 남긴다. (CI 환경마다 편차가 커서 처리량 자체는 검증하지 않는다)
+ */
+@Slf4j
+@DisplayName("PointHistory TSID insert batching 테스트")
+@SpringBootTest
+public class PointHistoryBatchInsertTest {
+
+    @Autowired
+    private PointJpaRepository pointJpaRepository;
+
+    @Autowired
+    private PointHistoryJpaRepository pointHistoryJpaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    final int rowCount = 10_000;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("성공 케이스 : TSID 로 저장한 내역은 모두 저장되고 ID 가 생성 순서대로 증가한다")
+    @Test
+    void saveAll_tsid_idsAreTimeOrdered() {
+        // arrange
+        List<PointHistory> histories = LongStream.rangeClosed(1, rowCount)
+                .mapToObj(i -> PointHistory.charge(i, 10L))
+                .toList();
+
+        // act
+        long tsidMillis = timed(() -> pointHistoryJpaRepository.saveAll(histories));
+        long identityMillis = timed(() -> pointJpaRepository.saveAll(LongStream.rangeClosed(1, rowCount)
+                .mapToObj(i -> Point.create(i, 0L))
+                .toList()));
+
+        // assert
+        assertEquals(rowCount, pointHistoryJpaRepository.count());
+        for (int i = 1; i < histories.size(); i++) {
+            assertTrue(histories.get(i).getId() > histories.get(i - 1).getId());
+        }
+        log.info("[insert {} rows] TSID(batched) : {} ms ({} rows/s), IDENTITY : {} ms ({} rows/s)",
+                rowCount,
+                tsidMillis, rowCount * 1000L / Math.max(tsidMillis, 1),
+                identityMillis, rowCount * 1000L / Math.max(identityMillis, 1));
+    }
+
+    private long timed(Runnable inserts) {
+        long startedAt = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> inserts.run());
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+}
@@ -0,0 +1,105 @@
+package com.loopers.domain.point;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Point 테스트")
+public class PointTest {
+
+    final Long validUserId = 1L;
+
+    @DisplayName("point snapshot 생성")
+    @Nested
+    class CreatePointTest {
+
+        @DisplayName("실패 케이스 : 초기 point 가 Null 이면 Point 객체 생성 실패")
+        @Test
+        void createPoint_withNullAmount_BadRequest() {
+            // arrange
+
+            // act
+            CoreException result = assertThrows(CoreException.class,
+                    () -> Point.create(validUserId, null)
+            );
+
+            // assert
+            assertEquals(ErrorType.BAD_REQUEST, result.getErrorType());
+            assertEquals("point가 Null 이 되면 안 됩니다.", result.getCustomMessage());
+        }
+
+        @DisplayName("실패 케이스 : 초기 point 가 음수이면 Point 객체 생성 실패")
+        @Test
+        void createPoint_withNegativeAmount_BadRequest() {
+            // arrange
+            Long amount = -1L;
+
+            // act
+            CoreException result = assertThrows(CoreException.class,
+                    () -> Point.create(validUserId, amount)
+            );
+
+            // assert
+            assertEquals(ErrorType.BAD_REQUEST, result.getErrorType());
+            assertEquals("point는 음수가 될 수 없습니다.", result.getCustomMessage());
+        }
+    }
+
+    @DisplayName("point 충전 테스트")
+    @Nested
+    class ChargeTest {
+
+        @DisplayName("실패 케이스 : 0 이하의 정수로 포인트를 충전 시 실패")
+        @Test
+        void charge_inputZero_BadRequest() {
+            // arrange
+            Long requestPoint = 0L;
+
+            // act
+            CoreException result = assertThrows(CoreException.class,
+                    () -> PointHistory.charge(validUserId, requestPoint)
+            );
+
+            // assert
+            assertEquals(ErrorType.BAD_REQUEST, result.getErrorType());
+            assertEquals("충전할 point는 0 이하가 될 수 없습니다.", result.getCustomMessage());
+        }
+
+        @DisplayName("실패 케이스 : 음수로 포인트를 충전 시 실패")
+        @Test
+        void charge_inputBelowZero_BadRequest() {
+            // arrange
+            Long requestPoint = -10L;
+
+            // act
+            CoreException result = assertThrows(CoreException.class,
+                    () -> PointHistory.charge(validUserId, requestPoint)
+            );
+
+            // assert
+            assertEquals(ErrorType.BAD_REQUEST, result.getErrorType());
+            assertEquals("충전할 point는 0 이하가 될 수 없습니다.", result.getCustomMessage());
+        }
+
+        @DisplayName("성공 케이스 : 사용 내역은 음수 amount 로 저장")
+        @Test
+        void use_storedAsNegativeAmount() {
+            // arrange
+            Long requestPoint = 10L;
+
+            // act
+            PointHistory history = PointHistory.use(validUserId, requestPoint);
+
+            // assert
+            assertAll(
+                    () -> assertEquals(-10L, history.getAmount())
+                    , () -> assertEquals(PointHistoryType.USE, history.getType())
+                    , () -> assertFalse(history.isCompacted())
+            );
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.loopers.domain.product;
+
+import com.loopers.application.product.ProductFacade;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("상품 상세 2단 캐시 통합 테스트")
+@SpringBootTest
+public class ProductDetailCacheIntegrationTest {
+
+    @Autowired
+    private ProductFacade productFacade;
+
+    @MockitoSpyBean
+    private ProductService productService;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private ProductDetailCacheRepository productDetailCacheRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    Product product;
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = brandService.createBrand("loopers", "루퍼스");
+        product = productService.createProduct(brand.getId(), "운동화", 10000L);
+        clearInvocations(productService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 로컬 캐시는 Redis 를 비워도 남으므로 지운다. (truncate 후 같은 id 가 다시 쓰인다)
+        productDetailCacheRepository.evict(product.getId());
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("성공 케이스 : 여러 번 조회해도 DB 에서는 한 번만 읽는다")
+    @Test
+    void getProduct_repeated_loadedOnce() {
+        // act
+        for (int i = 0; i < 10; i++) {
+            productFacade.getProduct(product.getId());
+        }
+
+        // assert
+        verify(productService, times(1)).getProduct(product.getId());
+    }
+
+    @DisplayName("성공 케이스 : 상품을 수정하면 바로 다음 조회에서 수정된 상세를 읽는다")
+    @Test
+    void updateProduct_evicted_readsUpdated() {
+        // arrange
+        productFacade.getProduct(product.getId());
+
+        // act
+        productService.updateProduct(product.getId(), "러닝화", 12000L);
+
+        // assert
+        assertAll(
+                () -> assertEquals("러닝화", productFacade.getProduct(product.getId()).name()),
+                () -> assertEquals(12000L, productFacade.getProduct(product.getId()).price())
+        );
+    }
+
+    @DisplayName("성공 케이스 : 다른 노드가 보낸 무효화 메시지를 받으면 로컬 캐시를 지운다")
+    @Test
+    void invalidationMessage_fromOtherNode_evictsLocalCache() {
+        // arrange
+        productFacade.getProduct(product.getId());
+        // 다른 노드가 상품을 수정하고 Redis 캐시를 지운 상황
+        jdbcTemplate.update("update product set name = ? where id = ?", "러닝화", product.getId());
+        redisTemplate.delete("product:detail:" + product.getId());
+
+        // act
+        redisTemplate.convertAndSend("product:detail:invalidate", String.valueOf(product.getId()));
+
+        // assert
+        await().atMost(Duration.ofSeconds(3))
+                .untilAsserted(() -> assertEquals("러닝화", productFacade.getProduct(product.getId()).name()));
+    }
+
+    @DisplayName("실패 케이스 : 없는 상품은 NOT_FOUND")
+    @Test
+    void getProduct_unknown_throwsNotFound() {
+        // act
+        CoreException result = assertThrows(CoreException.class, () -> productFacade.getProduct(999L));
+
+        // assert
+        assertEquals(ErrorType.NOT_FOUND, result.getErrorType());
+    }
+}
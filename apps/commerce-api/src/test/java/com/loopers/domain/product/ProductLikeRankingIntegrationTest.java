@@ -0,0 +1,148 @@
+package com.loopers.domain.product;
+
+import com.loopers.application.product.ProductFacade;
+import com.loopers.application.product.ProductListInfo;
+import com.loopers.application.product.ProductListItemInfo;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("좋아요 랭킹 (Redis sorted set) 통합 테스트")
+@SpringBootTest(properties = "product.like-ranking.enabled=true")
+public class ProductLikeRankingIntegrationTest {
+
+    @Autowired
+    private ProductFacade productFacade;
+
+    @MockitoSpyBean
+    private ProductService productService;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("성공 케이스 : 랭킹으로 읽은 좋아요순 페이지가 DB 로 읽은 순서와 같고, DB 를 읽지 않는다")
+    @Test
+    void getProducts_likesDesc_sameOrderAsDatabase() {
+        // arrange
+        Brand loopers = brandService.createBrand("loopers", "루퍼스");
+        Brand other = brandService.createBrand("other", "다른 브랜드");
+        for (int i = 0; i < 17; i++) {
+            Long brandId = i % 2 == 0 ? loopers.getId() : other.getId();
+            Long productId = productService.createProduct(brandId, "상품" + i, 1000L).getId();
+            // streamer 가 반영한 것처럼 DB 와 랭킹에 같은 좋아요 수를 넣는다. (좋아요 수가 겹치게)
+            long likeCount = i % 4;
+            jdbcTemplate.update("update product set like_count = ? where id = ?", likeCount, productId);
+            double score = ProductLikeScore.of(likeCount, productId);
+            redisTemplate.opsForZSet().add("product:rank:likes", String.valueOf(productId), score);
+            redisTemplate.opsForZSet().add("product:rank:likes:brand:" + brandId, String.valueOf(productId), score);
+        }
+        List<Long> expectedAll = databaseOrder(null);
+        List<Long> expectedLoopers = databaseOrder(loopers.getId());
+        clearInvocations(productService);
+
+        // act
+        List<ProductListItemInfo> all = readAllPages(null, 4);
+        List<ProductListItemInfo> loopersOnly = readAllPages(loopers.getId(), 4);
+
+        // assert
+        assertAll(
+                () -> assertEquals(expectedAll, all.stream().map(ProductListItemInfo::id).toList()),
+                () -> assertEquals(expectedLoopers, loopersOnly.stream().map(ProductListItemInfo::id).toList()),
+                () -> verify(productService, never()).getProducts(any())
+        );
+    }
+
+    @DisplayName("성공 케이스 : 새 상품은 커밋 후 좋아요 0 으로 랭킹에 들어간다")
+    @Test
+    void createProduct_registeredToRankingWithZeroLikes() {
+        // arrange
+        Brand brand = brandService.createBrand("loopers", "루퍼스");
+
+        // act
+        Product product = productService.createProduct(brand.getId(), "상품", 1000L);
+
+        // assert
+        Double score = redisTemplate.opsForZSet().score("product:rank:likes:brand:" + brand.getId(), String.valueOf(product.getId()));
+        assertAll(
+                () -> assertEquals(ProductLikeScore.of(0, product.getId()), score),
+                () -> assertEquals(0L, ProductLikeScore.likeCountOf(score))
+        );
+    }
+
+    @DisplayName("성공 케이스 : 랭킹 키가 없으면 DB 로 조회한다")
+    @Test
+    void getProducts_rankingMissing_fallbackToDatabase() {
+        // arrange
+        Brand brand = brandService.createBrand("loopers", "루퍼스");
+        for (int i = 0; i < 3; i++) {
+            productService.createProduct(brand.getId(), "상품" + i, 1000L);
+        }
+        redisCleanUp.truncateAll();
+
+        // act
+        ProductListInfo result = productFacade.getProducts(null, ProductSortType.LIKES_DESC, null, 10);
+
+        // assert
+        assertAll(
+                () -> assertEquals(3, result.items().size()),
+                () -> verify(productService).getProducts(any())
+        );
+    }
+
+    private List<ProductListItemInfo> readAllPages(Long brandId, int size) {
+        List<ProductListItemInfo> items = new ArrayList<>();
+        String cursor = null;
+        do {
+            ProductListInfo page = productFacade.getProducts(brandId, ProductSortType.LIKES_DESC, cursor, size);
+            items.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return items;
+    }
+
+    private List<Long> databaseOrder(Long brandId) {
+        return productService.getProducts(new ProductSearchCondition(brandId, ProductSortType.LIKES_DESC, null, 1000)).items().stream()
+                .map(ProductSummary::id)
+                .toList();
+    }
+}
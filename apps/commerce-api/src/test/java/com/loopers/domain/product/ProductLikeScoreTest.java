@@ -0,0 +1,61 @@
+package com.loopers.domain.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ProductLikeScore 단위 테스트")
+class ProductLikeScoreTest {
+
+    @DisplayName("성공 케이스 : 지원 범위의 최대값도 score 에서 좋아요 수 / productId 를 그대로 되돌린다")
+    @Test
+    void of_maxValues_roundTrip() {
+        // arrange
+        long likeCount = ProductLikeScore.MAX_LIKE_COUNT;
+        long productId = ProductLikeScore.MAX_PRODUCT_ID;
+
+        // act
+        double score = ProductLikeScore.of(likeCount, productId);
+
+        // assert
+        assertAll(
+                () -> assertEquals(likeCount, ProductLikeScore.likeCountOf(score)),
+                () -> assertEquals(productId, ProductLikeScore.productIdOf(score))
+        );
+    }
+
+    @DisplayName("성공 케이스 : score 순서가 (like_count desc, id desc) 와 같다")
+    @Test
+    void of_orderMatchesLikeCountThenId() {
+        // arrange / act
+        double moreLikes = ProductLikeScore.of(2, 1);
+        double sameLikesBiggerId = ProductLikeScore.of(1, 100);
+        double sameLikesSmallerId = ProductLikeScore.of(1, 99);
+
+        // assert
+        assertAll(
+                () -> assertTrue(moreLikes > sameLikesBiggerId),
+                () -> assertTrue(sameLikesBiggerId > sameLikesSmallerId),
+                () -> assertEquals(1.0, sameLikesBiggerId - sameLikesSmallerId)
+        );
+    }
+
+    @DisplayName("실패 케이스 : 범위를 넘는 값은 지원하지 않고 score 를 만들면 예외가 발생한다")
+    @Test
+    void of_outOfRange_throwsException() {
+        // arrange
+        long tooManyLikes = ProductLikeScore.MAX_LIKE_COUNT + 1;
+
+        // act / assert
+        assertAll(
+                () -> assertFalse(ProductLikeScore.supports(tooManyLikes, 1)),
+                () -> assertFalse(ProductLikeScore.supports(1, ProductLikeScore.MAX_PRODUCT_ID + 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> ProductLikeScore.of(tooManyLikes, 1))
+        );
+    }
+}
@@ -0,0 +1,135 @@
+package com.loopers.domain.product;
+
+import com.loopers.application.product.ProductFacade;
+import com.loopers.application.product.ProductListInfo;
+import com.loopers.application.product.ProductListItemInfo;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("상품 목록 페이지 캐시 통합 테스트")
+@SpringBootTest(properties = "product.list-cache.enabled=true")
+public class ProductListCacheIntegrationTest {
+
+    @Autowired
+    private ProductFacade productFacade;
+
+    @MockitoSpyBean
+    private ProductService productService;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    Brand loopers;
+    Brand other;
+
+    @BeforeEach
+    void setUp() {
+        loopers = brandService.createBrand("loopers", "루퍼스");
+        other = brandService.createBrand("other", "다른 브랜드");
+        for (int i = 0; i < 3; i++) {
+            productService.createProduct(loopers.getId(), "상품" + i, (i + 1) * 1000L);
+        }
+        clearInvocations(productService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("성공 케이스 : 같은 페이지를 여러 번 조회해도 DB 에서는 한 번만 읽는다")
+    @Test
+    void getProducts_repeated_loadedOnce() {
+        // arrange
+        ProductListInfo first = productFacade.getProducts(loopers.getId(), ProductSortType.PRICE_ASC, null, 10);
+
+        // act
+        ProductListInfo second = productFacade.getProducts(loopers.getId(), ProductSortType.PRICE_ASC, null, 10);
+
+        // assert
+        assertAll(
+                () -> assertEquals(first, second),
+                () -> assertEquals(List.of("loopers", "loopers", "loopers"), second.items().stream().map(ProductListItemInfo::brandName).toList()),
+                () -> verify(productService, times(1)).getProducts(any())
+        );
+    }
+
+    @DisplayName("성공 케이스 : 브랜드에 상품이 추가되면 그 브랜드와 전체 목록은 새로 읽는다")
+    @Test
+    void getProducts_afterCreate_versionBumped() {
+        // arrange
+        productFacade.getProducts(loopers.getId(), ProductSortType.LATEST, null, 10);
+        productFacade.getProducts(null, ProductSortType.LATEST, null, 10);
+
+        // act
+        Product created = productService.createProduct(loopers.getId(), "신상품", 500L);
+        ProductListInfo brandPage = productFacade.getProducts(loopers.getId(), ProductSortType.LATEST, null, 10);
+        ProductListInfo allPage = productFacade.getProducts(null, ProductSortType.LATEST, null, 10);
+
+        // assert
+        assertAll(
+                () -> assertEquals(4, brandPage.items().size()),
+                () -> assertEquals(created.getId(), brandPage.items().get(0).id()),
+                () -> assertEquals(created.getId(), allPage.items().get(0).id())
+        );
+    }
+
+    @DisplayName("성공 케이스 : 상품이 수정되면 수정된 값으로 읽고, 다른 브랜드의 목록 캐시는 그대로 쓴다")
+    @Test
+    void getProducts_afterUpdate_onlyThatBrandReloaded() {
+        // arrange
+        Product otherProduct = productService.createProduct(other.getId(), "다른 상품", 1000L);
+        Long productId = productFacade.getProducts(loopers.getId(), ProductSortType.PRICE_ASC, null, 10).items().get(0).id();
+        productFacade.getProducts(other.getId(), ProductSortType.PRICE_ASC, null, 10);
+        clearInvocations(productService);
+
+        // act
+        productService.updateProduct(productId, "이름 바뀐 상품", 100L);
+        ProductListInfo updated = productFacade.getProducts(loopers.getId(), ProductSortType.PRICE_ASC, null, 10);
+        ProductListInfo untouched = productFacade.getProducts(other.getId(), ProductSortType.PRICE_ASC, null, 10);
+
+        // assert
+        assertAll(
+                () -> assertEquals("이름 바뀐 상품", updated.items().get(0).name()),
+                () -> assertEquals(100L, updated.items().get(0).price()),
+                () -> assertEquals(otherProduct.getId(), untouched.items().get(0).id()),
+                () -> verify(productService, times(1)).getProducts(any())
+        );
+    }
+
+    @DisplayName("성공 케이스 : 캐시를 끈 정렬은 매번 새로 읽는다")
+    @Test
+    void getProducts_disabledSort_notCached() {
+        // act
+        productFacade.getProducts(loopers.getId(), ProductSortType.LIKES_DESC, null, 10);
+        productFacade.getProducts(loopers.getId(), ProductSortType.LIKES_DESC, null, 10);
+
+        // assert
+        verify(productService, times(2)).getProducts(any());
+    }
+}
@@ -0,0 +1,179 @@
+package com.loopers.domain.product;
+
+import com.loopers.application.product.ProductFacade;
+import com.loopers.application.product.ProductListInfo;
+import com.loopers.application.product.ProductListItemInfo;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.utils.DatabaseCleanUp;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@Slf4j
+@DisplayName("상품 목록 keyset 페이징 통합 테스트")
+@SpringBootTest
+public class ProductListIntegrationTest {
+
+    @Autowired
+    private ProductFacade productFacade;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("페이지를 끝까지 넘기기")
+    @Nested
+    class PagingTest {
+
+        @DisplayName("성공 케이스 : 정렬 값이 같은 상품이 있어도 모든 정렬에서 중복/누락 없이 순서대로 조회된다")
+        @Test
+        void getProducts_allSorts_noDuplicateOrMissing() {
+            // arrange
+            Brand brand = brandService.createBrand("loopers", "루퍼스");
+            List<Long> productIds = new ArrayList<>();
+            for (int i = 0; i < 23; i++) {
+                // 가격/좋아요 수가 겹치도록 만든다.
+                productIds.add(productService.createProduct(brand.getId(), "상품" + i, (i % 5) * 1000L).getId());
+            }
+            for (int i = 0; i < productIds.size(); i++) {
+                jdbcTemplate.update("update product set like_count = ? where id = ?", i % 3, productIds.get(i));
+            }
+
+            for (ProductSortType sort : ProductSortType.values()) {
+                // act
+                List<ProductListItemInfo> items = readAllPages(brand.getId(), sort, 5);
+
+                // assert
+                assertEquals(expectedOrder(sort, brand.getId()), items.stream().map(ProductListItemInfo::id).toList(), sort.name());
+            }
+        }
+
+        @DisplayName("성공 케이스 : 브랜드로 거르면 그 브랜드의 상품만 조회되고 브랜드 이름이 채워진다")
+        @Test
+        void getProducts_brandFilter_onlyThatBrand() {
+            // arrange
+            Brand loopers = brandService.createBrand("loopers", "루퍼스");
+            Brand other = brandService.createBrand("other", "다른 브랜드");
+            for (int i = 0; i < 3; i++) {
+                productService.createProduct(loopers.getId(), "상품" + i, 1000L);
+                productService.createProduct(other.getId(), "다른 상품" + i, 1000L);
+            }
+
+            // act
+            ProductListInfo result = productFacade.getProducts(loopers.getId(), ProductSortType.PRICE_ASC, null, 10);
+
+            // assert
+            assertAll(
+                    () -> assertEquals(3, result.items().size()),
+                    () -> assertEquals(List.of("loopers", "loopers", "loopers"), result.items().stream().map(ProductListItemInfo::brandName).toList()),
+                    () -> assertNull(result.nextCursor())
+            );
+        }
+    }
+
+    @DisplayName("성공 케이스 : 깊은 페이지도 첫 페이지와 비슷한 시간에 조회된다 (결과는 로그로 확인)")
+    @Test
+    void getProducts_deepPage_latencyIsFlat() {
+        // arrange
+        Brand brand = brandService.createBrand("loopers", "루퍼스");
+        int productCount = 400_000;
+        int pageSize = 20;
+        seedProducts(brand.getId(), productCount);
+        // 정렬마다 중간쯤(약 10,000 번째 페이지)에 오는 상품을 cursor 위치로 쓴다.
+        ProductSummary middle = jdbcTemplate.queryForObject(
+                "select id, brand_id, name, price, like_count, created_at from product order by id limit 1 offset ?",
+                (rs, rowNum) -> new ProductSummary(
+                        rs.getLong("id"),
+                        rs.getLong("brand_id"),
+                        rs.getString("name"),
+                        rs.getLong("price"),
+                        rs.getLong("like_count"),
+                        rs.getObject("created_at", LocalDateTime.class).atZone(ZoneOffset.UTC)
+                ),
+                pageSize * 10_000
+        );
+
+        for (ProductSortType sort : ProductSortType.values()) {
+            ProductCursor cursor = ProductCursor.after(sort, middle);
+
+            // act
+            long firstPageMicros = timedMicros(() -> productService.getProducts(new ProductSearchCondition(null, sort, null, pageSize)));
+            long deepPageMicros = timedMicros(() -> productService.getProducts(new ProductSearchCondition(null, sort, cursor, pageSize)));
+
+            // assert
+            log.info("[{}] first page : {} us, page ~10,000 : {} us", sort, firstPageMicros, deepPageMicros);
+        }
+    }
+
+    private List<ProductListItemInfo> readAllPages(Long brandId, ProductSortType sort, int size) {
+        List<ProductListItemInfo> items = new ArrayList<>();
+        String cursor = null;
+        do {
+            ProductListInfo page = productFacade.getProducts(brandId, sort, cursor, size);
+            items.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return items;
+    }
+
+    private List<Long> expectedOrder(ProductSortType sort, Long brandId) {
+        List<ProductSummary> all = productService.getProducts(new ProductSearchCondition(brandId, ProductSortType.LATEST, null, 1000)).items();
+        Comparator<ProductSummary> comparator = switch (sort) {
+            case LATEST -> Comparator.comparing(ProductSummary::createdAt).thenComparing(ProductSummary::id).reversed();
+            case PRICE_ASC -> Comparator.comparing(ProductSummary::price).thenComparing(ProductSummary::id);
+            case LIKES_DESC -> Comparator.comparing(ProductSummary::likeCount).thenComparing(ProductSummary::id).reversed();
+        };
+        return all.stream().sorted(comparator).map(ProductSummary::id).toList();
+    }
+
+    private void seedProducts(Long brandId, int count) {
+        // Hibernate 와 같이 UTC 로 저장한다. (jdbc.time_zone: UTC)
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LocalDateTime createdAt = now.minusSeconds(i);
+            rows.add(new Object[]{brandId, "상품" + i, (long) (i % 1000) * 100, (long) (i % 500), createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into product (brand_id, name, price, like_count, created_at, updated_at) values (?, ?, ?, ?, ?, ?)",
+                rows
+        );
+    }
+
+    private long timedMicros(Runnable query) {
+        query.run(); // warm up
+        long startedAt = System.nanoTime();
+        query.run();
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt);
+    }
+}
@@ -0,0 +1,100 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Product 단위 테스트")
+class ProductTest {
+
+    @DisplayName("Product 엔티티 생성")
+    @Nested
+    class CreateProductTest {
+
+        @DisplayName("성공 케이스 : 좋아요 수 0 으로 생성된다")
+        @Test
+        void create_valid_likeCountZero() {
+            // act
+            Product product = Product.create(1L, "운동화", 10000L);
+
+            // assert
+            assertAll(
+                    () -> assertEquals(1L, product.getBrandId()),
+                    () -> assertEquals(0L, product.getLikeCount())
+            );
+        }
+
+        @DisplayName("실패 케이스 : 가격이 음수이면 BAD_REQUEST")
+        @Test
+        void create_negativePrice_throwsBadRequest() {
+            // act
+            CoreException result = assertThrows(CoreException.class, () -> Product.create(1L, "운동화", -1L));
+
+            // assert
+            assertEquals(ErrorType.BAD_REQUEST, result.getErrorType());
+        }
+
+        @DisplayName("실패 케이스 : 이름이 비어있으면 BAD_REQUEST")
+        @Test
+        void create_blankName_throwsBadRequest() {
+            // act
+            CoreException result = assertThrows(CoreException.class, () -> Product.create(1L, " ", 10000L));
+
+            // assert
+            assertEquals(ErrorType.BAD_REQUEST, result.getErrorType());
+        }
+    }
+
+    @DisplayName("ProductCursor")
+    @Nested
+    class ProductCursorTest {
+
+        @DisplayName("성공 케이스 : encode 한 cursor 를 decode 하면 같은 위치가 된다")
+        @Test
+        void decode_encoded_sameCursor() {
+            // arrange
+            ProductSummary last = new ProductSummary(10L, 1L, "운동화", 10000L, 3L, ZonedDateTime.parse("2025-01-01T00:00:00.123456Z"));
+            ProductCursor cursor = ProductCursor.after(ProductSortType.LATEST, last);
+
+            // act
+            ProductCursor decoded = ProductCursor.decode(cursor.encode(), ProductSortType.LATEST);
+
+            // assert
+            assertAll(
+                    () -> assertEquals(cursor, decoded),
+                    () -> assertEquals(last.createdAt().toInstant(), decoded.createdAt().toInstant())
+            );
+        }
+
+        @DisplayName("실패 케이스 : 다른 정렬의 cursor 이면 BAD_REQUEST")
+        @Test
+        void decode_otherSort_throwsBadRequest() {
+            // arrange
+            String encoded = new ProductCursor(ProductSortType.PRICE_ASC, 10000L, 10L).encode();
+
+            // act
+            CoreException result = assertThrows(CoreException.class, () -> ProductCursor.decode(encoded, ProductSortType.LIKES_DESC));
+
+            // assert
+            assertEquals(ErrorType.BAD_REQUEST, result.getErrorType());
+        }
+
+        @DisplayName("실패 케이스 : 형식이 맞지 않으면 BAD_REQUEST")
+        @Test
+        void decode_malformed_throwsBadRequest() {
+            // act
+            CoreException result = assertThrows(CoreException.class, () -> ProductCursor.decode("not-a-cursor", ProductSortType.LATEST));
+
+            // assert
+            assertEquals(ErrorType.BAD_REQUEST, result.getErrorType());
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.loopers.domain.stock;
+
+import com.loopers.application.order.OrderFacade;
+import com.loopers.application.user.UserFacade;
+import com.loopers.application.user.UserInfo;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.product.ProductService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+
+@Slf4j
+@DisplayName("group commit 차감 방식의 주문 (샤딩한 상품 포함)")
+@SpringBootTest(properties = "stock.combiner.enabled=true")
+public class StockCombinedOrderTest {
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private StockService stockService;
+
+    @MockitoSpyBean
+    private StockDecrementCombiner stockDecrementCombiner;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private UserFacade userFacade;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    final int threadCount = 32;
+    final int userCount = 50;
+
+    Long brandId;
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = brandService.createBrand("loopers", "루퍼스");
+        brandId = brand.getId();
+        for (int i = 0; i < userCount; i++) {
+            userFacade.saveUser(userInfo("user" + i, 1_000_000));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("성공 케이스 : 샤딩한 상품과 샤딩하지 않은 상품을 함께 주문해도 재고만큼만 성공한다")
+    @Test
+    void placeOrder_shardedAndUnsharded_noOversell() throws InterruptedException {
+        // arrange
+        Long shardedId = createProduct(100L);
+        stockService.shard(shardedId, 4);
+        Long unshardedId = createProduct(1000L);
+        int orderCount = 300;
+
+        // act
+        AtomicInteger successCount = new AtomicInteger();
+        runConcurrently(orderCount, i -> {
+            try {
+                orderFacade.placeOrder("user" + (i % userCount), Map.of(shardedId, 1L, unshardedId, 1L));
+                successCount.incrementAndGet();
+            } catch (CoreException e) {
+                if (e.getErrorType() != ErrorType.BAD_REQUEST) throw e;
+            }
+        });
+
+        // assert
+        assertAll(
+                () -> assertEquals(100, successCount.get()),
+                () -> assertEquals(0L, stockService.getQuantity(shardedId)),
+                () -> assertEquals(900L, stockService.getQuantity(unshardedId)),
+                () -> assertEquals(100, countOrders())
+        );
+    }
+
+    @DisplayName("실패 케이스 : 샤딩한 상품의 재고가 부족하면, 모아서 차감한 상품의 재고도 되돌린다")
+    @Test
+    void placeOrder_shardedOutOfStock_combinedRestored() {
+        // arrange
+        Long shardedId = createProduct(0L);
+        stockService.shard(shardedId, 4);
+        Long unshardedId = createProduct(10L);
+
+        // act
+        CoreException result = assertThrows(CoreException.class,
+                () -> orderFacade.placeOrder("user0", Map.of(shardedId, 1L, unshardedId, 1L)));
+
+        // assert
+        assertAll(
+                () -> assertEquals(ErrorType.BAD_REQUEST, result.getErrorType()),
+                () -> assertEquals(10L, stockService.getQuantity(unshardedId)),
+                () -> assertEquals(0L, stockService.getQuantity(shardedId)),
+                () -> assertEquals(0, countOrders())
+        );
+    }
+
+    @DisplayName("실패 케이스 : 없는 상품이 있으면 NOT_FOUND 이고, 다른 상품의 재고는 차감하지 않는다")
+    @Test
+    void placeOrder_unknownProduct_notFound() {
+        // arrange
+        Long productId = createProduct(10L);
+        Long unknownId = productId + 1000;
+
+        // act
+        CoreException result = assertThrows(CoreException.class,
+                () -> orderFacade.placeOrder("user0", Map.of(productId, 1L, unknownId, 1L)));
+
+        // assert
+        assertAll(
+                () -> assertEquals(ErrorType.NOT_FOUND, result.getErrorType()),
+                () -> assertEquals(10L, stockService.getQuantity(productId)),
+                () -> assertEquals(0, countOrders())
+        );
+    }
+
+    @DisplayName("실패 케이스 : 모아서 차감하다가 예외가 나면, 이미 차감한 상품의 재고를 되돌린다")
+    @Test
+    void deductCombined_combinerThrows_deductedRestored() {
+        // arrange
+        Long deductedId = createProduct(10L);
+        Long failingId = createProduct(10L);
+        doThrow(new IllegalStateException("flush 실패")).when(stockDecrementCombiner).decrement(eq(failingId), anyLong());
+        Map<Long, Long> quantities = new LinkedHashMap<>();
+        quantities.put(deductedId, 1L);
+        quantities.put(failingId, 1L);
+
+        // act
+        assertThrows(IllegalStateException.class, () -> stockService.deductCombined(quantities));
+
+        // assert
+        assertAll(
+                () -> assertEquals(10L, stockService.getQuantity(deductedId)),
+                () -> assertEquals(10L, stockService.getQuantity(failingId))
+        );
+    }
+
+    private Long createProduct(Long quantity) {
+        Long productId = productService.createProduct(brandId, "상품", 1000L).getId();
+        stockService.createStock(productId, quantity);
+        return productId;
+    }
+
+    private UserInfo userInfo(String loginId, int point) {
+        return UserInfo.builder()
+                .loginId(loginId)
+                .email(loginId + "@naver.com")
+                .birthday("1994-04-08")
+                .gender("M")
+                .point(point)
+                .build();
+    }
+
+    private int countOrders() {
+        Integer count = jdbcTemplate.queryForObject("select count(*) from orders where status = 'PAID'", Integer.class);
+        return count != null ? count : 0;
+    }
+
+    private void runConcurrently(int count, IntConsumer task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(count);
+        AtomicInteger failCount = new AtomicInteger();
+
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            executorService.submit(() -> {
+                try {
+                    task.accept(index);
+                } catch (Exception e) {
+                    log.error("실패", e);
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(2, TimeUnit.MINUTES);
+        executorService.shutdown();
+
+        assertEquals(0, failCount.get());
+    }
+}
@@ -0,0 +1,160 @@
+package com.loopers.domain.stock;
+
+import com.loopers.utils.DatabaseCleanUp;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntPredicate;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@DisplayName("재고 차감 group commit 테스트")
+@SpringBootTest
+public class StockDecrementCombinerTest {
+
+    @Autowired
+    private StockDecrementCombiner stockDecrementCombiner;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("성공 케이스 : 재고보다 많은 차감이 동시에 들어와도 재고만큼만 성공하고, 각 요청이 자기 결과를 받는다")
+    @Test
+    void decrement_concurrently_noOversell() throws InterruptedException {
+        // arrange
+        stockService.createStock(1L, 100L);
+
+        // act
+        RunResult result = runConcurrently(32, 1000, i -> stockDecrementCombiner.decrement(1L, 1L));
+
+        // assert
+        assertAll(
+                () -> assertEquals(100, result.successCount()),
+                () -> assertEquals(0L, stockService.getQuantity(1L))
+        );
+    }
+
+    @DisplayName("성공 케이스 : 수량이 섞여 있어도 성공한 요청의 수량 합만큼만 차감된다")
+    @Test
+    void decrement_mixedQuantities_grantedSumMatches() throws InterruptedException {
+        // arrange
+        stockService.createStock(1L, 50L);
+        AtomicLong granted = new AtomicLong();
+
+        // act
+        runConcurrently(32, 500, i -> {
+            long quantity = i % 3 + 1;
+            boolean decremented = stockDecrementCombiner.decrement(1L, quantity);
+            if (decremented) granted.addAndGet(quantity);
+            return decremented;
+        });
+
+        // assert
+        long remaining = stockService.getQuantity(1L);
+        assertAll(
+                () -> assertEquals(50L, granted.get() + remaining),
+                () -> assertTrue(remaining >= 0)
+        );
+    }
+
+    @DisplayName("성공 케이스 : 동시 요청 수별로 row lock 차감과 group commit 의 지연 / 처리량을 비교한다 (결과는 로그로 확인)")
+    @Test
+    void decrement_rowLockVsCombined_latencyAndThroughput() throws InterruptedException {
+        int deductCount = 5000;
+        for (int threadCount : new int[]{1, 8, 32, 128}) {
+            // arrange
+            long rowLockProductId = threadCount * 10L;
+            long combinedProductId = threadCount * 10L + 1;
+            stockService.createStock(rowLockProductId, (long) deductCount);
+            stockService.createStock(combinedProductId, (long) deductCount);
+
+            // act
+            RunResult rowLock = runConcurrently(threadCount, deductCount, i -> {
+                transactionTemplate.executeWithoutResult(status -> stockService.deduct(Map.of(rowLockProductId, 1L)));
+                return true;
+            });
+            RunResult combined = runConcurrently(threadCount, deductCount, i -> {
+                stockService.deductCombined(Map.of(combinedProductId, 1L));
+                return true;
+            });
+
+            // assert
+            assertEquals(0L, stockService.getQuantity(rowLockProductId));
+            assertEquals(0L, stockService.getQuantity(combinedProductId));
+            log.info("[stock row lock / {} threads] {} deducts/s, p50 {} us, p99 {} us",
+                    threadCount, rowLock.throughput(), rowLock.percentileMicros(0.5), rowLock.percentileMicros(0.99));
+            log.info("[stock combined / {} threads] {} deducts/s, p50 {} us, p99 {} us",
+                    threadCount, combined.throughput(), combined.percentileMicros(0.5), combined.percentileMicros(0.99));
+        }
+    }
+
+    private RunResult runConcurrently(int threadCount, int count, IntPredicate task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(count);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+        long[] latencies = new long[count];
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            executorService.submit(() -> {
+                long requestedAt = System.nanoTime();
+                try {
+                    if (task.test(index)) successCount.incrementAndGet();
+                } catch (Exception e) {
+                    log.error("실패", e);
+                    failCount.incrementAndGet();
+                } finally {
+                    latencies[index] = System.nanoTime() - requestedAt;
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(2, TimeUnit.MINUTES);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executorService.shutdown();
+
+        assertEquals(0, failCount.get());
+        return new RunResult(successCount.get(), count, elapsedMillis, latencies);
+    }
+
+    private record RunResult(int successCount, int count, long elapsedMillis, long[] latencies) {
+        long throughput() {
+            return count * 1000L / Math.max(elapsedMillis, 1);
+        }
+
+        long percentileMicros(double percentile) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            return TimeUnit.NANOSECONDS.toMicros(sorted[(int) Math.min(sorted.length - 1, Math.floor(sorted.length * percentile))]);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.loopers.domain.stock;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Slf4j
+@DisplayName("여러 상품 동시 주문 재고 차감 테스트")
+@SpringBootTest
+public class StockMultiItemConcurrencyTest {
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    final int threadCount = 32;
+    final int orderCount = 3000;
+    final int productCount = 8;
+    final long initialQuantity = 100_000L;
+
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 주문 트랜잭션과 같이 READ COMMITTED 로 차감한다.
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        for (long productId = 1; productId <= productCount; productId++) {
+            stockService.createStock(productId, initialQuantity);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("성공 케이스 : 같은 상품들이 서로 다른 순서로 담긴 장바구니를 동시에 주문해도 deadlock 없이 모두 차감된다")
+    @Test
+    void deduct_overlappingCartsInRandomOrder_noDeadlock() throws InterruptedException {
+        // arrange
+        List<Map<Long, Long>> carts = randomCarts(new Random(42));
+
+        // act
+        DeductResult result = deductConcurrently(carts, cart -> stockService.deduct(cart));
+
+        // assert
+        assertAll(
+                () -> assertEquals(0, result.deadlockCount()),
+                () -> assertEquals(0, result.failCount()),
+                () -> assertEquals(orderCount, result.successCount()),
+                () -> assertEquals(productCount * initialQuantity - result.deductedQuantity(), totalQuantity())
+        );
+        log.info("[sorted batch lock] {} orders / {} threads : {} ms, deadlocks = {}",
+                orderCount, threadCount, result.elapsedMillis(), result.deadlockCount());
+    }
+
+    @DisplayName("성공 케이스 : 장바구니 순서대로 한 상품씩 잠그는 방식과 비교한다 (deadlock 수와 시간은 로그로 확인)")
+    @Test
+    void deduct_lockOneByOneInCartOrder_forComparison() throws InterruptedException {
+        // arrange
+        List<Map<Long, Long>> carts = randomCarts(new Random(42));
+
+        // act
+        DeductResult result = deductConcurrently(carts, cart -> cart.forEach((productId, quantity) -> {
+            // 예전 방식 : 상품마다 잠그고 확인한 뒤 차감한다.
+            long available = stockRepository.findQuantitiesForUpdate(List.of(productId)).get(productId);
+            if (available < quantity) throw new CoreException(ErrorType.BAD_REQUEST, "재고가 부족합니다.");
+            stockRepository.applyDeltas(Map.of(productId, -quantity));
+        }));
+
+        // assert
+        assertEquals(productCount * initialQuantity - result.deductedQuantity(), totalQuantity());
+        log.info("[lock one by one] {} orders / {} threads : {} ms, deadlocks = {}",
+                orderCount, threadCount, result.elapsedMillis(), result.deadlockCount());
+    }
+
+    @DisplayName("실패 케이스 : 한 상품이라도 부족하면 주문의 다른 상품도 차감되지 않는다")
+    @Test
+    void deduct_oneProductShort_nothingDeducted() {
+        // arrange
+        stockService.createStock(100L, 1L);
+        Map<Long, Long> cart = new LinkedHashMap<>();
+        cart.put(1L, 5L);
+        cart.put(100L, 2L);
+
+        // act
+        CoreException exception = assertThrows(CoreException.class, () -> transactionTemplate.executeWithoutResult(status -> stockService.deduct(cart)));
+
+        // assert
+        assertAll(
+                () -> assertEquals(ErrorType.BAD_REQUEST, exception.getErrorType()),
+                () -> assertEquals(initialQuantity, stockService.getQuantity(1L)),
+                () -> assertEquals(1L, stockService.getQuantity(100L))
+        );
+    }
+
+    /**
+     * 상품 2 ~ 5 개를 섞은 순서로 담은 장바구니. 상품 수가 적어서 대부분의 장바구니가 겹친다.
+     */
+    private List<Map<Long, Long>> randomCarts(Random random) {
+        List<Long> productIds = new ArrayList<>();
+        for (long productId = 1; productId <= productCount; productId++) productIds.add(productId);
+
+        List<Map<Long, Long>> carts = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            Collections.shuffle(productIds, random);
+            int size = 2 + random.nextInt(4);
+            Map<Long, Long> cart = new LinkedHashMap<>();
+            for (int j = 0; j < size; j++) {
+                cart.put(productIds.get(j), 1L + random.nextInt(3));
+            }
+            carts.add(cart);
+        }
+        return carts;
+    }
+
+    private long totalQuantity() {
+        long total = 0L;
+        for (long productId = 1; productId <= productCount; productId++) {
+            total += stockService.getQuantity(productId);
+        }
+        return total;
+    }
+
+    private DeductResult deductConcurrently(List<Map<Long, Long>> carts, Consumer<Map<Long, Long>> deduct) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(carts.size());
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger deadlockCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+        AtomicLong deductedQuantity = new AtomicLong();
+
+        long startedAt = System.nanoTime();
+        for (Map<Long, Long> cart : carts) {
+            executorService.submit(() -> {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> deduct.accept(cart));
+                    successCount.incrementAndGet();
+                    deductedQuantity.addAndGet(cart.values().stream().mapToLong(Long::longValue).sum());
+                } catch (PessimisticLockingFailureException e) {
+                    deadlockCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(2, TimeUnit.MINUTES);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executorService.shutdown();
+
+        return new DeductResult(successCount.get(), deadlockCount.get(), failCount.get(), deductedQuantity.get(), elapsedMillis);
+    }
+
+    private record DeductResult(int successCount, int deadlockCount, int failCount, long deductedQuantity, long elapsedMillis) {}
+}
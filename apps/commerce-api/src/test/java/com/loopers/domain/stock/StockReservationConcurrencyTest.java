@@ -0,0 +1,354 @@
+package com.loopers.domain.stock;
+
+import com.loopers.application.order.OrderFacade;
+import com.loopers.application.stock.StockReconcileFacade;
+import com.loopers.application.stock.StockReservationSweepFacade;
+import com.loopers.application.user.UserFacade;
+import com.loopers.application.user.UserInfo;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.order.OrderLine;
+import com.loopers.domain.order.OrderService;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.product.ProductService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@DisplayName("재고 예약(Redis) 동시성 / row lock 차감 처리량 비교")
+@SpringBootTest(properties = "stock.reservation.enabled=true")
+public class StockReservationConcurrencyTest {
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private StockReconcileFacade stockReconcileFacade;
+
+    @Autowired
+    private StockReservationSweepFacade stockReservationSweepFacade;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private UserFacade userFacade;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    final int threadCount = 32;
+    final int userCount = 50;
+
+    Long brandId;
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = brandService.createBrand("loopers", "루퍼스");
+        brandId = brand.getId();
+        for (int i = 0; i < userCount; i++) {
+            userFacade.saveUser(userInfo("user" + i, 1_000_000));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("성공 케이스 : 재고보다 많은 주문이 동시에 들어와도 재고만큼만 성공하고, 반영 후 DB 재고도 0 이 된다")
+    @Test
+    void placeOrder_concurrently_noOversell() throws InterruptedException {
+        // arrange
+        Long productId = createProduct(1000L, 100L);
+        int orderCount = 1000;
+
+        // act
+        AtomicInteger successCount = new AtomicInteger();
+        runConcurrently(orderCount, i -> {
+            try {
+                orderFacade.placeOrder("user" + (i % userCount), Map.of(productId, 1L));
+                successCount.incrementAndGet();
+            } catch (CoreException e) {
+                if (e.getErrorType() != ErrorType.BAD_REQUEST) throw e;
+            }
+        });
+        reconcileAll();
+
+        // assert
+        assertAll(
+                () -> assertEquals(100, successCount.get()),
+                () -> assertEquals(0L, stockService.getReservableQuantity(productId)),
+                () -> assertEquals(0L, stockService.getQuantity(productId)),
+                () -> assertEquals(100, countOrders(OrderStatus.PAID))
+        );
+    }
+
+    @DisplayName("성공 케이스 : 샤딩한 상품도 반영 후 shard 들의 합이 남은 재고와 같고, stock.quantity 는 음수가 되지 않는다")
+    @Test
+    void placeOrder_shardedProduct_reconciledToShards() throws InterruptedException {
+        // arrange
+        Long productId = createProduct(1000L, 100L);
+        stockService.shard(productId, 4);
+        int orderCount = 300;
+
+        // act
+        runConcurrently(orderCount, i -> {
+            try {
+                orderFacade.placeOrder("user" + (i % userCount), Map.of(productId, 1L));
+            } catch (CoreException e) {
+                if (e.getErrorType() != ErrorType.BAD_REQUEST) throw e;
+            }
+        });
+        reconcileAll();
+
+        // assert
+        Long stockQuantity = jdbcTemplate.queryForObject("select quantity from stock where product_id = ?", Long.class, productId);
+        assertAll(
+                () -> assertEquals(0L, stockService.getQuantity(productId)),
+                () -> assertEquals(0L, stockQuantity),
+                () -> assertEquals(4, stockService.getShards(productId).size()),
+                () -> assertTrue(stockService.getShards(productId).stream().allMatch(shard -> shard.getQuantity() == 0L))
+        );
+    }
+
+    @DisplayName("성공 케이스 : 여러 상품을 주문할 때 하나라도 부족하면 어떤 상품의 재고도 차감하지 않는다")
+    @Test
+    void placeOrder_multiProduct_allOrNothing() throws InterruptedException {
+        // arrange
+        Long scarceId = createProduct(1000L, 10L);
+        Long plentyId = createProduct(1000L, 1000L);
+        int orderCount = 200;
+
+        // act
+        AtomicInteger successCount = new AtomicInteger();
+        runConcurrently(orderCount, i -> {
+            try {
+                orderFacade.placeOrder("user" + (i % userCount), Map.of(plentyId, 2L, scarceId, 1L));
+                successCount.incrementAndGet();
+            } catch (CoreException e) {
+                if (e.getErrorType() != ErrorType.BAD_REQUEST) throw e;
+            }
+        });
+        reconcileAll();
+
+        // assert
+        assertAll(
+                () -> assertEquals(10, successCount.get()),
+                () -> assertEquals(0L, stockService.getQuantity(scarceId)),
+                () -> assertEquals(1000L - 2 * 10, stockService.getQuantity(plentyId)),
+                () -> assertEquals(1000L - 2 * 10, stockService.getReservableQuantity(plentyId))
+        );
+    }
+
+    @DisplayName("실패 케이스 : 포인트가 부족하면 예약한 재고를 되돌리고 결제 실패 주문을 남긴다")
+    @Test
+    void placeOrder_paymentFailed_stockReleased() {
+        // arrange
+        Long productId = createProduct(10_000L, 5L);
+        userFacade.saveUser(userInfo("poor", 100));
+
+        // act
+        CoreException exception = assertThrows(CoreException.class, () -> orderFacade.placeOrder("poor", Map.of(productId, 1L)));
+        reconcileAll();
+
+        // assert
+        assertAll(
+                () -> assertEquals(ErrorType.BAD_REQUEST, exception.getErrorType()),
+                () -> assertEquals(5L, stockService.getReservableQuantity(productId)),
+                () -> assertEquals(5L, stockService.getQuantity(productId)),
+                () -> assertEquals(1, countOrders(OrderStatus.PAYMENT_FAILED)),
+                () -> assertEquals(0, countOrders(OrderStatus.PAID)),
+                () -> assertEquals(100, userFacade.getUserPoint("poor"))
+        );
+    }
+
+    @DisplayName("성공 케이스 : 예약 후 주문을 커밋하지 못하고 죽은 예약은 sweeper 가 취소해서 재고를 돌려준다")
+    @Test
+    void sweep_reservationWithoutOrder_released() {
+        // arrange
+        Long productId = createProduct(1000L, 10L);
+        stockService.reserve(UUID.randomUUID().toString(), Map.of(productId, 3L));
+
+        // act
+        int swept = stockReservationSweepFacade.sweep(Duration.ZERO, 100);
+        reconcileAll();
+
+        // assert
+        assertAll(
+                () -> assertEquals(1, swept),
+                () -> assertEquals(10L, stockService.getReservableQuantity(productId)),
+                () -> assertEquals(10L, stockService.getQuantity(productId)),
+                () -> assertEquals(List.of(), stockService.findOpenReservations(Duration.ZERO, 100))
+        );
+    }
+
+    @DisplayName("성공 케이스 : 주문을 커밋한 뒤 확정하기 전에 죽은 예약은 sweeper 가 확정하고 재고를 돌려주지 않는다")
+    @Test
+    void sweep_reservationWithPaidOrder_confirmed() {
+        // arrange
+        Long productId = createProduct(1000L, 10L);
+        String reservationId = UUID.randomUUID().toString();
+        stockService.reserve(reservationId, Map.of(productId, 3L));
+        transactionTemplate.executeWithoutResult(status ->
+                orderService.createOrder(1L, List.of(new OrderLine(productId, 3L, 1000L)), reservationId));
+
+        // act
+        int swept = stockReservationSweepFacade.sweep(Duration.ZERO, 100);
+        reconcileAll();
+
+        // assert
+        assertAll(
+                () -> assertEquals(1, swept),
+                () -> assertEquals(7L, stockService.getReservableQuantity(productId)),
+                () -> assertEquals(7L, stockService.getQuantity(productId)),
+                () -> assertFalse(stockService.release(reservationId))
+        );
+    }
+
+    @DisplayName("성공 케이스 : 같은 연산을 두 번 반영해도 재고는 한 번만 차감된다")
+    @Test
+    void reconcile_sameOperationTwice_appliedOnce() {
+        // arrange
+        Long productId = createProduct(1000L, 10L);
+        StockOperation operation = new StockOperation("1-0", "reservation", Map.of(productId, -3L));
+
+        // act
+        int first = stockService.reconcile(List.of(operation));
+        int second = stockService.reconcile(List.of(operation));
+
+        // assert
+        assertAll(
+                () -> assertEquals(1, first),
+                () -> assertEquals(0, second),
+                () -> assertEquals(7L, stockService.getQuantity(productId))
+        );
+    }
+
+    @DisplayName("성공 케이스 : 인기 상품 하나에 주문이 몰릴 때 두 방식 모두 재고가 정확하다 (처리량은 로그로 확인)")
+    @Test
+    void deduct_rowLockVsReservation_sameResult() throws InterruptedException {
+        // arrange
+        int deductCount = 5000;
+        Long rowLockProductId = createProduct(1000L, (long) deductCount);
+        Long reservationProductId = createProduct(1000L, (long) deductCount);
+
+        // act
+        long rowLockMillis = runConcurrently(deductCount, i ->
+                transactionTemplate.executeWithoutResult(status -> stockService.deduct(Map.of(rowLockProductId, 1L))));
+        long reservationMillis = runConcurrently(deductCount, i ->
+                stockService.reserve(UUID.randomUUID().toString(), Map.of(reservationProductId, 1L)));
+        long reconcileStartedAt = System.nanoTime();
+        reconcileAll();
+        long reconcileMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - reconcileStartedAt);
+
+        // assert
+        assertEquals(0L, stockService.getQuantity(rowLockProductId));
+        assertEquals(0L, stockService.getQuantity(reservationProductId));
+        log.info("[stock row lock] {} deducts / {} threads : {} ms ({} deducts/s)",
+                deductCount, threadCount, rowLockMillis, deductCount * 1000L / Math.max(rowLockMillis, 1));
+        log.info("[stock reservation] {} deducts / {} threads : {} ms ({} deducts/s), reconcile : {} ms",
+                deductCount, threadCount, reservationMillis, deductCount * 1000L / Math.max(reservationMillis, 1), reconcileMillis);
+    }
+
+    private Long createProduct(Long price, Long quantity) {
+        Long productId = productService.createProduct(brandId, "상품", price).getId();
+        stockService.createStock(productId, quantity);
+        return productId;
+    }
+
+    private UserInfo userInfo(String loginId, int point) {
+        return UserInfo.builder()
+                .loginId(loginId)
+                .email(loginId + "@naver.com")
+                .birthday("1994-04-08")
+                .gender("M")
+                .point(point)
+                .build();
+    }
+
+    private void reconcileAll() {
+        while (stockReconcileFacade.reconcile(500) > 0) {
+            // 모두 반영될 때까지
+        }
+    }
+
+    private int countOrders(OrderStatus status) {
+        Integer count = jdbcTemplate.queryForObject("select count(*) from orders where status = ?", Integer.class, status.name());
+        return count != null ? count : 0;
+    }
+
+    private long runConcurrently(int count, IntConsumer task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(count);
+        AtomicInteger failCount = new AtomicInteger();
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            executorService.submit(() -> {
+                try {
+                    task.accept(index);
+                } catch (Exception e) {
+                    log.error("실패", e);
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(2, TimeUnit.MINUTES);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executorService.shutdown();
+
+        assertEquals(0, failCount.get());
+        return elapsedMillis;
+    }
+}
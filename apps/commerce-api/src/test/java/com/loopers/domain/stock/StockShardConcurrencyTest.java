@@ -0,0 +1,179 @@
+package com.loopers.domain.stock;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@DisplayName("재고 shard 동시 차감 테스트")
+@SpringBootTest
+public class StockShardConcurrencyTest {
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    final int threadCount = 32;
+
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 주문 트랜잭션과 같이 READ COMMITTED 로 차감한다.
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("성공 케이스 : 샤딩하면 재고가 고르게 나뉘고 합계는 그대로다")
+    @Test
+    void shard_splitsEvenly_totalUnchanged() {
+        // arrange
+        stockService.createStock(1L, 100L);
+
+        // act
+        stockService.shard(1L, 8);
+
+        // assert
+        List<StockShard> shards = stockService.getShards(1L);
+        assertAll(
+                () -> assertEquals(8, shards.size()),
+                () -> assertEquals(100L, stockService.getQuantity(1L)),
+                () -> assertTrue(shards.stream().allMatch(shard -> shard.getQuantity() == 12L || shard.getQuantity() == 13L))
+        );
+    }
+
+    @DisplayName("성공 케이스 : 재고보다 많은 차감이 동시에 들어와도 재고만큼만 성공한다")
+    @Test
+    void deduct_sharded_noOversell() throws InterruptedException {
+        // arrange
+        stockService.createStock(1L, 100L);
+        stockService.shard(1L, 8);
+
+        // act
+        DeductResult result = deductConcurrently(1L, 1000, 1L);
+
+        // assert
+        assertAll(
+                () -> assertEquals(100, result.successCount()),
+                () -> assertEquals(0L, stockService.getQuantity(1L))
+        );
+    }
+
+    @DisplayName("성공 케이스 : 한 shard 로 부족한 수량도 여러 shard 에서 나눠서 차감한다")
+    @Test
+    void deduct_moreThanAnyShard_takenFromSeveralShards() {
+        // arrange
+        stockService.createStock(1L, 10L);
+        stockService.shard(1L, 4);
+
+        // act
+        transactionTemplate.executeWithoutResult(status -> stockService.deduct(Map.of(1L, 7L)));
+
+        // assert
+        assertEquals(3L, stockService.getQuantity(1L));
+    }
+
+    @DisplayName("성공 케이스 : rebalance 하면 고르지 않은 shard 들이 다시 고르게 나뉜다")
+    @Test
+    void rebalance_uneven_splitsAgain() {
+        // arrange
+        stockService.createStock(1L, 40L);
+        stockService.shard(1L, 4);
+        transactionTemplate.executeWithoutResult(status -> stockService.deduct(Map.of(1L, 10L)));
+
+        // act
+        List<Long> uneven = stockService.findUnevenShardedProductIds(0.5, 10);
+        stockService.rebalance(1L);
+
+        // assert
+        assertAll(
+                () -> assertEquals(List.of(1L), uneven),
+                () -> assertEquals(List.of(8L, 8L, 7L, 7L), stockService.getShards(1L).stream().map(StockShard::getQuantity).toList()),
+                () -> assertTrue(stockService.findUnevenShardedProductIds(0.5, 10).isEmpty())
+        );
+    }
+
+    @DisplayName("성공 케이스 : shard 수 1 / 8 / 32 로 한 상품에 몰린 차감의 처리량을 비교한다 (처리량은 로그로 확인)")
+    @Test
+    void deduct_shardCounts_throughput() throws InterruptedException {
+        int deductCount = 5000;
+        for (int shardCount : new int[]{1, 8, 32}) {
+            // arrange
+            long productId = shardCount;
+            stockService.createStock(productId, (long) deductCount);
+            stockService.shard(productId, shardCount);
+
+            // act
+            DeductResult result = deductConcurrently(productId, deductCount, 1L);
+
+            // assert
+            assertEquals(deductCount, result.successCount());
+            assertEquals(0L, stockService.getQuantity(productId));
+            log.info("[stock shard = {}] {} deducts / {} threads : {} ms ({} deducts/s)",
+                    shardCount, deductCount, threadCount, result.elapsedMillis(), deductCount * 1000L / Math.max(result.elapsedMillis(), 1));
+        }
+    }
+
+    private DeductResult deductConcurrently(Long productId, int deductCount, long quantity) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(deductCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < deductCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> stockService.deduct(Map.of(productId, quantity)));
+                    successCount.incrementAndGet();
+                } catch (CoreException e) {
+                    if (e.getErrorType() != ErrorType.BAD_REQUEST) failCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(2, TimeUnit.MINUTES);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executorService.shutdown();
+
+        assertEquals(0, failCount.get());
+        return new DeductResult(successCount.get(), elapsedMillis);
+    }
+
+    private record DeductResult(int successCount, long elapsedMillis) {}
+}
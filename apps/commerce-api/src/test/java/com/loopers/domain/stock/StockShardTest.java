@@ -0,0 +1,53 @@
+package com.loopers.domain.stock;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("StockShard 단위 테스트")
+public class StockShardTest {
+
+    @DisplayName("성공 케이스 : 나누어 떨어지지 않으면 나머지를 앞의 shard 부터 하나씩 더한다")
+    @Test
+    void split_withRemainder_frontShardsGetOneMore() {
+        // act
+        long[] quantities = StockShard.split(10, 4);
+
+        // assert
+        assertAll(
+                () -> assertArrayEquals(new long[]{3, 3, 2, 2}, quantities),
+                () -> assertEquals(10, Arrays.stream(quantities).sum())
+        );
+    }
+
+    @DisplayName("성공 케이스 : 재고가 shard 수보다 적으면 뒤의 shard 는 0 이다")
+    @Test
+    void split_lessThanShardCount_restAreZero() {
+        // act
+        long[] quantities = StockShard.split(2, 4);
+
+        // assert
+        assertArrayEquals(new long[]{1, 1, 0, 0}, quantities);
+    }
+
+    @DisplayName("실패 케이스 : shard 수를 1 보다 작게 바꾸면 BAD_REQUEST")
+    @Test
+    void changeShardCount_zero_badRequest() {
+        // arrange
+        Stock stock = Stock.create(1L, 10L);
+
+        // act
+        CoreException exception = assertThrows(CoreException.class, () -> stock.changeShardCount(0, 10L));
+
+        // assert
+        assertEquals(ErrorType.BAD_REQUEST, exception.getErrorType());
+    }
+}
@@ -0,0 +1,149 @@
+package com.loopers.domain.user;
+
+import com.loopers.application.user.UserFacade;
+import com.loopers.application.user.UserInfo;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.infrastructure.user.LoginIdBloomFilter;
+import com.loopers.infrastructure.user.LoginIdFilterProperties;
+import com.loopers.infrastructure.user.UserJpaRepository;
+import com.loopers.infrastructure.user.UserRepositoryImpl;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이 테스트의 Spring 컨텍스트를 노드 A 로, 직접 만든 LoginIdBloomFilter / UserRepositoryImpl 을 노드 B 로 본다.
+ * 노드 B 는 scheduler 에 등록되지 않으므로 sync 를 직접 호출하기 전까지 노드 A 의 가입을 filter 에 반영하지 않는다.
+ */
+@DisplayName("loginId Bloom filter 두 노드 테스트")
+@SpringBootTest
+public class LoginIdFilterMultiNodeTest {
+
+    @Autowired
+    private UserFacade userFacade;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> masterRedisTemplate;
+
+    @Autowired
+    private LoginIdFilterProperties properties;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private LoginIdBloomFilter nodeBFilter;
+    private UserRepositoryImpl nodeBRepository;
+
+    final String loginId = "bobby34";
+
+    @BeforeEach
+    void setUp() {
+        nodeBFilter = new LoginIdBloomFilter(userJpaRepository, transactionManager, masterRedisTemplate, properties, new SimpleMeterRegistry());
+        nodeBFilter.rebuild();
+        nodeBRepository = new UserRepositoryImpl(userJpaRepository, nodeBFilter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("성공 케이스 : 노드 A 에서 가입한 User 를 노드 B 가 sync 전에도 바로 조회한다")
+    @Test
+    void findByLoginId_signedUpOnOtherNode_foundBeforeSync() {
+        // arrange
+        userFacade.saveUser(userInfo(loginId));
+
+        // act
+        boolean found = nodeBRepository.findByLoginId(loginId).isPresent();
+        List<User> foundAll = nodeBRepository.findAllByLoginIds(List.of(loginId, "unknown"));
+
+        // assert
+        assertAll(
+                () -> assertTrue(found),
+                () -> assertEquals(List.of(loginId), foundAll.stream().map(User::getLoginId).toList()),
+                () -> assertTrue(nodeBRepository.findByLoginId("unknown").isEmpty())
+        );
+    }
+
+    @DisplayName("성공 케이스 : 최근 가입 목록에서 지워진 뒤에도 sync 가 반영한 User 는 조회된다")
+    @Test
+    void findByLoginId_afterSync_foundWithoutRecentSignups() {
+        // arrange
+        userFacade.saveUser(userInfo(loginId));
+        nodeBFilter.sync();
+        redisCleanUp.truncateAll();
+
+        // act
+        boolean found = nodeBRepository.findByLoginId(loginId).isPresent();
+
+        // assert
+        assertTrue(found);
+    }
+
+    @DisplayName("성공 케이스 : 최근 가입 목록에 기록하지 못해도 가입은 되고, 그 노드는 filter 를 쓰지 않고 DB 로 조회한다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void save_recentSignupUnavailable_signupSucceedsAndFilterBypassed() {
+        // arrange
+        RedisTemplate<String, String> downRedisTemplate = mock(RedisTemplate.class);
+        when(downRedisTemplate.opsForZSet()).thenThrow(new RedisConnectionFailureException("redis down"));
+        LoginIdBloomFilter downFilter = new LoginIdBloomFilter(userJpaRepository, transactionManager, downRedisTemplate, properties, new SimpleMeterRegistry());
+        downFilter.rebuild();
+        UserRepositoryImpl downRepository = new UserRepositoryImpl(userJpaRepository, downFilter);
+
+        // act
+        boolean saved = downRepository.save(User.builder()
+                .loginId(loginId)
+                .email(loginId + "@naver.com")
+                .birthday("1994-04-08")
+                .gender("M")
+                .build()).isPresent();
+
+        // assert
+        assertAll(
+                () -> assertTrue(saved),
+                () -> assertTrue(downFilter.mightExist("unknown")),
+                () -> assertTrue(downRepository.findByLoginId(loginId).isPresent())
+        );
+    }
+
+    private UserInfo userInfo(String loginId) {
+        return UserInfo.builder()
+                .loginId(loginId)
+                .email(loginId + "@naver.com")
+                .birthday("1994-04-08")
+                .gender("M")
+                .point(0)
+                .build();
+    }
+}
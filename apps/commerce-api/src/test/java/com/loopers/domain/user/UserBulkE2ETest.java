@@ -0,0 +1,172 @@
+package com.loopers.domain.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.user.UserFacade;
+import com.loopers.application.user.UserInfo;
+import com.loopers.interfaces.api.user.UserBulkDto;
+import com.loopers.interfaces.api.user.UserDto;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("User 대량 처리 E2E 테스트")
+@SpringBootTest(properties = "user.bulk.chunk-size=2")
+@AutoConfigureMockMvc
+public class UserBulkE2ETest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserFacade userFacade;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("대량 회원가입")
+    @Nested
+    class SaveUsersTest {
+
+        @DisplayName("성공 케이스 : 줄마다 결과를 입력 순서대로 응답하고, 실패한 줄만 빼고 저장한다")
+        @Test
+        void saveUsers_mixedRows_returnsResultPerLine() throws Exception {
+            // arrange
+            String body = String.join("\n",
+                    json(createUserRequest("user1", "user1@naver.com")),
+                    json(createUserRequest("user2", "not-an-email")),
+                    json(createUserRequest("user1", "user1-dup@naver.com")),
+                    "{not json",
+                    json(createUserRequest("user3", "user3@naver.com"))
+            );
+
+            // act
+            List<UserBulkDto.RowResult> results = postNdjson("/api/user/bulk/saveUsers", body);
+
+            // assert
+            assertAll(
+                    () -> assertEquals(5, results.size()),
+                    () -> assertEquals(List.of(1L, 2L, 3L, 4L, 5L), results.stream().map(UserBulkDto.RowResult::line).toList()),
+                    () -> assertEquals(UserBulkDto.RowResult.SUCCESS, results.get(0).status()),
+                    () -> assertEquals("BAD_REQUEST", results.get(1).errorType()),
+                    () -> assertEquals("CONFLICT", results.get(2).errorType()),
+                    () -> assertEquals("BAD_REQUEST", results.get(3).errorType()),
+                    () -> assertEquals(UserBulkDto.RowResult.SUCCESS, results.get(4).status()),
+                    () -> assertEquals("user1@naver.com", userFacade.getUser("user1").email()),
+                    () -> assertEquals(0, userFacade.getUserPoint("user3"))
+            );
+        }
+
+        @DisplayName("성공 케이스 : 이미 가입된 loginId 는 CONFLICT 이고 나머지는 저장된다")
+        @Test
+        void saveUsers_existingLoginId_conflictOnlyThatRow() throws Exception {
+            // arrange
+            userFacade.saveUser(UserInfo.from(createUserRequest("user1", "user1@naver.com")));
+            String body = String.join("\n",
+                    json(createUserRequest("user1", "other@naver.com")),
+                    json(createUserRequest("user2", "user2@naver.com"))
+            );
+
+            // act
+            List<UserBulkDto.RowResult> results = postNdjson("/api/user/bulk/saveUsers", body);
+
+            // assert
+            assertAll(
+                    () -> assertEquals("CONFLICT", results.get(0).errorType()),
+                    () -> assertEquals(UserBulkDto.RowResult.SUCCESS, results.get(1).status()),
+                    () -> assertEquals("user1@naver.com", userFacade.getUser("user1").email())
+            );
+        }
+    }
+
+    @DisplayName("대량 포인트 충전")
+    @Nested
+    class AddUserPointsTest {
+
+        @DisplayName("성공 케이스 : 같은 회원의 여러 줄은 모두 충전되고, 없는 회원은 NOT_FOUND")
+        @Test
+        void addUserPoints_mixedRows_returnsResultPerLine() throws Exception {
+            // arrange
+            userFacade.saveUser(UserInfo.from(createUserRequest("user1", "user1@naver.com")));
+            userFacade.getUserPoint("user1"); // 캐시를 채워둔다.
+            String body = String.join("\n",
+                    json(new UserBulkDto.AddUserPointRequest("user1", 100)),
+                    json(new UserBulkDto.AddUserPointRequest("nobody", 100)),
+                    json(new UserBulkDto.AddUserPointRequest("user1", 0)),
+                    json(new UserBulkDto.AddUserPointRequest("user1", 50))
+            );
+
+            // act
+            List<UserBulkDto.RowResult> results = postNdjson("/api/user/bulk/addUserPoints", body);
+
+            // assert
+            assertAll(
+                    () -> assertEquals(UserBulkDto.RowResult.SUCCESS, results.get(0).status()),
+                    () -> assertEquals("NOT_FOUND", results.get(1).errorType()),
+                    () -> assertEquals("BAD_REQUEST", results.get(2).errorType()),
+                    () -> assertEquals(UserBulkDto.RowResult.SUCCESS, results.get(3).status()),
+                    () -> assertEquals(150, userFacade.getUserPoint("user1"))
+            );
+        }
+    }
+
+    private UserDto.CreateUserRequest createUserRequest(String loginId, String email) {
+        return UserDto.CreateUserRequest.builder()
+                .loginId(loginId)
+                .email(email)
+                .birthday("1994-04-08")
+                .gender("M")
+                .point(0)
+                .build();
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    private List<UserBulkDto.RowResult> postNdjson(String url, String body) throws Exception {
+        String response = mockMvc.perform(post(url)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        List<UserBulkDto.RowResult> results = new ArrayList<>();
+        for (String line : response.split("\n")) {
+            assertTrue(!line.isBlank());
+            results.add(objectMapper.readValue(line, UserBulkDto.RowResult.class));
+        }
+        return results;
+    }
+}
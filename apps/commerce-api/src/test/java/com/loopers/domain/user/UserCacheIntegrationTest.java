@@ -0,0 +1,81 @@
+package com.loopers.domain.user;
+
+import com.loopers.application.user.UserFacade;
+import com.loopers.application.user.UserInfo;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("User 캐시 통합 테스트")
+@SpringBootTest
+public class UserCacheIntegrationTest {
+
+    @Autowired
+    private UserFacade userFacade;
+
+    @MockitoSpyBean
+    private UserRepository userRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    final String validLoginId = "bobby34";
+
+    @BeforeEach
+    void setUp() {
+        userFacade.saveUser(UserInfo.builder()
+                .loginId(validLoginId)
+                .email("bobby34@naver.com")
+                .birthday("1994-04-08")
+                .gender("M")
+                .point(0)
+                .build());
+        Mockito.clearInvocations(userRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("성공 케이스 : 같은 User 를 두 번 조회하면 두 번째는 DB 를 조회하지 않는다")
+    @Test
+    void getUser_twice_readFromCache() {
+        // arrange
+        userFacade.getUser(validLoginId);
+
+        // act
+        UserInfo userInfo = userFacade.getUser(validLoginId);
+
+        // assert
+        assertEquals(validLoginId, userInfo.loginId());
+        Mockito.verify(userRepository, Mockito.times(1)).findByLoginId(validLoginId);
+    }
+
+    @DisplayName("성공 케이스 : point 를 캐시한 뒤 충전하면, 바로 다음 조회에서 충전된 잔액을 반환한다")
+    @Test
+    void getUserPoint_afterCharge_notStale() {
+        // arrange
+        assertEquals(0, userFacade.getUserPoint(validLoginId));
+
+        // act
+        Integer chargedPoint = userFacade.addUserPoint(validLoginId, 1000);
+
+        // assert
+        assertEquals(1000, chargedPoint);
+        assertEquals(1000, userFacade.getUserPoint(validLoginId));
+    }
+}
@@ -5,6 +5,7 @@ import com.loopers.application.user.UserFacade;
 import com.loopers.application.user.UserInfo;
 import com.loopers.interfaces.api.user.UserDto;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -32,13 +33,19 @@ public class UserE2ETest {
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
     @Autowired
     private UserFacade userFacade;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @AfterEach
-    void tearDown() {databaseCleanUp.truncateAllTables();}
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
 
     final String validLoginId = "bobby34";
     final String validEmail = "bobby34@naver.com";
@@ -5,6 +5,7 @@ import com.loopers.application.user.UserInfo;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -29,8 +30,14 @@ public class UserIntegrationTest {
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
     @AfterEach
-    void tearDown() {databaseCleanUp.truncateAllTables();}
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
 
     final String validLoginId = "bobby34";
     final String validEmail = "bobby34@naver.com";
@@ -64,9 +71,9 @@ public class UserIntegrationTest {
                     && user.getEmail().equals(validEmail)
                     && user.getBirthday().equals(validBirthday)
                     && user.getGender().equals(validGender)
-                    && user.getPoint().equals(validPoint)
                 )
             );
+            assertEquals(validPoint, userFacade.getUserPoint(validLoginId));
         }
 
         @DisplayName("실패 케이스 : 이미 저장된 User 를 다시 저장하면 실패")
@@ -155,5 +162,28 @@ public class UserIntegrationTest {
             assertEquals(ErrorType.NOT_FOUND, result.getErrorType());
             assertTrue(result.getCustomMessage().endsWith("point를 충전할 User를 찾을 수 없습니다."));
         }
+
+        @DisplayName("실패 케이스 : 충전 후 point 가 최대치를 넘으면 충전하지 않고 BAD_REQUEST")
+        @Test
+        void addPoint_overMaxPoint_BadRequest() {
+            // arrange
+            userFacade.saveUser(UserInfo.builder()
+                    .loginId(validLoginId)
+                    .email(validEmail)
+                    .birthday(validBirthday)
+                    .gender(validGender)
+                    .point(1)
+                    .build());
+
+            // act
+            CoreException result = assertThrows(CoreException.class,
+                    () -> userFacade.addUserPoint(validLoginId, Integer.MAX_VALUE)
+            );
+
+            // assert
+            assertEquals(ErrorType.BAD_REQUEST, result.getErrorType());
+            assertEquals("충전 후 point가 최대치를 넘을 수 없습니다.", result.getCustomMessage());
+            assertEquals(1, userFacade.getUserPoint(validLoginId));
+        }
     }
 }
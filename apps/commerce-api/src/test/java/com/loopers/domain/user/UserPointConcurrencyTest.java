@@ -0,0 +1,204 @@
+package com.loopers.domain.user;
+
+import com.loopers.application.user.UserFacade;
+import com.loopers.application.user.UserInfo;
+import com.loopers.domain.point.Point;
+import com.loopers.domain.point.PointHistory;
+import com.loopers.domain.point.PointRepository;
+import com.loopers.domain.point.PointService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@DisplayName("User point 동시 충전 테스트")
+@SpringBootTest
+public class UserPointConcurrencyTest {
+
+    @Autowired
+    private UserFacade userFacade;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    final String loginId = "bobby34";
+    final int threadCount = 32;
+    final int chargeCount = 2000;
+    final int chargePoint = 10;
+
+    @BeforeEach
+    void setUp() {
+        userFacade.saveUser(UserInfo.builder()
+                .loginId(loginId)
+                .email("bobby34@naver.com")
+                .birthday("1994-04-08")
+                .gender("M")
+                .point(0)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("성공 케이스 : 동시에 여러 번 충전해도 갱신 손실 없이 모두 반영된다")
+    @Test
+    void addUserPoint_concurrently_noLostUpdate() throws InterruptedException {
+        // arrange
+        int expectedPoint = chargeCount * chargePoint;
+
+        // act
+        long elapsedMillis = chargeConcurrently();
+
+        // assert
+        assertEquals(expectedPoint, userFacade.getUserPoint(loginId));
+        log.info("[point ledger] {} charges / {} threads : {} ms ({} charges/s)",
+                chargeCount, threadCount, elapsedMillis, chargeCount * 1000L / Math.max(elapsedMillis, 1));
+    }
+
+    @DisplayName("비교 케이스 : snapshot row 를 잠그는 충전은 갱신 손실은 없지만 충전끼리 직렬화된다")
+    @Test
+    void addUserPoint_snapshotLocked_serialized() throws InterruptedException {
+        // arrange
+        int expectedPoint = chargeCount * chargePoint;
+        Long userId = userService.findUserById(loginId).orElseThrow().getId();
+
+        // act
+        long lockedMillis = runConcurrently(() -> transactionTemplate.executeWithoutResult(status -> {
+            Point snapshot = pointRepository.findByUserIdForUpdate(userId).orElseThrow();
+            long balance = snapshot.getAmount() + pointRepository.sumUncompactedAmountForShare(userId);
+            if(balance > PointService.MAX_POINT - chargePoint) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "충전 후 point가 최대치를 넘을 수 없습니다.");
+            }
+            pointRepository.saveHistory(PointHistory.charge(userId, (long) chargePoint));
+        }));
+        long ledgerMillis = chargeConcurrently();
+
+        // assert
+        assertEquals(expectedPoint * 2, userFacade.getUserPoint(loginId));
+        log.info("[snapshot lock] {} charges / {} threads : {} ms ({} charges/s)",
+                chargeCount, threadCount, lockedMillis, chargeCount * 1000L / Math.max(lockedMillis, 1));
+        log.info("[point ledger] {} charges / {} threads : {} ms ({} charges/s)",
+                chargeCount, threadCount, ledgerMillis, chargeCount * 1000L / Math.max(ledgerMillis, 1));
+    }
+
+    @DisplayName("경계 케이스 : 최대치 근처에서 동시에 충전해도, 조회/compaction 된 잔액은 최대치를 넘지 않는다")
+    @Test
+    void addUserPoint_nearMaxPoint_neverExceedsMax() throws InterruptedException {
+        // arrange
+        Long userId = userService.findUserById(loginId).orElseThrow().getId();
+        pointService.charge(userId, PointService.MAX_POINT - chargePoint * 100L);
+        AtomicInteger rejectedCount = new AtomicInteger();
+
+        // act
+        runConcurrently(() -> {
+            try {
+                userFacade.addUserPoint(loginId, chargePoint);
+            } catch (CoreException e) {
+                if (e.getErrorType() != ErrorType.BAD_REQUEST) throw e;
+                rejectedCount.incrementAndGet();
+            }
+        });
+        Integer beforeCompaction = userFacade.getUserPoint(loginId);
+        pointService.compact(userId);
+
+        // assert
+        assertAll(
+                () -> assertTrue(rejectedCount.get() > 0),
+                () -> assertTrue(beforeCompaction <= PointService.MAX_POINT),
+                () -> assertEquals(PointService.MAX_POINT, pointRepository.findByUserId(userId).orElseThrow().getAmount()),
+                () -> assertEquals(Integer.MAX_VALUE, userFacade.getUserPoint(loginId))
+        );
+    }
+
+    @DisplayName("성공 케이스 : 충전 중에 compaction 이 계속 실행되어도 잔액이 정확하다")
+    @Test
+    void addUserPoint_whileCompacting_noLostUpdate() throws InterruptedException {
+        // arrange
+        int expectedPoint = chargeCount * chargePoint;
+        Long userId = userService.findUserById(loginId).orElseThrow().getId();
+        AtomicBoolean charging = new AtomicBoolean(true);
+        Thread compactor = new Thread(() -> {
+            while (charging.get()) {
+                pointService.compact(userId);
+            }
+        });
+
+        // act
+        compactor.start();
+        chargeConcurrently();
+        charging.set(false);
+        compactor.join();
+        pointService.compact(userId);
+
+        // assert
+        assertEquals(expectedPoint, userFacade.getUserPoint(loginId));
+        assertTrue(pointService.findUserIdsToCompact(1, 10).isEmpty());
+    }
+
+    private long chargeConcurrently() throws InterruptedException {
+        return runConcurrently(() -> userFacade.addUserPoint(loginId, chargePoint));
+    }
+
+    private long runConcurrently(Runnable task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(chargeCount);
+        AtomicInteger failCount = new AtomicInteger();
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < chargeCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(2, TimeUnit.MINUTES);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executorService.shutdown();
+
+        assertEquals(0, failCount.get());
+        return elapsedMillis;
+    }
+}
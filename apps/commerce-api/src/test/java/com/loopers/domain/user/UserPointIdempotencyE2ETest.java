@@ -0,0 +1,157 @@
+package com.loopers.domain.user;
+
+import com.loopers.application.user.UserFacade;
+import com.loopers.application.user.UserInfo;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@DisplayName("포인트 충전 Idempotency-Key E2E 테스트")
+@SpringBootTest
+@AutoConfigureMockMvc
+public class UserPointIdempotencyE2ETest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserFacade userFacade;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    final String loginId = "bobby34";
+    final int chargePoint = 1000;
+
+    @BeforeEach
+    void setUp() {
+        userFacade.saveUser(UserInfo.builder()
+                .loginId(loginId)
+                .email("bobby34@naver.com")
+                .birthday("1994-04-08")
+                .gender("M")
+                .point(0)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("성공 케이스 : 같은 키로 다시 요청하면 한 번만 충전되고 처음 응답을 그대로 돌려준다")
+    @Test
+    void addUserPoint_sameKeyRetried_chargedOnce() throws Exception {
+        // arrange
+        MockHttpServletResponse first = charge("order-retry-1", chargePoint);
+
+        // act
+        MockHttpServletResponse retried = charge("order-retry-1", chargePoint);
+
+        // assert
+        assertAll(
+                () -> assertEquals(200, first.getStatus()),
+                () -> assertNull(first.getHeader("Idempotent-Replayed")),
+                () -> assertEquals(200, retried.getStatus()),
+                () -> assertEquals("true", retried.getHeader("Idempotent-Replayed")),
+                () -> assertEquals(first.getContentAsString(), retried.getContentAsString()),
+                () -> assertEquals(chargePoint, userFacade.getUserPoint(loginId))
+        );
+    }
+
+    @DisplayName("실패 케이스 : 같은 키로 다른 금액을 요청하면 `400 Bad Request` 를 응답하고 충전하지 않는다")
+    @Test
+    void addUserPoint_sameKeyDifferentPayload_badRequest() throws Exception {
+        // arrange
+        charge("order-retry-1", chargePoint);
+
+        // act
+        MockHttpServletResponse response = charge("order-retry-1", chargePoint * 2);
+
+        // assert
+        assertAll(
+                () -> assertEquals(400, response.getStatus()),
+                () -> assertEquals(chargePoint, userFacade.getUserPoint(loginId))
+        );
+    }
+
+    @DisplayName("성공 케이스 : 같은 키로 동시에 요청해도 한 번만 충전되고, 나머지는 처음 응답 또는 409 를 받는다")
+    @Test
+    void addUserPoint_sameKeyConcurrently_chargedOnce() throws InterruptedException {
+        // arrange
+        int requestCount = 32;
+        ExecutorService executorService = Executors.newFixedThreadPool(requestCount);
+        CountDownLatch ready = new CountDownLatch(requestCount);
+        CountDownLatch done = new CountDownLatch(requestCount);
+        Map<Integer, AtomicInteger> statusCounts = new ConcurrentHashMap<>();
+
+        // act
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    ready.countDown();
+                    ready.await();
+                    int status = charge("order-retry-1", chargePoint).getStatus();
+                    statusCounts.computeIfAbsent(status, s -> new AtomicInteger()).incrementAndGet();
+                } catch (Exception e) {
+                    statusCounts.computeIfAbsent(-1, s -> new AtomicInteger()).incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await(1, TimeUnit.MINUTES);
+        executorService.shutdown();
+
+        // assert
+        assertAll(
+                () -> assertTrue(Set.of(200, 409).containsAll(statusCounts.keySet()), statusCounts.toString()),
+                () -> assertEquals(chargePoint, userFacade.getUserPoint(loginId))
+        );
+    }
+
+    @DisplayName("성공 케이스 : 키 없이 요청하면 요청마다 충전된다")
+    @Test
+    void addUserPoint_withoutKey_chargedEveryTime() throws Exception {
+        // act
+        mockMvc.perform(post("/api/user/{loginId}/addUserPoint?userPoint={point}", loginId, chargePoint));
+        mockMvc.perform(post("/api/user/{loginId}/addUserPoint?userPoint={point}", loginId, chargePoint));
+
+        // assert
+        assertEquals(chargePoint * 2, userFacade.getUserPoint(loginId));
+    }
+
+    private MockHttpServletResponse charge(String idempotencyKey, int point) throws Exception {
+        return mockMvc.perform(post("/api/user/{loginId}/addUserPoint?userPoint={point}", loginId, point)
+                        .header("Idempotency-Key", idempotencyKey))
+                .andReturn()
+                .getResponse();
+    }
+}
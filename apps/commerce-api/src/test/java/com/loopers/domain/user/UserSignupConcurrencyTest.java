@@ -0,0 +1,117 @@
+package com.loopers.domain.user;
+
+import com.loopers.application.user.UserFacade;
+import com.loopers.application.user.UserInfo;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Slf4j
+@DisplayName("User 동시 회원가입 테스트")
+@SpringBootTest
+public class UserSignupConcurrencyTest {
+
+    @Autowired
+    private UserFacade userFacade;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    final int threadCount = 32;
+    final int signupCount = 1000;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("성공 케이스 : 같은 ID 로 동시에 가입하면 하나만 성공하고 나머지는 CONFLICT")
+    @Test
+    void saveUser_duplicateLoginIdConcurrently_onlyOneSucceeds() throws InterruptedException {
+        // arrange
+        IntFunction<UserInfo> sameUser = i -> userInfo("bobby34", "bobby34@naver.com");
+
+        // act
+        SignupResult result = signupConcurrently(sameUser);
+
+        // assert
+        assertEquals(1, result.successCount());
+        assertEquals(signupCount - 1, result.conflictCount());
+        log.info("[duplicate signup] {} signups / {} threads : {} ms ({} signups/s)",
+                signupCount, threadCount, result.elapsedMillis(), signupCount * 1000L / Math.max(result.elapsedMillis(), 1));
+    }
+
+    @DisplayName("성공 케이스 : 서로 다른 ID 로 동시에 가입하면 모두 성공")
+    @Test
+    void saveUser_distinctLoginIdConcurrently_allSucceed() throws InterruptedException {
+        // arrange
+        IntFunction<UserInfo> distinctUser = i -> userInfo("user" + i, "user" + i + "@naver.com");
+
+        // act
+        SignupResult result = signupConcurrently(distinctUser);
+
+        // assert
+        assertEquals(signupCount, result.successCount());
+        log.info("[distinct signup] {} signups / {} threads : {} ms ({} signups/s)",
+                signupCount, threadCount, result.elapsedMillis(), signupCount * 1000L / Math.max(result.elapsedMillis(), 1));
+    }
+
+    private UserInfo userInfo(String loginId, String email) {
+        return UserInfo.builder()
+                .loginId(loginId)
+                .email(email)
+                .birthday("1994-04-08")
+                .gender("M")
+                .point(0)
+                .build();
+    }
+
+    private SignupResult signupConcurrently(IntFunction<UserInfo> userInfoFactory) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(signupCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger conflictCount = new AtomicInteger();
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < signupCount; i++) {
+            int index = i;
+            executorService.submit(() -> {
+                try {
+                    userFacade.saveUser(userInfoFactory.apply(index));
+                    successCount.incrementAndGet();
+                } catch (CoreException e) {
+                    if (e.getErrorType() == ErrorType.CONFLICT) conflictCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(2, TimeUnit.MINUTES);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executorService.shutdown();
+
+        return new SignupResult(successCount.get(), conflictCount.get(), elapsedMillis);
+    }
+
+    private record SignupResult(int successCount, int conflictCount, long elapsedMillis) {}
+}
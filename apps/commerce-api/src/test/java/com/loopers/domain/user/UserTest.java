@@ -19,7 +19,6 @@ public class UserTest {
         final String validEmail = "bobby34@naver.com";
         final String validBirthday = "1994-04-08";
         final String validGender = "M";
-        final Integer validPoint = 0;
 
         @DisplayName("성공 케이스 : 필드가 모두 형식에 맞으면 User 객체 생성 성공")
         @Test
@@ -32,7 +31,6 @@ public class UserTest {
                     .email(validEmail)
                     .birthday(validBirthday)
                     .gender(validGender)
-                    .point(validPoint)
                     .build();
 
             // assert
@@ -42,7 +40,6 @@ public class UserTest {
                     , () -> assertEquals(user.getEmail(), validEmail)
                     , () -> assertEquals(user.getBirthday(), validBirthday)
                     , () -> assertEquals(user.getGender(), validGender)
-                    , () -> assertEquals(user.getPoint(), validPoint)
             );
         }
 
@@ -271,58 +268,5 @@ public class UserTest {
             }
         }
 
-        @DisplayName("point 충전 테스트")
-        @Nested
-        class PointTest {
-
-            @DisplayName("실패 케이스 : 0 이하의 정수로 포인트를 충전 시 실패")
-            @Test
-            void addPoint_inputZero_BadRequest() {
-                // arrange
-                User user = User.builder()
-                        .loginId(validLoginId)
-                        .email(validEmail)
-                        .birthday(validBirthday)
-                        .gender(validGender)
-                        .point(validPoint)
-                        .build();
-
-                Integer requestPoint = 0;
-
-                // act
-                CoreException result = assertThrows(CoreException.class,
-                        () -> user.addPoint(requestPoint)
-                );
-
-                // assert
-                assertEquals(ErrorType.BAD_REQUEST, result.getErrorType());
-                assertEquals("충전할 point는 0 이하가 될 수 없습니다.", result.getCustomMessage());
-            }
-
-            @DisplayName("실패 케이스 : 음수로 포인트를 충전 시 실패")
-            @Test
-            void addPoint_inputBelowZero_BadRequest() {
-                // arrange
-                User user = User.builder()
-                        .loginId(validLoginId)
-                        .email(validEmail)
-                        .birthday(validBirthday)
-                        .gender(validGender)
-                        .point(validPoint)
-                        .build();
-
-                Integer requestPoint = -10;
-
-                // act
-                CoreException result = assertThrows(CoreException.class,
-                        () -> user.addPoint(requestPoint)
-                );
-
-                // assert
-                assertEquals(ErrorType.BAD_REQUEST, result.getErrorType());
-                assertEquals("충전할 point는 0 이하가 될 수 없습니다.", result.getCustomMessage());
-            }
-        }
-
     }
 }
@@ -0,0 +1,104 @@
+package com.loopers.interfaces.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("DbBulkheadFilter 단위 테스트")
+class DbBulkheadFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DbBulkheadFilter filter = new DbBulkheadFilter(new ObjectMapper(), meterRegistry, 1, 50);
+
+    @DisplayName("성공 케이스 : 자리가 있으면 요청을 그대로 처리한다")
+    @Test
+    void doFilter_permitAvailable_passesThrough() throws Exception {
+        // arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/user/bobby34"), response, new MockFilterChain());
+
+        // assert
+        assertEquals(200, response.getStatus());
+    }
+
+    @DisplayName("실패 케이스 : 최대 동시 실행 수를 넘으면 max-wait 후 503 으로 응답한다")
+    @Test
+    void doFilter_permitsExhausted_returnsServiceUnavailable() throws Exception {
+        // arrange
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blockingChain = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/user/bobby34"), new MockHttpServletResponse(), blockingChain);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/user/bobby34"), response, new MockFilterChain());
+        release.countDown();
+        holder.join();
+
+        // assert
+        assertAll(
+                () -> assertEquals(503, response.getStatus()),
+                () -> assertTrue(response.getContentAsString().contains("Service Unavailable")),
+                () -> assertEquals(1.0, meterRegistry.get("api.bulkhead.rejected").counter().count())
+        );
+    }
+
+    @DisplayName("성공 케이스 : /api 가 아닌 요청은 제한하지 않는다")
+    @Test
+    void doFilter_nonApiPath_notLimited() throws Exception {
+        // arrange
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/user/bobby34"), new MockHttpServletResponse(),
+                        (request, response) -> {
+                            try {
+                                release.await(5, TimeUnit.SECONDS);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // act
+        filter.doFilter(new MockHttpServletRequest("GET", "/swagger-ui.html"), response, new MockFilterChain());
+        release.countDown();
+        holder.join();
+
+        // assert
+        assertEquals(200, response.getStatus());
+    }
+}
@@ -0,0 +1,126 @@
+package com.loopers.interfaces.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.idempotency.IdempotencyRecord;
+import com.loopers.domain.idempotency.IdempotencyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("IdempotencyKeyFilter 단위 테스트")
+class IdempotencyKeyFilterTest {
+
+    private final IdempotencyKeyFilter filter = new IdempotencyKeyFilter(
+            new InMemoryIdempotencyRepository(), new ObjectMapper(), new SimpleMeterRegistry(),
+            List.of("/api/user/*/addUserPoint"), 30_000, 60, 0, 10);
+
+    private final AtomicInteger charged = new AtomicInteger();
+
+    @DisplayName("성공 케이스 : 충전을 커밋한 뒤 예외가 나도, 같은 키의 재시도는 다시 충전하지 않고 500 을 돌려준다")
+    @Test
+    void doFilter_committedThenThrew_retryNotExecuted() throws Exception {
+        // arrange
+        FilterChain commitThenThrow = (request, response) -> {
+            charged.incrementAndGet();
+            throw new IllegalStateException("커밋 후 실패");
+        };
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(request(), new MockHttpServletResponse(), commitThenThrow));
+        MockHttpServletResponse retried = new MockHttpServletResponse();
+
+        // act
+        filter.doFilter(request(), retried, commitThenThrow);
+
+        // assert
+        assertAll(
+                () -> assertEquals(1, charged.get()),
+                () -> assertEquals(500, retried.getStatus()),
+                () -> assertEquals("true", retried.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER))
+        );
+    }
+
+    @DisplayName("성공 케이스 : 5xx 응답도 저장해서, 같은 키의 재시도는 다시 충전하지 않는다")
+    @Test
+    void doFilter_serverErrorResponse_retryNotExecuted() throws Exception {
+        // arrange
+        FilterChain commitThenFail = (request, response) -> {
+            charged.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(500);
+        };
+        filter.doFilter(request(), new MockHttpServletResponse(), commitThenFail);
+        MockHttpServletResponse retried = new MockHttpServletResponse();
+
+        // act
+        filter.doFilter(request(), retried, commitThenFail);
+
+        // assert
+        assertAll(
+                () -> assertEquals(1, charged.get()),
+                () -> assertEquals(500, retried.getStatus())
+        );
+    }
+
+    @DisplayName("성공 케이스 : 처리를 시작하기 전에 거절된 요청 (DB 벌크헤드 503) 은 같은 키로 다시 처리한다")
+    @Test
+    void doFilter_rejectedBeforeExecution_retryExecuted() throws Exception {
+        // arrange
+        FilterChain rejected = (request, response) -> {
+            request.setAttribute(IdempotencyKeyFilter.NOT_EXECUTED_ATTRIBUTE, true);
+            ((HttpServletResponse) response).setStatus(503);
+        };
+        filter.doFilter(request(), new MockHttpServletResponse(), rejected);
+        MockHttpServletResponse retried = new MockHttpServletResponse();
+
+        // act
+        filter.doFilter(request(), retried, (request, response) -> charged.incrementAndGet());
+
+        // assert
+        assertAll(
+                () -> assertEquals(1, charged.get()),
+                () -> assertEquals(200, retried.getStatus())
+        );
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/user/bobby34/addUserPoint");
+        request.setQueryString("userPoint=1000");
+        request.addHeader(IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER, "charge-1");
+        return request;
+    }
+
+    private static class InMemoryIdempotencyRepository implements IdempotencyRepository {
+        private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<IdempotencyRecord> tryStart(String key, String owner, String fingerprint, Duration inFlightTtl) {
+            Entry existing = entries.putIfAbsent(key, new Entry(owner, IdempotencyRecord.inFlight(fingerprint)));
+            return Optional.ofNullable(existing).map(Entry::record);
+        }
+
+        @Override
+        public void complete(String key, String owner, IdempotencyRecord record, Duration ttl) {
+            entries.computeIfPresent(key, (k, entry) -> entry.owner().equals(owner) ? new Entry(owner, record) : entry);
+        }
+
+        @Override
+        public void release(String key, String owner, String fingerprint) {
+            entries.computeIfPresent(key, (k, entry) -> entry.owner().equals(owner) ? null : entry);
+        }
+
+        private record Entry(String owner, IdempotencyRecord record) {}
+    }
+}
@@ -0,0 +1,64 @@
+package com.loopers.support.bloom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @DisplayName("put 한 값은 항상 mightContain 이 true 이다. (false negative 가 없다)")
+    @Test
+    void mightContain_isAlwaysTrue_forPutValues() {
+        // arrange
+        BloomFilter bloomFilter = BloomFilter.create(10_000, 0.01);
+
+        // act
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("user" + i);
+        }
+
+        // assert
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(bloomFilter.mightContain("user" + i)).isTrue();
+        }
+    }
+
+    @DisplayName("expectedInsertions 만큼 넣었을 때, put 하지 않은 값의 오탐률이 설정한 오탐률 근처에 머문다.")
+    @Test
+    void falsePositiveRate_staysNearConfiguredRate() {
+        // arrange
+        double falsePositiveRate = 0.01;
+        BloomFilter bloomFilter = BloomFilter.create(10_000, falsePositiveRate);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("user" + i);
+        }
+
+        // act
+        int falsePositives = 0;
+        int queries = 100_000;
+        for (int i = 0; i < queries; i++) {
+            if (bloomFilter.mightContain("absent" + i)) falsePositives++;
+        }
+
+        // assert
+        assertThat((double) falsePositives / queries).isLessThan(falsePositiveRate * 2);
+    }
+
+    @DisplayName("같은 값을 여러 번 put 해도 approximateInsertions 는 한 번만 센다.")
+    @Test
+    void approximateInsertions_countsDistinctValues() {
+        // arrange
+        BloomFilter bloomFilter = BloomFilter.create(10_000, 0.01);
+
+        // act
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (int i = 0; i < 1_000; i++) {
+                bloomFilter.put("user" + i);
+            }
+        }
+
+        // assert
+        assertThat(bloomFilter.approximateInsertions()).isBetween(990L, 1_000L);
+    }
+}
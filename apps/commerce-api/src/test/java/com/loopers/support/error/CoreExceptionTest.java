@@ -31,4 +31,17 @@ class CoreExceptionTest {
         // assert
         assertThat(exception.getMessage()).isEqualTo(customMessage);
     }
+
+    @DisplayName("예상된 ErrorType 의 예외는 stack trace 를 만들지 않고, 그 외에는 stack trace 를 만든다.")
+    @Test
+    void stackTraceShouldBeFilledOnlyForUnexpectedErrorType() {
+        // arrange
+        ErrorType[] errorTypes = ErrorType.values();
+
+        // act & assert
+        for (ErrorType errorType : errorTypes) {
+            CoreException exception = new CoreException(errorType);
+            assertThat(exception.getStackTrace().length == 0).isEqualTo(errorType.isExpected());
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package com.loopers.support.log;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogSamplerTest {
+    @DisplayName("1초 안에 허용 수를 넘는 요청은 거부하고, 거부된 수를 다음 허용 시점에 돌려준다.")
+    @Test
+    void deniesOverPermits_andReportsSuppressedCount() throws InterruptedException {
+        // arrange
+        LogSampler logSampler = new LogSampler(2);
+
+        // act
+        long first = logSampler.tryAcquire();
+        long second = logSampler.tryAcquire();
+        long third = logSampler.tryAcquire();
+        long fourth = logSampler.tryAcquire();
+        Thread.sleep(1_100);
+        long afterWindow = logSampler.tryAcquire();
+
+        // assert
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isEqualTo(LogSampler.DENIED);
+        assertThat(fourth).isEqualTo(LogSampler.DENIED);
+        assertThat(afterWindow).isEqualTo(2);
+    }
+}
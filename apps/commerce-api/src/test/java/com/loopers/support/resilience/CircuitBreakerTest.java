@@ -0,0 +1,107 @@
+package com.loopers.support.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(10, 4, 0.5, Duration.ofSeconds(1), 2, now::get);
+
+    @DisplayName("최소 호출 수가 찬 뒤 실패 비율이 기준을 넘으면 open 되어 호출을 거부한다.")
+    @Test
+    void opensWhenFailureRateExceedsThreshold() {
+        // arrange
+        call(true);
+        call(false);
+        call(false);
+
+        // act
+        boolean beforeMinimumCalls = circuitBreaker.state() == CircuitBreaker.State.CLOSED;
+        call(false);
+
+        // assert
+        assertThat(beforeMinimumCalls).isTrue();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @DisplayName("오래된 실패는 window 에서 밀려나서 실패 비율에 들어가지 않는다.")
+    @Test
+    void oldFailuresSlideOutOfWindow() {
+        // arrange
+        for (int i = 0; i < 6; i++) {
+            call(true);
+        }
+        call(false);
+        call(false);
+        for (int i = 0; i < 10; i++) {
+            call(true);
+        }
+
+        // act
+        call(false);
+        call(false);
+        call(false);
+        call(false);
+
+        // assert
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @DisplayName("open 시간이 지나면 half-open 으로 정해진 수만 허용하고, 모두 성공하면 close 된다.")
+    @Test
+    void halfOpenClosesAfterTrialCallsSucceed() {
+        // arrange
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        // act
+        boolean first = circuitBreaker.tryAcquire();
+        boolean second = circuitBreaker.tryAcquire();
+        boolean third = circuitBreaker.tryAcquire();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        // assert
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @DisplayName("half-open 에서 시험 호출이 실패하면 다시 open 된다.")
+    @Test
+    void halfOpenReopensOnFailure() {
+        // arrange
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        // act
+        circuitBreaker.tryAcquire();
+        circuitBreaker.onFailure();
+
+        // assert
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            call(false);
+        }
+    }
+
+    private void call(boolean success) {
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        if (success) {
+            circuitBreaker.onSuccess();
+        } else {
+            circuitBreaker.onFailure();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.loopers.support.validation;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ValidationRulesTest {
+
+    record Sample(String name, Integer count) {}
+
+    private final ValidationRules<Sample> rules = ValidationRules.<Sample>builder()
+            .notBlank(Sample::name, "name이 비어있을 수 없습니다.")
+            .pattern(Sample::name, "^[a-z]{1,5}$", "name은 영문 소문자 5자 이내여야 합니다.")
+            .notNull(Sample::count, "count가 Null 이 되면 안 됩니다.")
+            .build();
+
+    @DisplayName("모든 규칙을 만족하면, 예외가 발생하지 않는다.")
+    @Test
+    void doesNotThrow_whenAllRulesPass() {
+        assertThatCode(() -> rules.validate(new Sample("abc", 1))).doesNotThrowAnyException();
+    }
+
+    @DisplayName("predicate 를 만족하지 않으면, 해당 규칙의 메시지로 BAD_REQUEST 예외가 발생한다.")
+    @Test
+    void throwsMatchRuleMessage_whenPredicateFails() {
+        // arrange
+        ValidationRules<Sample> matchRules = ValidationRules.<Sample>builder()
+                .matches(Sample::name, name -> name.length() <= 5, "name은 5자 이내여야 합니다.")
+                .build();
+
+        // act
+        CoreException result = assertThrows(CoreException.class, () -> matchRules.validate(new Sample("abcdef", 1)));
+
+        // assert
+        assertThatCode(() -> matchRules.validate(new Sample("abc", 1))).doesNotThrowAnyException();
+        assertThat(result.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        assertThat(result.getCustomMessage()).isEqualTo("name은 5자 이내여야 합니다.");
+    }
+
+    @DisplayName("규칙을 선언한 순서대로 검사해서, 처음 실패한 규칙의 메시지로 BAD_REQUEST 예외가 발생한다.")
+    @Test
+    void throwsFirstFailedRuleMessage() {
+        // act
+        CoreException blank = assertThrows(CoreException.class, () -> rules.validate(new Sample(" ", null)));
+        CoreException pattern = assertThrows(CoreException.class, () -> rules.validate(new Sample("abcdef", null)));
+        CoreException nullCount = assertThrows(CoreException.class, () -> rules.validate(new Sample("abc", null)));
+
+        // assert
+        assertThat(blank.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        assertThat(blank.getCustomMessage()).isEqualTo("name이 비어있을 수 없습니다.");
+        assertThat(pattern.getCustomMessage()).isEqualTo("name은 영문 소문자 5자 이내여야 합니다.");
+        assertThat(nullCount.getCustomMessage()).isEqualTo("count가 Null 이 되면 안 됩니다.");
+    }
+}
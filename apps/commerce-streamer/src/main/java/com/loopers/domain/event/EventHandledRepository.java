@@ -0,0 +1,23 @@
+package com.loopers.domain.event;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Set;
+
+public interface EventHandledRepository {
+    /**
+     * eventIds 중 이미 반영한 것을 돌려준다.
+     */
+    Set<String> findHandled(Collection<String> eventIds);
+
+    /**
+     * 반영한 eventId 를 저장한다. 다른 트랜잭션이 같은 eventId 를 먼저 저장했으면 (PK 중복) 예외로 rollback 된다.
+     */
+    void saveAll(Collection<String> eventIds, ZonedDateTime handledAt);
+
+    /**
+     * handledAt 이전에 저장한 것을 limit 개씩 지운다.
+     * @return 지운 row 수
+     */
+    long deleteHandledBefore(ZonedDateTime handledAt, int limit);
+}
@@ -0,0 +1,51 @@
+package com.loopers.domain.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 이벤트는 at-least-once 로 오므로 (relay 재발행, ack 전 재시작) eventId 로 한 번만 반영되게 한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class EventHandledService {
+
+    private final EventHandledRepository eventHandledRepository;
+
+    /**
+     * 아직 반영하지 않은 이벤트만 돌려주고, 그 eventId 를 반영한 것으로 저장한다.
+     * 반영과 같은 트랜잭션에서 불러야 한다. (반영이 rollback 되면 저장도 rollback 되어 다시 받았을 때 반영된다)
+     * 같은 batch 안에 같은 eventId 가 여러 번 있으면 처음 것만 남긴다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> List<T> markHandled(List<T> events, Function<T, String> eventIdOf) {
+        Map<String, T> byEventId = new LinkedHashMap<>();
+        events.forEach(event -> byEventId.putIfAbsent(eventIdOf.apply(event), event));
+        if (byEventId.isEmpty()) return List.of();
+
+        Set<String> handled = eventHandledRepository.findHandled(byEventId.keySet());
+        byEventId.keySet().removeAll(handled);
+        eventHandledRepository.saveAll(byEventId.keySet(), ZonedDateTime.now());
+        return new ArrayList<>(byEventId.values());
+    }
+
+    /**
+     * retention 보다 오래된 기록을 지운다. retention 은 topic 보관 기간보다 길어야 한다.
+     * @return 지운 row 수
+     */
+    @Transactional
+    public long deleteExpired(Duration retention, int batchSize) {
+        return eventHandledRepository.deleteHandledBefore(ZonedDateTime.now().minus(retention), batchSize);
+    }
+}
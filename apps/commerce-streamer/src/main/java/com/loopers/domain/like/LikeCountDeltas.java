@@ -0,0 +1,25 @@
+package com.loopers.domain.like;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 한 번에 poll 한 좋아요 이벤트를 상품별 순증감으로 합친다.
+ * 같은 상품에 좋아요와 취소가 섞여 있으면 상쇄되고, 순증감이 0 인 상품은 빠진다.
+ * productId 순으로 정렬해서, 여러 consumer 가 동시에 update 해도 같은 순서로 row lock 을 잡게 한다.
+ */
+public final class LikeCountDeltas {
+
+    private LikeCountDeltas() {}
+
+    public static Map<Long, Long> collapse(List<LikeEvent> events) {
+        Map<Long, Long> deltas = new TreeMap<>();
+        for (LikeEvent event : events) {
+            deltas.merge(event.productId(), event.type().delta(), Long::sum);
+        }
+        deltas.values().removeIf(delta -> delta == 0L);
+        return Collections.unmodifiableMap(deltas);
+    }
+}
@@ -0,0 +1,16 @@
+package com.loopers.domain.like;
+
+import java.time.ZonedDateTime;
+
+/**
+ * commerce-api 가 발행하는 좋아요 이벤트 (product-like 토픽, key : productId)
+ */
+public record LikeEvent(
+        String eventId
+        , LikeEventType type
+        , Long userId
+        , Long productId
+        , Long brandId
+        , ZonedDateTime occurredAt
+) {
+}
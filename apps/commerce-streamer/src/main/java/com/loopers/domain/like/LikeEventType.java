@@ -0,0 +1,11 @@
+package com.loopers.domain.like;
+
+public enum LikeEventType {
+    LIKED,
+    UNLIKED;
+
+    /** 상품 좋아요 수에 더할 값 */
+    public long delta() {
+        return this == LIKED ? 1L : -1L;
+    }
+}
@@ -0,0 +1,23 @@
+package com.loopers.domain.order;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 한 번에 poll 한 주문 이벤트를 주문별로 가장 최근 이벤트 하나로 줄인다.
+ * 이벤트가 그 시점의 주문 전체를 담고 있으므로 마지막 이벤트만 반영하면 된다. (발생 시각이 같으면 뒤에 온 이벤트)
+ * orderId 순으로 정렬해서, 여러 consumer 가 동시에 upsert 해도 같은 순서로 row lock 을 잡게 한다.
+ */
+public final class LatestOrderEvents {
+
+    private LatestOrderEvents() {}
+
+    public static List<OrderEvent> collapse(List<OrderEvent> events) {
+        Map<Long, OrderEvent> latest = new TreeMap<>();
+        for (OrderEvent event : events) {
+            latest.merge(event.orderId(), event, (prev, next) -> next.occurredAt().isBefore(prev.occurredAt()) ? prev : next);
+        }
+        return List.copyOf(latest.values());
+    }
+}
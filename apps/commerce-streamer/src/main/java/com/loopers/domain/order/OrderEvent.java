@@ -0,0 +1,21 @@
+package com.loopers.domain.order;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * commerce-api 가 outbox 로 발행하는 주문 / 결제 이벤트 (order-event 토픽, key : orderId)
+ * 이벤트마다 그 시점의 주문 전체(상태, 금액, 주문 상품)를 담고 있다.
+ */
+public record OrderEvent(
+        String eventId
+        , OrderEventType type
+        , Long orderId
+        , Long userId
+        , String status
+        , Long totalPrice
+        , List<OrderEventItem> items
+        , ZonedDateTime orderedAt
+        , ZonedDateTime occurredAt
+) {
+}
@@ -0,0 +1,11 @@
+package com.loopers.domain.order;
+
+public record OrderEventItem(
+        Long productId
+        , Long quantity
+        , Long unitPrice
+) {
+    public long totalAmount() {
+        return unitPrice * quantity;
+    }
+}
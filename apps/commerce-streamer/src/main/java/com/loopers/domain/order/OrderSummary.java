@@ -0,0 +1,34 @@
+package com.loopers.domain.order;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * order_summary 한 줄. (주문 + 주문 상품 + 상품/브랜드 이름)
+ * @param lastEventAt 반영한 이벤트의 발생 시각 (재생성이면 주문의 updated_at). 더 오래된 값으로는 덮어쓰지 않는다.
+ */
+public record OrderSummary(
+        Long orderId
+        , Long userId
+        , String status
+        , Long totalPrice
+        , List<OrderSummaryItem> items
+        , ZonedDateTime orderedAt
+        , ZonedDateTime lastEventAt
+) {
+    public static OrderSummary of(OrderEvent event, Map<Long, ProductName> productNames) {
+        List<OrderSummaryItem> items = event.items().stream()
+                .map(item -> OrderSummaryItem.of(item, productNames.get(item.productId())))
+                .toList();
+        return new OrderSummary(
+                event.orderId(),
+                event.userId(),
+                event.status(),
+                event.totalPrice(),
+                items,
+                event.orderedAt() != null ? event.orderedAt() : event.occurredAt(),
+                event.occurredAt()
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.loopers.domain.order;
+
+import java.util.List;
+
+public interface OrderSummaryCacheRepository {
+    /**
+     * 반영한 주문의 상세 캐시와, 그 사용자의 첫 페이지 캐시를 지운다.
+     */
+    void evict(List<OrderSummary> summaries);
+
+    /**
+     * 재생성 후 모든 주문 캐시를 지운다.
+     */
+    void evictAll();
+}
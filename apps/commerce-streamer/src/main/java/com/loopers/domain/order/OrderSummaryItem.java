@@ -0,0 +1,27 @@
+package com.loopers.domain.order;
+
+/**
+ * 주문 상품 한 줄. commerce-api 의 OrderHistoryItem 과 같은 json 으로 저장한다.
+ */
+public record OrderSummaryItem(
+        Long productId
+        , String productName
+        , String brandName
+        , Long quantity
+        , Long unitPrice
+        , Long totalAmount
+) {
+    /**
+     * @param name 상품이 없으면 null (이름을 비워둔다)
+     */
+    public static OrderSummaryItem of(OrderEventItem item, ProductName name) {
+        return new OrderSummaryItem(
+                item.productId(),
+                name != null ? name.name() : null,
+                name != null ? name.brandName() : null,
+                item.quantity(),
+                item.unitPrice(),
+                item.totalAmount()
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.loopers.domain.order;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface OrderSummaryRepository {
+    /**
+     * 주문별로 insert 하거나, 저장된 lastEventAt 보다 새 값이면 덮어쓴다. projected_at 은 더 늦은 값으로 바꾼다.
+     */
+    void upsert(List<OrderSummary> summaries, ZonedDateTime projectedAt);
+
+    Map<Long, ProductName> findProductNames(Collection<Long> productIds);
+
+    /**
+     * 주문 / 주문 상품 테이블에서 주문을 id 순으로 limit 개 읽어서 만든다. (재생성용 keyset scan)
+     */
+    List<OrderSummary> findOrdersAfter(long lastOrderId, int limit);
+
+    /**
+     * projected_at 이 기준보다 이전인 row 를 limit 개씩 나눠서 지운다.
+     * @return 지운 row 수
+     */
+    long deleteProjectedBefore(ZonedDateTime projectedAt, int limit);
+}
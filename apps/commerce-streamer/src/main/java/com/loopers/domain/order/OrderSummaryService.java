@@ -0,0 +1,117 @@
+package com.loopers.domain.order;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 이벤트를 내 주문 조회용 read model(order_summary)에 반영한다.
+ * - 반영 : 주문별 마지막 이벤트로 한 줄을 만들어 upsert 한다. 상품/브랜드 이름은 batch 의 상품을 한 번에 읽는다.
+ * - 캐시 : 커밋된 뒤에 지운다. Redis 가 실패해도 반영은 유지하고 캐시 ttl 이 지나면 맞춰진다.
+ * - 재생성 : 주문 / 주문 상품 테이블을 id 순으로 읽어서 덮어쓰고, 재생성 중에 한 번도 쓰이지 않은 row 를 지운다.
+ *   재생성 중의 이벤트도 그대로 반영한다. (last_event_at 이 더 새 쪽이 남는다)
+ */
+@Slf4j
+@Component
+public class OrderSummaryService {
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderSummaryCacheRepository orderSummaryCacheRepository;
+    private final MeterRegistry meterRegistry;
+    private final Timer projectionLag;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    public OrderSummaryService(
+            OrderSummaryRepository orderSummaryRepository,
+            OrderSummaryCacheRepository orderSummaryCacheRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.orderSummaryRepository = orderSummaryRepository;
+        this.orderSummaryCacheRepository = orderSummaryCacheRepository;
+        this.meterRegistry = meterRegistry;
+        this.projectionLag = Timer.builder("order.projection.lag")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * batch 의 주문을 한 트랜잭션에서 반영한다.
+     * @return 반영한 주문 (캐시 무효화에 쓴다)
+     */
+    @Transactional
+    public List<OrderSummary> project(List<OrderEvent> events) {
+        List<OrderEvent> latest = LatestOrderEvents.collapse(events);
+        if (latest.isEmpty()) return List.of();
+
+        Set<Long> productIds = latest.stream()
+                .flatMap(event -> event.items().stream())
+                .map(OrderEventItem::productId)
+                .collect(Collectors.toSet());
+        Map<Long, ProductName> productNames = orderSummaryRepository.findProductNames(productIds);
+        List<OrderSummary> summaries = latest.stream()
+                .map(event -> OrderSummary.of(event, productNames))
+                .toList();
+        orderSummaryRepository.upsert(summaries, ZonedDateTime.now());
+        return summaries;
+    }
+
+    /**
+     * 반영이 커밋된 뒤에 부른다. 캐시를 지우고 이벤트별 반영 지연을 남긴다.
+     */
+    public void afterProjected(List<OrderEvent> events, List<OrderSummary> summaries) {
+        try {
+            orderSummaryCacheRepository.evict(summaries);
+        } catch (Exception e) {
+            log.warn("주문 캐시 삭제 실패 : 주문 {} 개", summaries.size(), e);
+        }
+
+        ZonedDateTime now = ZonedDateTime.now();
+        for (OrderEvent event : events) {
+            projectionLag.record(Duration.between(event.occurredAt(), now));
+            meterRegistry.counter("order.projection.events", "type", event.type().name()).increment();
+        }
+    }
+
+    /**
+     * @return 다시 만든 주문 수. 이미 재생성 중이면 0
+     */
+    public long rebuild(int batchSize) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return 0L;
+        }
+        try {
+            ZonedDateTime startedAt = ZonedDateTime.now();
+            long lastOrderId = 0L;
+            long total = 0L;
+            while (true) {
+                List<OrderSummary> batch = orderSummaryRepository.findOrdersAfter(lastOrderId, batchSize);
+                if (batch.isEmpty()) break;
+                orderSummaryRepository.upsert(batch, ZonedDateTime.now());
+                lastOrderId = batch.get(batch.size() - 1).orderId();
+                total += batch.size();
+            }
+
+            long deleted = orderSummaryRepository.deleteProjectedBefore(startedAt, DELETE_BATCH_SIZE);
+            if (deleted > 0) {
+                log.warn("원본 주문이 없는 주문 read model {} 개를 지웠습니다.", deleted);
+            }
+            orderSummaryCacheRepository.evictAll();
+            return total;
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+}
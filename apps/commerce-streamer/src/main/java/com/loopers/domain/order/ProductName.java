@@ -0,0 +1,7 @@
+package com.loopers.domain.order;
+
+public record ProductName(
+        String name
+        , String brandName
+) {
+}
@@ -0,0 +1,12 @@
+package com.loopers.domain.product;
+
+/**
+ * DB 에 반영된 상품의 좋아요 수. 랭킹 score 는 순증감이 아니라 이 절대값으로 덮어쓴다.
+ */
+public record ProductLikeCount(
+        Long productId,
+        Long brandId,
+        Long likeCount,
+        boolean deleted
+) {
+}
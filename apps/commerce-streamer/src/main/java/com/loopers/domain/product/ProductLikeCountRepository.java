@@ -0,0 +1,18 @@
+package com.loopers.domain.product;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ProductLikeCountRepository {
+    void addLikeCounts(Map<Long, Long> deltaByProductId);
+
+    List<ProductLikeCount> findLikeCounts(Collection<Long> productIds);
+
+    /**
+     * 삭제되지 않은 상품을 id 순으로 limit 개 읽는다. (랭킹 재생성용 keyset scan)
+     */
+    List<ProductLikeCount> findLikeCountsAfter(long lastProductId, int limit);
+
+    long countActive();
+}
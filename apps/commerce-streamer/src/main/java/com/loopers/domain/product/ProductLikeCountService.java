@@ -0,0 +1,33 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.event.EventHandledService;
+import com.loopers.domain.like.LikeCountDeltas;
+import com.loopers.domain.like.LikeEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Component
+public class ProductLikeCountService {
+
+    private final ProductLikeCountRepository productLikeCountRepository;
+    private final EventHandledService eventHandledService;
+
+    /**
+     * 아직 반영하지 않은 이벤트만 상품별 순증감으로 합쳐서 한 트랜잭션에서 반영한다. 일부만 반영되는 경우는 없다.
+     * 반영한 eventId 도 같은 트랜잭션에서 저장하므로, 다시 받은 이벤트는 두 번 세지 않는다.
+     * 반영 후의 좋아요 수를 같은 트랜잭션에서 다시 읽어서 돌려준다. (랭킹은 이 값으로 덮어써서 재처리해도 같은 결과가 된다)
+     */
+    @Transactional
+    public List<ProductLikeCount> applyEvents(List<LikeEvent> events) {
+        List<LikeEvent> unhandled = eventHandledService.markHandled(events, LikeEvent::eventId);
+        Map<Long, Long> deltaByProductId = LikeCountDeltas.collapse(unhandled);
+        if (deltaByProductId.isEmpty()) return List.of();
+        productLikeCountRepository.addLikeCounts(deltaByProductId);
+        return productLikeCountRepository.findLikeCounts(deltaByProductId.keySet());
+    }
+}
@@ -0,0 +1,35 @@
+package com.loopers.domain.product;
+
+/**
+ * 좋아요 랭킹 sorted set 의 score.
+ * score = likeCount * 2^28 + productId 로 만들어서, score 순서가 DB 정렬 (like_count desc, id desc) 과 같고 score 가 겹치지 않게 한다.
+ * 그래서 DB 와 같은 cursor (likeCount, id) 로 "그 score 미만" 을 읽으면 keyset 페이징이 된다.
+ * double 은 2^53 까지 정수를 정확히 표현하므로 productId < 2^28, likeCount < 2^25 까지 지원한다.
+ * (commerce-api 의 ProductLikeScore 와 같은 규칙이어야 한다)
+ */
+public final class ProductLikeScore {
+    static final int PRODUCT_ID_BITS = 28;
+    static final long MAX_PRODUCT_ID = (1L << PRODUCT_ID_BITS) - 1;
+    static final long MAX_LIKE_COUNT = (1L << (53 - PRODUCT_ID_BITS)) - 1;
+
+    private ProductLikeScore() {}
+
+    public static boolean supports(long likeCount, long productId) {
+        return likeCount >= 0 && likeCount <= MAX_LIKE_COUNT && productId >= 0 && productId <= MAX_PRODUCT_ID;
+    }
+
+    public static double of(long likeCount, long productId) {
+        if (!supports(likeCount, productId)) {
+            throw new IllegalArgumentException("score 로 표현할 수 없는 값입니다. likeCount = " + likeCount + ", productId = " + productId);
+        }
+        return (double) ((likeCount << PRODUCT_ID_BITS) | productId);
+    }
+
+    public static long likeCountOf(double score) {
+        return ((long) score) >>> PRODUCT_ID_BITS;
+    }
+
+    public static long productIdOf(double score) {
+        return ((long) score) & MAX_PRODUCT_ID;
+    }
+}
@@ -0,0 +1,34 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface ProductRankingRepository {
+    /**
+     * 좋아요 수로 score 를 덮어쓴다. 삭제된 상품은 랭킹에서 뺀다.
+     */
+    void updateScores(List<ProductLikeCount> likeCounts);
+
+    /**
+     * 재생성용 임시 키를 비운다.
+     */
+    void startRebuild();
+
+    void appendToRebuild(List<ProductLikeCount> likeCounts);
+
+    /**
+     * 임시 키를 실제 키로 교체한다. (RENAME 이라 읽는 쪽은 이전 랭킹 또는 새 랭킹만 본다)
+     * brandIds 에 없는 브랜드의 랭킹은 지운다.
+     */
+    void finishRebuild(Set<Long> brandIds);
+
+    boolean exists();
+
+    long size();
+
+    /**
+     * 상위 limit 개의 productId -> score 의 좋아요 수
+     */
+    Map<Long, Long> findTopLikeCounts(int limit);
+}
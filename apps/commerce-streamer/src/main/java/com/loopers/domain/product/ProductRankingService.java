@@ -0,0 +1,110 @@
+package com.loopers.domain.product;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 좋아요 랭킹 sorted set 을 DB 의 like_count 에 맞춘다.
+ * - 이벤트 반영 : applyEvents 가 돌려준 절대값으로 score 를 덮어쓴다. Redis 가 실패해도 DB 반영은 유지하고 재생성/다음 이벤트에서 맞춘다.
+ * - 재생성 : DB 를 id 순으로 읽어서 임시 키에 쓰고 RENAME 한다. 재생성 중의 이벤트는 임시 키에도 쓴다.
+ * - drift : 랭킹 크기 / 상위 상품의 좋아요 수를 DB 와 비교해서 gauge 로 남긴다.
+ */
+@Slf4j
+@Component
+public class ProductRankingService {
+
+    private final ProductRankingRepository productRankingRepository;
+    private final ProductLikeCountRepository productLikeCountRepository;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private final AtomicLong cardinalityDrift = new AtomicLong();
+    private final AtomicLong scoreMismatch = new AtomicLong();
+
+    public ProductRankingService(
+            ProductRankingRepository productRankingRepository,
+            ProductLikeCountRepository productLikeCountRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.productRankingRepository = productRankingRepository;
+        this.productLikeCountRepository = productLikeCountRepository;
+        Gauge.builder("product.ranking.drift", cardinalityDrift, AtomicLong::get)
+                .tag("type", "cardinality")
+                .register(meterRegistry);
+        Gauge.builder("product.ranking.drift", scoreMismatch, AtomicLong::get)
+                .tag("type", "score_mismatch")
+                .register(meterRegistry);
+    }
+
+    public void updateScores(List<ProductLikeCount> likeCounts) {
+        if (likeCounts.isEmpty()) return;
+        try {
+            productRankingRepository.updateScores(likeCounts);
+            if (rebuilding.get()) {
+                productRankingRepository.appendToRebuild(likeCounts);
+            }
+        } catch (Exception e) {
+            log.warn("좋아요 랭킹 갱신 실패 : 상품 {} 개", likeCounts.size(), e);
+        }
+    }
+
+    public boolean exists() {
+        return productRankingRepository.exists();
+    }
+
+    /**
+     * @return 랭킹에 넣은 상품 수
+     */
+    public long rebuild(int batchSize) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return 0L;
+        }
+        try {
+            productRankingRepository.startRebuild();
+            Set<Long> brandIds = new HashSet<>();
+            long lastProductId = 0L;
+            long total = 0L;
+            while (true) {
+                List<ProductLikeCount> batch = productLikeCountRepository.findLikeCountsAfter(lastProductId, batchSize);
+                if (batch.isEmpty()) break;
+                productRankingRepository.appendToRebuild(batch);
+                batch.forEach(likeCount -> brandIds.add(likeCount.brandId()));
+                lastProductId = batch.get(batch.size() - 1).productId();
+                total += batch.size();
+            }
+            productRankingRepository.finishRebuild(brandIds);
+            return total;
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * @return score 와 DB 좋아요 수가 다른 상위 상품 수
+     */
+    public long checkDrift(int sampleSize) {
+        cardinalityDrift.set(Math.abs(productRankingRepository.size() - productLikeCountRepository.countActive()));
+
+        Map<Long, Long> ranked = productRankingRepository.findTopLikeCounts(sampleSize);
+        Map<Long, ProductLikeCount> actual = productLikeCountRepository.findLikeCounts(ranked.keySet()).stream()
+                .collect(Collectors.toMap(ProductLikeCount::productId, Function.identity()));
+        long mismatch = ranked.entrySet().stream()
+                .filter(entry -> {
+                    ProductLikeCount likeCount = actual.get(entry.getKey());
+                    return likeCount == null || likeCount.deleted() || !likeCount.likeCount().equals(entry.getValue());
+                })
+                .count();
+        scoreMismatch.set(mismatch);
+        return mismatch;
+    }
+}
@@ -0,0 +1,66 @@
+package com.loopers.infrastructure.event;
+
+import com.loopers.domain.event.EventHandledRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@RequiredArgsConstructor
+@Component
+public class EventHandledRepositoryImpl implements EventHandledRepository {
+    private static final String FIND_HANDLED =
+            "select event_id from event_handled where event_id in (:eventIds)";
+    private static final String INSERT =
+            "insert into event_handled (event_id, handled_at) values (?, ?)";
+    private static final String DELETE_HANDLED_BEFORE =
+            "delete from event_handled where handled_at < ? limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public Set<String> findHandled(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) return Set.of();
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                FIND_HANDLED, new MapSqlParameterSource("eventIds", eventIds), String.class));
+    }
+
+    /**
+     * insert ignore 가 아니라 insert 로 보내서, 동시에 같은 이벤트를 반영하려던 트랜잭션 중 하나는 실패하게 한다.
+     */
+    @Override
+    public void saveAll(Collection<String> eventIds, ZonedDateTime handledAt) {
+        if (eventIds.isEmpty()) return;
+        LocalDateTime handledAtUtc = toUtc(handledAt);
+        List<Object[]> args = eventIds.stream()
+                .map(eventId -> new Object[]{eventId, handledAtUtc})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT, args);
+    }
+
+    @Override
+    public long deleteHandledBefore(ZonedDateTime handledAt, int limit) {
+        LocalDateTime handledAtUtc = toUtc(handledAt);
+        long total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(DELETE_HANDLED_BEFORE, handledAtUtc, limit);
+            total += deleted;
+        } while (deleted == limit);
+        return total;
+    }
+
+    private static LocalDateTime toUtc(ZonedDateTime dateTime) {
+        return dateTime.withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    }
+}
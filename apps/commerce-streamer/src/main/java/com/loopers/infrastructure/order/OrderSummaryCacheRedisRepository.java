@@ -0,0 +1,80 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.order.OrderSummary;
+import com.loopers.domain.order.OrderSummaryCacheRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 주문 read model 캐시 무효화. 모두 master 에 한다.
+ * 키 규칙은 commerce-api 의 OrderHistoryCacheRedisRepository 와 같다.
+ * 사용자의 version 을 먼저 올리고 캐시를 지운다. (version 을 올리기 전에 DB 에서 읽은 값은 commerce-api 가 저장하지 않는다)
+ */
+@Component
+public class OrderSummaryCacheRedisRepository implements OrderSummaryCacheRepository {
+    private static final String DETAIL_KEY = "order:summary:detail:";
+    private static final String LIST_KEY = "order:summary:list:";
+    private static final String VERSION_KEY = "order:summary:version:";
+    private static final Duration VERSION_TTL = Duration.ofHours(1);
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    public OrderSummaryCacheRedisRepository(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public void evict(List<OrderSummary> summaries) {
+        if (summaries.isEmpty()) return;
+        Set<Long> userIds = new LinkedHashSet<>();
+        summaries.forEach(summary -> userIds.add(summary.userId()));
+
+        masterRedisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (Long userId : userIds) {
+                    operations.opsForValue().increment(VERSION_KEY + userId);
+                    operations.expire(VERSION_KEY + userId, VERSION_TTL);
+                }
+                List<String> keys = new ArrayList<>();
+                summaries.forEach(summary -> keys.add(DETAIL_KEY + summary.orderId()));
+                userIds.forEach(userId -> keys.add(LIST_KEY + userId));
+                operations.delete(keys);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void evictAll() {
+        for (String pattern : List.of(DETAIL_KEY + "*", LIST_KEY + "*")) {
+            List<String> keys = scan(pattern);
+            if (!keys.isEmpty()) {
+                masterRedisTemplate.delete(keys);
+            }
+        }
+    }
+
+    private List<String> scan(String pattern) {
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = masterRedisTemplate.scan(ScanOptions.scanOptions().match(pattern).count(1000).build())) {
+            cursor.forEachRemaining(keys::add);
+        }
+        return keys;
+    }
+}
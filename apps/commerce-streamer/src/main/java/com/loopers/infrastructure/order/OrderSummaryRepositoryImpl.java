@@ -0,0 +1,175 @@
+package com.loopers.infrastructure.order;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.order.OrderSummary;
+import com.loopers.domain.order.OrderSummaryItem;
+import com.loopers.domain.order.OrderSummaryRepository;
+import com.loopers.domain.order.ProductName;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * order_summary 테이블은 commerce-api 의 OrderSummary 엔티티가 만든다.
+ * 시각은 commerce-api(Hibernate jdbc.time_zone: UTC)와 같이 UTC 로 저장한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class OrderSummaryRepositoryImpl implements OrderSummaryRepository {
+    // 오른쪽 값은 저장된 last_event_at 과 비교해야 하므로 last_event_at 은 마지막에 바꾼다. (MySQL 은 왼쪽부터 대입한다)
+    private static final String UPSERT = """
+            insert into order_summary (order_id, user_id, status, total_price, item_count, items, ordered_at, last_event_at, projected_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            on duplicate key update
+                status = if(values(last_event_at) >= last_event_at, values(status), status),
+                total_price = if(values(last_event_at) >= last_event_at, values(total_price), total_price),
+                item_count = if(values(last_event_at) >= last_event_at, values(item_count), item_count),
+                items = if(values(last_event_at) >= last_event_at, values(items), items),
+                projected_at = greatest(projected_at, values(projected_at)),
+                last_event_at = greatest(last_event_at, values(last_event_at))
+            """;
+    private static final String FIND_PRODUCT_NAMES = """
+            select p.id, p.name, b.name as brand_name
+            from product p left join brand b on b.id = p.brand_id
+            where p.id in (:ids)
+            """;
+    private static final String FIND_ORDERS_AFTER =
+            "select id, user_id, status, total_price, created_at, updated_at from orders where id > ? order by id limit ?";
+    private static final String FIND_ITEMS = """
+            select oi.order_id, oi.product_id, oi.quantity, oi.unit_price, oi.total_amount, p.name as product_name, b.name as brand_name
+            from order_item oi
+                left join product p on p.id = oi.product_id
+                left join brand b on b.id = p.brand_id
+            where oi.order_id in (:orderIds)
+            order by oi.order_id, oi.id
+            """;
+    private static final String DELETE_PROJECTED_BEFORE =
+            "delete from order_summary where projected_at < ? limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 주문별 upsert 를 JDBC batch 하나로 보낸다.
+     */
+    @Override
+    public void upsert(List<OrderSummary> summaries, ZonedDateTime projectedAt) {
+        LocalDateTime projectedAtUtc = toUtc(projectedAt);
+        List<Object[]> args = new ArrayList<>(summaries.size());
+        for (OrderSummary summary : summaries) {
+            args.add(new Object[]{
+                    summary.orderId(),
+                    summary.userId(),
+                    summary.status(),
+                    summary.totalPrice(),
+                    summary.items().size(),
+                    toJson(summary),
+                    toUtc(summary.orderedAt()),
+                    toUtc(summary.lastEventAt()),
+                    projectedAtUtc
+            });
+        }
+        jdbcTemplate.batchUpdate(UPSERT, args);
+    }
+
+    @Override
+    public Map<Long, ProductName> findProductNames(Collection<Long> productIds) {
+        Map<Long, ProductName> names = new HashMap<>();
+        if (productIds.isEmpty()) return names;
+        namedParameterJdbcTemplate.query(FIND_PRODUCT_NAMES, new MapSqlParameterSource("ids", productIds), rs -> {
+            names.put(rs.getLong("id"), new ProductName(rs.getString("name"), rs.getString("brand_name")));
+        });
+        return names;
+    }
+
+    /**
+     * 주문을 읽고 그 주문들의 상품을 한 번에 읽는다. last_event_at 은 주문의 updated_at 이다.
+     */
+    @Override
+    public List<OrderSummary> findOrdersAfter(long lastOrderId, int limit) {
+        List<OrderRow> orders = jdbcTemplate.query(FIND_ORDERS_AFTER, (rs, rowNum) -> new OrderRow(
+                rs.getLong("id"),
+                rs.getLong("user_id"),
+                rs.getString("status"),
+                rs.getLong("total_price"),
+                fromUtc(rs, "created_at"),
+                fromUtc(rs, "updated_at")
+        ), lastOrderId, limit);
+        if (orders.isEmpty()) return List.of();
+
+        Map<Long, List<OrderSummaryItem>> itemsByOrderId = new LinkedHashMap<>();
+        namedParameterJdbcTemplate.query(
+                FIND_ITEMS,
+                new MapSqlParameterSource("orderIds", orders.stream().map(OrderRow::id).toList()),
+                rs -> {
+                    itemsByOrderId.computeIfAbsent(rs.getLong("order_id"), id -> new ArrayList<>()).add(new OrderSummaryItem(
+                            rs.getLong("product_id"),
+                            rs.getString("product_name"),
+                            rs.getString("brand_name"),
+                            rs.getLong("quantity"),
+                            rs.getLong("unit_price"),
+                            rs.getLong("total_amount")
+                    ));
+                }
+        );
+
+        return orders.stream()
+                .map(order -> new OrderSummary(
+                        order.id(),
+                        order.userId(),
+                        order.status(),
+                        order.totalPrice(),
+                        itemsByOrderId.getOrDefault(order.id(), List.of()),
+                        order.createdAt(),
+                        order.updatedAt()
+                ))
+                .toList();
+    }
+
+    @Override
+    public long deleteProjectedBefore(ZonedDateTime projectedAt, int limit) {
+        LocalDateTime projectedAtUtc = toUtc(projectedAt);
+        long total = 0L;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(DELETE_PROJECTED_BEFORE, projectedAtUtc, limit);
+            total += deleted;
+        } while (deleted == limit);
+        return total;
+    }
+
+    private String toJson(OrderSummary summary) {
+        try {
+            return objectMapper.writeValueAsString(summary.items());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("[orderId = " + summary.orderId() + "] 주문 상품 목록을 json 으로 바꿀 수 없습니다.", e);
+        }
+    }
+
+    private static LocalDateTime toUtc(ZonedDateTime dateTime) {
+        return dateTime.withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    }
+
+    private static ZonedDateTime fromUtc(ResultSet rs, String column) throws SQLException {
+        return rs.getObject(column, LocalDateTime.class).atZone(ZoneOffset.UTC);
+    }
+
+    private record OrderRow(Long id, Long userId, String status, Long totalPrice, ZonedDateTime createdAt, ZonedDateTime updatedAt) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductLikeCount;
+import com.loopers.domain.product.ProductLikeCountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Component
+public class ProductLikeCountRepositoryImpl implements ProductLikeCountRepository {
+    private static final String ADD_LIKE_COUNT =
+            "update product set like_count = greatest(like_count + ?, 0) where id = ?";
+    private static final String FIND_LIKE_COUNTS =
+            "select id, brand_id, like_count, deleted_at from product where id in (:ids)";
+    private static final String FIND_LIKE_COUNTS_AFTER =
+            "select id, brand_id, like_count, deleted_at from product where id > ? and deleted_at is null order by id limit ?";
+    private static final String COUNT_ACTIVE =
+            "select count(*) from product where deleted_at is null";
+
+    private static final RowMapper<ProductLikeCount> ROW_MAPPER = (rs, rowNum) -> new ProductLikeCount(
+            rs.getLong("id"),
+            rs.getLong("brand_id"),
+            rs.getLong("like_count"),
+            rs.getTimestamp("deleted_at") != null
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 상품별 update 를 JDBC batch 하나로 보낸다.
+     */
+    @Override
+    public void addLikeCounts(Map<Long, Long> deltaByProductId) {
+        List<Object[]> args = deltaByProductId.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate(ADD_LIKE_COUNT, args);
+    }
+
+    @Override
+    public List<ProductLikeCount> findLikeCounts(Collection<Long> productIds) {
+        if (productIds.isEmpty()) return List.of();
+        return namedParameterJdbcTemplate.query(FIND_LIKE_COUNTS, new MapSqlParameterSource("ids", productIds), ROW_MAPPER);
+    }
+
+    @Override
+    public List<ProductLikeCount> findLikeCountsAfter(long lastProductId, int limit) {
+        return jdbcTemplate.query(FIND_LIKE_COUNTS_AFTER, ROW_MAPPER, lastProductId, limit);
+    }
+
+    @Override
+    public long countActive() {
+        Long count = jdbcTemplate.queryForObject(COUNT_ACTIVE, Long.class);
+        return count != null ? count : 0L;
+    }
+}
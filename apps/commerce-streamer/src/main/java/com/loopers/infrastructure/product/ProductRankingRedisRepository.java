@@ -0,0 +1,151 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.ProductLikeCount;
+import com.loopers.domain.product.ProductLikeScore;
+import com.loopers.domain.product.ProductRankingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 좋아요 랭킹 sorted set (전체 / 브랜드별) 쓰기. 모두 master 에 한다.
+ * 키 규칙은 commerce-api 의 ProductRankingRedisRepository 와 같다.
+ */
+@Slf4j
+@Component
+public class ProductRankingRedisRepository implements ProductRankingRepository {
+    private static final String GLOBAL_KEY = "product:rank:likes";
+    private static final String BRAND_KEY_PREFIX = "product:rank:likes:brand:";
+    private static final String STAGING_SUFFIX = ":staging";
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    public ProductRankingRedisRepository(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public void updateScores(List<ProductLikeCount> likeCounts) {
+        write(likeCounts, "");
+    }
+
+    @Override
+    public void startRebuild() {
+        List<String> stagingKeys = scan(GLOBAL_KEY + "*" + STAGING_SUFFIX);
+        if (!stagingKeys.isEmpty()) {
+            masterRedisTemplate.delete(stagingKeys);
+        }
+    }
+
+    @Override
+    public void appendToRebuild(List<ProductLikeCount> likeCounts) {
+        write(likeCounts, STAGING_SUFFIX);
+    }
+
+    @Override
+    public void finishRebuild(Set<Long> brandIds) {
+        replace(GLOBAL_KEY);
+        for (Long brandId : brandIds) {
+            replace(BRAND_KEY_PREFIX + brandId);
+        }
+
+        List<String> staleKeys = scan(BRAND_KEY_PREFIX + "*").stream()
+                .filter(key -> !key.endsWith(STAGING_SUFFIX))
+                .filter(key -> !brandIds.contains(brandIdOf(key)))
+                .toList();
+        if (!staleKeys.isEmpty()) {
+            masterRedisTemplate.delete(staleKeys);
+        }
+    }
+
+    @Override
+    public boolean exists() {
+        return Boolean.TRUE.equals(masterRedisTemplate.hasKey(GLOBAL_KEY));
+    }
+
+    @Override
+    public long size() {
+        Long size = masterRedisTemplate.opsForZSet().zCard(GLOBAL_KEY);
+        return size != null ? size : 0L;
+    }
+
+    @Override
+    public Map<Long, Long> findTopLikeCounts(int limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = masterRedisTemplate.opsForZSet()
+                .reverseRangeWithScores(GLOBAL_KEY, 0, limit - 1);
+        Map<Long, Long> likeCounts = new LinkedHashMap<>();
+        if (tuples == null) return likeCounts;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            likeCounts.put(Long.valueOf(tuple.getValue()), ProductLikeScore.likeCountOf(tuple.getScore()));
+        }
+        return likeCounts;
+    }
+
+    private void write(List<ProductLikeCount> likeCounts, String suffix) {
+        if (likeCounts.isEmpty()) return;
+        masterRedisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (ProductLikeCount likeCount : likeCounts) {
+                    String member = String.valueOf(likeCount.productId());
+                    String globalKey = GLOBAL_KEY + suffix;
+                    String brandKey = BRAND_KEY_PREFIX + likeCount.brandId() + suffix;
+                    if (likeCount.deleted() || !ProductLikeScore.supports(likeCount.likeCount(), likeCount.productId())) {
+                        // score 로 표현할 수 없는 상품은 랭킹에서 빠지고, commerce-api 는 cursor 가 범위를 넘으면 DB 로 읽는다.
+                        operations.opsForZSet().remove(globalKey, member);
+                        operations.opsForZSet().remove(brandKey, member);
+                        continue;
+                    }
+                    double score = ProductLikeScore.of(likeCount.likeCount(), likeCount.productId());
+                    operations.opsForZSet().add(globalKey, member, score);
+                    operations.opsForZSet().add(brandKey, member, score);
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 재생성 결과가 비어있으면 RENAME 할 키가 없으므로 기존 키를 지운다.
+     */
+    private void replace(String key) {
+        String stagingKey = key + STAGING_SUFFIX;
+        if (Boolean.TRUE.equals(masterRedisTemplate.hasKey(stagingKey))) {
+            masterRedisTemplate.rename(stagingKey, key);
+        } else {
+            masterRedisTemplate.delete(key);
+        }
+    }
+
+    private List<String> scan(String pattern) {
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = masterRedisTemplate.scan(ScanOptions.scanOptions().match(pattern).count(1000).build())) {
+            cursor.forEachRemaining(keys::add);
+        }
+        return keys;
+    }
+
+    private Long brandIdOf(String brandKey) {
+        try {
+            return Long.valueOf(brandKey.substring(BRAND_KEY_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.interfaces.command;
+
+import com.loopers.domain.order.OrderSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 read model 을 주문 / 주문 상품 테이블에서 처음부터 다시 만든다.
+ * --order.summary.rebuild=true 로 기동하면 기동 직후 한 번 실행한다. (consumer 는 그대로 돌면서 재생성 중의 이벤트를 반영한다)
+ * 예) java -jar commerce-streamer.jar --order.summary.rebuild=true
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "order.summary.rebuild", havingValue = "true")
+public class OrderSummaryRebuildCommand implements ApplicationRunner {
+
+    private final OrderSummaryService orderSummaryService;
+
+    @Value("${order.summary.rebuild-batch-size:1000}")
+    private int rebuildBatchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            long startedAt = System.currentTimeMillis();
+            long total = orderSummaryService.rebuild(rebuildBatchSize);
+            log.info("주문 read model 재생성 : 주문 {} 개, {} ms", total, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("주문 read model 재생성 실패", e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.loopers.interfaces.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.domain.order.OrderEvent;
+import com.loopers.domain.order.OrderSummary;
+import com.loopers.domain.order.OrderSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * poll 한 주문 이벤트를 주문별 마지막 상태로 합쳐서 order_summary 에 한 번에 반영한다.
+ * offset 은 DB 반영이 커밋된 뒤에만 commit 한다. 반영이 실패하면 ack 하지 않고 예외를 던져서 batch 를 다시 받는다.
+ * 같은 이벤트를 다시 반영해도 결과가 같으므로 eventId 로 중복을 거르지 않는다. (last_event_at 보다 오래된 이벤트는 무시된다)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class OrderEventConsumer {
+    private final ObjectMapper objectMapper;
+    private final OrderSummaryService orderSummaryService;
+
+    @KafkaListener(
+            topics = {"${kafka.topic.order-event}"},
+            groupId = "${kafka.consumer-group.order-summary}",
+            containerFactory = KafkaConfig.BATCH_LISTENER
+    )
+    public void consume(
+            List<ConsumerRecord<Object, Object>> messages,
+            Acknowledgment acknowledgment
+    ) {
+        List<OrderEvent> events = new ArrayList<>(messages.size());
+        for (ConsumerRecord<Object, Object> message : messages) {
+            OrderEvent event = parse(message);
+            if (event != null) events.add(event);
+        }
+
+        List<OrderSummary> summaries = orderSummaryService.project(events);
+        orderSummaryService.afterProjected(events, summaries);
+        acknowledgment.acknowledge();
+        log.debug("주문 이벤트 {} 건 -> 주문 {} 개 반영", messages.size(), summaries.size());
+    }
+
+    /**
+     * 역직렬화할 수 없는 메시지는 다시 받아도 실패하므로 로그만 남기고 건너뛴다.
+     */
+    private OrderEvent parse(ConsumerRecord<Object, Object> message) {
+        try {
+            Object value = message.value();
+            OrderEvent event = value instanceof byte[] bytes
+                    ? objectMapper.readValue(bytes, OrderEvent.class)
+                    : objectMapper.readValue(String.valueOf(value), OrderEvent.class);
+            if (event.orderId() == null || event.userId() == null || event.type() == null
+                    || event.status() == null || event.items() == null || event.occurredAt() == null) {
+                throw new IOException("orderId / userId / type / status / items / occurredAt 이 없습니다.");
+            }
+            return event;
+        } catch (IOException e) {
+            log.error("주문 이벤트를 읽을 수 없어 건너뜁니다. partition = {}, offset = {}", message.partition(), message.offset(), e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.loopers.interfaces.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.domain.like.LikeEvent;
+import com.loopers.domain.product.ProductLikeCount;
+import com.loopers.domain.product.ProductLikeCountService;
+import com.loopers.domain.product.ProductRankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * poll 한 좋아요 이벤트(최대 KafkaConfig.MAX_POLLING_SIZE 건)를 상품별 순증감으로 합쳐서 batch update 한 번으로 반영한다.
+ * offset 은 DB 반영이 커밋된 뒤에만 commit 한다. 반영이 실패하면 ack 하지 않고 예외를 던져서 batch 를 다시 받는다.
+ * 다시 받은 이벤트 (DB 커밋 후 ack 전에 죽은 경우, relay 가 다시 발행한 경우) 는 eventId 로 걸러서 두 번 세지 않는다.
+ * 반영 후의 좋아요 수로 랭킹 score 를 덮어쓴다. 랭킹 갱신 실패는 ack 를 막지 않는다. (재생성이 맞춘다)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductLikeEventConsumer {
+    private final ObjectMapper objectMapper;
+    private final ProductLikeCountService productLikeCountService;
+    private final ProductRankingService productRankingService;
+
+    @KafkaListener(
+            topics = {"${kafka.topic.product-like}"},
+            groupId = "${kafka.consumer-group.product-like-count}",
+            containerFactory = KafkaConfig.BATCH_LISTENER
+    )
+    public void consume(
+            List<ConsumerRecord<Object, Object>> messages,
+            Acknowledgment acknowledgment
+    ) {
+        List<LikeEvent> events = new ArrayList<>(messages.size());
+        for (ConsumerRecord<Object, Object> message : messages) {
+            LikeEvent event = parse(message);
+            if (event != null) events.add(event);
+        }
+
+        List<ProductLikeCount> likeCounts = productLikeCountService.applyEvents(events);
+        productRankingService.updateScores(likeCounts);
+        acknowledgment.acknowledge();
+        log.debug("좋아요 이벤트 {} 건 -> 상품 {} 개 반영", messages.size(), likeCounts.size());
+    }
+
+    /**
+     * 역직렬화할 수 없는 메시지는 다시 받아도 실패하므로 로그만 남기고 건너뛴다.
+     */
+    private LikeEvent parse(ConsumerRecord<Object, Object> message) {
+        try {
+            Object value = message.value();
+            LikeEvent event = value instanceof byte[] bytes
+                    ? objectMapper.readValue(bytes, LikeEvent.class)
+                    : objectMapper.readValue(String.valueOf(value), LikeEvent.class);
+            if (event.eventId() == null || event.productId() == null || event.type() == null) {
+                throw new IOException("eventId / productId / type 이 없습니다.");
+            }
+            return event;
+        } catch (IOException e) {
+            log.error("좋아요 이벤트를 읽을 수 없어 건너뜁니다. partition = {}, offset = {}", message.partition(), message.offset(), e);
+            return null;
+        }
+    }
+}
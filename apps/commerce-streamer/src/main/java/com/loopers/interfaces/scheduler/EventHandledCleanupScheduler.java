@@ -0,0 +1,39 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.domain.event.EventHandledService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 반영한 eventId 기록 중 다시 받을 일이 없는 (topic 보관 기간이 지난) 것을 지운다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "event-handled.cleanup.enabled", havingValue = "true", matchIfMissing = true)
+public class EventHandledCleanupScheduler {
+
+    private final EventHandledService eventHandledService;
+
+    @Value("${event-handled.cleanup.retention-hours:192}")
+    private long retentionHours;
+
+    @Value("${event-handled.cleanup.batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${event-handled.cleanup.cron:0 30 4 * * *}")
+    public void cleanup() {
+        try {
+            long deleted = eventHandledService.deleteExpired(Duration.ofHours(retentionHours), batchSize);
+            log.info("반영한 eventId 기록 정리 : {} 건", deleted);
+        } catch (Exception e) {
+            log.warn("반영한 eventId 기록 정리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.domain.product.ProductRankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요 랭킹 재생성 / drift 확인.
+ * 랭킹 키가 없으면 (최초 기동, Redis 유실) 기동 직후 재생성하고, 이후에는 cron 으로 주기적으로 DB 에 맞춘다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "product.like-ranking.enabled", havingValue = "true", matchIfMissing = true)
+public class ProductRankingScheduler {
+
+    private final ProductRankingService productRankingService;
+
+    @Value("${product.like-ranking.rebuild-batch-size:1000}")
+    private int rebuildBatchSize;
+
+    @Value("${product.like-ranking.drift-sample-size:100}")
+    private int driftSampleSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfMissing() {
+        try {
+            if (!productRankingService.exists()) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.warn("좋아요 랭킹 확인 실패", e);
+        }
+    }
+
+    @Scheduled(cron = "${product.like-ranking.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            long total = productRankingService.rebuild(rebuildBatchSize);
+            log.info("좋아요 랭킹 재생성 : 상품 {} 개, {} ms", total, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("좋아요 랭킹 재생성 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product.like-ranking.drift-check-fixed-delay-ms:60000}")
+    public void checkDrift() {
+        try {
+            long mismatch = productRankingService.checkDrift(driftSampleSize);
+            if (mismatch > 0) {
+                log.warn("좋아요 랭킹 score 불일치 : 상위 {} 개 중 {} 개", driftSampleSize, mismatch);
+            }
+        } catch (Exception e) {
+            log.warn("좋아요 랭킹 drift 확인 실패", e);
+        }
+    }
+}
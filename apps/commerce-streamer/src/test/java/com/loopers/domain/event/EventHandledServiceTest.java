@@ -0,0 +1,87 @@
+package com.loopers.domain.event;
+
+import com.loopers.domain.like.LikeCountDeltas;
+import com.loopers.domain.like.LikeEvent;
+import com.loopers.domain.like.LikeEventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("EventHandledService 단위 테스트")
+class EventHandledServiceTest {
+
+    private final InMemoryEventHandledRepository repository = new InMemoryEventHandledRepository();
+    private final EventHandledService eventHandledService = new EventHandledService(repository);
+
+    @DisplayName("성공 케이스 : 다시 받은 batch 의 이벤트는 거르고, 새 이벤트만 반영한다")
+    @Test
+    void markHandled_redeliveredBatch_onlyNewEvents() {
+        // arrange
+        List<LikeEvent> firstBatch = List.of(
+                event("e1", LikeEventType.LIKED, 1L),
+                event("e2", LikeEventType.LIKED, 2L)
+        );
+        eventHandledService.markHandled(firstBatch, LikeEvent::eventId);
+
+        // act
+        List<LikeEvent> redelivered = List.of(
+                event("e1", LikeEventType.LIKED, 1L),
+                event("e2", LikeEventType.LIKED, 2L),
+                event("e3", LikeEventType.UNLIKED, 1L)
+        );
+        List<LikeEvent> unhandled = eventHandledService.markHandled(redelivered, LikeEvent::eventId);
+
+        // assert
+        assertEquals(List.of("e3"), unhandled.stream().map(LikeEvent::eventId).toList());
+        assertEquals(Map.of(1L, -1L), LikeCountDeltas.collapse(unhandled));
+        assertEquals(Set.of("e1", "e2", "e3"), repository.handled);
+    }
+
+    @DisplayName("성공 케이스 : 같은 batch 안에 같은 eventId 가 여러 번 있으면 한 번만 반영한다")
+    @Test
+    void markHandled_duplicateInBatch_once() {
+        // act
+        List<LikeEvent> unhandled = eventHandledService.markHandled(List.of(
+                event("e1", LikeEventType.LIKED, 1L),
+                event("e1", LikeEventType.LIKED, 1L)
+        ), LikeEvent::eventId);
+
+        // assert
+        assertEquals(Map.of(1L, 1L), LikeCountDeltas.collapse(unhandled));
+    }
+
+    private LikeEvent event(String eventId, LikeEventType type, Long productId) {
+        return new LikeEvent(eventId, type, 1L, productId, 1L, ZonedDateTime.now());
+    }
+
+    private static class InMemoryEventHandledRepository implements EventHandledRepository {
+        private final Set<String> handled = new HashSet<>();
+
+        @Override
+        public Set<String> findHandled(Collection<String> eventIds) {
+            Set<String> found = new HashSet<>(eventIds);
+            found.retainAll(handled);
+            return found;
+        }
+
+        @Override
+        public void saveAll(Collection<String> eventIds, ZonedDateTime handledAt) {
+            eventIds.forEach(eventId -> {
+                if (!handled.add(eventId)) throw new IllegalStateException("duplicate eventId : " + eventId);
+            });
+        }
+
+        @Override
+        public long deleteHandledBefore(ZonedDateTime handledAt, int limit) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.loopers.domain.like;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("LikeCountDeltas 단위 테스트")
+class LikeCountDeltasTest {
+
+    @DisplayName("성공 케이스 : 상품별 순증감으로 합치고, 순증감이 0 인 상품은 뺀다")
+    @Test
+    void collapse_mixedEvents_netDeltaPerProduct() {
+        // arrange
+        List<LikeEvent> events = List.of(
+                event(LikeEventType.LIKED, 3L),
+                event(LikeEventType.LIKED, 1L),
+                event(LikeEventType.LIKED, 3L),
+                event(LikeEventType.UNLIKED, 2L),
+                event(LikeEventType.LIKED, 1L),
+                event(LikeEventType.UNLIKED, 1L),
+                event(LikeEventType.LIKED, 4L),
+                event(LikeEventType.UNLIKED, 4L)
+        );
+
+        // act
+        Map<Long, Long> deltas = LikeCountDeltas.collapse(events);
+
+        // assert
+        assertEquals(Map.of(1L, 1L, 2L, -1L, 3L, 2L), deltas);
+        assertEquals(List.of(1L, 2L, 3L), List.copyOf(deltas.keySet()));
+    }
+
+    private LikeEvent event(LikeEventType type, Long productId) {
+        return new LikeEvent("event", type, 1L, productId, 1L, ZonedDateTime.now());
+    }
+}
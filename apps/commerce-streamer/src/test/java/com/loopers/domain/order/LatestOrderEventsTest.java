@@ -0,0 +1,61 @@
+package com.loopers.domain.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("LatestOrderEvents 단위 테스트")
+class LatestOrderEventsTest {
+
+    private final ZonedDateTime now = ZonedDateTime.now();
+
+    @DisplayName("성공 케이스 : 주문별로 가장 최근 이벤트만 남기고 orderId 순으로 정렬한다")
+    @Test
+    void collapse_multipleEventsPerOrder_latestPerOrder() {
+        // arrange
+        OrderEvent created3 = event(OrderEventType.ORDER_CREATED, 3L, "PENDING_PAYMENT", 0);
+        OrderEvent created1 = event(OrderEventType.ORDER_CREATED, 1L, "PENDING_PAYMENT", 1);
+        OrderEvent paid3 = event(OrderEventType.PAYMENT_COMPLETED, 3L, "PAID", 2);
+        OrderEvent created2 = event(OrderEventType.ORDER_CREATED, 2L, "PAID", 3);
+
+        // act
+        List<OrderEvent> latest = LatestOrderEvents.collapse(List.of(created3, created1, paid3, created2));
+
+        // assert
+        assertEquals(List.of(created1, created2, paid3), latest);
+    }
+
+    @DisplayName("성공 케이스 : 늦게 도착한 오래된 이벤트는 최신 이벤트를 덮어쓰지 않고, 발생 시각이 같으면 뒤에 온 이벤트를 남긴다")
+    @Test
+    void collapse_outOfOrderOrSameTime_keepsLatest() {
+        // arrange
+        OrderEvent failed = event(OrderEventType.PAYMENT_FAILED, 1L, "PAYMENT_FAILED", 5);
+        OrderEvent created = event(OrderEventType.ORDER_CREATED, 1L, "PENDING_PAYMENT", 1);
+        OrderEvent createdAgain = event(OrderEventType.ORDER_CREATED, 2L, "PAYMENT_FAILED", 1);
+        OrderEvent failedSameTime = event(OrderEventType.PAYMENT_FAILED, 2L, "PAYMENT_FAILED", 1);
+
+        // act
+        List<OrderEvent> latest = LatestOrderEvents.collapse(List.of(failed, created, createdAgain, failedSameTime));
+
+        // assert
+        assertEquals(List.of(failed, failedSameTime), latest);
+    }
+
+    private OrderEvent event(OrderEventType type, Long orderId, String status, long secondsAfter) {
+        return new OrderEvent(
+                type.name() + orderId,
+                type,
+                orderId,
+                1L,
+                status,
+                1000L,
+                List.of(new OrderEventItem(10L, 1L, 1000L)),
+                now,
+                now.plusSeconds(secondsAfter)
+        );
+    }
+}
@@ -0,0 +1,63 @@
+// commerce-api 의 platform thread 모드와 virtual thread 모드를 비교하는 부하 스크립트
+//
+// 1. 회원 데이터 준비 (한 번만)
+//    k6 run -e BASE_URL=http://localhost:8080 -e SETUP_ONLY=true docker/k6/user-api-load.js
+// 2. 모드별로 애플리케이션을 띄우고 같은 부하를 준다.
+//    - platform : ./gradlew :apps:commerce-api:bootRun
+//    - virtual  : ./gradlew :apps:commerce-api:bootRun --args='--spring.threads.virtual.enabled=true --api.bulkhead.enabled=true'
+//    k6 run -e BASE_URL=http://localhost:8080 -e VUS=1000 docker/k6/user-api-load.js
+// 3. 비교 지표
+//    - k6 : http_req_duration p95/p99, http_reqs (처리량), 상태 코드별 비율 (503 = bulkhead 거절)
+//    - grafana : hikaricp_connections_pending, jvm_threads_live_threads, api_bulkhead_wait, jvm_virtual_thread_pinned_total
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USER_COUNT = parseInt(__ENV.USER_COUNT || '1000');
+const SETUP_ONLY = __ENV.SETUP_ONLY === 'true';
+
+export const options = SETUP_ONLY
+    ? { vus: 1, iterations: 1 }
+    : {
+        scenarios: {
+            mixed: {
+                executor: 'constant-vus',
+                vus: parseInt(__ENV.VUS || '1000'),
+                duration: __ENV.DURATION || '1m',
+            },
+        },
+    };
+
+function loginId(i) {
+    return `load${i}`;
+}
+
+function setupUsers() {
+    const lines = [];
+    for (let i = 0; i < USER_COUNT; i++) {
+        lines.push(JSON.stringify({
+            loginId: loginId(i),
+            email: `${loginId(i)}@loopers.com`,
+            birthday: '1994-04-08',
+            gender: 'M',
+            point: 0,
+        }));
+    }
+    http.post(`${BASE_URL}/api/user/bulk/saveUsers`, lines.join('\n'), {
+        headers: { 'Content-Type': 'application/x-ndjson' },
+    });
+}
+
+export default function () {
+    if (SETUP_ONLY) {
+        setupUsers();
+        return;
+    }
+
+    const id = loginId(Math.floor(Math.random() * USER_COUNT));
+    // 조회 8 : 충전 2 (충전은 항상 DB 커넥션을 사용한다)
+    const res = Math.random() < 0.8
+        ? http.get(`${BASE_URL}/api/user/${id}/getUserPoint`, { headers: { 'X-USER-ID': id } })
+        : http.post(`${BASE_URL}/api/user/${id}/addUserPoint?userPoint=10`);
+    check(res, { 'ok or shed': (r) => r.status === 200 || r.status === 503 });
+}
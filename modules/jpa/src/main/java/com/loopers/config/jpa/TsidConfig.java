@@ -0,0 +1,39 @@
+package com.loopers.config.jpa;
+
+import com.loopers.domain.tsid.Tsid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+/**
+ * tsid.node (TSID_NODE 환경 변수, -Dtsid.node 도 된다) 로 이 노드의 TSID node 를 정한다.
+ * 여러 노드가 같은 node 를 쓰면 PK 가 겹치므로, local / test 가 아니면 지정하지 않았을 때 기동에 실패한다.
+ */
+@Slf4j
+@Configuration
+public class TsidConfig implements InitializingBean {
+    private static final Profiles RANDOM_NODE_PROFILES = Profiles.of("local", "test");
+
+    private final Environment environment;
+
+    public TsidConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Long node = environment.getProperty("tsid.node", Long.class);
+        if (node != null) {
+            Tsid.configure(node);
+            log.info("tsid node : {}", node);
+            return;
+        }
+        if (!environment.acceptsProfiles(RANDOM_NODE_PROFILES)) {
+            throw new IllegalStateException("tsid.node 가 지정되지 않았습니다. 노드마다 다른 값(0 ~ 1023)을 TSID_NODE 로 지정해야 합니다.");
+        }
+        // local / test 는 한 노드로 실행하므로, 처음 생성할 때 임의의 node 를 쓴다.
+        log.warn("tsid.node 가 지정되지 않아 임의의 node 를 사용합니다. (profile : local / test)");
+    }
+}
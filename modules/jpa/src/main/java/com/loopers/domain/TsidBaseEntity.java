@@ -0,0 +1,19 @@
+package com.loopers.domain;
+
+import com.loopers.domain.tsid.TsidGenerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+
+/**
+ * 애플리케이션에서 시간순 64bit ID(TSID)를 생성하는 엔티티.
+ * ID 생성에 DB 왕복이 없으므로 hibernate.jdbc.batch_size 로 insert 가 batch 된다.
+ */
+@MappedSuperclass
+@Getter
+public abstract class TsidBaseEntity extends AuditEntity {
+
+    @Id
+    @TsidGenerated
+    private Long id;
+}
@@ -0,0 +1,90 @@
+package com.loopers.domain.tsid;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시간순으로 정렬되는 64bit ID (Snowflake 방식).
+ * <pre>
+ * | 1bit 부호(0) | 41bit epoch 이후 ms | 10bit node | 12bit sequence |
+ * </pre>
+ * - 41bit ms 는 EPOCH 부터 약 69년을 표현한다.
+ * - node 는 tsid.node (Spring property, TSID_NODE 환경 변수) 로 노드마다 다르게 지정한다. (0 ~ 1023)
+ *   Spring 이 기동할 때 TsidConfig 가 configure 로 지정하고, local / test 가 아닌데 지정하지 않으면 기동에 실패한다.
+ *   Spring 밖에서 (단위 테스트) 쓸 때만 system property / 환경 변수를 직접 읽고, 없으면 임의의 값을 쓴다.
+ * - 같은 ms 에 4096 개를 넘게 생성하거나 시계가 뒤로 가면, 마지막 ms 를 이어서 사용한다. (대기하지 않는다)
+ */
+@Slf4j
+public final class Tsid {
+    public static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private static volatile Tsid instance;
+
+    private final long node;
+    private long lastMillis = -1L;
+    private long sequence = 0L;
+
+    Tsid(long node) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("tsid node 는 0 ~ " + MAX_NODE + " 사이여야 합니다. : " + node);
+        }
+        this.node = node;
+    }
+
+    public static long next() {
+        return instance().generate();
+    }
+
+    /**
+     * 이 노드의 node 를 정한다. 이미 같은 node 로 생성 중이면 그대로 둔다. (새로 만들면 같은 ms 의 sequence 가 겹칠 수 있다)
+     */
+    public static synchronized void configure(long node) {
+        if (instance != null && instance.node == node) return;
+        instance = new Tsid(node);
+    }
+
+    public static Instant timestampOf(long tsid) {
+        return Instant.ofEpochMilli((tsid >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH);
+    }
+
+    synchronized long generate() {
+        long now = System.currentTimeMillis();
+        if (now <= lastMillis) {
+            // 같은 ms 이거나 시계가 뒤로 간 경우 : 마지막 ms 에서 sequence 를 올린다.
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                lastMillis++;
+            }
+        } else {
+            lastMillis = now;
+            sequence = 0L;
+        }
+        return ((lastMillis - EPOCH) << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+    }
+
+    private static Tsid instance() {
+        Tsid current = instance;
+        if (current != null) return current;
+        synchronized (Tsid.class) {
+            if (instance == null) instance = new Tsid(resolveNode());
+            return instance;
+        }
+    }
+
+    private static long resolveNode() {
+        String configured = System.getProperty("tsid.node", System.getenv("TSID_NODE"));
+        if (configured != null && !configured.isBlank()) {
+            return Long.parseLong(configured.trim());
+        }
+        long node = ThreadLocalRandom.current().nextLong(MAX_NODE + 1);
+        log.warn("tsid.node 가 지정되지 않아 임의의 node({})를 사용합니다. 여러 노드에서 실행할 때는 노드마다 다르게 지정해야 합니다.", node);
+        return node;
+    }
+}
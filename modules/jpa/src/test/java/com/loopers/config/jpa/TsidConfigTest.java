@@ -0,0 +1,38 @@
+package com.loopers.config.jpa;
+
+import com.loopers.domain.tsid.Tsid;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("TsidConfig 단위 테스트")
+class TsidConfigTest {
+
+    @DisplayName("성공 케이스 : tsid.node 로 지정한 node 로 ID 를 만든다")
+    @Test
+    void afterPropertiesSet_withNode_configured() {
+        // arrange
+        MockEnvironment environment = new MockEnvironment().withProperty("tsid.node", "7");
+        environment.setActiveProfiles("prd");
+
+        // act
+        new TsidConfig(environment).afterPropertiesSet();
+
+        // assert
+        assertEquals(7L, (Tsid.next() >>> 12) & 1023);
+    }
+
+    @DisplayName("실패 케이스 : local / test 가 아닌데 tsid.node 를 지정하지 않으면 기동에 실패한다")
+    @Test
+    void afterPropertiesSet_withoutNode_throwsException() {
+        // arrange
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("prd");
+
+        // act & assert
+        assertThrows(IllegalStateException.class, () -> new TsidConfig(environment).afterPropertiesSet());
+    }
+}
@@ -0,0 +1,94 @@
+package com.loopers.domain.tsid;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Tsid 단위 테스트")
+class TsidTest {
+
+    @DisplayName("성공 케이스 : 연속으로 생성하면 항상 증가한다 (같은 ms 에 4096 개를 넘어도)")
+    @Test
+    void generate_isMonotonic() {
+        // arrange
+        Tsid tsid = new Tsid(1);
+        long previous = tsid.generate();
+
+        // act & assert
+        for (int i = 0; i < 100_000; i++) {
+            long current = tsid.generate();
+            assertTrue(current > previous);
+            previous = current;
+        }
+    }
+
+    @DisplayName("성공 케이스 : 여러 스레드에서 동시에 생성해도 중복이 없다")
+    @Test
+    void next_concurrently_unique() throws InterruptedException {
+        // arrange
+        int threadCount = 32;
+        int perThread = 10_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // act
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < perThread; j++) ids.add(Tsid.next());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(1, TimeUnit.MINUTES);
+        executorService.shutdown();
+
+        // assert
+        assertEquals(threadCount * perThread, ids.size());
+    }
+
+    @DisplayName("성공 케이스 : ID 에서 생성 시각을 꺼낼 수 있다")
+    @Test
+    void timestampOf_returnsCreationTime() {
+        // arrange
+        Instant before = Instant.ofEpochMilli(System.currentTimeMillis());
+
+        // act
+        Instant timestamp = Tsid.timestampOf(Tsid.next());
+
+        // assert
+        assertTrue(!timestamp.isBefore(before));
+        assertTrue(timestamp.isBefore(before.plusSeconds(1)));
+    }
+
+    @DisplayName("성공 케이스 : configure 로 지정한 node 가 ID 에 들어간다")
+    @Test
+    void configure_nodeInId() {
+        // act
+        Tsid.configure(5);
+        long id = Tsid.next();
+
+        // assert
+        assertEquals(5L, (id >>> Tsid.SEQUENCE_BITS) & Tsid.MAX_NODE);
+    }
+
+    @DisplayName("실패 케이스 : node 가 10bit 범위를 벗어나면 IllegalArgumentException")
+    @Test
+    void create_nodeOutOfRange_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new Tsid(1024));
+        assertThrows(IllegalArgumentException.class, () -> new Tsid(-1));
+    }
+}
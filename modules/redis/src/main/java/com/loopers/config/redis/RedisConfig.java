@@ -7,10 +7,12 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.util.List;
@@ -20,6 +22,7 @@ import java.util.function.Consumer;
 @EnableConfigurationProperties(RedisProperties.class)
 public class RedisConfig{
     private static final String CONNECTION_MASTER = "redisConnectionMaster";
+    private static final String CONNECTION_PUBSUB = "redisConnectionPubSub";
     public static final String REDIS_TEMPLATE_MASTER = "redisTemplateMaster";
 
     private final RedisProperties redisProperties;
@@ -52,6 +55,28 @@ public class RedisConfig{
         );
     }
 
+    /**
+     * Master/Replica 연결은 pub/sub 을 지원하지 않으므로 구독은 master 에 standalone 으로 연결한다.
+     * (발행은 redisTemplateMaster 의 convertAndSend 로 한다)
+     */
+    @Qualifier(CONNECTION_PUBSUB)
+    @Bean
+    public LettuceConnectionFactory pubSubRedisConnectionFactory() {
+        RedisNodeInfo master = redisProperties.master();
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(master.host(), master.port());
+        configuration.setDatabase(redisProperties.database());
+        return new LettuceConnectionFactory(configuration);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            @Qualifier(CONNECTION_PUBSUB) LettuceConnectionFactory lettuceConnectionFactory
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(lettuceConnectionFactory);
+        return container;
+    }
+
     @Primary
     @Bean
     public RedisTemplate<String, String> defaultRedisTemplate(LettuceConnectionFactory lettuceConnectionFactory) {
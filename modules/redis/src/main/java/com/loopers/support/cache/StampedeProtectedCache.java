@@ -0,0 +1,219 @@
+package com.loopers.support.cache;
+
+import com.loopers.config.redis.RedisConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 인기 key 가 만료되는 순간 요청이 한꺼번에 DB 로 가지 않게 하는 read-through 캐시. 값은 문자열 (직렬화는 호출하는 쪽에서 한다)
+ * - 노드 안 : 같은 key 의 적재는 하나만 실행하고 나머지는 그 결과를 기다린다. (single-flight)
+ * - 노드 사이 : 적재 전에 Redis lease (SET NX PX) 를 잡은 노드만 적재하고, 나머지 노드는 값이 저장될 때까지 기다린다.
+ * - 만료 전 : 적재에 걸린 시간(delta)이 길수록 만료 전에 미리 갱신할 확률이 커진다. (XFetch, beta 가 클수록 일찍 갱신)
+ *   미리 갱신하는 동안 다른 요청은 기존 값을 쓴다.
+ * 없는 값(loader 가 empty)도 ttl 동안 저장해서 없는 key 로 DB 를 반복해서 읽지 않게 한다.
+ */
+@Slf4j
+@Component
+public class StampedeProtectedCache {
+    private static final String LEASE_KEY = "lease:";
+
+    // KEYS[1] = lease key, ARGV[1] = token
+    private static final RedisScript<Long> RELEASE_LEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> defaultRedisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final ConcurrentHashMap<String, CompletableFuture<Optional<String>>> inFlight = new ConcurrentHashMap<>();
+    private final Duration leaseTime;
+    private final Duration waitPollInterval;
+    private final double beta;
+
+    public StampedeProtectedCache(
+            RedisTemplate<String, String> defaultRedisTemplate,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            @Value("${cache.stampede.lease-ms:3000}") long leaseMillis,
+            @Value("${cache.stampede.wait-poll-ms:20}") long waitPollMillis,
+            @Value("${cache.stampede.beta:1.0}") double beta
+    ) {
+        this.defaultRedisTemplate = defaultRedisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.leaseTime = Duration.ofMillis(leaseMillis);
+        this.waitPollInterval = Duration.ofMillis(waitPollMillis);
+        this.beta = beta;
+    }
+
+    public Optional<String> get(String key, Duration ttl, Supplier<Optional<String>> loader) {
+        CacheEntry cached = read(defaultRedisTemplate, key);
+        if (cached != null && !cached.shouldRefreshEarly(System.currentTimeMillis(), beta, ThreadLocalRandom.current().nextDouble())) {
+            return cached.value();
+        }
+
+        if (cached != null) {
+            // 이미 갱신 중이면 (이 노드 / 다른 노드) 기존 값을 쓴다.
+            if (inFlight.containsKey(key)) return cached.value();
+            String token = tryAcquireLease(key);
+            if (token == null) return cached.value();
+            return singleFlight(key, () -> loadWithLease(key, token, ttl, loader));
+        }
+        return singleFlight(key, () -> loadOnMiss(key, ttl, loader));
+    }
+
+    /**
+     * 값을 지운다. 다음 읽기는 miss 로 처리된다.
+     */
+    public void evict(String key) {
+        try {
+            masterRedisTemplate.delete(key);
+        } catch (Exception e) {
+            log.error("캐시 삭제 실패 : key = {}", key, e);
+        }
+    }
+
+    private Optional<String> singleFlight(String key, Supplier<Optional<String>> load) {
+        CompletableFuture<Optional<String>> mine = new CompletableFuture<>();
+        CompletableFuture<Optional<String>> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) throw cause;
+                throw e;
+            }
+        }
+
+        try {
+            Optional<String> value = load.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * lease 를 잡지 못하면 잡은 노드가 저장할 때까지 lease 시간만큼 기다린다.
+     * 그래도 없으면 (lease 를 잡은 노드가 죽음 / 느림) 직접 읽는다.
+     */
+    private Optional<String> loadOnMiss(String key, Duration ttl, Supplier<Optional<String>> loader) {
+        String token = tryAcquireLease(key);
+        if (token != null) {
+            return loadWithLease(key, token, ttl, loader);
+        }
+
+        long deadline = System.nanoTime() + leaseTime.toNanos();
+        while (System.nanoTime() < deadline) {
+            sleep(waitPollInterval);
+            CacheEntry stored = read(masterRedisTemplate, key);
+            if (stored != null) return stored.value();
+        }
+        log.warn("캐시 lease 대기 시간 초과, 직접 읽습니다 : key = {}", key);
+        return loader.get();
+    }
+
+    private Optional<String> loadWithLease(String key, String token, Duration ttl, Supplier<Optional<String>> loader) {
+        try {
+            long startedAt = System.currentTimeMillis();
+            Optional<String> value = loader.get();
+            long delta = System.currentTimeMillis() - startedAt;
+            write(key, new CacheEntry(delta, System.currentTimeMillis() + ttl.toMillis(), value), ttl);
+            return value;
+        } finally {
+            releaseLease(key, token);
+        }
+    }
+
+    private CacheEntry read(RedisTemplate<String, String> redisTemplate, String key) {
+        try {
+            String stored = redisTemplate.opsForValue().get(key);
+            return stored != null ? CacheEntry.decode(stored) : null;
+        } catch (Exception e) {
+            log.warn("캐시 조회 실패 : key = {}", key, e);
+            return null;
+        }
+    }
+
+    private void write(String key, CacheEntry entry, Duration ttl) {
+        try {
+            masterRedisTemplate.opsForValue().set(key, entry.encode(), ttl);
+        } catch (Exception e) {
+            log.warn("캐시 저장 실패 : key = {}", key, e);
+        }
+    }
+
+    /**
+     * Redis 에 접근할 수 없으면 lease 를 잡은 것으로 보고 직접 읽는다. (캐시 장애가 조회 장애가 되지 않게)
+     */
+    private String tryAcquireLease(String key) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = masterRedisTemplate.opsForValue().setIfAbsent(LEASE_KEY + key, token, leaseTime);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            log.warn("캐시 lease 획득 실패 : key = {}", key, e);
+            return token;
+        }
+    }
+
+    private void releaseLease(String key, String token) {
+        try {
+            masterRedisTemplate.execute(RELEASE_LEASE, List.of(LEASE_KEY + key), token);
+        } catch (Exception e) {
+            log.warn("캐시 lease 반납 실패 : key = {}", key, e);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("캐시 적재 대기 중 interrupt 되었습니다.", e);
+        }
+    }
+
+    /**
+     * 저장 형식 : {delta(ms)}:{만료 시각(epoch ms)}:{v + 값 | n}
+     */
+    record CacheEntry(long delta, long expiresAt, Optional<String> value) {
+        String encode() {
+            return delta + ":" + expiresAt + ":" + value.map(v -> "v" + v).orElse("n");
+        }
+
+        static CacheEntry decode(String stored) {
+            String[] parts = stored.split(":", 3);
+            Optional<String> value = parts[2].startsWith("v") ? Optional.of(parts[2].substring(1)) : Optional.empty();
+            return new CacheEntry(Long.parseLong(parts[0]), Long.parseLong(parts[1]), value);
+        }
+
+        /**
+         * XFetch : now - delta * beta * ln(random) >= expiresAt 이면 미리 갱신한다. (random 은 [0, 1), 0 은 가장 작은 양수로 바꾼다)
+         */
+        boolean shouldRefreshEarly(long now, double beta, double random) {
+            double gap = -delta * beta * Math.log(Math.max(random, Double.MIN_VALUE));
+            return now + gap >= expiresAt;
+        }
+    }
+}